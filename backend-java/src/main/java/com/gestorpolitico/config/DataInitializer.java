@@ -3,11 +3,15 @@ package com.gestorpolitico.config;
 import com.gestorpolitico.entity.Bairro;
 import com.gestorpolitico.entity.Cidade;
 import com.gestorpolitico.entity.Login;
+import com.gestorpolitico.entity.NomeNormalizador;
 import com.gestorpolitico.entity.Regiao;
 import com.gestorpolitico.repository.BairroRepository;
 import com.gestorpolitico.repository.CidadeRepository;
+import com.gestorpolitico.repository.ContadorFamiliaRepository;
+import com.gestorpolitico.repository.FamiliaRepository;
 import com.gestorpolitico.repository.LoginRepository;
 import com.gestorpolitico.repository.RegiaoRepository;
+import com.gestorpolitico.service.ContadorFamiliaService;
 import org.springframework.boot.CommandLineRunner;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -64,8 +68,23 @@ public class DataInitializer {
     };
   }
 
+  @Bean
+  CommandLineRunner reconstruirContadoresFamilias(
+    ContadorFamiliaRepository contadorFamiliaRepository,
+    FamiliaRepository familiaRepository,
+    ContadorFamiliaService contadorFamiliaService
+  ) {
+    return args -> {
+      if (contadorFamiliaRepository.count() > 0 || familiaRepository.count() == 0) {
+        return;
+      }
+
+      contadorFamiliaService.reconstruir();
+    };
+  }
+
   private void salvarBairro(BairroRepository bairroRepository, Cidade cidade, String nome, String regiao) {
-    if (bairroRepository.findByCidadeIdAndNomeNormalizado(cidade.getId(), normalizar(nome)).isPresent()) {
+    if (bairroRepository.findByCidadeIdAndNomeNormalizado(cidade.getId(), NomeNormalizador.normalizar(nome)).isPresent()) {
       return;
     }
 
@@ -75,13 +94,4 @@ public class DataInitializer {
     bairro.setRegiao(regiao);
     bairroRepository.save(bairro);
   }
-
-  private String normalizar(String valor) {
-    return java.text.Normalizer
-      .normalize(valor, java.text.Normalizer.Form.NFD)
-      .replaceAll("\\p{InCombiningDiacriticalMarks}+", "")
-      .toUpperCase(java.util.Locale.ROOT)
-      .replaceAll("\\s+", " ")
-      .trim();
-  }
 }
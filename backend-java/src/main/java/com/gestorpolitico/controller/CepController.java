@@ -0,0 +1,23 @@
+package com.gestorpolitico.controller;
+
+import com.gestorpolitico.dto.MetricasCepDTO;
+import com.gestorpolitico.service.ClienteCepRemoto;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/cep")
+public class CepController {
+  private final ClienteCepRemoto clienteCepRemoto;
+
+  public CepController(ClienteCepRemoto clienteCepRemoto) {
+    this.clienteCepRemoto = clienteCepRemoto;
+  }
+
+  @GetMapping("/metricas")
+  public ResponseEntity<MetricasCepDTO> buscarMetricas() {
+    return ResponseEntity.ok(clienteCepRemoto.buscarMetricas());
+  }
+}
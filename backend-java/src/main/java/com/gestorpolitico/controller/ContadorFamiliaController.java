@@ -0,0 +1,23 @@
+package com.gestorpolitico.controller;
+
+import com.gestorpolitico.dto.ReconstrucaoContadoresResponseDTO;
+import com.gestorpolitico.service.ContadorFamiliaService;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/contadores")
+public class ContadorFamiliaController {
+  private final ContadorFamiliaService contadorFamiliaService;
+
+  public ContadorFamiliaController(ContadorFamiliaService contadorFamiliaService) {
+    this.contadorFamiliaService = contadorFamiliaService;
+  }
+
+  @PostMapping("/reconstruir")
+  public ResponseEntity<ReconstrucaoContadoresResponseDTO> reconstruir() {
+    return ResponseEntity.ok(contadorFamiliaService.reconstruir());
+  }
+}
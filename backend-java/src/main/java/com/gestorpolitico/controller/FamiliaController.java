@@ -4,10 +4,19 @@ import com.gestorpolitico.dto.FamiliaFiltroRequestDTO;
 import com.gestorpolitico.dto.FamiliaListaResponseDTO;
 import com.gestorpolitico.dto.FamiliaRequestDTO;
 import com.gestorpolitico.dto.FamiliaResponseDTO;
+import com.gestorpolitico.dto.ImportacaoFamiliasResponseDTO;
 import com.gestorpolitico.dto.MembroFamiliaResponseDTO;
+import com.gestorpolitico.enums.FormatoExportacao;
+import com.gestorpolitico.service.FamiliaExportacaoService;
 import com.gestorpolitico.service.FamiliaService;
+import com.gestorpolitico.service.ImportacaoFamiliaService;
 import jakarta.validation.Valid;
+import java.io.IOException;
+import java.io.InputStream;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
@@ -17,6 +26,9 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
@@ -25,9 +37,17 @@ import org.springframework.data.domain.Sort;
 @RequestMapping("/api/familias")
 public class FamiliaController {
   private final FamiliaService familiaService;
+  private final FamiliaExportacaoService familiaExportacaoService;
+  private final ImportacaoFamiliaService importacaoFamiliaService;
 
-  public FamiliaController(FamiliaService familiaService) {
+  public FamiliaController(
+    FamiliaService familiaService,
+    FamiliaExportacaoService familiaExportacaoService,
+    ImportacaoFamiliaService importacaoFamiliaService
+  ) {
     this.familiaService = familiaService;
+    this.familiaExportacaoService = familiaExportacaoService;
+    this.importacaoFamiliaService = importacaoFamiliaService;
   }
 
   @PostMapping
@@ -46,15 +66,65 @@ public class FamiliaController {
   public ResponseEntity<FamiliaListaResponseDTO> listarFamilias(
     FamiliaFiltroRequestDTO filtro,
     @RequestParam(defaultValue = "0") int pagina,
-    @RequestParam(defaultValue = "20") int tamanho
+    @RequestParam(defaultValue = "20") int tamanho,
+    @RequestParam(defaultValue = "false") boolean paginacaoPorCursor,
+    @RequestParam(required = false) String cursor,
+    @RequestParam(defaultValue = "true") boolean incluirTotais
   ) {
-    int paginaAjustada = Math.max(pagina, 0);
     int tamanhoAjustado = Math.min(Math.max(tamanho, 1), 200);
-    Pageable pageable = PageRequest.of(paginaAjustada, tamanhoAjustado, Sort.by(Sort.Direction.DESC, "criadoEm"));
-    FamiliaListaResponseDTO familias = familiaService.buscarFamilias(filtro, pageable);
+    if (paginacaoPorCursor || (cursor != null && !cursor.isBlank())) {
+      return ResponseEntity.ok(familiaService.buscarFamiliasPorCursor(filtro, cursor, tamanhoAjustado, incluirTotais));
+    }
+
+    int paginaAjustada = Math.max(pagina, 0);
+    Pageable pageable = PageRequest.of(
+      paginaAjustada,
+      tamanhoAjustado,
+      Sort.by(Sort.Direction.DESC, "criadoEm").and(Sort.by(Sort.Direction.DESC, "id"))
+    );
+    FamiliaListaResponseDTO familias = familiaService.buscarFamilias(filtro, pageable, incluirTotais);
     return ResponseEntity.ok(familias);
   }
 
+  @GetMapping("/exportar")
+  public ResponseEntity<StreamingResponseBody> exportarFamilias(
+    FamiliaFiltroRequestDTO filtro,
+    @RequestParam(defaultValue = "csv") String formato
+  ) {
+    FormatoExportacao formatoExportacao;
+    try {
+      formatoExportacao = FormatoExportacao.fromValue(formato);
+    } catch (IllegalArgumentException ex) {
+      throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Formato de exportação inválido. Use csv ou ndjson.");
+    }
+
+    StreamingResponseBody corpo = saida -> familiaExportacaoService.exportar(filtro, formatoExportacao, saida);
+    ContentDisposition anexo = ContentDisposition
+      .attachment()
+      .filename("familias." + formatoExportacao.getExtensao())
+      .build();
+    return ResponseEntity
+      .ok()
+      .contentType(MediaType.parseMediaType(formatoExportacao.getTipoConteudo()))
+      .header(HttpHeaders.CONTENT_DISPOSITION, anexo.toString())
+      .body(corpo);
+  }
+
+  @PostMapping(value = "/importacao", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+  public ResponseEntity<ImportacaoFamiliasResponseDTO> importarFamilias(
+    @RequestParam Long cidadeId,
+    @RequestParam("arquivo") MultipartFile arquivo
+  ) {
+    if (arquivo.isEmpty()) {
+      throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Envie uma planilha .csv ou .xlsx.");
+    }
+    try (InputStream conteudo = arquivo.getInputStream()) {
+      return ResponseEntity.ok(importacaoFamiliaService.importar(cidadeId, arquivo.getOriginalFilename(), conteudo));
+    } catch (IOException ex) {
+      throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Não foi possível ler a planilha enviada.");
+    }
+  }
+
   @PostMapping("/{familiaId}/membros/{membroId}/parceiro")
   public ResponseEntity<MembroFamiliaResponseDTO> tornarMembroParceiro(
     @PathVariable Long familiaId,
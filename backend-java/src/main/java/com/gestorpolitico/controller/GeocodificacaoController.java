@@ -0,0 +1,58 @@
+package com.gestorpolitico.controller;
+
+import com.gestorpolitico.dto.MetricasCacheGeocodificacaoDTO;
+import com.gestorpolitico.dto.ProgressoRegeocodificacaoDTO;
+import com.gestorpolitico.dto.StatusGeocodificacaoResponseDTO;
+import com.gestorpolitico.service.CacheGeocodificacaoService;
+import com.gestorpolitico.service.GeocodificacaoFilaService;
+import com.gestorpolitico.service.RegeocodificacaoService;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/geocodificacao")
+public class GeocodificacaoController {
+  private final GeocodificacaoFilaService geocodificacaoFilaService;
+  private final CacheGeocodificacaoService cacheGeocodificacaoService;
+  private final RegeocodificacaoService regeocodificacaoService;
+
+  public GeocodificacaoController(
+    GeocodificacaoFilaService geocodificacaoFilaService,
+    CacheGeocodificacaoService cacheGeocodificacaoService,
+    RegeocodificacaoService regeocodificacaoService
+  ) {
+    this.geocodificacaoFilaService = geocodificacaoFilaService;
+    this.cacheGeocodificacaoService = cacheGeocodificacaoService;
+    this.regeocodificacaoService = regeocodificacaoService;
+  }
+
+  @GetMapping("/status")
+  public ResponseEntity<StatusGeocodificacaoResponseDTO> buscarStatus() {
+    return ResponseEntity.ok(geocodificacaoFilaService.buscarStatus());
+  }
+
+  @GetMapping("/cache")
+  public ResponseEntity<MetricasCacheGeocodificacaoDTO> buscarMetricasCache() {
+    return ResponseEntity.ok(cacheGeocodificacaoService.buscarMetricas());
+  }
+
+  @PostMapping("/regeocodificacao")
+  public ResponseEntity<ProgressoRegeocodificacaoDTO> iniciarRegeocodificacao() {
+    return ResponseEntity.status(HttpStatus.ACCEPTED).body(regeocodificacaoService.iniciar());
+  }
+
+  @GetMapping("/regeocodificacao")
+  public ResponseEntity<ProgressoRegeocodificacaoDTO> buscarProgressoRegeocodificacao() {
+    return ResponseEntity.ok(regeocodificacaoService.buscarProgresso());
+  }
+
+  @DeleteMapping("/regeocodificacao")
+  public ResponseEntity<ProgressoRegeocodificacaoDTO> cancelarRegeocodificacao() {
+    return ResponseEntity.ok(regeocodificacaoService.cancelar());
+  }
+}
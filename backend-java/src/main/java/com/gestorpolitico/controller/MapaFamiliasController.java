@@ -0,0 +1,76 @@
+package com.gestorpolitico.controller;
+
+import com.gestorpolitico.dto.ClustersMapaResponseDTO;
+import com.gestorpolitico.dto.FamiliaFiltroRequestDTO;
+import com.gestorpolitico.dto.PontosMapaResponseDTO;
+import com.gestorpolitico.service.MapaFamiliasService;
+import com.gestorpolitico.service.TileMapaService;
+import com.gestorpolitico.service.TileMapaService.TileMapa;
+import java.time.Duration;
+import org.springframework.http.CacheControl;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+
+@RestController
+@RequestMapping("/api/mapa")
+public class MapaFamiliasController {
+  private static final MediaType TIPO_VECTOR_TILE = MediaType.parseMediaType("application/vnd.mapbox-vector-tile");
+
+  private final MapaFamiliasService mapaFamiliasService;
+  private final TileMapaService tileMapaService;
+
+  public MapaFamiliasController(MapaFamiliasService mapaFamiliasService, TileMapaService tileMapaService) {
+    this.mapaFamiliasService = mapaFamiliasService;
+    this.tileMapaService = tileMapaService;
+  }
+
+  @GetMapping("/pontos")
+  public ResponseEntity<PontosMapaResponseDTO> buscarPontos(
+    FamiliaFiltroRequestDTO filtro,
+    @RequestParam(required = false) Double oeste,
+    @RequestParam(required = false) Double sul,
+    @RequestParam(required = false) Double leste,
+    @RequestParam(required = false) Double norte
+  ) {
+    return ResponseEntity.ok(mapaFamiliasService.buscarPontos(filtro, oeste, sul, leste, norte));
+  }
+
+  @GetMapping("/clusters")
+  public ResponseEntity<ClustersMapaResponseDTO> buscarClusters(
+    @RequestParam int zoom,
+    @RequestParam(required = false) Long cidadeId,
+    @RequestParam(required = false) String regiao,
+    @RequestParam(required = false) Double oeste,
+    @RequestParam(required = false) Double sul,
+    @RequestParam(required = false) Double leste,
+    @RequestParam(required = false) Double norte
+  ) {
+    return ResponseEntity.ok(mapaFamiliasService.buscarClusters(cidadeId, regiao, zoom, oeste, sul, leste, norte));
+  }
+
+  @GetMapping("/tiles/{z}/{x}/{y}.mvt")
+  public ResponseEntity<byte[]> buscarTile(
+    @PathVariable int z,
+    @PathVariable int x,
+    @PathVariable int y,
+    WebRequest request
+  ) {
+    TileMapa tile = tileMapaService.obterTile(z, x, y);
+    String etag = tile.etag();
+    if (request.checkNotModified(etag)) {
+      return null;
+    }
+    return ResponseEntity
+      .ok()
+      .contentType(TIPO_VECTOR_TILE)
+      .cacheControl(CacheControl.maxAge(Duration.ofMinutes(5)).mustRevalidate())
+      .eTag(etag)
+      .body(tile.conteudo());
+  }
+}
@@ -0,0 +1,72 @@
+package com.gestorpolitico.dto;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class AlteracoesFamiliaDTO {
+  private boolean enderecoAlterado;
+  private boolean regiaoAlterada;
+  private boolean parceiroCadastroAlterado;
+  private int membrosIncluidos;
+  private List<Long> membrosAtualizados = new ArrayList<>();
+  private List<Long> membrosRemovidos = new ArrayList<>();
+
+  public boolean isEnderecoAlterado() {
+    return enderecoAlterado;
+  }
+
+  public void setEnderecoAlterado(boolean enderecoAlterado) {
+    this.enderecoAlterado = enderecoAlterado;
+  }
+
+  public boolean isRegiaoAlterada() {
+    return regiaoAlterada;
+  }
+
+  public void setRegiaoAlterada(boolean regiaoAlterada) {
+    this.regiaoAlterada = regiaoAlterada;
+  }
+
+  public boolean isParceiroCadastroAlterado() {
+    return parceiroCadastroAlterado;
+  }
+
+  public void setParceiroCadastroAlterado(boolean parceiroCadastroAlterado) {
+    this.parceiroCadastroAlterado = parceiroCadastroAlterado;
+  }
+
+  public int getMembrosIncluidos() {
+    return membrosIncluidos;
+  }
+
+  public void setMembrosIncluidos(int membrosIncluidos) {
+    this.membrosIncluidos = membrosIncluidos;
+  }
+
+  public List<Long> getMembrosAtualizados() {
+    return membrosAtualizados;
+  }
+
+  public void setMembrosAtualizados(List<Long> membrosAtualizados) {
+    this.membrosAtualizados = membrosAtualizados;
+  }
+
+  public List<Long> getMembrosRemovidos() {
+    return membrosRemovidos;
+  }
+
+  public void setMembrosRemovidos(List<Long> membrosRemovidos) {
+    this.membrosRemovidos = membrosRemovidos;
+  }
+
+  public boolean isSemAlteracoes() {
+    return (
+      !enderecoAlterado &&
+      !regiaoAlterada &&
+      !parceiroCadastroAlterado &&
+      membrosIncluidos == 0 &&
+      membrosAtualizados.isEmpty() &&
+      membrosRemovidos.isEmpty()
+    );
+  }
+}
@@ -0,0 +1,49 @@
+package com.gestorpolitico.dto;
+
+public class ClusterMapaDTO {
+  private double latitude;
+  private double longitude;
+  private int quantidade;
+  private Long familiaId;
+
+  public ClusterMapaDTO() {}
+
+  public ClusterMapaDTO(double latitude, double longitude, int quantidade, Long familiaId) {
+    this.latitude = latitude;
+    this.longitude = longitude;
+    this.quantidade = quantidade;
+    this.familiaId = familiaId;
+  }
+
+  public double getLatitude() {
+    return latitude;
+  }
+
+  public void setLatitude(double latitude) {
+    this.latitude = latitude;
+  }
+
+  public double getLongitude() {
+    return longitude;
+  }
+
+  public void setLongitude(double longitude) {
+    this.longitude = longitude;
+  }
+
+  public int getQuantidade() {
+    return quantidade;
+  }
+
+  public void setQuantidade(int quantidade) {
+    this.quantidade = quantidade;
+  }
+
+  public Long getFamiliaId() {
+    return familiaId;
+  }
+
+  public void setFamiliaId(Long familiaId) {
+    this.familiaId = familiaId;
+  }
+}
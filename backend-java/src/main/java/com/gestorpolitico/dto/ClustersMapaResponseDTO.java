@@ -0,0 +1,42 @@
+package com.gestorpolitico.dto;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class ClustersMapaResponseDTO {
+  private int zoom;
+  private int totalPontos;
+  private List<ClusterMapaDTO> clusters = new ArrayList<>();
+
+  public ClustersMapaResponseDTO() {}
+
+  public ClustersMapaResponseDTO(int zoom, int totalPontos, List<ClusterMapaDTO> clusters) {
+    this.zoom = zoom;
+    this.totalPontos = totalPontos;
+    this.clusters = clusters;
+  }
+
+  public int getZoom() {
+    return zoom;
+  }
+
+  public void setZoom(int zoom) {
+    this.zoom = zoom;
+  }
+
+  public int getTotalPontos() {
+    return totalPontos;
+  }
+
+  public void setTotalPontos(int totalPontos) {
+    this.totalPontos = totalPontos;
+  }
+
+  public List<ClusterMapaDTO> getClusters() {
+    return clusters;
+  }
+
+  public void setClusters(List<ClusterMapaDTO> clusters) {
+    this.clusters = clusters;
+  }
+}
@@ -1,5 +1,7 @@
 package com.gestorpolitico.dto;
 
+import com.gestorpolitico.enums.StatusGeocodificacao;
+
 public class EnderecoResponseDTO {
   private Long id;
   private String rua;
@@ -11,6 +13,7 @@ public class EnderecoResponseDTO {
   private String uf;
   private Double latitude;
   private Double longitude;
+  private StatusGeocodificacao statusGeocodificacao;
 
   public EnderecoResponseDTO() {}
 
@@ -24,7 +27,8 @@ public class EnderecoResponseDTO {
     String cidade,
     String uf,
     Double latitude,
-    Double longitude
+    Double longitude,
+    StatusGeocodificacao statusGeocodificacao
   ) {
     this.id = id;
     this.rua = rua;
@@ -36,6 +40,7 @@ public class EnderecoResponseDTO {
     this.uf = uf;
     this.latitude = latitude;
     this.longitude = longitude;
+    this.statusGeocodificacao = statusGeocodificacao;
   }
 
   public Long getId() {
@@ -117,4 +122,12 @@ public class EnderecoResponseDTO {
   public void setLongitude(Double longitude) {
     this.longitude = longitude;
   }
+
+  public StatusGeocodificacao getStatusGeocodificacao() {
+    return statusGeocodificacao;
+  }
+
+  public void setStatusGeocodificacao(StatusGeocodificacao statusGeocodificacao) {
+    this.statusGeocodificacao = statusGeocodificacao;
+  }
 }
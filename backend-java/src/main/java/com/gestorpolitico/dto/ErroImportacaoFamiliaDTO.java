@@ -0,0 +1,40 @@
+package com.gestorpolitico.dto;
+
+public class ErroImportacaoFamiliaDTO {
+  private int linha;
+  private String familia;
+  private String mensagem;
+
+  public ErroImportacaoFamiliaDTO() {
+  }
+
+  public ErroImportacaoFamiliaDTO(int linha, String familia, String mensagem) {
+    this.linha = linha;
+    this.familia = familia;
+    this.mensagem = mensagem;
+  }
+
+  public int getLinha() {
+    return linha;
+  }
+
+  public void setLinha(int linha) {
+    this.linha = linha;
+  }
+
+  public String getFamilia() {
+    return familia;
+  }
+
+  public void setFamilia(String familia) {
+    this.familia = familia;
+  }
+
+  public String getMensagem() {
+    return mensagem;
+  }
+
+  public void setMensagem(String mensagem) {
+    this.mensagem = mensagem;
+  }
+}
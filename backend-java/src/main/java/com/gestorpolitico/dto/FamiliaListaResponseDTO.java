@@ -5,25 +5,26 @@ import java.util.List;
 
 public class FamiliaListaResponseDTO {
   private List<FamiliaResponseDTO> familias = new ArrayList<>();
-  private long total;
+  private Long total;
   private int pagina;
   private int tamanho;
-  private long responsaveisAtivos;
-  private long novosCadastros;
-  private long totalPessoas;
-  private long novasPessoasSemana;
+  private String proximoCursor;
+  private Long responsaveisAtivos;
+  private Long novosCadastros;
+  private Long totalPessoas;
+  private Long novasPessoasSemana;
 
   public FamiliaListaResponseDTO() {}
 
   public FamiliaListaResponseDTO(
     List<FamiliaResponseDTO> familias,
-    long total,
+    Long total,
     int pagina,
     int tamanho,
-    long responsaveisAtivos,
-    long novosCadastros,
-    long totalPessoas,
-    long novasPessoasSemana
+    Long responsaveisAtivos,
+    Long novosCadastros,
+    Long totalPessoas,
+    Long novasPessoasSemana
   ) {
     if (familias != null) {
       this.familias = familias;
@@ -45,11 +46,11 @@ public class FamiliaListaResponseDTO {
     this.familias = familias;
   }
 
-  public long getTotal() {
+  public Long getTotal() {
     return total;
   }
 
-  public void setTotal(long total) {
+  public void setTotal(Long total) {
     this.total = total;
   }
 
@@ -69,35 +70,43 @@ public class FamiliaListaResponseDTO {
     this.tamanho = tamanho;
   }
 
-  public long getResponsaveisAtivos() {
+  public String getProximoCursor() {
+    return proximoCursor;
+  }
+
+  public void setProximoCursor(String proximoCursor) {
+    this.proximoCursor = proximoCursor;
+  }
+
+  public Long getResponsaveisAtivos() {
     return responsaveisAtivos;
   }
 
-  public void setResponsaveisAtivos(long responsaveisAtivos) {
+  public void setResponsaveisAtivos(Long responsaveisAtivos) {
     this.responsaveisAtivos = responsaveisAtivos;
   }
 
-  public long getNovosCadastros() {
+  public Long getNovosCadastros() {
     return novosCadastros;
   }
 
-  public void setNovosCadastros(long novosCadastros) {
+  public void setNovosCadastros(Long novosCadastros) {
     this.novosCadastros = novosCadastros;
   }
 
-  public long getTotalPessoas() {
+  public Long getTotalPessoas() {
     return totalPessoas;
   }
 
-  public void setTotalPessoas(long totalPessoas) {
+  public void setTotalPessoas(Long totalPessoas) {
     this.totalPessoas = totalPessoas;
   }
 
-  public long getNovasPessoasSemana() {
+  public Long getNovasPessoasSemana() {
     return novasPessoasSemana;
   }
 
-  public void setNovasPessoasSemana(long novasPessoasSemana) {
+  public void setNovasPessoasSemana(Long novasPessoasSemana) {
     this.novasPessoasSemana = novasPessoasSemana;
   }
 }
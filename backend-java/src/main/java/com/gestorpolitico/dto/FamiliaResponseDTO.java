@@ -12,6 +12,7 @@ public class FamiliaResponseDTO {
   private EnderecoResponseDTO enderecoDetalhado;
   private List<MembroFamiliaResponseDTO> membros = new ArrayList<>();
   private ParceiroResumoDTO parceiroCadastro;
+  private AlteracoesFamiliaDTO alteracoes;
 
   public FamiliaResponseDTO() {
   }
@@ -91,4 +92,12 @@ public class FamiliaResponseDTO {
   public void setParceiroCadastro(ParceiroResumoDTO parceiroCadastro) {
     this.parceiroCadastro = parceiroCadastro;
   }
+
+  public AlteracoesFamiliaDTO getAlteracoes() {
+    return alteracoes;
+  }
+
+  public void setAlteracoes(AlteracoesFamiliaDTO alteracoes) {
+    this.alteracoes = alteracoes;
+  }
 }
@@ -0,0 +1,79 @@
+package com.gestorpolitico.dto;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class ImportacaoFamiliasResponseDTO {
+  private int linhasLidas;
+  private int familiasImportadas;
+  private int membrosImportados;
+  private int familiasComErro;
+  private int cepsConsultados;
+  private long duracaoMs;
+  private boolean errosTruncados;
+  private List<ErroImportacaoFamiliaDTO> erros = new ArrayList<>();
+
+  public int getLinhasLidas() {
+    return linhasLidas;
+  }
+
+  public void setLinhasLidas(int linhasLidas) {
+    this.linhasLidas = linhasLidas;
+  }
+
+  public int getFamiliasImportadas() {
+    return familiasImportadas;
+  }
+
+  public void setFamiliasImportadas(int familiasImportadas) {
+    this.familiasImportadas = familiasImportadas;
+  }
+
+  public int getMembrosImportados() {
+    return membrosImportados;
+  }
+
+  public void setMembrosImportados(int membrosImportados) {
+    this.membrosImportados = membrosImportados;
+  }
+
+  public int getFamiliasComErro() {
+    return familiasComErro;
+  }
+
+  public void setFamiliasComErro(int familiasComErro) {
+    this.familiasComErro = familiasComErro;
+  }
+
+  public int getCepsConsultados() {
+    return cepsConsultados;
+  }
+
+  public void setCepsConsultados(int cepsConsultados) {
+    this.cepsConsultados = cepsConsultados;
+  }
+
+  public long getDuracaoMs() {
+    return duracaoMs;
+  }
+
+  public void setDuracaoMs(long duracaoMs) {
+    this.duracaoMs = duracaoMs;
+  }
+
+  public boolean isErrosTruncados() {
+    return errosTruncados;
+  }
+
+  public void setErrosTruncados(boolean errosTruncados) {
+    this.errosTruncados = errosTruncados;
+  }
+
+  public List<ErroImportacaoFamiliaDTO> getErros() {
+    return erros;
+  }
+
+  public void setErros(List<ErroImportacaoFamiliaDTO> erros) {
+    this.erros = erros;
+  }
+}
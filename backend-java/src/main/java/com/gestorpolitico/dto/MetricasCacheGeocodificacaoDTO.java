@@ -0,0 +1,131 @@
+package com.gestorpolitico.dto;
+
+public class MetricasCacheGeocodificacaoDTO {
+  private long entradas;
+  private long pesoBytes;
+  private long pesoMaximoBytes;
+  private long acertos;
+  private long faltas;
+  private double taxaAcerto;
+  private long remocoes;
+  private long pesoRemovidoBytes;
+  private long carregamentos;
+  private long falhasCarregamento;
+  private long tempoMedioCarregamentoMicros;
+
+  public MetricasCacheGeocodificacaoDTO() {}
+
+  public MetricasCacheGeocodificacaoDTO(
+    long entradas,
+    long pesoBytes,
+    long pesoMaximoBytes,
+    long acertos,
+    long faltas,
+    double taxaAcerto,
+    long remocoes,
+    long pesoRemovidoBytes,
+    long carregamentos,
+    long falhasCarregamento,
+    long tempoMedioCarregamentoMicros
+  ) {
+    this.entradas = entradas;
+    this.pesoBytes = pesoBytes;
+    this.pesoMaximoBytes = pesoMaximoBytes;
+    this.acertos = acertos;
+    this.faltas = faltas;
+    this.taxaAcerto = taxaAcerto;
+    this.remocoes = remocoes;
+    this.pesoRemovidoBytes = pesoRemovidoBytes;
+    this.carregamentos = carregamentos;
+    this.falhasCarregamento = falhasCarregamento;
+    this.tempoMedioCarregamentoMicros = tempoMedioCarregamentoMicros;
+  }
+
+  public long getEntradas() {
+    return entradas;
+  }
+
+  public void setEntradas(long entradas) {
+    this.entradas = entradas;
+  }
+
+  public long getPesoBytes() {
+    return pesoBytes;
+  }
+
+  public void setPesoBytes(long pesoBytes) {
+    this.pesoBytes = pesoBytes;
+  }
+
+  public long getPesoMaximoBytes() {
+    return pesoMaximoBytes;
+  }
+
+  public void setPesoMaximoBytes(long pesoMaximoBytes) {
+    this.pesoMaximoBytes = pesoMaximoBytes;
+  }
+
+  public long getAcertos() {
+    return acertos;
+  }
+
+  public void setAcertos(long acertos) {
+    this.acertos = acertos;
+  }
+
+  public long getFaltas() {
+    return faltas;
+  }
+
+  public void setFaltas(long faltas) {
+    this.faltas = faltas;
+  }
+
+  public double getTaxaAcerto() {
+    return taxaAcerto;
+  }
+
+  public void setTaxaAcerto(double taxaAcerto) {
+    this.taxaAcerto = taxaAcerto;
+  }
+
+  public long getRemocoes() {
+    return remocoes;
+  }
+
+  public void setRemocoes(long remocoes) {
+    this.remocoes = remocoes;
+  }
+
+  public long getPesoRemovidoBytes() {
+    return pesoRemovidoBytes;
+  }
+
+  public void setPesoRemovidoBytes(long pesoRemovidoBytes) {
+    this.pesoRemovidoBytes = pesoRemovidoBytes;
+  }
+
+  public long getCarregamentos() {
+    return carregamentos;
+  }
+
+  public void setCarregamentos(long carregamentos) {
+    this.carregamentos = carregamentos;
+  }
+
+  public long getFalhasCarregamento() {
+    return falhasCarregamento;
+  }
+
+  public void setFalhasCarregamento(long falhasCarregamento) {
+    this.falhasCarregamento = falhasCarregamento;
+  }
+
+  public long getTempoMedioCarregamentoMicros() {
+    return tempoMedioCarregamentoMicros;
+  }
+
+  public void setTempoMedioCarregamentoMicros(long tempoMedioCarregamentoMicros) {
+    this.tempoMedioCarregamentoMicros = tempoMedioCarregamentoMicros;
+  }
+}
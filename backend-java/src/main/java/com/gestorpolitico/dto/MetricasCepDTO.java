@@ -0,0 +1,42 @@
+package com.gestorpolitico.dto;
+
+import java.util.List;
+
+public class MetricasCepDTO {
+  private long consultasReserva;
+  private long respostasReserva;
+  private long limiarReservaMs;
+  private List<MetricasProvedorCepDTO> provedores;
+
+  public long getConsultasReserva() {
+    return consultasReserva;
+  }
+
+  public void setConsultasReserva(long consultasReserva) {
+    this.consultasReserva = consultasReserva;
+  }
+
+  public long getRespostasReserva() {
+    return respostasReserva;
+  }
+
+  public void setRespostasReserva(long respostasReserva) {
+    this.respostasReserva = respostasReserva;
+  }
+
+  public long getLimiarReservaMs() {
+    return limiarReservaMs;
+  }
+
+  public void setLimiarReservaMs(long limiarReservaMs) {
+    this.limiarReservaMs = limiarReservaMs;
+  }
+
+  public List<MetricasProvedorCepDTO> getProvedores() {
+    return provedores;
+  }
+
+  public void setProvedores(List<MetricasProvedorCepDTO> provedores) {
+    this.provedores = provedores;
+  }
+}
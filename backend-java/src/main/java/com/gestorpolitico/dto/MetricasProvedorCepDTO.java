@@ -0,0 +1,94 @@
+package com.gestorpolitico.dto;
+
+public class MetricasProvedorCepDTO {
+  private String nome;
+  private String estadoCircuito;
+  private long requisicoes;
+  private long encontrados;
+  private long naoEncontrados;
+  private long falhas;
+  private long timeouts;
+  private long rejeitadasPeloCircuito;
+  private long latenciaP50Ms;
+  private long latenciaP95Ms;
+
+  public String getNome() {
+    return nome;
+  }
+
+  public void setNome(String nome) {
+    this.nome = nome;
+  }
+
+  public String getEstadoCircuito() {
+    return estadoCircuito;
+  }
+
+  public void setEstadoCircuito(String estadoCircuito) {
+    this.estadoCircuito = estadoCircuito;
+  }
+
+  public long getRequisicoes() {
+    return requisicoes;
+  }
+
+  public void setRequisicoes(long requisicoes) {
+    this.requisicoes = requisicoes;
+  }
+
+  public long getEncontrados() {
+    return encontrados;
+  }
+
+  public void setEncontrados(long encontrados) {
+    this.encontrados = encontrados;
+  }
+
+  public long getNaoEncontrados() {
+    return naoEncontrados;
+  }
+
+  public void setNaoEncontrados(long naoEncontrados) {
+    this.naoEncontrados = naoEncontrados;
+  }
+
+  public long getFalhas() {
+    return falhas;
+  }
+
+  public void setFalhas(long falhas) {
+    this.falhas = falhas;
+  }
+
+  public long getTimeouts() {
+    return timeouts;
+  }
+
+  public void setTimeouts(long timeouts) {
+    this.timeouts = timeouts;
+  }
+
+  public long getRejeitadasPeloCircuito() {
+    return rejeitadasPeloCircuito;
+  }
+
+  public void setRejeitadasPeloCircuito(long rejeitadasPeloCircuito) {
+    this.rejeitadasPeloCircuito = rejeitadasPeloCircuito;
+  }
+
+  public long getLatenciaP50Ms() {
+    return latenciaP50Ms;
+  }
+
+  public void setLatenciaP50Ms(long latenciaP50Ms) {
+    this.latenciaP50Ms = latenciaP50Ms;
+  }
+
+  public long getLatenciaP95Ms() {
+    return latenciaP95Ms;
+  }
+
+  public void setLatenciaP95Ms(long latenciaP95Ms) {
+    this.latenciaP95Ms = latenciaP95Ms;
+  }
+}
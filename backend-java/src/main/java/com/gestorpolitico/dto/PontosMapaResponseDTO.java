@@ -0,0 +1,59 @@
+package com.gestorpolitico.dto;
+
+public class PontosMapaResponseDTO {
+  private int total;
+  private long[] ids;
+  private double[] latitudes;
+  private double[] longitudes;
+  private double[] pesos;
+
+  public PontosMapaResponseDTO() {}
+
+  public PontosMapaResponseDTO(long[] ids, double[] latitudes, double[] longitudes, double[] pesos) {
+    this.total = ids.length;
+    this.ids = ids;
+    this.latitudes = latitudes;
+    this.longitudes = longitudes;
+    this.pesos = pesos;
+  }
+
+  public int getTotal() {
+    return total;
+  }
+
+  public void setTotal(int total) {
+    this.total = total;
+  }
+
+  public long[] getIds() {
+    return ids;
+  }
+
+  public void setIds(long[] ids) {
+    this.ids = ids;
+  }
+
+  public double[] getLatitudes() {
+    return latitudes;
+  }
+
+  public void setLatitudes(double[] latitudes) {
+    this.latitudes = latitudes;
+  }
+
+  public double[] getLongitudes() {
+    return longitudes;
+  }
+
+  public void setLongitudes(double[] longitudes) {
+    this.longitudes = longitudes;
+  }
+
+  public double[] getPesos() {
+    return pesos;
+  }
+
+  public void setPesos(double[] pesos) {
+    this.pesos = pesos;
+  }
+}
@@ -0,0 +1,133 @@
+package com.gestorpolitico.dto;
+
+import com.gestorpolitico.enums.StatusRegeocodificacao;
+import java.time.OffsetDateTime;
+
+public class ProgressoRegeocodificacaoDTO {
+  private Long id;
+  private StatusRegeocodificacao status;
+  private long total;
+  private long processados;
+  private long atualizados;
+  private long semResultado;
+  private long falhas;
+  private double percentual;
+  private double itensPorMinuto;
+  private Long segundosRestantes;
+  private OffsetDateTime previsaoTermino;
+  private OffsetDateTime iniciadoEm;
+  private OffsetDateTime atualizadoEm;
+  private OffsetDateTime concluidoEm;
+
+  public Long getId() {
+    return id;
+  }
+
+  public void setId(Long id) {
+    this.id = id;
+  }
+
+  public StatusRegeocodificacao getStatus() {
+    return status;
+  }
+
+  public void setStatus(StatusRegeocodificacao status) {
+    this.status = status;
+  }
+
+  public long getTotal() {
+    return total;
+  }
+
+  public void setTotal(long total) {
+    this.total = total;
+  }
+
+  public long getProcessados() {
+    return processados;
+  }
+
+  public void setProcessados(long processados) {
+    this.processados = processados;
+  }
+
+  public long getAtualizados() {
+    return atualizados;
+  }
+
+  public void setAtualizados(long atualizados) {
+    this.atualizados = atualizados;
+  }
+
+  public long getSemResultado() {
+    return semResultado;
+  }
+
+  public void setSemResultado(long semResultado) {
+    this.semResultado = semResultado;
+  }
+
+  public long getFalhas() {
+    return falhas;
+  }
+
+  public void setFalhas(long falhas) {
+    this.falhas = falhas;
+  }
+
+  public double getPercentual() {
+    return percentual;
+  }
+
+  public void setPercentual(double percentual) {
+    this.percentual = percentual;
+  }
+
+  public double getItensPorMinuto() {
+    return itensPorMinuto;
+  }
+
+  public void setItensPorMinuto(double itensPorMinuto) {
+    this.itensPorMinuto = itensPorMinuto;
+  }
+
+  public Long getSegundosRestantes() {
+    return segundosRestantes;
+  }
+
+  public void setSegundosRestantes(Long segundosRestantes) {
+    this.segundosRestantes = segundosRestantes;
+  }
+
+  public OffsetDateTime getPrevisaoTermino() {
+    return previsaoTermino;
+  }
+
+  public void setPrevisaoTermino(OffsetDateTime previsaoTermino) {
+    this.previsaoTermino = previsaoTermino;
+  }
+
+  public OffsetDateTime getIniciadoEm() {
+    return iniciadoEm;
+  }
+
+  public void setIniciadoEm(OffsetDateTime iniciadoEm) {
+    this.iniciadoEm = iniciadoEm;
+  }
+
+  public OffsetDateTime getAtualizadoEm() {
+    return atualizadoEm;
+  }
+
+  public void setAtualizadoEm(OffsetDateTime atualizadoEm) {
+    this.atualizadoEm = atualizadoEm;
+  }
+
+  public OffsetDateTime getConcluidoEm() {
+    return concluidoEm;
+  }
+
+  public void setConcluidoEm(OffsetDateTime concluidoEm) {
+    this.concluidoEm = concluidoEm;
+  }
+}
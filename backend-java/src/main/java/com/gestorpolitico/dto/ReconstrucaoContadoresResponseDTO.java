@@ -0,0 +1,39 @@
+package com.gestorpolitico.dto;
+
+public class ReconstrucaoContadoresResponseDTO {
+  private long contadores;
+  private long divergencias;
+  private long duracaoMs;
+
+  public ReconstrucaoContadoresResponseDTO() {}
+
+  public ReconstrucaoContadoresResponseDTO(long contadores, long divergencias, long duracaoMs) {
+    this.contadores = contadores;
+    this.divergencias = divergencias;
+    this.duracaoMs = duracaoMs;
+  }
+
+  public long getContadores() {
+    return contadores;
+  }
+
+  public void setContadores(long contadores) {
+    this.contadores = contadores;
+  }
+
+  public long getDivergencias() {
+    return divergencias;
+  }
+
+  public void setDivergencias(long divergencias) {
+    this.divergencias = divergencias;
+  }
+
+  public long getDuracaoMs() {
+    return duracaoMs;
+  }
+
+  public void setDuracaoMs(long duracaoMs) {
+    this.duracaoMs = duracaoMs;
+  }
+}
@@ -0,0 +1,49 @@
+package com.gestorpolitico.dto;
+
+public class StatusGeocodificacaoResponseDTO {
+  private long pendentes;
+  private long concluidos;
+  private long naoEncontrados;
+  private long falhas;
+
+  public StatusGeocodificacaoResponseDTO() {}
+
+  public StatusGeocodificacaoResponseDTO(long pendentes, long concluidos, long naoEncontrados, long falhas) {
+    this.pendentes = pendentes;
+    this.concluidos = concluidos;
+    this.naoEncontrados = naoEncontrados;
+    this.falhas = falhas;
+  }
+
+  public long getPendentes() {
+    return pendentes;
+  }
+
+  public void setPendentes(long pendentes) {
+    this.pendentes = pendentes;
+  }
+
+  public long getConcluidos() {
+    return concluidos;
+  }
+
+  public void setConcluidos(long concluidos) {
+    this.concluidos = concluidos;
+  }
+
+  public long getNaoEncontrados() {
+    return naoEncontrados;
+  }
+
+  public void setNaoEncontrados(long naoEncontrados) {
+    this.naoEncontrados = naoEncontrados;
+  }
+
+  public long getFalhas() {
+    return falhas;
+  }
+
+  public void setFalhas(long falhas) {
+    this.falhas = falhas;
+  }
+}
@@ -10,6 +10,7 @@ import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.PrePersist;
 import jakarta.persistence.PreUpdate;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
@@ -19,7 +20,12 @@ import jakarta.validation.constraints.Size;
 @Table(name = "bairros")
 public class Bairro {
   @Id
-  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = SequenciasIdentificadores.BAIRROS)
+  @SequenceGenerator(
+    name = SequenciasIdentificadores.BAIRROS,
+    sequenceName = SequenciasIdentificadores.BAIRROS,
+    allocationSize = SequenciasIdentificadores.TAMANHO_BLOCO
+  )
   private Long id;
 
   @NotBlank
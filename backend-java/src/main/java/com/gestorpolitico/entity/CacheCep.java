@@ -0,0 +1,108 @@
+package com.gestorpolitico.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import java.time.OffsetDateTime;
+
+@Entity
+@Table(name = "cache_cep")
+public class CacheCep {
+  @Id
+  @Column(length = 8)
+  private String cep;
+
+  private String logradouro;
+
+  private String bairro;
+
+  private String cidade;
+
+  @Column(length = 2)
+  private String uf;
+
+  @Column(name = "codigo_ibge", length = 10)
+  private String codigoIbge;
+
+  @Column(nullable = false)
+  private boolean encontrado;
+
+  @Column(name = "consultado_em", nullable = false)
+  private OffsetDateTime consultadoEm;
+
+  @Column(name = "expira_em", nullable = false)
+  private OffsetDateTime expiraEm;
+
+  public String getCep() {
+    return cep;
+  }
+
+  public void setCep(String cep) {
+    this.cep = cep;
+  }
+
+  public String getLogradouro() {
+    return logradouro;
+  }
+
+  public void setLogradouro(String logradouro) {
+    this.logradouro = logradouro;
+  }
+
+  public String getBairro() {
+    return bairro;
+  }
+
+  public void setBairro(String bairro) {
+    this.bairro = bairro;
+  }
+
+  public String getCidade() {
+    return cidade;
+  }
+
+  public void setCidade(String cidade) {
+    this.cidade = cidade;
+  }
+
+  public String getUf() {
+    return uf;
+  }
+
+  public void setUf(String uf) {
+    this.uf = uf;
+  }
+
+  public String getCodigoIbge() {
+    return codigoIbge;
+  }
+
+  public void setCodigoIbge(String codigoIbge) {
+    this.codigoIbge = codigoIbge;
+  }
+
+  public boolean isEncontrado() {
+    return encontrado;
+  }
+
+  public void setEncontrado(boolean encontrado) {
+    this.encontrado = encontrado;
+  }
+
+  public OffsetDateTime getConsultadoEm() {
+    return consultadoEm;
+  }
+
+  public void setConsultadoEm(OffsetDateTime consultadoEm) {
+    this.consultadoEm = consultadoEm;
+  }
+
+  public OffsetDateTime getExpiraEm() {
+    return expiraEm;
+  }
+
+  public void setExpiraEm(OffsetDateTime expiraEm) {
+    this.expiraEm = expiraEm;
+  }
+}
@@ -0,0 +1,116 @@
+package com.gestorpolitico.entity;
+
+import com.gestorpolitico.enums.ProvedorGeocodificacao;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import java.math.BigDecimal;
+import java.time.OffsetDateTime;
+
+@Entity
+@Table(name = "cache_geocodificacao")
+public class CacheGeocodificacao {
+  @Id
+  @Column(length = 500)
+  private String chave;
+
+  @Column(precision = 10, scale = 7)
+  private BigDecimal latitude;
+
+  @Column(precision = 10, scale = 7)
+  private BigDecimal longitude;
+
+  @Enumerated(EnumType.STRING)
+  @Column(nullable = false, length = 30)
+  private ProvedorGeocodificacao provedor;
+
+  @Column(length = 40)
+  private String precisao;
+
+  @Column(name = "consultado_em", nullable = false)
+  private OffsetDateTime consultadoEm;
+
+  @Column(name = "expira_em", nullable = false)
+  private OffsetDateTime expiraEm;
+
+  @Column(name = "ultimo_acesso_em")
+  private OffsetDateTime ultimoAcessoEm;
+
+  @Column(nullable = false)
+  private long acessos;
+
+  public String getChave() {
+    return chave;
+  }
+
+  public void setChave(String chave) {
+    this.chave = chave;
+  }
+
+  public BigDecimal getLatitude() {
+    return latitude;
+  }
+
+  public void setLatitude(BigDecimal latitude) {
+    this.latitude = latitude;
+  }
+
+  public BigDecimal getLongitude() {
+    return longitude;
+  }
+
+  public void setLongitude(BigDecimal longitude) {
+    this.longitude = longitude;
+  }
+
+  public ProvedorGeocodificacao getProvedor() {
+    return provedor;
+  }
+
+  public void setProvedor(ProvedorGeocodificacao provedor) {
+    this.provedor = provedor;
+  }
+
+  public String getPrecisao() {
+    return precisao;
+  }
+
+  public void setPrecisao(String precisao) {
+    this.precisao = precisao;
+  }
+
+  public OffsetDateTime getConsultadoEm() {
+    return consultadoEm;
+  }
+
+  public void setConsultadoEm(OffsetDateTime consultadoEm) {
+    this.consultadoEm = consultadoEm;
+  }
+
+  public OffsetDateTime getExpiraEm() {
+    return expiraEm;
+  }
+
+  public void setExpiraEm(OffsetDateTime expiraEm) {
+    this.expiraEm = expiraEm;
+  }
+
+  public OffsetDateTime getUltimoAcessoEm() {
+    return ultimoAcessoEm;
+  }
+
+  public void setUltimoAcessoEm(OffsetDateTime ultimoAcessoEm) {
+    this.ultimoAcessoEm = ultimoAcessoEm;
+  }
+
+  public long getAcessos() {
+    return acessos;
+  }
+
+  public void setAcessos(long acessos) {
+    this.acessos = acessos;
+  }
+}
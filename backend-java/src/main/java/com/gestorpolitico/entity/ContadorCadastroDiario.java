@@ -0,0 +1,43 @@
+package com.gestorpolitico.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.EmbeddedId;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Table;
+
+@Entity
+@Table(name = "contador_cadastros_diarios")
+public class ContadorCadastroDiario {
+  @EmbeddedId
+  private ContadorCadastroDiarioId id;
+
+  @Column(nullable = false)
+  private long familias;
+
+  @Column(nullable = false)
+  private long membros;
+
+  public ContadorCadastroDiarioId getId() {
+    return id;
+  }
+
+  public void setId(ContadorCadastroDiarioId id) {
+    this.id = id;
+  }
+
+  public long getFamilias() {
+    return familias;
+  }
+
+  public void setFamilias(long familias) {
+    this.familias = familias;
+  }
+
+  public long getMembros() {
+    return membros;
+  }
+
+  public void setMembros(long membros) {
+    this.membros = membros;
+  }
+}
@@ -0,0 +1,71 @@
+package com.gestorpolitico.entity;
+
+import com.gestorpolitico.enums.EscopoContador;
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import java.io.Serializable;
+import java.time.LocalDate;
+import java.util.Objects;
+
+@Embeddable
+public class ContadorCadastroDiarioId implements Serializable {
+  @Enumerated(EnumType.STRING)
+  @Column(nullable = false, length = 10)
+  private EscopoContador escopo;
+
+  @Column(nullable = false, length = 160)
+  private String chave;
+
+  @Column(nullable = false)
+  private LocalDate dia;
+
+  public ContadorCadastroDiarioId() {}
+
+  public ContadorCadastroDiarioId(EscopoContador escopo, String chave, LocalDate dia) {
+    this.escopo = escopo;
+    this.chave = chave;
+    this.dia = dia;
+  }
+
+  public EscopoContador getEscopo() {
+    return escopo;
+  }
+
+  public void setEscopo(EscopoContador escopo) {
+    this.escopo = escopo;
+  }
+
+  public String getChave() {
+    return chave;
+  }
+
+  public void setChave(String chave) {
+    this.chave = chave;
+  }
+
+  public LocalDate getDia() {
+    return dia;
+  }
+
+  public void setDia(LocalDate dia) {
+    this.dia = dia;
+  }
+
+  @Override
+  public boolean equals(Object outro) {
+    if (this == outro) {
+      return true;
+    }
+    if (!(outro instanceof ContadorCadastroDiarioId that)) {
+      return false;
+    }
+    return escopo == that.escopo && Objects.equals(chave, that.chave) && Objects.equals(dia, that.dia);
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(escopo, chave, dia);
+  }
+}
@@ -0,0 +1,54 @@
+package com.gestorpolitico.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.EmbeddedId;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Table;
+
+@Entity
+@Table(name = "contador_familias")
+public class ContadorFamilia {
+  @EmbeddedId
+  private ContadorFamiliaId id;
+
+  @Column(nullable = false)
+  private long familias;
+
+  @Column(nullable = false)
+  private long membros;
+
+  @Column(nullable = false)
+  private long responsaveis;
+
+  public ContadorFamiliaId getId() {
+    return id;
+  }
+
+  public void setId(ContadorFamiliaId id) {
+    this.id = id;
+  }
+
+  public long getFamilias() {
+    return familias;
+  }
+
+  public void setFamilias(long familias) {
+    this.familias = familias;
+  }
+
+  public long getMembros() {
+    return membros;
+  }
+
+  public void setMembros(long membros) {
+    this.membros = membros;
+  }
+
+  public long getResponsaveis() {
+    return responsaveis;
+  }
+
+  public void setResponsaveis(long responsaveis) {
+    this.responsaveis = responsaveis;
+  }
+}
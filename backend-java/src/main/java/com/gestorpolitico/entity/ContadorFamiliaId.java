@@ -0,0 +1,58 @@
+package com.gestorpolitico.entity;
+
+import com.gestorpolitico.enums.EscopoContador;
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import java.io.Serializable;
+import java.util.Objects;
+
+@Embeddable
+public class ContadorFamiliaId implements Serializable {
+  @Enumerated(EnumType.STRING)
+  @Column(nullable = false, length = 10)
+  private EscopoContador escopo;
+
+  @Column(nullable = false, length = 160)
+  private String chave;
+
+  public ContadorFamiliaId() {}
+
+  public ContadorFamiliaId(EscopoContador escopo, String chave) {
+    this.escopo = escopo;
+    this.chave = chave;
+  }
+
+  public EscopoContador getEscopo() {
+    return escopo;
+  }
+
+  public void setEscopo(EscopoContador escopo) {
+    this.escopo = escopo;
+  }
+
+  public String getChave() {
+    return chave;
+  }
+
+  public void setChave(String chave) {
+    this.chave = chave;
+  }
+
+  @Override
+  public boolean equals(Object outro) {
+    if (this == outro) {
+      return true;
+    }
+    if (!(outro instanceof ContadorFamiliaId that)) {
+      return false;
+    }
+    return escopo == that.escopo && Objects.equals(chave, that.chave);
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(escopo, chave);
+  }
+}
@@ -2,24 +2,34 @@ package com.gestorpolitico.entity;
 
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
 import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Size;
 
+import com.gestorpolitico.enums.StatusGeocodificacao;
 import java.math.BigDecimal;
+import java.time.OffsetDateTime;
 
 @Entity
 @Table(name = "enderecos")
 public class Endereco {
   @Id
-  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = SequenciasIdentificadores.ENDERECOS)
+  @SequenceGenerator(
+    name = SequenciasIdentificadores.ENDERECOS,
+    sequenceName = SequenciasIdentificadores.ENDERECOS,
+    allocationSize = SequenciasIdentificadores.TAMANHO_BLOCO
+  )
   private Long id;
 
   @NotBlank
@@ -51,6 +61,28 @@ public class Endereco {
   @Column(precision = 10, scale = 7)
   private BigDecimal longitude;
 
+  @Size(max = Geohash.PRECISAO)
+  @Column(length = Geohash.PRECISAO)
+  private String geohash;
+
+  @Enumerated(EnumType.STRING)
+  @Column(name = "status_geocodificacao", length = 20)
+  private StatusGeocodificacao statusGeocodificacao;
+
+  @Size(max = 500)
+  @Column(name = "endereco_geocodificacao", length = 500)
+  private String enderecoGeocodificacao;
+
+  @Column(name = "tentativas_geocodificacao", nullable = false)
+  private int tentativasGeocodificacao;
+
+  @Column(name = "proxima_geocodificacao")
+  private OffsetDateTime proximaGeocodificacao;
+
+  @Size(max = 40)
+  @Column(name = "precisao_geocodificacao", length = 40)
+  private String precisaoGeocodificacao;
+
   public Long getId() {
     return id;
   }
@@ -105,6 +137,7 @@ public class Endereco {
 
   public void setLatitude(BigDecimal latitude) {
     this.latitude = latitude;
+    atualizarGeohash();
   }
 
   public BigDecimal getLongitude() {
@@ -113,5 +146,56 @@ public class Endereco {
 
   public void setLongitude(BigDecimal longitude) {
     this.longitude = longitude;
+    atualizarGeohash();
+  }
+
+  public String getGeohash() {
+    return geohash;
+  }
+
+  public StatusGeocodificacao getStatusGeocodificacao() {
+    return statusGeocodificacao;
+  }
+
+  public void setStatusGeocodificacao(StatusGeocodificacao statusGeocodificacao) {
+    this.statusGeocodificacao = statusGeocodificacao;
+  }
+
+  public String getEnderecoGeocodificacao() {
+    return enderecoGeocodificacao;
+  }
+
+  public void setEnderecoGeocodificacao(String enderecoGeocodificacao) {
+    this.enderecoGeocodificacao = enderecoGeocodificacao;
+  }
+
+  public int getTentativasGeocodificacao() {
+    return tentativasGeocodificacao;
+  }
+
+  public void setTentativasGeocodificacao(int tentativasGeocodificacao) {
+    this.tentativasGeocodificacao = tentativasGeocodificacao;
+  }
+
+  public OffsetDateTime getProximaGeocodificacao() {
+    return proximaGeocodificacao;
+  }
+
+  public void setProximaGeocodificacao(OffsetDateTime proximaGeocodificacao) {
+    this.proximaGeocodificacao = proximaGeocodificacao;
+  }
+
+  public String getPrecisaoGeocodificacao() {
+    return precisaoGeocodificacao;
+  }
+
+  public void setPrecisaoGeocodificacao(String precisaoGeocodificacao) {
+    this.precisaoGeocodificacao = precisaoGeocodificacao;
+  }
+
+  private void atualizarGeohash() {
+    geohash = latitude != null && longitude != null
+      ? Geohash.codificar(latitude.doubleValue(), longitude.doubleValue())
+      : null;
   }
 }
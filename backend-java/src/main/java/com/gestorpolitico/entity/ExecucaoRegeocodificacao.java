@@ -0,0 +1,139 @@
+package com.gestorpolitico.entity;
+
+import com.gestorpolitico.enums.StatusRegeocodificacao;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import java.time.OffsetDateTime;
+
+@Entity
+@Table(name = "execucoes_regeocodificacao")
+public class ExecucaoRegeocodificacao {
+  @Id
+  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  private Long id;
+
+  @Enumerated(EnumType.STRING)
+  @Column(nullable = false, length = 20)
+  private StatusRegeocodificacao status;
+
+  @Column(name = "ultimo_endereco_id", nullable = false)
+  private long ultimoEnderecoId;
+
+  @Column(nullable = false)
+  private long total;
+
+  @Column(nullable = false)
+  private long processados;
+
+  @Column(nullable = false)
+  private long atualizados;
+
+  @Column(name = "sem_resultado", nullable = false)
+  private long semResultado;
+
+  @Column(nullable = false)
+  private long falhas;
+
+  @Column(name = "iniciado_em", nullable = false)
+  private OffsetDateTime iniciadoEm;
+
+  @Column(name = "atualizado_em", nullable = false)
+  private OffsetDateTime atualizadoEm;
+
+  @Column(name = "concluido_em")
+  private OffsetDateTime concluidoEm;
+
+  public Long getId() {
+    return id;
+  }
+
+  public void setId(Long id) {
+    this.id = id;
+  }
+
+  public StatusRegeocodificacao getStatus() {
+    return status;
+  }
+
+  public void setStatus(StatusRegeocodificacao status) {
+    this.status = status;
+  }
+
+  public long getUltimoEnderecoId() {
+    return ultimoEnderecoId;
+  }
+
+  public void setUltimoEnderecoId(long ultimoEnderecoId) {
+    this.ultimoEnderecoId = ultimoEnderecoId;
+  }
+
+  public long getTotal() {
+    return total;
+  }
+
+  public void setTotal(long total) {
+    this.total = total;
+  }
+
+  public long getProcessados() {
+    return processados;
+  }
+
+  public void setProcessados(long processados) {
+    this.processados = processados;
+  }
+
+  public long getAtualizados() {
+    return atualizados;
+  }
+
+  public void setAtualizados(long atualizados) {
+    this.atualizados = atualizados;
+  }
+
+  public long getSemResultado() {
+    return semResultado;
+  }
+
+  public void setSemResultado(long semResultado) {
+    this.semResultado = semResultado;
+  }
+
+  public long getFalhas() {
+    return falhas;
+  }
+
+  public void setFalhas(long falhas) {
+    this.falhas = falhas;
+  }
+
+  public OffsetDateTime getIniciadoEm() {
+    return iniciadoEm;
+  }
+
+  public void setIniciadoEm(OffsetDateTime iniciadoEm) {
+    this.iniciadoEm = iniciadoEm;
+  }
+
+  public OffsetDateTime getAtualizadoEm() {
+    return atualizadoEm;
+  }
+
+  public void setAtualizadoEm(OffsetDateTime atualizadoEm) {
+    this.atualizadoEm = atualizadoEm;
+  }
+
+  public OffsetDateTime getConcluidoEm() {
+    return concluidoEm;
+  }
+
+  public void setConcluidoEm(OffsetDateTime concluidoEm) {
+    this.concluidoEm = concluidoEm;
+  }
+}
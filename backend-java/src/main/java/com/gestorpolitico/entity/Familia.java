@@ -12,18 +12,26 @@ import jakarta.persistence.ManyToOne;
 import jakarta.persistence.OneToMany;
 import jakarta.persistence.OneToOne;
 import jakarta.persistence.PrePersist;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Size;
 import java.time.OffsetDateTime;
 import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
+import java.util.StringJoiner;
 
 @Entity
 @Table(name = "familia")
 public class Familia {
   @Id
-  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = SequenciasIdentificadores.FAMILIA)
+  @SequenceGenerator(
+    name = SequenciasIdentificadores.FAMILIA,
+    sequenceName = SequenciasIdentificadores.FAMILIA,
+    allocationSize = SequenciasIdentificadores.TAMANHO_BLOCO
+  )
   private Long id;
 
   @NotBlank
@@ -50,6 +58,9 @@ public class Familia {
   @JoinColumn(name = "parceiro_cadastro_id")
   private Parceiro parceiroCadastro;
 
+  @Column(name = "documento_busca", nullable = false, columnDefinition = "TEXT")
+  private String documentoBusca = "";
+
   public Long getId() {
     return id;
   }
@@ -111,10 +122,37 @@ public class Familia {
     this.parceiroCadastro = parceiroCadastro;
   }
 
+  public String getDocumentoBusca() {
+    return documentoBusca;
+  }
+
+  public void atualizarDocumentoBusca() {
+    StringJoiner documento = new StringJoiner(" ");
+    membros
+      .stream()
+      .sorted(Comparator.comparing(membro -> !Boolean.TRUE.equals(membro.getResponsavelPrincipal())))
+      .map(MembroFamilia::getNomeCompleto)
+      .forEach(nome -> adicionarTermo(documento, nome));
+    adicionarTermo(documento, endereco);
+    adicionarTermo(documento, bairro);
+    if (enderecoDetalhado != null && enderecoDetalhado.getCidade() != null) {
+      adicionarTermo(documento, enderecoDetalhado.getCidade().getNome());
+    }
+    documentoBusca = documento.toString();
+  }
+
+  private static void adicionarTermo(StringJoiner documento, String valor) {
+    String normalizado = NomeNormalizador.normalizar(valor);
+    if (!normalizado.isEmpty()) {
+      documento.add(normalizado);
+    }
+  }
+
   @PrePersist
   public void prePersist() {
     if (criadoEm == null) {
       criadoEm = OffsetDateTime.now();
     }
+    atualizarDocumentoBusca();
   }
 }
@@ -0,0 +1,127 @@
+package com.gestorpolitico.entity;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.TreeSet;
+
+public final class Geohash {
+  public static final int PRECISAO = 12;
+
+  private static final char[] ALFABETO = "0123456789bcdefghjkmnpqrstuvwxyz".toCharArray();
+  private static final int BITS_POR_CARACTERE = 5;
+  private static final int MAXIMO_CELULAS = 32;
+
+  private Geohash() {}
+
+  public static String codificar(double latitude, double longitude) {
+    return codificar(latitude, longitude, PRECISAO);
+  }
+
+  public static String codificar(double latitude, double longitude, int precisao) {
+    int bits = precisao * BITS_POR_CARACTERE;
+    long indice = intercalar(indiceLongitude(longitude, bitsLongitude(bits)), indiceLatitude(latitude, bitsLatitude(bits)), bits);
+    return paraTexto(indice, precisao);
+  }
+
+  public static List<IntervaloGeohash> cobrir(double oeste, double sul, double leste, double norte) {
+    if (oeste > leste) {
+      List<IntervaloGeohash> intervalos = new ArrayList<>(cobrir(oeste, sul, 180.0, norte));
+      intervalos.addAll(cobrir(-180.0, sul, leste, norte));
+      return intervalos;
+    }
+
+    int precisao = 1;
+    while (precisao < PRECISAO && contarCelulas(oeste, sul, leste, norte, precisao + 1) <= MAXIMO_CELULAS) {
+      precisao++;
+    }
+
+    int bits = precisao * BITS_POR_CARACTERE;
+    long xInicial = indiceLongitude(oeste, bitsLongitude(bits));
+    long xFinal = indiceLongitude(leste, bitsLongitude(bits));
+    long yInicial = indiceLatitude(sul, bitsLatitude(bits));
+    long yFinal = indiceLatitude(norte, bitsLatitude(bits));
+
+    TreeSet<Long> celulas = new TreeSet<>();
+    for (long x = xInicial; x <= xFinal; x++) {
+      for (long y = yInicial; y <= yFinal; y++) {
+        celulas.add(intercalar(x, y, bits));
+      }
+    }
+
+    List<IntervaloGeohash> intervalos = new ArrayList<>();
+    long ultimaCelula = 1L << bits;
+    Long inicio = null;
+    long anterior = 0;
+    for (long celula : celulas) {
+      if (inicio != null && celula != anterior + 1) {
+        intervalos.add(criarIntervalo(inicio, anterior + 1, ultimaCelula, precisao));
+        inicio = null;
+      }
+      if (inicio == null) {
+        inicio = celula;
+      }
+      anterior = celula;
+    }
+    if (inicio != null) {
+      intervalos.add(criarIntervalo(inicio, anterior + 1, ultimaCelula, precisao));
+    }
+    return intervalos;
+  }
+
+  private static IntervaloGeohash criarIntervalo(long inicio, long fim, long ultimaCelula, int precisao) {
+    return new IntervaloGeohash(paraTexto(inicio, precisao), fim >= ultimaCelula ? null : paraTexto(fim, precisao));
+  }
+
+  private static long contarCelulas(double oeste, double sul, double leste, double norte, int precisao) {
+    int bits = precisao * BITS_POR_CARACTERE;
+    long colunas = indiceLongitude(leste, bitsLongitude(bits)) - indiceLongitude(oeste, bitsLongitude(bits)) + 1;
+    long linhas = indiceLatitude(norte, bitsLatitude(bits)) - indiceLatitude(sul, bitsLatitude(bits)) + 1;
+    return colunas * linhas;
+  }
+
+  private static int bitsLongitude(int bits) {
+    return (bits + 1) / 2;
+  }
+
+  private static int bitsLatitude(int bits) {
+    return bits / 2;
+  }
+
+  private static long indiceLongitude(double longitude, int bits) {
+    return discretizar((longitude + 180.0) / 360.0, bits);
+  }
+
+  private static long indiceLatitude(double latitude, int bits) {
+    return discretizar((latitude + 90.0) / 180.0, bits);
+  }
+
+  private static long discretizar(double fracao, int bits) {
+    long celulas = 1L << bits;
+    long indice = (long) Math.floor(fracao * celulas);
+    return Math.max(0, Math.min(indice, celulas - 1));
+  }
+
+  private static long intercalar(long indiceLongitude, long indiceLatitude, int bits) {
+    int bitsLongitude = bitsLongitude(bits);
+    int bitsLatitude = bitsLatitude(bits);
+    long valor = 0;
+    for (int i = 0; i < bits; i++) {
+      long bit = i % 2 == 0
+        ? (indiceLongitude >>> (bitsLongitude - 1 - i / 2)) & 1
+        : (indiceLatitude >>> (bitsLatitude - 1 - i / 2)) & 1;
+      valor = (valor << 1) | bit;
+    }
+    return valor;
+  }
+
+  private static String paraTexto(long indice, int precisao) {
+    char[] caracteres = new char[precisao];
+    for (int i = precisao - 1; i >= 0; i--) {
+      caracteres[i] = ALFABETO[(int) (indice & 0x1F)];
+      indice >>>= BITS_POR_CARACTERE;
+    }
+    return new String(caracteres);
+  }
+
+  public record IntervaloGeohash(String inicio, String fim) {}
+}
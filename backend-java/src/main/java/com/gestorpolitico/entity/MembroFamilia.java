@@ -13,6 +13,7 @@ import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.OneToOne;
 import jakarta.persistence.PrePersist;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
@@ -24,7 +25,12 @@ import java.time.OffsetDateTime;
 @Table(name = "membro_familia")
 public class MembroFamilia {
   @Id
-  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = SequenciasIdentificadores.MEMBRO_FAMILIA)
+  @SequenceGenerator(
+    name = SequenciasIdentificadores.MEMBRO_FAMILIA,
+    sequenceName = SequenciasIdentificadores.MEMBRO_FAMILIA,
+    allocationSize = SequenciasIdentificadores.TAMANHO_BLOCO
+  )
   private Long id;
 
   @NotBlank
@@ -1,17 +1,129 @@
 package com.gestorpolitico.entity;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import java.text.Normalizer;
 import java.util.Locale;
+import java.util.regex.Pattern;
+
+public final class NomeNormalizador {
+  private static final int LIMITE_CACHE = 10_000;
+  private static final char[] LATIN1_MAIUSCULO = new char[256];
+  private static final char[] LATIN1_SEM_ACENTO = new char[256];
+  private static final Cache<String, String> CACHE = Caffeine.newBuilder().maximumSize(LIMITE_CACHE).build();
+  private static final Pattern MARCAS_COMBINANTES = Pattern.compile("\\p{InCombiningDiacriticalMarks}+");
+  private static final Pattern ESPACOS = Pattern.compile("\\s+");
+
+  static {
+    for (char caractere = 0; caractere < 256; caractere++) {
+      String maiusculo = dobrarCaractere(caractere, true);
+      String semAcento = dobrarCaractere(caractere, false);
+      LATIN1_MAIUSCULO[caractere] = maiusculo.length() == 1 ? maiusculo.charAt(0) : 0;
+      LATIN1_SEM_ACENTO[caractere] = semAcento.length() == 1 ? semAcento.charAt(0) : 0;
+    }
+  }
 
-final class NomeNormalizador {
   private NomeNormalizador() {}
 
-  static String normalizar(String valor) {
+  public static String normalizar(String valor) {
+    if (valor == null) {
+      return "";
+    }
+    return dobrar(valor, true);
+  }
+
+  public static String normalizarComCache(String valor) {
+    if (valor == null) {
+      return "";
+    }
+    return CACHE.get(valor, chave -> dobrar(chave, true));
+  }
+
+  public static String removerAcentos(String valor) {
     if (valor == null) {
       return "";
     }
-    String semAcento = Normalizer.normalize(valor, Normalizer.Form.NFD)
-      .replaceAll("\\p{InCombiningDiacriticalMarks}+", "");
-    return semAcento.toUpperCase(Locale.ROOT).replaceAll("\\s+", " ").trim();
+    return dobrar(valor, false);
+  }
+
+  public static String normalizarChave(String valor) {
+    String normalizado = normalizar(valor);
+    StringBuilder chave = new StringBuilder(normalizado.length());
+    for (int i = 0; i < normalizado.length(); i++) {
+      char caractere = normalizado.charAt(i);
+      if (caractere >= 'A' && caractere <= 'Z') {
+        chave.append((char) (caractere + ('a' - 'A')));
+      }
+    }
+    return chave.toString();
+  }
+
+  private static String dobrar(String valor, boolean maiusculas) {
+    if (jaNormalizado(valor, maiusculas)) {
+      return valor;
+    }
+    char[] tabela = maiusculas ? LATIN1_MAIUSCULO : LATIN1_SEM_ACENTO;
+    StringBuilder saida = new StringBuilder(valor.length());
+    boolean espacoPendente = false;
+    for (int i = 0; i < valor.length(); i++) {
+      char caractere = valor.charAt(i);
+      if (ehEspaco(caractere)) {
+        espacoPendente = saida.length() > 0;
+        continue;
+      }
+      if (caractere >= 0x300 && caractere <= 0x36F) {
+        continue;
+      }
+      if (espacoPendente) {
+        saida.append(' ');
+        espacoPendente = false;
+      }
+      if (caractere >= 256) {
+        return dobrarComNormalizer(valor, maiusculas);
+      }
+      char dobrado = tabela[caractere];
+      if (dobrado != 0) {
+        saida.append(dobrado);
+      } else {
+        saida.append(dobrarCaractere(caractere, maiusculas));
+      }
+    }
+    return saida.toString().trim();
+  }
+
+  private static boolean jaNormalizado(String valor, boolean maiusculas) {
+    int ultimo = valor.length() - 1;
+    for (int i = 0; i <= ultimo; i++) {
+      char caractere = valor.charAt(i);
+      if (caractere >= 0x80 || caractere < ' ' || (maiusculas && caractere >= 'a' && caractere <= 'z')) {
+        return false;
+      }
+      if (caractere == ' ' && (i == 0 || i == ultimo || valor.charAt(i - 1) == ' ')) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private static boolean ehEspaco(char caractere) {
+    return caractere == ' ' || (caractere >= '\t' && caractere <= '\r');
+  }
+
+  private static String dobrarComNormalizer(String valor, boolean maiusculas) {
+    String semAcento = MARCAS_COMBINANTES.matcher(Normalizer.normalize(valor, Normalizer.Form.NFD)).replaceAll("");
+    String dobrado = maiusculas ? semAcento.toUpperCase(Locale.ROOT) : semAcento;
+    return ESPACOS.matcher(dobrado).replaceAll(" ").trim();
+  }
+
+  private static String dobrarCaractere(char caractere, boolean maiusculas) {
+    String decomposto = Normalizer.normalize(String.valueOf(caractere), Normalizer.Form.NFD);
+    StringBuilder base = new StringBuilder(decomposto.length());
+    for (int i = 0; i < decomposto.length(); i++) {
+      char parte = decomposto.charAt(i);
+      if (parte < 0x300 || parte > 0x36F) {
+        base.append(parte);
+      }
+    }
+    return maiusculas ? base.toString().toUpperCase(Locale.ROOT) : base.toString();
   }
 }
@@ -9,6 +9,7 @@ import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.OneToOne;
 import jakarta.persistence.PrePersist;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import java.time.OffsetDateTime;
 
@@ -16,7 +17,12 @@ import java.time.OffsetDateTime;
 @Table(name = "parceiro")
 public class Parceiro {
   @Id
-  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = SequenciasIdentificadores.PARCEIRO)
+  @SequenceGenerator(
+    name = SequenciasIdentificadores.PARCEIRO,
+    sequenceName = SequenciasIdentificadores.PARCEIRO,
+    allocationSize = SequenciasIdentificadores.TAMANHO_BLOCO
+  )
   private Long id;
 
   @OneToOne(fetch = FetchType.LAZY)
@@ -0,0 +1,12 @@
+package com.gestorpolitico.entity;
+
+public final class SequenciasIdentificadores {
+  public static final int TAMANHO_BLOCO = 50;
+  public static final String BAIRROS = "bairros_id_seq";
+  public static final String ENDERECOS = "enderecos_id_seq";
+  public static final String FAMILIA = "familia_id_seq";
+  public static final String MEMBRO_FAMILIA = "membro_familia_id_seq";
+  public static final String PARCEIRO = "parceiro_id_seq";
+
+  private SequenciasIdentificadores() {}
+}
@@ -0,0 +1,8 @@
+package com.gestorpolitico.enums;
+
+public enum EscopoContador {
+  GLOBAL,
+  CIDADE,
+  REGIAO,
+  BAIRRO
+}
@@ -0,0 +1,35 @@
+package com.gestorpolitico.enums;
+
+import java.util.Arrays;
+
+public enum FormatoExportacao {
+  CSV("text/csv;charset=UTF-8", "csv"),
+  NDJSON("application/x-ndjson;charset=UTF-8", "ndjson");
+
+  private final String tipoConteudo;
+  private final String extensao;
+
+  FormatoExportacao(String tipoConteudo, String extensao) {
+    this.tipoConteudo = tipoConteudo;
+    this.extensao = extensao;
+  }
+
+  public static FormatoExportacao fromValue(String valor) {
+    if (valor == null) {
+      return CSV;
+    }
+    return Arrays
+      .stream(values())
+      .filter(item -> item.extensao.equalsIgnoreCase(valor.trim()))
+      .findFirst()
+      .orElseThrow(() -> new IllegalArgumentException("Formato de exportação inválido: " + valor));
+  }
+
+  public String getTipoConteudo() {
+    return tipoConteudo;
+  }
+
+  public String getExtensao() {
+    return extensao;
+  }
+}
@@ -2,9 +2,9 @@ package com.gestorpolitico.enums;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonValue;
-import java.text.Normalizer;
-import java.util.Arrays;
-import java.util.Locale;
+import com.gestorpolitico.entity.NomeNormalizador;
+import java.util.HashMap;
+import java.util.Map;
 
 public enum Parentesco {
   PAI("Pai"),
@@ -22,6 +22,8 @@ public enum Parentesco {
   RESPONSAVEL("Responsável pela família"),
   OUTRO("Outro");
 
+  private static final Map<String, Parentesco> POR_CHAVE = criarIndicePorChave();
+
   private final String descricao;
 
   Parentesco(String descricao) {
@@ -34,20 +36,20 @@ public enum Parentesco {
       return null;
     }
 
-    String normalizado = normalizar(valor);
-    return Arrays
-      .stream(values())
-      .filter(item -> normalizar(item.descricao).equals(normalizado) || normalizar(item.name()).equals(normalizado))
-      .findFirst()
-      .orElseThrow(() -> new IllegalArgumentException("Parentesco inválido: " + valor));
+    Parentesco parentesco = POR_CHAVE.get(NomeNormalizador.normalizarChave(valor));
+    if (parentesco == null) {
+      throw new IllegalArgumentException("Parentesco inválido: " + valor);
+    }
+    return parentesco;
   }
 
-  private static String normalizar(String valor) {
-    return Normalizer
-      .normalize(valor, Normalizer.Form.NFD)
-      .replaceAll("\\p{InCombiningDiacriticalMarks}+", "")
-      .replaceAll("[^A-Za-z]", "")
-      .toLowerCase(Locale.ROOT);
+  private static Map<String, Parentesco> criarIndicePorChave() {
+    Map<String, Parentesco> indice = new HashMap<>();
+    for (Parentesco item : values()) {
+      indice.putIfAbsent(NomeNormalizador.normalizarChave(item.descricao), item);
+      indice.putIfAbsent(NomeNormalizador.normalizarChave(item.name()), item);
+    }
+    return Map.copyOf(indice);
   }
 
   @JsonValue
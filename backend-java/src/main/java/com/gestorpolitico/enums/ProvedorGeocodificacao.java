@@ -0,0 +1,6 @@
+package com.gestorpolitico.enums;
+
+public enum ProvedorGeocodificacao {
+  NOMINATIM,
+  ENDERECOS
+}
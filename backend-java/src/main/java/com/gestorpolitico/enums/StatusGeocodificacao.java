@@ -0,0 +1,8 @@
+package com.gestorpolitico.enums;
+
+public enum StatusGeocodificacao {
+  PENDENTE,
+  CONCLUIDO,
+  NAO_ENCONTRADO,
+  FALHOU
+}
@@ -0,0 +1,7 @@
+package com.gestorpolitico.enums;
+
+public enum StatusRegeocodificacao {
+  EM_ANDAMENTO,
+  CONCLUIDA,
+  CANCELADA
+}
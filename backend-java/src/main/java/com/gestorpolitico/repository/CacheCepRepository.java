@@ -0,0 +1,16 @@
+package com.gestorpolitico.repository;
+
+import com.gestorpolitico.entity.CacheCep;
+import java.time.OffsetDateTime;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+public interface CacheCepRepository extends JpaRepository<CacheCep, String> {
+  @Transactional
+  @Modifying
+  @Query("delete from CacheCep c where c.expiraEm < :agora")
+  int removerExpirados(@Param("agora") OffsetDateTime agora);
+}
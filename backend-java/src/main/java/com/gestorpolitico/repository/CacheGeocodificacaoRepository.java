@@ -0,0 +1,23 @@
+package com.gestorpolitico.repository;
+
+import com.gestorpolitico.entity.CacheGeocodificacao;
+import java.time.OffsetDateTime;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+public interface CacheGeocodificacaoRepository extends JpaRepository<CacheGeocodificacao, String> {
+  @Transactional
+  @Modifying
+  @Query(
+    "update CacheGeocodificacao c set c.ultimoAcessoEm = :agora, c.acessos = c.acessos + 1 where c.chave = :chave"
+  )
+  int registrarAcesso(@Param("chave") String chave, @Param("agora") OffsetDateTime agora);
+
+  @Transactional
+  @Modifying
+  @Query("delete from CacheGeocodificacao c where c.expiraEm < :agora")
+  int removerExpirados(@Param("agora") OffsetDateTime agora);
+}
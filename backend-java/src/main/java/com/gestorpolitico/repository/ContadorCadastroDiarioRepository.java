@@ -0,0 +1,46 @@
+package com.gestorpolitico.repository;
+
+import com.gestorpolitico.entity.ContadorCadastroDiario;
+import com.gestorpolitico.entity.ContadorCadastroDiarioId;
+import com.gestorpolitico.enums.EscopoContador;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface ContadorCadastroDiarioRepository
+  extends JpaRepository<ContadorCadastroDiario, ContadorCadastroDiarioId> {
+  List<ContadorCadastroDiario> findByIdEscopoAndIdChave(EscopoContador escopo, String chave);
+
+  List<ContadorCadastroDiario> findByIdEscopoAndIdChaveAndIdDiaGreaterThanEqual(
+    EscopoContador escopo,
+    String chave,
+    LocalDate dia
+  );
+
+  @Modifying
+  @Query(
+    value = """
+      INSERT INTO contador_cadastros_diarios (escopo, chave, dia, familias, membros)
+      VALUES (:escopo, :chave, :dia, :familias, :membros)
+      ON CONFLICT (escopo, chave, dia) DO UPDATE SET
+        familias = contador_cadastros_diarios.familias + EXCLUDED.familias,
+        membros = contador_cadastros_diarios.membros + EXCLUDED.membros
+      """,
+    nativeQuery = true
+  )
+  void incrementar(
+    @Param("escopo") String escopo,
+    @Param("chave") String chave,
+    @Param("dia") LocalDate dia,
+    @Param("familias") long familias,
+    @Param("membros") long membros
+  );
+
+  @Modifying
+  @Query("delete from ContadorCadastroDiario c where c.id.escopo = :escopo and c.id.chave in :chaves")
+  void removerChaves(@Param("escopo") EscopoContador escopo, @Param("chaves") Collection<String> chaves);
+}
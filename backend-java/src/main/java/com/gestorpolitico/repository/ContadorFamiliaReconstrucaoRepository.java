@@ -0,0 +1,7 @@
+package com.gestorpolitico.repository;
+
+import java.time.ZoneId;
+
+public interface ContadorFamiliaReconstrucaoRepository {
+  void reconstruirContadores(ZoneId zona);
+}
@@ -0,0 +1,87 @@
+package com.gestorpolitico.repository;
+
+import com.gestorpolitico.enums.EscopoContador;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import java.time.ZoneId;
+
+class ContadorFamiliaReconstrucaoRepositoryImpl implements ContadorFamiliaReconstrucaoRepository {
+  private static final String ORIGEM_FAMILIAS = """
+    FROM familia f
+    JOIN enderecos e ON e.id = f.endereco_id
+    LEFT JOIN bairros b ON b.id = e.bairro_id
+    """;
+
+  @PersistenceContext
+  private EntityManager entityManager;
+
+  @Override
+  public void reconstruirContadores(ZoneId zona) {
+    entityManager.flush();
+    entityManager.createNativeQuery("DELETE FROM contador_cadastros_diarios").executeUpdate();
+    entityManager.createNativeQuery("DELETE FROM contador_familias").executeUpdate();
+
+    for (EscopoContador escopo : EscopoContador.values()) {
+      inserirTotais(escopo);
+      inserirCadastrosDiarios(escopo, zona);
+    }
+    entityManager.clear();
+  }
+
+  private void inserirTotais(EscopoContador escopo) {
+    String sql = """
+      INSERT INTO contador_familias (escopo, chave, familias, membros, responsaveis)
+      SELECT '%s', %s, COUNT(*), COALESCE(SUM(m.quantidade), 0), COUNT(*) FILTER (WHERE m.possui_responsavel)
+      %s
+      LEFT JOIN (
+        SELECT familia_id, COUNT(*) AS quantidade, BOOL_OR(responsavel_principal) AS possui_responsavel
+        FROM membro_familia
+        GROUP BY familia_id
+      ) m ON m.familia_id = f.id
+      WHERE %s
+      GROUP BY 2
+      """.formatted(escopo.name(), expressaoChave(escopo), ORIGEM_FAMILIAS, condicao(escopo));
+    entityManager.createNativeQuery(sql).executeUpdate();
+  }
+
+  private void inserirCadastrosDiarios(EscopoContador escopo, ZoneId zona) {
+    String familiasPorDia = """
+      INSERT INTO contador_cadastros_diarios (escopo, chave, dia, familias, membros)
+      SELECT '%s', %s, CAST(f.criado_em AT TIME ZONE :zona AS DATE), COUNT(*), 0
+      %s
+      WHERE f.criado_em IS NOT NULL AND %s
+      GROUP BY 2, 3
+      """.formatted(escopo.name(), expressaoChave(escopo), ORIGEM_FAMILIAS, condicao(escopo));
+    entityManager.createNativeQuery(familiasPorDia).setParameter("zona", zona.getId()).executeUpdate();
+
+    String membrosPorDia = """
+      INSERT INTO contador_cadastros_diarios (escopo, chave, dia, familias, membros)
+      SELECT '%s', %s, CAST(mf.criado_em AT TIME ZONE :zona AS DATE), 0, COUNT(*)
+      FROM membro_familia mf
+      JOIN familia f ON f.id = mf.familia_id
+      JOIN enderecos e ON e.id = f.endereco_id
+      LEFT JOIN bairros b ON b.id = e.bairro_id
+      WHERE mf.criado_em IS NOT NULL AND %s
+      GROUP BY 2, 3
+      ON CONFLICT (escopo, chave, dia) DO UPDATE SET membros = EXCLUDED.membros
+      """.formatted(escopo.name(), expressaoChave(escopo), condicao(escopo));
+    entityManager.createNativeQuery(membrosPorDia).setParameter("zona", zona.getId()).executeUpdate();
+  }
+
+  private String expressaoChave(EscopoContador escopo) {
+    return switch (escopo) {
+      case GLOBAL -> "'*'";
+      case CIDADE -> "CAST(e.cidade_id AS VARCHAR)";
+      case REGIAO -> "e.cidade_id || ':' || LOWER(TRIM(b.regiao))";
+      case BAIRRO -> "CAST(e.bairro_id AS VARCHAR)";
+    };
+  }
+
+  private String condicao(EscopoContador escopo) {
+    return switch (escopo) {
+      case GLOBAL, CIDADE -> "TRUE";
+      case REGIAO -> "b.regiao IS NOT NULL AND TRIM(b.regiao) <> ''";
+      case BAIRRO -> "e.bairro_id IS NOT NULL";
+    };
+  }
+}
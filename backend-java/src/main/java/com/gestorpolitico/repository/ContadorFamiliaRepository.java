@@ -0,0 +1,37 @@
+package com.gestorpolitico.repository;
+
+import com.gestorpolitico.entity.ContadorFamilia;
+import com.gestorpolitico.entity.ContadorFamiliaId;
+import com.gestorpolitico.enums.EscopoContador;
+import java.util.Collection;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface ContadorFamiliaRepository
+  extends JpaRepository<ContadorFamilia, ContadorFamiliaId>, ContadorFamiliaReconstrucaoRepository {
+  @Modifying
+  @Query(
+    value = """
+      INSERT INTO contador_familias (escopo, chave, familias, membros, responsaveis)
+      VALUES (:escopo, :chave, :familias, :membros, :responsaveis)
+      ON CONFLICT (escopo, chave) DO UPDATE SET
+        familias = contador_familias.familias + EXCLUDED.familias,
+        membros = contador_familias.membros + EXCLUDED.membros,
+        responsaveis = contador_familias.responsaveis + EXCLUDED.responsaveis
+      """,
+    nativeQuery = true
+  )
+  void incrementar(
+    @Param("escopo") String escopo,
+    @Param("chave") String chave,
+    @Param("familias") long familias,
+    @Param("membros") long membros,
+    @Param("responsaveis") long responsaveis
+  );
+
+  @Modifying
+  @Query("delete from ContadorFamilia c where c.id.escopo = :escopo and c.id.chave in :chaves")
+  void removerChaves(@Param("escopo") EscopoContador escopo, @Param("chaves") Collection<String> chaves);
+}
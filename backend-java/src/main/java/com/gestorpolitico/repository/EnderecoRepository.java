@@ -0,0 +1,99 @@
+package com.gestorpolitico.repository;
+
+import com.gestorpolitico.entity.Endereco;
+import java.time.OffsetDateTime;
+import java.util.Collection;
+import java.util.List;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface EnderecoRepository extends JpaRepository<Endereco, Long> {
+  @Query(
+    """
+      select e from Endereco e
+      where e.statusGeocodificacao = com.gestorpolitico.enums.StatusGeocodificacao.PENDENTE
+        and e.proximaGeocodificacao <= :agora
+      order by e.proximaGeocodificacao asc, e.id asc
+      """
+  )
+  List<Endereco> buscarPendentesGeocodificacao(@Param("agora") OffsetDateTime agora, Pageable pageable);
+
+  @Modifying
+  @Query(
+    """
+      update Endereco e set e.proximaGeocodificacao = :reservadoAte
+      where e.id = :id
+        and e.statusGeocodificacao = com.gestorpolitico.enums.StatusGeocodificacao.PENDENTE
+        and e.proximaGeocodificacao <= :agora
+      """
+  )
+  int reservarGeocodificacao(
+    @Param("id") Long id,
+    @Param("agora") OffsetDateTime agora,
+    @Param("reservadoAte") OffsetDateTime reservadoAte
+  );
+
+  @Query(
+    """
+      select e from Endereco e
+      where e.statusGeocodificacao = com.gestorpolitico.enums.StatusGeocodificacao.CONCLUIDO
+        and e.enderecoGeocodificacao is not null
+        and e.latitude is not null
+        and e.longitude is not null
+        and e.id > :aposId
+      order by e.id asc
+      """
+  )
+  List<Endereco> buscarGeocodificadosAposId(@Param("aposId") long aposId, Pageable pageable);
+
+  @Query(
+    """
+      select e from Endereco e
+      where e.id > :aposId
+        and e.enderecoGeocodificacao is not null
+        and (
+          e.statusGeocodificacao is null
+          or e.statusGeocodificacao <> com.gestorpolitico.enums.StatusGeocodificacao.PENDENTE
+        )
+        and (e.latitude is null or e.longitude is null or e.precisaoGeocodificacao in :precisoesBaixas)
+      order by e.id asc
+      """
+  )
+  List<Endereco> buscarParaRegeocodificacao(
+    @Param("aposId") long aposId,
+    @Param("precisoesBaixas") Collection<String> precisoesBaixas,
+    Pageable pageable
+  );
+
+  @Query(
+    """
+      select count(e) from Endereco e
+      where e.id > :aposId
+        and e.enderecoGeocodificacao is not null
+        and (
+          e.statusGeocodificacao is null
+          or e.statusGeocodificacao <> com.gestorpolitico.enums.StatusGeocodificacao.PENDENTE
+        )
+        and (e.latitude is null or e.longitude is null or e.precisaoGeocodificacao in :precisoesBaixas)
+      """
+  )
+  long contarParaRegeocodificacao(
+    @Param("aposId") long aposId,
+    @Param("precisoesBaixas") Collection<String> precisoesBaixas
+  );
+
+  @Query(
+    """
+      select count(e) from Endereco e
+      where e.statusGeocodificacao = com.gestorpolitico.enums.StatusGeocodificacao.PENDENTE
+        and e.proximaGeocodificacao <= :agora
+      """
+  )
+  long contarPendentesGeocodificacao(@Param("agora") OffsetDateTime agora);
+
+  @Query("select e.statusGeocodificacao, count(e) from Endereco e group by e.statusGeocodificacao")
+  List<Object[]> contarPorStatusGeocodificacao();
+}
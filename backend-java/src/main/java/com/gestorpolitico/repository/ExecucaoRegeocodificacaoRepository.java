@@ -0,0 +1,53 @@
+package com.gestorpolitico.repository;
+
+import com.gestorpolitico.entity.ExecucaoRegeocodificacao;
+import com.gestorpolitico.enums.StatusRegeocodificacao;
+import java.time.OffsetDateTime;
+import java.util.Optional;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+public interface ExecucaoRegeocodificacaoRepository extends JpaRepository<ExecucaoRegeocodificacao, Long> {
+  Optional<ExecucaoRegeocodificacao> findFirstByOrderByIdDesc();
+
+  Optional<ExecucaoRegeocodificacao> findFirstByStatusOrderByIdDesc(StatusRegeocodificacao status);
+
+  @Transactional
+  @Modifying
+  @Query(
+    """
+      update ExecucaoRegeocodificacao e
+      set e.ultimoEnderecoId = :ultimoEnderecoId,
+        e.processados = e.processados + 1,
+        e.atualizados = e.atualizados + :atualizados,
+        e.semResultado = e.semResultado + :semResultado,
+        e.falhas = e.falhas + :falhas,
+        e.atualizadoEm = :agora
+      where e.id = :id
+        and e.status = com.gestorpolitico.enums.StatusRegeocodificacao.EM_ANDAMENTO
+      """
+  )
+  int registrarProgresso(
+    @Param("id") Long id,
+    @Param("ultimoEnderecoId") long ultimoEnderecoId,
+    @Param("atualizados") long atualizados,
+    @Param("semResultado") long semResultado,
+    @Param("falhas") long falhas,
+    @Param("agora") OffsetDateTime agora
+  );
+
+  @Transactional
+  @Modifying
+  @Query(
+    """
+      update ExecucaoRegeocodificacao e
+      set e.status = :status, e.atualizadoEm = :agora, e.concluidoEm = :agora
+      where e.id = :id
+        and e.status = com.gestorpolitico.enums.StatusRegeocodificacao.EM_ANDAMENTO
+      """
+  )
+  int finalizar(@Param("id") Long id, @Param("status") StatusRegeocodificacao status, @Param("agora") OffsetDateTime agora);
+}
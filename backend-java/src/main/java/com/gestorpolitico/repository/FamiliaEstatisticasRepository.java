@@ -0,0 +1,15 @@
+package com.gestorpolitico.repository;
+
+import com.gestorpolitico.dto.FamiliaFiltroRequestDTO;
+import java.time.OffsetDateTime;
+
+public interface FamiliaEstatisticasRepository {
+  EstatisticasFamilias calcularEstatisticas(FamiliaFiltroRequestDTO filtro, OffsetDateTime novosDesde);
+
+  record EstatisticasFamilias(
+    long responsaveisAtivos,
+    long novosCadastros,
+    long totalPessoas,
+    long novasPessoasSemana
+  ) {}
+}
@@ -0,0 +1,67 @@
+package com.gestorpolitico.repository;
+
+import com.gestorpolitico.dto.FamiliaFiltroRequestDTO;
+import com.gestorpolitico.entity.Familia;
+import com.gestorpolitico.entity.MembroFamilia;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.JoinType;
+import jakarta.persistence.criteria.Root;
+import java.time.OffsetDateTime;
+
+class FamiliaEstatisticasRepositoryImpl implements FamiliaEstatisticasRepository {
+  @PersistenceContext
+  private EntityManager entityManager;
+
+  @Override
+  public EstatisticasFamilias calcularEstatisticas(FamiliaFiltroRequestDTO filtro, OffsetDateTime novosDesde) {
+    CriteriaBuilder builder = entityManager.getCriteriaBuilder();
+    CriteriaQuery<Tuple> query = builder.createTupleQuery();
+    Root<Familia> familia = query.from(Familia.class);
+    Join<Familia, MembroFamilia> membro = familia.join("membros", JoinType.LEFT);
+
+    Expression<Long> familiaId = familia.get("id");
+    Expression<Long> membroId = membro.get("id");
+    Expression<Long> nenhumId = builder.nullLiteral(Long.class);
+
+    Expression<Long> familiaComResponsavel = builder
+      .<Long>selectCase()
+      .when(builder.isTrue(membro.get("responsavelPrincipal")), familiaId)
+      .otherwise(nenhumId);
+    Expression<Long> familiaNova = builder
+      .<Long>selectCase()
+      .when(builder.greaterThan(familia.get("criadoEm"), novosDesde), familiaId)
+      .otherwise(nenhumId);
+    Expression<Long> membroNovo = builder
+      .<Long>selectCase()
+      .when(builder.greaterThan(membro.get("criadoEm"), novosDesde), membroId)
+      .otherwise(nenhumId);
+
+    query.multiselect(
+      builder.countDistinct(familiaComResponsavel),
+      builder.countDistinct(familiaNova),
+      builder.count(membroId),
+      builder.count(membroNovo)
+    );
+
+    query.where(FamiliaFiltroSpecification.criarPredicadoPorId(familia, query, builder, filtro));
+
+    Tuple resultado = entityManager.createQuery(query).getSingleResult();
+    return new EstatisticasFamilias(
+      valor(resultado, 0),
+      valor(resultado, 1),
+      valor(resultado, 2),
+      valor(resultado, 3)
+    );
+  }
+
+  private long valor(Tuple tupla, int posicao) {
+    Long valor = tupla.get(posicao, Long.class);
+    return valor != null ? valor : 0L;
+  }
+}
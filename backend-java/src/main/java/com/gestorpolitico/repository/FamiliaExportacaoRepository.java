@@ -0,0 +1,26 @@
+package com.gestorpolitico.repository;
+
+import com.gestorpolitico.dto.FamiliaFiltroRequestDTO;
+import java.math.BigDecimal;
+import java.time.OffsetDateTime;
+import java.util.stream.Stream;
+
+public interface FamiliaExportacaoRepository {
+  Stream<LinhaExportacaoFamilia> streamExportacao(FamiliaFiltroRequestDTO filtro, int tamanhoLote);
+
+  record LinhaExportacaoFamilia(
+    Long id,
+    OffsetDateTime criadoEm,
+    String responsavel,
+    Long totalMembros,
+    String rua,
+    String numero,
+    String cep,
+    String bairro,
+    String regiao,
+    String cidade,
+    String uf,
+    BigDecimal latitude,
+    BigDecimal longitude
+  ) {}
+}
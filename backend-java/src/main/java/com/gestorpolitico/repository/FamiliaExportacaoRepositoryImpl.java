@@ -0,0 +1,74 @@
+package com.gestorpolitico.repository;
+
+import com.gestorpolitico.dto.FamiliaFiltroRequestDTO;
+import com.gestorpolitico.entity.Bairro;
+import com.gestorpolitico.entity.Cidade;
+import com.gestorpolitico.entity.Endereco;
+import com.gestorpolitico.entity.Familia;
+import com.gestorpolitico.entity.MembroFamilia;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.JoinType;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Subquery;
+import java.util.stream.Stream;
+import org.hibernate.jpa.AvailableHints;
+
+class FamiliaExportacaoRepositoryImpl implements FamiliaExportacaoRepository {
+  @PersistenceContext
+  private EntityManager entityManager;
+
+  @Override
+  public Stream<LinhaExportacaoFamilia> streamExportacao(FamiliaFiltroRequestDTO filtro, int tamanhoLote) {
+    CriteriaBuilder builder = entityManager.getCriteriaBuilder();
+    CriteriaQuery<LinhaExportacaoFamilia> query = builder.createQuery(LinhaExportacaoFamilia.class);
+    Root<Familia> familia = query.from(Familia.class);
+    Join<Familia, Endereco> endereco = familia.join("enderecoDetalhado", JoinType.LEFT);
+    Join<Endereco, Cidade> cidade = endereco.join("cidade", JoinType.LEFT);
+    Join<Endereco, Bairro> bairro = endereco.join("bairro", JoinType.LEFT);
+
+    Subquery<String> responsavel = query.subquery(String.class);
+    Root<MembroFamilia> membroResponsavel = responsavel.from(MembroFamilia.class);
+    responsavel
+      .select(builder.least(membroResponsavel.<String>get("nomeCompleto")))
+      .where(
+        builder.equal(membroResponsavel.get("familia"), familia),
+        builder.isTrue(membroResponsavel.get("responsavelPrincipal"))
+      );
+
+    Subquery<Long> totalMembros = query.subquery(Long.class);
+    Root<MembroFamilia> membro = totalMembros.from(MembroFamilia.class);
+    totalMembros.select(builder.count(membro)).where(builder.equal(membro.get("familia"), familia));
+
+    query
+      .select(
+        builder.construct(
+          LinhaExportacaoFamilia.class,
+          familia.get("id"),
+          familia.get("criadoEm"),
+          responsavel,
+          totalMembros,
+          endereco.get("rua"),
+          endereco.get("numero"),
+          endereco.get("cep"),
+          familia.get("bairro"),
+          bairro.get("regiao"),
+          cidade.get("nome"),
+          cidade.get("uf"),
+          endereco.get("latitude"),
+          endereco.get("longitude")
+        )
+      )
+      .where(FamiliaFiltroSpecification.criarPredicadoPorId(familia, query, builder, filtro))
+      .orderBy(builder.asc(familia.get("id")));
+
+    return entityManager
+      .createQuery(query)
+      .setHint(AvailableHints.HINT_FETCH_SIZE, tamanhoLote)
+      .setHint(AvailableHints.HINT_READ_ONLY, true)
+      .getResultStream();
+  }
+}
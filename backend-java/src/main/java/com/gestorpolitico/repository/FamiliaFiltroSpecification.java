@@ -0,0 +1,202 @@
+package com.gestorpolitico.repository;
+
+import com.gestorpolitico.dto.FamiliaFiltroRequestDTO;
+import com.gestorpolitico.entity.Familia;
+import com.gestorpolitico.entity.MembroFamilia;
+import com.gestorpolitico.entity.NomeNormalizador;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.JoinType;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Subquery;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import org.springframework.data.jpa.domain.Specification;
+
+public final class FamiliaFiltroSpecification {
+  private FamiliaFiltroSpecification() {}
+
+  public static Specification<Familia> criar(FamiliaFiltroRequestDTO filtro) {
+    return (root, query, builder) -> {
+      query.distinct(true);
+      return criarPredicado(root, builder, filtro);
+    };
+  }
+
+  public static Predicate criarPredicadoPorId(
+    Root<Familia> root,
+    CriteriaQuery<?> query,
+    CriteriaBuilder builder,
+    FamiliaFiltroRequestDTO filtro
+  ) {
+    if (!possuiFiltros(filtro)) {
+      return builder.conjunction();
+    }
+    Subquery<Long> filtradas = query.subquery(Long.class);
+    Root<Familia> familiaFiltrada = filtradas.from(Familia.class);
+    filtradas
+      .select(familiaFiltrada.get("id"))
+      .where(criarPredicado(familiaFiltrada, builder, filtro));
+    return root.get("id").in(filtradas);
+  }
+
+  public static boolean possuiFiltros(FamiliaFiltroRequestDTO filtro) {
+    if (filtro == null) {
+      return false;
+    }
+    return filtro.getCidadeId() != null || possuiTexto(filtro.getRegiao()) || possuiFiltrosAlemDeLocalidade(filtro);
+  }
+
+  public static boolean possuiFiltrosAlemDeLocalidade(FamiliaFiltroRequestDTO filtro) {
+    if (filtro == null) {
+      return false;
+    }
+    return possuiTexto(filtro.getBairro())
+      || possuiTexto(filtro.getRua())
+      || possuiTexto(filtro.getNumero())
+      || possuiTexto(filtro.getCep())
+      || possuiTexto(filtro.getResponsavel())
+      || possuiTexto(filtro.getProbabilidadeVoto())
+      || possuiTexto(filtro.getTermo())
+      || filtro.getDataInicio() != null
+      || filtro.getDataFim() != null;
+  }
+
+  public static Predicate criarPredicado(Root<Familia> root, CriteriaBuilder builder, FamiliaFiltroRequestDTO filtro) {
+    List<Predicate> predicates = new ArrayList<>();
+
+    var enderecoJoin = root.join("enderecoDetalhado", JoinType.LEFT);
+    var cidadeJoin = enderecoJoin.join("cidade", JoinType.LEFT);
+    Join<Familia, MembroFamilia> membrosJoin = null;
+
+    if (filtro == null) {
+      return builder.conjunction();
+    }
+
+    if (filtro.getCidadeId() != null) {
+      predicates.add(builder.equal(cidadeJoin.get("id"), filtro.getCidadeId()));
+    }
+
+    if (possuiTexto(filtro.getRegiao())) {
+      var bairroJoin = enderecoJoin.join("bairro", JoinType.LEFT);
+      predicates.add(
+        builder.equal(
+          builder.lower(bairroJoin.get("regiao")),
+          filtro.getRegiao().trim().toLowerCase(Locale.ROOT)
+        )
+      );
+    }
+
+    if (possuiTexto(filtro.getBairro())) {
+      predicates.add(
+        builder.like(
+          builder.lower(root.get("bairro")),
+          "%" + filtro.getBairro().trim().toLowerCase(Locale.ROOT) + "%"
+        )
+      );
+    }
+
+    if (possuiTexto(filtro.getRua())) {
+      predicates.add(
+        builder.like(
+          builder.lower(enderecoJoin.get("rua")),
+          "%" + filtro.getRua().trim().toLowerCase(Locale.ROOT) + "%"
+        )
+      );
+    }
+
+    if (possuiTexto(filtro.getNumero())) {
+      predicates.add(
+        builder.like(
+          builder.lower(enderecoJoin.get("numero")),
+          "%" + filtro.getNumero().trim().toLowerCase(Locale.ROOT) + "%"
+        )
+      );
+    }
+
+    if (possuiTexto(filtro.getCep())) {
+      String cepSanitizado = filtro.getCep().replaceAll("\\D", "");
+      if (!cepSanitizado.isBlank()) {
+        predicates.add(builder.like(enderecoJoin.get("cep"), "%" + cepSanitizado + "%"));
+      }
+    }
+
+    if (possuiTexto(filtro.getResponsavel())) {
+      membrosJoin = root.join("membros", JoinType.LEFT);
+      predicates.add(builder.isTrue(membrosJoin.get("responsavelPrincipal")));
+      predicates.add(
+        builder.like(
+          builder.lower(membrosJoin.get("nomeCompleto")),
+          "%" + filtro.getResponsavel().trim().toLowerCase(Locale.ROOT) + "%"
+        )
+      );
+    }
+
+    if (possuiTexto(filtro.getProbabilidadeVoto())) {
+      if (membrosJoin == null) {
+        membrosJoin = root.join("membros", JoinType.LEFT);
+      }
+      predicates.add(
+        builder.equal(
+          builder.lower(membrosJoin.get("probabilidadeVoto")),
+          filtro.getProbabilidadeVoto().trim().toLowerCase(Locale.ROOT)
+        )
+      );
+    }
+
+    if (filtro.getDataInicio() != null) {
+      OffsetDateTime inicio = filtro
+        .getDataInicio()
+        .atStartOfDay(ZoneId.systemDefault())
+        .toOffsetDateTime();
+      predicates.add(builder.greaterThanOrEqualTo(root.get("criadoEm"), inicio));
+    }
+
+    if (filtro.getDataFim() != null) {
+      OffsetDateTime fim = filtro
+        .getDataFim()
+        .atTime(LocalTime.MAX)
+        .atZone(ZoneId.systemDefault())
+        .toOffsetDateTime();
+      predicates.add(builder.lessThanOrEqualTo(root.get("criadoEm"), fim));
+    }
+
+    if (possuiTexto(filtro.getTermo())) {
+      predicates.add(builder.like(root.get("documentoBusca"), "%" + NomeNormalizador.normalizar(filtro.getTermo()) + "%"));
+    }
+
+    if (predicates.isEmpty()) {
+      return builder.conjunction();
+    }
+
+    return builder.and(predicates.toArray(new Predicate[0]));
+  }
+
+  public static Expression<Integer> criarRelevancia(
+    Root<Familia> root,
+    CriteriaBuilder builder,
+    FamiliaFiltroRequestDTO filtro
+  ) {
+    if (filtro == null || !possuiTexto(filtro.getTermo())) {
+      return null;
+    }
+    String termo = NomeNormalizador.normalizar(filtro.getTermo());
+    Expression<String> documento = root.get("documentoBusca");
+    Predicate inicioDePalavra = builder.or(
+      builder.like(documento, termo + "%"),
+      builder.like(documento, "% " + termo + "%")
+    );
+    return builder.<Integer>selectCase().when(inicioDePalavra, 0).otherwise(1);
+  }
+
+  private static boolean possuiTexto(String valor) {
+    return valor != null && !valor.isBlank();
+  }
+}
@@ -0,0 +1,31 @@
+package com.gestorpolitico.repository;
+
+import com.gestorpolitico.dto.FamiliaFiltroRequestDTO;
+import java.math.BigDecimal;
+import java.util.Collection;
+import java.util.List;
+
+public interface FamiliaMapaRepository {
+  List<PontoMapaFamilia> buscarPontosMapa(FamiliaFiltroRequestDTO filtro);
+
+  List<PontoMapaFamilia> buscarPontosNaArea(
+    FamiliaFiltroRequestDTO filtro,
+    double oeste,
+    double sul,
+    double leste,
+    double norte
+  );
+
+  List<AgregadoBairroMapa> buscarAgregadosBairros(Collection<Long> cidadesIds);
+
+  record PontoMapaFamilia(Long id, BigDecimal latitude, BigDecimal longitude, String probabilidadeVoto) {}
+
+  record AgregadoBairroMapa(
+    Long bairroId,
+    Long cidadeId,
+    String nome,
+    Long familias,
+    Double latitude,
+    Double longitude
+  ) {}
+}
@@ -0,0 +1,138 @@
+package com.gestorpolitico.repository;
+
+import com.gestorpolitico.dto.FamiliaFiltroRequestDTO;
+import com.gestorpolitico.entity.Bairro;
+import com.gestorpolitico.entity.Endereco;
+import com.gestorpolitico.entity.Familia;
+import com.gestorpolitico.entity.Geohash;
+import com.gestorpolitico.entity.Geohash.IntervaloGeohash;
+import com.gestorpolitico.entity.MembroFamilia;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Subquery;
+import java.math.BigDecimal;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.BiFunction;
+import org.hibernate.jpa.AvailableHints;
+
+class FamiliaMapaRepositoryImpl implements FamiliaMapaRepository {
+  @PersistenceContext
+  private EntityManager entityManager;
+
+  @Override
+  public List<PontoMapaFamilia> buscarPontosMapa(FamiliaFiltroRequestDTO filtro) {
+    return consultarPontos(filtro, (endereco, builder) -> builder.conjunction());
+  }
+
+  @Override
+  public List<PontoMapaFamilia> buscarPontosNaArea(
+    FamiliaFiltroRequestDTO filtro,
+    double oeste,
+    double sul,
+    double leste,
+    double norte
+  ) {
+    List<IntervaloGeohash> intervalos = Geohash.cobrir(oeste, sul, leste, norte);
+    return consultarPontos(filtro, (endereco, builder) -> {
+      Expression<String> geohash = endereco.get("geohash");
+      Predicate[] faixas = intervalos
+        .stream()
+        .map(intervalo -> intervalo.fim() == null
+          ? builder.greaterThanOrEqualTo(geohash, intervalo.inicio())
+          : builder.and(
+            builder.greaterThanOrEqualTo(geohash, intervalo.inicio()),
+            builder.lessThan(geohash, intervalo.fim())
+          ))
+        .toArray(Predicate[]::new);
+
+      Expression<BigDecimal> latitude = endereco.get("latitude");
+      Expression<BigDecimal> longitude = endereco.get("longitude");
+      Predicate dentroDaLongitude = oeste <= leste
+        ? builder.between(longitude, BigDecimal.valueOf(oeste), BigDecimal.valueOf(leste))
+        : builder.or(
+          builder.greaterThanOrEqualTo(longitude, BigDecimal.valueOf(oeste)),
+          builder.lessThanOrEqualTo(longitude, BigDecimal.valueOf(leste))
+        );
+      return builder.and(
+        builder.or(faixas),
+        builder.between(latitude, BigDecimal.valueOf(sul), BigDecimal.valueOf(norte)),
+        dentroDaLongitude
+      );
+    });
+  }
+
+  private List<PontoMapaFamilia> consultarPontos(
+    FamiliaFiltroRequestDTO filtro,
+    BiFunction<Join<Familia, Endereco>, CriteriaBuilder, Predicate> restricaoEndereco
+  ) {
+    CriteriaBuilder builder = entityManager.getCriteriaBuilder();
+    CriteriaQuery<PontoMapaFamilia> query = builder.createQuery(PontoMapaFamilia.class);
+    Root<Familia> familia = query.from(Familia.class);
+    Join<Familia, Endereco> endereco = familia.join("enderecoDetalhado");
+
+    Subquery<String> probabilidade = query.subquery(String.class);
+    Root<MembroFamilia> responsavel = probabilidade.from(MembroFamilia.class);
+    probabilidade
+      .select(builder.least(responsavel.<String>get("probabilidadeVoto")))
+      .where(
+        builder.equal(responsavel.get("familia"), familia),
+        builder.isTrue(responsavel.get("responsavelPrincipal"))
+      );
+
+    query
+      .select(
+        builder.construct(
+          PontoMapaFamilia.class,
+          familia.get("id"),
+          endereco.get("latitude"),
+          endereco.get("longitude"),
+          probabilidade
+        )
+      )
+      .where(
+        builder.isNotNull(endereco.get("latitude")),
+        builder.isNotNull(endereco.get("longitude")),
+        restricaoEndereco.apply(endereco, builder),
+        FamiliaFiltroSpecification.criarPredicadoPorId(familia, query, builder, filtro)
+      );
+
+    return entityManager.createQuery(query).setHint(AvailableHints.HINT_READ_ONLY, true).getResultList();
+  }
+
+  @Override
+  public List<AgregadoBairroMapa> buscarAgregadosBairros(Collection<Long> cidadesIds) {
+    CriteriaBuilder builder = entityManager.getCriteriaBuilder();
+    CriteriaQuery<AgregadoBairroMapa> query = builder.createQuery(AgregadoBairroMapa.class);
+    Root<Familia> familia = query.from(Familia.class);
+    Join<Familia, Endereco> endereco = familia.join("enderecoDetalhado");
+    Join<Endereco, Bairro> bairro = endereco.join("bairro");
+
+    query
+      .select(
+        builder.construct(
+          AgregadoBairroMapa.class,
+          bairro.get("id"),
+          bairro.get("cidade").get("id"),
+          bairro.get("nome"),
+          builder.count(familia),
+          builder.avg(endereco.get("latitude")),
+          builder.avg(endereco.get("longitude"))
+        )
+      )
+      .where(
+        builder.isNotNull(endereco.get("latitude")),
+        builder.isNotNull(endereco.get("longitude")),
+        cidadesIds != null ? bairro.get("cidade").get("id").in(cidadesIds) : builder.conjunction()
+      )
+      .groupBy(bairro.get("id"), bairro.get("cidade").get("id"), bairro.get("nome"));
+
+    return entityManager.createQuery(query).setHint(AvailableHints.HINT_READ_ONLY, true).getResultList();
+  }
+}
@@ -0,0 +1,24 @@
+package com.gestorpolitico.repository;
+
+import com.gestorpolitico.dto.FamiliaFiltroRequestDTO;
+import java.time.OffsetDateTime;
+import java.util.List;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+public interface FamiliaPaginacaoRepository {
+  Page<PosicaoFamilia> buscarPosicoes(FamiliaFiltroRequestDTO filtro, Pageable pageable);
+
+  List<PosicaoFamilia> buscarPosicoesFatia(FamiliaFiltroRequestDTO filtro, long deslocamento, int limite);
+
+  List<PosicaoFamilia> buscarPosicoesAposCursor(
+    FamiliaFiltroRequestDTO filtro,
+    OffsetDateTime criadoEm,
+    Long id,
+    int limite
+  );
+
+  long contarFamilias(FamiliaFiltroRequestDTO filtro);
+
+  record PosicaoFamilia(Long id, OffsetDateTime criadoEm) {}
+}
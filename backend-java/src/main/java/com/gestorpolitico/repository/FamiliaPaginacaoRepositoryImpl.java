@@ -0,0 +1,104 @@
+package com.gestorpolitico.repository;
+
+import com.gestorpolitico.dto.FamiliaFiltroRequestDTO;
+import com.gestorpolitico.entity.Familia;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Order;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.data.support.PageableExecutionUtils;
+
+class FamiliaPaginacaoRepositoryImpl implements FamiliaPaginacaoRepository {
+  private static final Sort ORDENACAO_PADRAO = Sort.by(Sort.Direction.DESC, "criadoEm", "id");
+
+  @PersistenceContext
+  private EntityManager entityManager;
+
+  @Override
+  public Page<PosicaoFamilia> buscarPosicoes(FamiliaFiltroRequestDTO filtro, Pageable pageable) {
+    Sort ordenacao = pageable.getSort().isSorted() ? pageable.getSort() : ORDENACAO_PADRAO;
+    TypedQuery<PosicaoFamilia> query = criarConsulta(filtro, null, null, ordenacao, true);
+    query.setFirstResult(Math.toIntExact(pageable.getOffset()));
+    query.setMaxResults(pageable.getPageSize());
+    return PageableExecutionUtils.getPage(query.getResultList(), pageable, () -> contarFamilias(filtro));
+  }
+
+  @Override
+  public List<PosicaoFamilia> buscarPosicoesFatia(FamiliaFiltroRequestDTO filtro, long deslocamento, int limite) {
+    TypedQuery<PosicaoFamilia> query = criarConsulta(filtro, null, null, ORDENACAO_PADRAO, true);
+    query.setFirstResult(Math.toIntExact(deslocamento));
+    query.setMaxResults(limite);
+    return query.getResultList();
+  }
+
+  @Override
+  public List<PosicaoFamilia> buscarPosicoesAposCursor(
+    FamiliaFiltroRequestDTO filtro,
+    OffsetDateTime criadoEm,
+    Long id,
+    int limite
+  ) {
+    TypedQuery<PosicaoFamilia> query = criarConsulta(filtro, criadoEm, id, ORDENACAO_PADRAO, false);
+    query.setMaxResults(limite);
+    return query.getResultList();
+  }
+
+  @Override
+  public long contarFamilias(FamiliaFiltroRequestDTO filtro) {
+    CriteriaBuilder builder = entityManager.getCriteriaBuilder();
+    CriteriaQuery<Long> query = builder.createQuery(Long.class);
+    Root<Familia> familia = query.from(Familia.class);
+    query
+      .select(builder.count(familia))
+      .where(FamiliaFiltroSpecification.criarPredicadoPorId(familia, query, builder, filtro));
+    return entityManager.createQuery(query).getSingleResult();
+  }
+
+  private TypedQuery<PosicaoFamilia> criarConsulta(
+    FamiliaFiltroRequestDTO filtro,
+    OffsetDateTime criadoEm,
+    Long id,
+    Sort ordenacao,
+    boolean ordenarPorRelevancia
+  ) {
+    CriteriaBuilder builder = entityManager.getCriteriaBuilder();
+    CriteriaQuery<PosicaoFamilia> query = builder.createQuery(PosicaoFamilia.class);
+    Root<Familia> familia = query.from(Familia.class);
+    Path<OffsetDateTime> criadoEmPath = familia.get("criadoEm");
+    Path<Long> idPath = familia.get("id");
+
+    Predicate filtros = FamiliaFiltroSpecification.criarPredicadoPorId(familia, query, builder, filtro);
+    if (criadoEm != null && id != null) {
+      Predicate aposCursor = builder.or(
+        builder.lessThan(criadoEmPath, criadoEm),
+        builder.and(builder.equal(criadoEmPath, criadoEm), builder.lessThan(idPath, id))
+      );
+      filtros = builder.and(filtros, aposCursor);
+    }
+
+    List<Order> ordens = new ArrayList<>();
+    Expression<Integer> relevancia = FamiliaFiltroSpecification.criarRelevancia(familia, builder, filtro);
+    if (ordenarPorRelevancia && relevancia != null) {
+      ordens.add(builder.asc(relevancia));
+    }
+    ordens.addAll(QueryUtils.toOrders(ordenacao, familia, builder));
+    query
+      .select(builder.construct(PosicaoFamilia.class, idPath, criadoEmPath))
+      .where(filtros)
+      .orderBy(ordens);
+    return entityManager.createQuery(query);
+  }
+}
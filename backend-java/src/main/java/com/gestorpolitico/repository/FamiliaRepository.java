@@ -6,10 +6,43 @@ import java.util.List;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
-public interface FamiliaRepository extends JpaRepository<Familia, Long>, JpaSpecificationExecutor<Familia> {
+public interface FamiliaRepository
+  extends
+    JpaRepository<Familia, Long>,
+    JpaSpecificationExecutor<Familia>,
+    FamiliaEstatisticasRepository,
+    FamiliaPaginacaoRepository,
+    FamiliaExportacaoRepository,
+    FamiliaMapaRepository {
   @EntityGraph(attributePaths = "membros")
   List<Familia> findAllByOrderByCriadoEmDesc();
 
+  @EntityGraph(attributePaths = { "membros", "enderecoDetalhado.cidade" })
   List<Familia> findByEnderecoDetalhadoBairroIdIn(Collection<Long> bairrosIds);
+
+  @Query(
+    """
+    select f from Familia f
+    join fetch f.enderecoDetalhado e
+    join fetch e.cidade
+    left join fetch e.bairro
+    left join fetch f.parceiroCadastro p
+    left join fetch p.membro
+    where f.id in :ids
+    """
+  )
+  List<Familia> carregarComEndereco(@Param("ids") Collection<Long> ids);
+
+  @Query(
+    """
+    select f from Familia f
+    left join fetch f.membros m
+    left join fetch m.parceiro
+    where f.id in :ids
+    """
+  )
+  List<Familia> carregarMembros(@Param("ids") Collection<Long> ids);
 }
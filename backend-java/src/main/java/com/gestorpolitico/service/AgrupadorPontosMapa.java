@@ -0,0 +1,112 @@
+package com.gestorpolitico.service;
+
+import com.gestorpolitico.dto.ClusterMapaDTO;
+import com.gestorpolitico.repository.FamiliaMapaRepository.PontoMapaFamilia;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+final class AgrupadorPontosMapa {
+  static final int ZOOM_MAXIMO = 22;
+  private static final int TAMANHO_TILE_PX = 256;
+  private static final int TAMANHO_CELULA_PX = 64;
+  private static final double LATITUDE_MAXIMA = 85.05112878;
+
+  private final long[] ids;
+  private final double[] latitudes;
+  private final double[] longitudes;
+  private final double[] xs;
+  private final double[] ys;
+
+  AgrupadorPontosMapa(List<PontoMapaFamilia> pontos) {
+    int total = pontos.size();
+    ids = new long[total];
+    latitudes = new double[total];
+    longitudes = new double[total];
+    xs = new double[total];
+    ys = new double[total];
+    for (int i = 0; i < total; i++) {
+      PontoMapaFamilia ponto = pontos.get(i);
+      ids[i] = ponto.id();
+      latitudes[i] = ponto.latitude().doubleValue();
+      longitudes[i] = ponto.longitude().doubleValue();
+      xs[i] = projetarX(longitudes[i]);
+      ys[i] = projetarY(latitudes[i]);
+    }
+  }
+
+  int getTotal() {
+    return ids.length;
+  }
+
+  List<ClusterMapaDTO> agrupar(int zoom, LimitesMapa limites) {
+    int zoomAjustado = Math.min(Math.max(zoom, 0), ZOOM_MAXIMO);
+    long celulasPorEixo = ((long) TAMANHO_TILE_PX << zoomAjustado) / TAMANHO_CELULA_PX;
+    Map<Long, Acumulador> celulas = new HashMap<>();
+
+    for (int i = 0; i < ids.length; i++) {
+      if (limites != null && !limites.contem(latitudes[i], longitudes[i])) {
+        continue;
+      }
+      long celulaX = Math.min((long) (xs[i] * celulasPorEixo), celulasPorEixo - 1);
+      long celulaY = Math.min((long) (ys[i] * celulasPorEixo), celulasPorEixo - 1);
+      celulas.computeIfAbsent(celulaX * celulasPorEixo + celulaY, chave -> new Acumulador()).adicionar(i);
+    }
+
+    List<ClusterMapaDTO> clusters = new ArrayList<>(celulas.size());
+    for (Acumulador acumulador : celulas.values()) {
+      clusters.add(acumulador.paraCluster());
+    }
+    clusters.sort(Comparator.comparingInt(ClusterMapaDTO::getQuantidade).reversed());
+    return clusters;
+  }
+
+  static double projetarX(double longitude) {
+    return (longitude + 180.0) / 360.0;
+  }
+
+  static double projetarY(double latitude) {
+    double latitudeLimitada = Math.max(Math.min(latitude, LATITUDE_MAXIMA), -LATITUDE_MAXIMA);
+    double seno = Math.sin(Math.toRadians(latitudeLimitada));
+    return 0.5 - Math.log((1 + seno) / (1 - seno)) / (4 * Math.PI);
+  }
+
+  record LimitesMapa(double oeste, double sul, double leste, double norte) {
+    boolean contem(double latitude, double longitude) {
+      if (latitude < sul || latitude > norte) {
+        return false;
+      }
+      if (oeste <= leste) {
+        return longitude >= oeste && longitude <= leste;
+      }
+      return longitude >= oeste || longitude <= leste;
+    }
+  }
+
+  private final class Acumulador {
+    private int quantidade;
+    private double somaLatitudes;
+    private double somaLongitudes;
+    private int primeiroIndice = -1;
+
+    void adicionar(int indice) {
+      if (primeiroIndice < 0) {
+        primeiroIndice = indice;
+      }
+      quantidade++;
+      somaLatitudes += latitudes[indice];
+      somaLongitudes += longitudes[indice];
+    }
+
+    ClusterMapaDTO paraCluster() {
+      return new ClusterMapaDTO(
+        somaLatitudes / quantidade,
+        somaLongitudes / quantidade,
+        quantidade,
+        quantidade == 1 ? ids[primeiroIndice] : null
+      );
+    }
+  }
+}
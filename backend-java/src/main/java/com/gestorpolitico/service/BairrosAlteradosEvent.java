@@ -0,0 +1,9 @@
+package com.gestorpolitico.service;
+
+import com.gestorpolitico.entity.Bairro;
+
+public record BairrosAlteradosEvent(Long cidadeId) {
+  public static BairrosAlteradosEvent deBairro(Bairro bairro) {
+    return new BairrosAlteradosEvent(bairro.getCidade().getId());
+  }
+}
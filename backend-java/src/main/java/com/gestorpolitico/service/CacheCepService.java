@@ -0,0 +1,124 @@
+package com.gestorpolitico.service;
+
+import com.gestorpolitico.entity.CacheCep;
+import com.gestorpolitico.repository.CacheCepRepository;
+import com.gestorpolitico.service.CepService.CepResultado;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.Optional;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+@Service
+public class CacheCepService {
+  private static final Logger LOGGER = LoggerFactory.getLogger(CacheCepService.class);
+  private static final Duration VALIDADE_MEMORIA = Duration.ofHours(6);
+  private static final long TAMANHO_MAXIMO_MEMORIA = 100_000L;
+
+  private final CacheCepRepository cacheCepRepository;
+  private final Duration validadePositiva;
+  private final Duration validadeNegativa;
+  private final Duration intervaloAtualizacao;
+  private final LoadingCache<String, EntradaCep> memoria;
+
+  public CacheCepService(
+    CacheCepRepository cacheCepRepository,
+    @Value("${cep.cache.validade-positiva:P90D}") Duration validadePositiva,
+    @Value("${cep.cache.validade-negativa:P1D}") Duration validadeNegativa,
+    @Value("${cep.cache.atualizacao:P7D}") Duration intervaloAtualizacao
+  ) {
+    this.cacheCepRepository = cacheCepRepository;
+    this.validadePositiva = validadePositiva;
+    this.validadeNegativa = validadeNegativa;
+    this.intervaloAtualizacao = intervaloAtualizacao;
+    this.memoria = Caffeine
+      .newBuilder()
+      .maximumSize(TAMANHO_MAXIMO_MEMORIA)
+      .expireAfterWrite(VALIDADE_MEMORIA)
+      .build(this::carregarDoBanco);
+  }
+
+  EntradaCep buscar(String cep) {
+    EntradaCep entrada = memoria.get(cep);
+    if (entrada == null || !entrada.expiraEm().isAfter(OffsetDateTime.now())) {
+      return null;
+    }
+    return entrada;
+  }
+
+  void registrar(String cep, Optional<CepResultado> resultado) {
+    OffsetDateTime agora = OffsetDateTime.now();
+    Duration validade = resultado.isPresent() ? validadePositiva : validadeNegativa;
+    memoria.put(cep, criarEntrada(resultado, agora, agora.plus(validade)));
+
+    try {
+      CacheCep cache = cacheCepRepository.findById(cep).orElseGet(CacheCep::new);
+      cache.setCep(cep);
+      cache.setLogradouro(resultado.map(CepResultado::logradouro).orElse(null));
+      cache.setBairro(resultado.map(CepResultado::bairro).orElse(null));
+      cache.setCidade(resultado.map(CepResultado::cidade).orElse(null));
+      cache.setUf(resultado.map(CepResultado::uf).orElse(null));
+      cache.setCodigoIbge(resultado.map(CepResultado::codigoIbge).orElse(null));
+      cache.setEncontrado(resultado.isPresent());
+      cache.setConsultadoEm(agora);
+      cache.setExpiraEm(agora.plus(validade));
+      cacheCepRepository.save(cache);
+    } catch (DataAccessException ex) {
+      LOGGER.warn("Falha ao gravar o cache persistente de CEP {}: {}", cep, ex.getMessage());
+    }
+  }
+
+  @Scheduled(cron = "${cep.cache.limpeza-cron:0 45 3 * * *}")
+  public void removerExpirados() {
+    int removidos = cacheCepRepository.removerExpirados(OffsetDateTime.now());
+    if (removidos > 0) {
+      LOGGER.info("Removidas {} entradas expiradas do cache de CEP", removidos);
+    }
+  }
+
+  private EntradaCep carregarDoBanco(String cep) {
+    try {
+      return cacheCepRepository
+        .findById(cep)
+        .filter(cache -> cache.getExpiraEm().isAfter(OffsetDateTime.now()))
+        .map(cache -> criarEntrada(converter(cache), cache.getConsultadoEm(), cache.getExpiraEm()))
+        .orElse(null);
+    } catch (DataAccessException ex) {
+      LOGGER.warn("Falha ao consultar o cache persistente de CEP {}: {}", cep, ex.getMessage());
+      return null;
+    }
+  }
+
+  private EntradaCep criarEntrada(Optional<CepResultado> resultado, OffsetDateTime consultadoEm, OffsetDateTime expiraEm) {
+    OffsetDateTime atualizarEm = resultado.isPresent() ? consultadoEm.plus(intervaloAtualizacao) : expiraEm;
+    return new EntradaCep(resultado, atualizarEm, expiraEm);
+  }
+
+  private static Optional<CepResultado> converter(CacheCep cache) {
+    if (!cache.isEncontrado()) {
+      return Optional.empty();
+    }
+    return Optional.of(
+      new CepResultado(
+        cache.getCep(),
+        cache.getLogradouro(),
+        cache.getBairro(),
+        cache.getCidade(),
+        cache.getUf(),
+        cache.getCodigoIbge()
+      )
+    );
+  }
+
+  record EntradaCep(Optional<CepResultado> resultado, OffsetDateTime atualizarEm, OffsetDateTime expiraEm) {
+    boolean precisaAtualizar(OffsetDateTime agora) {
+      return !atualizarEm.isAfter(agora);
+    }
+  }
+}
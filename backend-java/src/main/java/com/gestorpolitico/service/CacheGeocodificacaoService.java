@@ -0,0 +1,235 @@
+package com.gestorpolitico.service;
+
+import com.gestorpolitico.dto.MetricasCacheGeocodificacaoDTO;
+import com.gestorpolitico.entity.CacheGeocodificacao;
+import com.gestorpolitico.entity.Endereco;
+import com.gestorpolitico.enums.ProvedorGeocodificacao;
+import com.gestorpolitico.repository.CacheGeocodificacaoRepository;
+import com.gestorpolitico.repository.EnderecoRepository;
+import com.gestorpolitico.service.GeocodingService.Coordenada;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import com.github.benmanes.caffeine.cache.Policy;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+@Service
+public class CacheGeocodificacaoService {
+  private static final Logger LOGGER = LoggerFactory.getLogger(CacheGeocodificacaoService.class);
+  private static final Duration VALIDADE_MAXIMA_MEMORIA = Duration.ofHours(6);
+  private static final Duration ATUALIZACAO_MEMORIA = Duration.ofMinutes(30);
+  private static final int PESO_BASE_ENTRADA = 320;
+  private static final int TAMANHO_LOTE_PREAQUECIMENTO = 500;
+
+  private final CacheGeocodificacaoRepository cacheGeocodificacaoRepository;
+  private final EnderecoRepository enderecoRepository;
+  private final Duration validadePositiva;
+  private final Duration validadeNegativa;
+  private final Duration validadeNegativaMemoria;
+  private final LoadingCache<String, EntradaMemoria> memoria;
+
+  public CacheGeocodificacaoService(
+    CacheGeocodificacaoRepository cacheGeocodificacaoRepository,
+    EnderecoRepository enderecoRepository,
+    @Value("${geocodificacao.cache.validade-positiva:P180D}") Duration validadePositiva,
+    @Value("${geocodificacao.cache.validade-negativa:P1D}") Duration validadeNegativa,
+    @Value("${geocodificacao.cache.memoria.validade-negativa:PT5M}") Duration validadeNegativaMemoria,
+    @Value("${geocodificacao.cache.memoria.peso-maximo-bytes:16777216}") long pesoMaximoMemoria
+  ) {
+    this.cacheGeocodificacaoRepository = cacheGeocodificacaoRepository;
+    this.enderecoRepository = enderecoRepository;
+    this.validadePositiva = validadePositiva;
+    this.validadeNegativa = validadeNegativa;
+    this.validadeNegativaMemoria = validadeNegativaMemoria;
+    this.memoria = Caffeine
+      .newBuilder()
+      .maximumWeight(pesoMaximoMemoria)
+      .weigher((String chave, EntradaMemoria entrada) -> PESO_BASE_ENTRADA + chave.length())
+      .expireAfter(new ExpiracaoMemoria())
+      .refreshAfterWrite(ATUALIZACAO_MEMORIA)
+      .recordStats()
+      .build(this::carregarDoBanco);
+  }
+
+  Optional<Coordenada> buscar(String chave) {
+    EntradaMemoria entrada = memoria.get(chave);
+    return entrada != null ? entrada.coordenada() : null;
+  }
+
+  public MetricasCacheGeocodificacaoDTO buscarMetricas() {
+    CacheStats estatisticas = memoria.stats();
+    long pesoAtual = memoria.policy().eviction().map(politica -> politica.weightedSize().orElse(0L)).orElse(0L);
+    long pesoMaximo = memoria.policy().eviction().map(Policy.Eviction::getMaximum).orElse(0L);
+    return new MetricasCacheGeocodificacaoDTO(
+      memoria.estimatedSize(),
+      pesoAtual,
+      pesoMaximo,
+      estatisticas.hitCount(),
+      estatisticas.missCount(),
+      estatisticas.hitRate(),
+      estatisticas.evictionCount(),
+      estatisticas.evictionWeight(),
+      estatisticas.loadSuccessCount(),
+      estatisticas.loadFailureCount(),
+      TimeUnit.NANOSECONDS.toMicros((long) estatisticas.averageLoadPenalty())
+    );
+  }
+
+  void registrar(String chave, Optional<Coordenada> coordenada) {
+    Duration validade = coordenada.isPresent() ? validadePositiva : validadeNegativa;
+    OffsetDateTime agora = OffsetDateTime.now();
+    memoria.put(chave, new EntradaMemoria(coordenada, agora.plus(validade)));
+
+    try {
+      CacheGeocodificacao cache = cacheGeocodificacaoRepository.findById(chave).orElseGet(CacheGeocodificacao::new);
+      cache.setChave(chave);
+      cache.setLatitude(coordenada.map(valor -> BigDecimal.valueOf(valor.latitude())).orElse(null));
+      cache.setLongitude(coordenada.map(valor -> BigDecimal.valueOf(valor.longitude())).orElse(null));
+      cache.setProvedor(ProvedorGeocodificacao.NOMINATIM);
+      cache.setPrecisao(coordenada.map(Coordenada::precisao).orElse(null));
+      cache.setConsultadoEm(agora);
+      cache.setExpiraEm(agora.plus(validade));
+      cacheGeocodificacaoRepository.save(cache);
+    } catch (DataAccessException ex) {
+      LOGGER.warn("Falha ao gravar o cache persistente de geocodificação: {}", ex.getMessage());
+    }
+  }
+
+  @EventListener(ApplicationReadyEvent.class)
+  public void aoIniciarAplicacao() {
+    try {
+      long inicio = System.currentTimeMillis();
+      int incluidos = preaquecer();
+      LOGGER.info(
+        "Cache de geocodificação pré-aquecido com {} endereço(s) em {} ms",
+        incluidos,
+        System.currentTimeMillis() - inicio
+      );
+    } catch (DataAccessException ex) {
+      LOGGER.warn("Falha ao pré-aquecer o cache de geocodificação: {}", ex.getMessage());
+    }
+  }
+
+  int preaquecer() {
+    int incluidos = 0;
+    long ultimoId = 0L;
+    while (true) {
+      List<Endereco> lote = enderecoRepository.buscarGeocodificadosAposId(
+        ultimoId,
+        PageRequest.of(0, TAMANHO_LOTE_PREAQUECIMENTO)
+      );
+      if (lote.isEmpty()) {
+        return incluidos;
+      }
+      ultimoId = lote.get(lote.size() - 1).getId();
+
+      Map<String, Endereco> porChave = new LinkedHashMap<>();
+      for (Endereco endereco : lote) {
+        String chave = NormalizadorEndereco.normalizar(endereco.getEnderecoGeocodificacao()).chave();
+        if (!chave.isEmpty()) {
+          porChave.putIfAbsent(chave, endereco);
+        }
+      }
+      Set<String> existentes = cacheGeocodificacaoRepository
+        .findAllById(porChave.keySet())
+        .stream()
+        .map(CacheGeocodificacao::getChave)
+        .collect(Collectors.toSet());
+
+      OffsetDateTime agora = OffsetDateTime.now();
+      List<CacheGeocodificacao> novos = porChave
+        .entrySet()
+        .stream()
+        .filter(entrada -> !existentes.contains(entrada.getKey()))
+        .map(entrada -> criarDeEndereco(entrada.getKey(), entrada.getValue(), agora))
+        .toList();
+      cacheGeocodificacaoRepository.saveAll(novos);
+      incluidos += novos.size();
+    }
+  }
+
+  @Scheduled(cron = "${geocodificacao.cache.limpeza-cron:0 30 3 * * *}")
+  public void removerExpirados() {
+    int removidos = cacheGeocodificacaoRepository.removerExpirados(OffsetDateTime.now());
+    if (removidos > 0) {
+      LOGGER.info("Removidas {} entradas expiradas do cache de geocodificação", removidos);
+    }
+  }
+
+  private CacheGeocodificacao criarDeEndereco(String chave, Endereco endereco, OffsetDateTime agora) {
+    CacheGeocodificacao cache = new CacheGeocodificacao();
+    cache.setChave(chave);
+    cache.setLatitude(endereco.getLatitude());
+    cache.setLongitude(endereco.getLongitude());
+    cache.setProvedor(ProvedorGeocodificacao.ENDERECOS);
+    cache.setConsultadoEm(agora);
+    cache.setExpiraEm(agora.plus(validadePositiva));
+    return cache;
+  }
+
+  private Optional<Coordenada> converter(CacheGeocodificacao cache) {
+    if (cache.getLatitude() == null || cache.getLongitude() == null) {
+      return Optional.empty();
+    }
+    return Optional.of(
+      new Coordenada(cache.getLatitude().doubleValue(), cache.getLongitude().doubleValue(), cache.getPrecisao())
+    );
+  }
+
+  private EntradaMemoria carregarDoBanco(String chave) {
+    OffsetDateTime agora = OffsetDateTime.now();
+    try {
+      Optional<CacheGeocodificacao> persistido = cacheGeocodificacaoRepository
+        .findById(chave)
+        .filter(cache -> cache.getExpiraEm().isAfter(agora));
+      if (persistido.isEmpty()) {
+        return null;
+      }
+      cacheGeocodificacaoRepository.registrarAcesso(chave, agora);
+      return new EntradaMemoria(converter(persistido.get()), persistido.get().getExpiraEm());
+    } catch (DataAccessException ex) {
+      LOGGER.warn("Falha ao consultar o cache persistente de geocodificação: {}", ex.getMessage());
+      return null;
+    }
+  }
+
+  private record EntradaMemoria(Optional<Coordenada> coordenada, OffsetDateTime expiraEm) {}
+
+  private final class ExpiracaoMemoria implements Expiry<String, EntradaMemoria> {
+    @Override
+    public long expireAfterCreate(String chave, EntradaMemoria entrada, long agoraNanos) {
+      Duration validade = entrada.coordenada().isPresent() ? VALIDADE_MAXIMA_MEMORIA : validadeNegativaMemoria;
+      Duration restante = Duration.between(OffsetDateTime.now(), entrada.expiraEm());
+      return Math.max(0L, (restante.compareTo(validade) < 0 ? restante : validade).toNanos());
+    }
+
+    @Override
+    public long expireAfterUpdate(String chave, EntradaMemoria entrada, long agoraNanos, long duracaoAtualNanos) {
+      return expireAfterCreate(chave, entrada, agoraNanos);
+    }
+
+    @Override
+    public long expireAfterRead(String chave, EntradaMemoria entrada, long agoraNanos, long duracaoAtualNanos) {
+      return duracaoAtualNanos;
+    }
+  }
+}
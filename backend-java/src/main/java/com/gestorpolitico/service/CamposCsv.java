@@ -0,0 +1,32 @@
+package com.gestorpolitico.service;
+
+import java.util.ArrayList;
+import java.util.List;
+
+final class CamposCsv {
+  private CamposCsv() {}
+
+  static List<String> dividir(String linha, char separador) {
+    List<String> campos = new ArrayList<>();
+    StringBuilder atual = new StringBuilder();
+    boolean entreAspas = false;
+    for (int i = 0; i < linha.length(); i++) {
+      char caractere = linha.charAt(i);
+      if (caractere == '"') {
+        if (entreAspas && i + 1 < linha.length() && linha.charAt(i + 1) == '"') {
+          atual.append('"');
+          i++;
+        } else {
+          entreAspas = !entreAspas;
+        }
+      } else if (caractere == separador && !entreAspas) {
+        campos.add(atual.toString().trim());
+        atual.setLength(0);
+      } else {
+        atual.append(caractere);
+      }
+    }
+    campos.add(atual.toString().trim());
+    return campos;
+  }
+}
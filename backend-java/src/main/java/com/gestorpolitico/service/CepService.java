@@ -1,26 +1,51 @@
 package com.gestorpolitico.service;
 
-import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
-import com.fasterxml.jackson.annotation.JsonProperty;
-import java.net.URI;
+import com.gestorpolitico.service.CacheCepService.EntradaCep;
+import com.gestorpolitico.service.ClienteCepRemoto.FalhaConsultaCepException;
+import jakarta.annotation.PreDestroy;
+import java.time.OffsetDateTime;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
-import org.springframework.web.reactive.function.client.WebClient;
-import org.springframework.web.reactive.function.client.WebClientResponseException;
-import reactor.core.publisher.Mono;
 
 @Service
 public class CepService {
   private static final Logger LOGGER = LoggerFactory.getLogger(CepService.class);
-  private static final String CEP_URL = "https://brasilapi.com.br/api/cep/v2/";
-
-  private final WebClient webClient;
-
-  public CepService(WebClient webClient) {
-    this.webClient = webClient;
+  private static final int TAMANHO_FILA_ATUALIZACAO = 256;
+
+  private final ClienteCepRemoto clienteCepRemoto;
+  private final IndiceCepService indiceCepService;
+  private final CacheCepService cacheCepService;
+  private final ConsultasEmAndamento<String, Optional<CepResultado>> consultasEmAndamento = new ConsultasEmAndamento<>();
+  private final Set<String> atualizacoesAgendadas = ConcurrentHashMap.newKeySet();
+  private final ThreadPoolExecutor atualizador = new ThreadPoolExecutor(
+    1,
+    1,
+    0L,
+    TimeUnit.MILLISECONDS,
+    new ArrayBlockingQueue<>(TAMANHO_FILA_ATUALIZACAO),
+    tarefa -> {
+      Thread thread = new Thread(tarefa, "cep-atualizacao");
+      thread.setDaemon(true);
+      return thread;
+    }
+  );
+
+  public CepService(
+    ClienteCepRemoto clienteCepRemoto,
+    IndiceCepService indiceCepService,
+    CacheCepService cacheCepService
+  ) {
+    this.clienteCepRemoto = clienteCepRemoto;
+    this.indiceCepService = indiceCepService;
+    this.cacheCepService = cacheCepService;
   }
 
   public Optional<CepResultado> consultarCep(String cep) {
@@ -28,29 +53,57 @@ public class CepService {
       return Optional.empty();
     }
 
+    Optional<CepResultado> local = indiceCepService.buscar(cep);
+    if (local.isPresent()) {
+      return local;
+    }
+
     String numerico = cep.replaceAll("\\D", "");
     if (numerico.length() != 8) {
       return Optional.empty();
     }
 
-    Mono<CepResponse> requisicao = webClient
-      .get()
-      .uri(URI.create(CEP_URL + numerico))
-      .retrieve()
-      .bodyToMono(CepResponse.class)
-      .doOnError(erro -> LOGGER.warn("Falha ao consultar CEP {}: {}", numerico, erro.getMessage()));
+    EntradaCep emCache = cacheCepService.buscar(numerico);
+    if (emCache != null) {
+      if (emCache.precisaAtualizar(OffsetDateTime.now())) {
+        agendarAtualizacao(numerico);
+      }
+      return emCache.resultado();
+    }
+
+    return consultasEmAndamento.executar(numerico, () -> consultarERegistrar(numerico));
+  }
+
+  @PreDestroy
+  public void encerrar() {
+    atualizador.shutdownNow();
+  }
 
+  private void agendarAtualizacao(String numerico) {
+    if (!atualizacoesAgendadas.add(numerico)) {
+      return;
+    }
     try {
-      return requisicao.map(CepResponse::toResultado).blockOptional();
-    } catch (WebClientResponseException excecao) {
-      if (excecao.getStatusCode() == HttpStatus.NOT_FOUND) {
-        LOGGER.debug("CEP {} não encontrado", numerico);
-      } else {
-        LOGGER.warn("Erro ao consultar CEP {}: {}", numerico, excecao.getMessage());
-      }
-      return Optional.empty();
-    } catch (RuntimeException erro) {
-      LOGGER.warn("Erro inesperado ao consultar CEP {}: {}", numerico, erro.getMessage());
+      atualizador.execute(() -> {
+        try {
+          consultasEmAndamento.executar(numerico, () -> consultarERegistrar(numerico));
+        } finally {
+          atualizacoesAgendadas.remove(numerico);
+        }
+      });
+    } catch (RejectedExecutionException ex) {
+      atualizacoesAgendadas.remove(numerico);
+      LOGGER.debug("Fila de atualização de CEP cheia; CEP {} será atualizado em outra consulta", numerico);
+    }
+  }
+
+  private Optional<CepResultado> consultarERegistrar(String numerico) {
+    try {
+      Optional<CepResultado> resultado = clienteCepRemoto.consultar(numerico);
+      cacheCepService.registrar(numerico, resultado);
+      return resultado;
+    } catch (FalhaConsultaCepException ex) {
+      LOGGER.warn("Não foi possível consultar o CEP {}: {}", numerico, ex.getMessage());
       return Optional.empty();
     }
   }
@@ -63,29 +116,4 @@ public class CepService {
     String uf,
     String codigoIbge
   ) {}
-
-  @JsonIgnoreProperties(ignoreUnknown = true)
-  private static class CepResponse {
-    @JsonProperty("cep")
-    private String cep;
-
-    @JsonProperty("street")
-    private String logradouro;
-
-    @JsonProperty("neighborhood")
-    private String bairro;
-
-    @JsonProperty("city")
-    private String cidade;
-
-    @JsonProperty("state")
-    private String uf;
-
-    @JsonProperty("city_ibge")
-    private String codigoIbge;
-
-    CepResultado toResultado() {
-      return new CepResultado(cep, logradouro, bairro, cidade, uf, codigoIbge);
-    }
-  }
 }
@@ -0,0 +1,70 @@
+package com.gestorpolitico.service;
+
+import java.time.Duration;
+import java.util.function.LongSupplier;
+
+final class CircuitoProvedor {
+  enum Estado {
+    FECHADO,
+    ABERTO,
+    MEIO_ABERTO
+  }
+
+  private final int limiteFalhas;
+  private final long esperaNanos;
+  private final LongSupplier relogio;
+  private Estado estado = Estado.FECHADO;
+  private int falhasConsecutivas;
+  private long abertoAte;
+  private boolean testeEmAndamento;
+
+  CircuitoProvedor(int limiteFalhas, Duration espera) {
+    this(limiteFalhas, espera, System::nanoTime);
+  }
+
+  CircuitoProvedor(int limiteFalhas, Duration espera, LongSupplier relogio) {
+    this.limiteFalhas = limiteFalhas;
+    this.esperaNanos = espera.toNanos();
+    this.relogio = relogio;
+  }
+
+  synchronized boolean permitir() {
+    if (estado == Estado.ABERTO) {
+      if (relogio.getAsLong() - abertoAte < 0) {
+        return false;
+      }
+      estado = Estado.MEIO_ABERTO;
+      testeEmAndamento = false;
+    }
+    if (estado == Estado.MEIO_ABERTO) {
+      if (testeEmAndamento) {
+        return false;
+      }
+      testeEmAndamento = true;
+    }
+    return true;
+  }
+
+  synchronized void registrarSucesso() {
+    estado = Estado.FECHADO;
+    falhasConsecutivas = 0;
+    testeEmAndamento = false;
+  }
+
+  synchronized void registrarFalha() {
+    falhasConsecutivas++;
+    testeEmAndamento = false;
+    if (estado == Estado.MEIO_ABERTO || falhasConsecutivas >= limiteFalhas) {
+      estado = Estado.ABERTO;
+      abertoAte = relogio.getAsLong() + esperaNanos;
+    }
+  }
+
+  synchronized void liberarTeste() {
+    testeEmAndamento = false;
+  }
+
+  synchronized Estado estado() {
+    return estado;
+  }
+}
@@ -0,0 +1,264 @@
+package com.gestorpolitico.service;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.gestorpolitico.dto.MetricasCepDTO;
+import com.gestorpolitico.dto.MetricasProvedorCepDTO;
+import com.gestorpolitico.service.CepService.CepResultado;
+import java.net.URI;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+@Service
+public class ClienteCepRemoto {
+  private static final Logger LOGGER = LoggerFactory.getLogger(ClienteCepRemoto.class);
+  private static final double PERCENTIL_RESERVA = 0.95;
+  private static final int AMOSTRAS_LATENCIA = 256;
+
+  private final WebClient webClient;
+  private final Duration tempoLimite;
+  private final Duration limiarMinimoReserva;
+  private final Provedor brasilApi;
+  private final Provedor viaCep;
+  private final LongAdder consultasReserva = new LongAdder();
+  private final LongAdder respostasReserva = new LongAdder();
+
+  public ClienteCepRemoto(
+    WebClient webClient,
+    @Value("${cep.brasilapi.url:https://brasilapi.com.br/api/cep/v2/}") String brasilApiUrl,
+    @Value("${cep.viacep.url:https://viacep.com.br/ws/}") String viaCepUrl,
+    @Value("${cep.tempo-limite:PT2S}") Duration tempoLimite,
+    @Value("${cep.reserva.limiar-minimo:PT0.3S}") Duration limiarMinimoReserva,
+    @Value("${cep.circuito.limite-falhas:5}") int limiteFalhas,
+    @Value("${cep.circuito.espera:PT30S}") Duration esperaCircuito
+  ) {
+    this.webClient = webClient;
+    this.tempoLimite = tempoLimite;
+    this.limiarMinimoReserva = limiarMinimoReserva;
+    this.brasilApi = new Provedor(
+      "brasilapi",
+      new CircuitoProvedor(limiteFalhas, esperaCircuito),
+      numerico -> consultarBrasilApi(brasilApiUrl, numerico)
+    );
+    this.viaCep = new Provedor(
+      "viacep",
+      new CircuitoProvedor(limiteFalhas, esperaCircuito),
+      numerico -> consultarViaCep(viaCepUrl, numerico)
+    );
+  }
+
+  Optional<CepResultado> consultar(String numerico) {
+    Sinks.Empty<Void> falhaPrincipal = Sinks.empty();
+    Mono<Optional<CepResultado>> principal = consultar(brasilApi, numerico)
+      .doOnError(erro -> falhaPrincipal.tryEmitEmpty());
+    Mono<Optional<CepResultado>> reserva = Mono
+      .firstWithSignal(Mono.delay(calcularLimiarReserva()).then(), falhaPrincipal.asMono())
+      .then(
+        Mono.defer(() -> {
+          consultasReserva.increment();
+          return consultar(viaCep, numerico);
+        })
+      )
+      .doOnNext(resultado -> respostasReserva.increment());
+
+    try {
+      Optional<CepResultado> resultado = Mono
+        .firstWithValue(principal, reserva)
+        .block(tempoLimite.multipliedBy(2).plus(limiarMinimoReserva));
+      if (resultado == null) {
+        throw new FalhaConsultaCepException("Nenhum provedor de CEP respondeu.", null);
+      }
+      return resultado;
+    } catch (FalhaConsultaCepException ex) {
+      throw ex;
+    } catch (RuntimeException ex) {
+      throw new FalhaConsultaCepException("Provedores de CEP indisponíveis.", ex);
+    }
+  }
+
+  public MetricasCepDTO buscarMetricas() {
+    MetricasCepDTO metricas = new MetricasCepDTO();
+    metricas.setConsultasReserva(consultasReserva.sum());
+    metricas.setRespostasReserva(respostasReserva.sum());
+    metricas.setLimiarReservaMs(calcularLimiarReserva().toMillis());
+    metricas.setProvedores(List.of(brasilApi.metricas(), viaCep.metricas()));
+    return metricas;
+  }
+
+  Duration calcularLimiarReserva() {
+    long percentil = brasilApi.latencias.percentil(PERCENTIL_RESERVA);
+    Duration limiar = percentil < 0 ? tempoLimite.dividedBy(2) : Duration.ofNanos(percentil);
+    if (limiar.compareTo(limiarMinimoReserva) < 0) {
+      return limiarMinimoReserva;
+    }
+    return limiar.compareTo(tempoLimite) > 0 ? tempoLimite : limiar;
+  }
+
+  private Mono<Optional<CepResultado>> consultar(Provedor provedor, String numerico) {
+    return Mono.defer(() -> {
+      if (!provedor.circuito.permitir()) {
+        provedor.rejeitadas.increment();
+        return Mono.error(new FalhaConsultaCepException("Circuito aberto para " + provedor.nome, null));
+      }
+      provedor.requisicoes.increment();
+      long inicio = System.nanoTime();
+      return provedor.requisicao
+        .apply(numerico)
+        .timeout(tempoLimite)
+        .doOnNext(resultado -> {
+          provedor.latencias.registrar(System.nanoTime() - inicio);
+          provedor.circuito.registrarSucesso();
+          (resultado.isPresent() ? provedor.encontrados : provedor.naoEncontrados).increment();
+        })
+        .doOnError(erro -> {
+          provedor.circuito.registrarFalha();
+          (erro instanceof TimeoutException ? provedor.timeouts : provedor.falhas).increment();
+          LOGGER.warn("Falha ao consultar CEP {} em {}: {}", numerico, provedor.nome, erro.toString());
+        })
+        .doOnCancel(provedor.circuito::liberarTeste);
+    });
+  }
+
+  private Mono<Optional<CepResultado>> consultarBrasilApi(String url, String numerico) {
+    return webClient
+      .get()
+      .uri(URI.create(url + numerico))
+      .retrieve()
+      .bodyToMono(BrasilApiResponse.class)
+      .map(resposta -> Optional.of(resposta.toResultado()))
+      .defaultIfEmpty(Optional.empty())
+      .onErrorResume(
+        WebClientResponseException.class,
+        erro -> erro.getStatusCode() == HttpStatus.NOT_FOUND ? Mono.just(Optional.empty()) : Mono.error(erro)
+      );
+  }
+
+  private Mono<Optional<CepResultado>> consultarViaCep(String url, String numerico) {
+    return webClient
+      .get()
+      .uri(URI.create(url + numerico + "/json/"))
+      .retrieve()
+      .bodyToMono(ViaCepResponse.class)
+      .map(ViaCepResponse::toResultado)
+      .defaultIfEmpty(Optional.empty())
+      .onErrorResume(
+        WebClientResponseException.class,
+        erro -> erro.getStatusCode() == HttpStatus.BAD_REQUEST ? Mono.just(Optional.empty()) : Mono.error(erro)
+      );
+  }
+
+  static class FalhaConsultaCepException extends RuntimeException {
+    FalhaConsultaCepException(String mensagem, Throwable causa) {
+      super(mensagem, causa);
+    }
+  }
+
+  private static final class Provedor {
+    private final String nome;
+    private final CircuitoProvedor circuito;
+    private final Function<String, Mono<Optional<CepResultado>>> requisicao;
+    private final JanelaLatencia latencias = new JanelaLatencia(AMOSTRAS_LATENCIA);
+    private final LongAdder requisicoes = new LongAdder();
+    private final LongAdder encontrados = new LongAdder();
+    private final LongAdder naoEncontrados = new LongAdder();
+    private final LongAdder falhas = new LongAdder();
+    private final LongAdder timeouts = new LongAdder();
+    private final LongAdder rejeitadas = new LongAdder();
+
+    private Provedor(
+      String nome,
+      CircuitoProvedor circuito,
+      Function<String, Mono<Optional<CepResultado>>> requisicao
+    ) {
+      this.nome = nome;
+      this.circuito = circuito;
+      this.requisicao = requisicao;
+    }
+
+    private MetricasProvedorCepDTO metricas() {
+      MetricasProvedorCepDTO metricas = new MetricasProvedorCepDTO();
+      metricas.setNome(nome);
+      metricas.setEstadoCircuito(circuito.estado().name());
+      metricas.setRequisicoes(requisicoes.sum());
+      metricas.setEncontrados(encontrados.sum());
+      metricas.setNaoEncontrados(naoEncontrados.sum());
+      metricas.setFalhas(falhas.sum());
+      metricas.setTimeouts(timeouts.sum());
+      metricas.setRejeitadasPeloCircuito(rejeitadas.sum());
+      metricas.setLatenciaP50Ms(TimeUnit.NANOSECONDS.toMillis(Math.max(0L, latencias.percentil(0.5))));
+      metricas.setLatenciaP95Ms(TimeUnit.NANOSECONDS.toMillis(Math.max(0L, latencias.percentil(0.95))));
+      return metricas;
+    }
+  }
+
+  @JsonIgnoreProperties(ignoreUnknown = true)
+  private static class BrasilApiResponse {
+    @JsonProperty("cep")
+    private String cep;
+
+    @JsonProperty("street")
+    private String logradouro;
+
+    @JsonProperty("neighborhood")
+    private String bairro;
+
+    @JsonProperty("city")
+    private String cidade;
+
+    @JsonProperty("state")
+    private String uf;
+
+    @JsonProperty("city_ibge")
+    private String codigoIbge;
+
+    CepResultado toResultado() {
+      return new CepResultado(cep, logradouro, bairro, cidade, uf, codigoIbge);
+    }
+  }
+
+  @JsonIgnoreProperties(ignoreUnknown = true)
+  private static class ViaCepResponse {
+    @JsonProperty("cep")
+    private String cep;
+
+    @JsonProperty("logradouro")
+    private String logradouro;
+
+    @JsonProperty("bairro")
+    private String bairro;
+
+    @JsonProperty("localidade")
+    private String cidade;
+
+    @JsonProperty("uf")
+    private String uf;
+
+    @JsonProperty("ibge")
+    private String codigoIbge;
+
+    @JsonProperty("erro")
+    private String erro;
+
+    Optional<CepResultado> toResultado() {
+      if (erro != null && !"false".equalsIgnoreCase(erro)) {
+        return Optional.empty();
+      }
+      String numerico = cep != null ? cep.replaceAll("\\D", "") : null;
+      return Optional.of(new CepResultado(numerico, logradouro, bairro, cidade, uf, codigoIbge));
+    }
+  }
+}
@@ -0,0 +1,133 @@
+package com.gestorpolitico.service;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+final class CodificadorMvt {
+  static final int EXTENSAO = 4096;
+
+  private static final int VERSAO_MVT = 2;
+  private static final int TIPO_PONTO = 1;
+  private static final int COMANDO_MOVER_PARA = 1;
+  private static final int TIPO_VARINT = 0;
+  private static final int TIPO_64_BITS = 1;
+  private static final int TIPO_DELIMITADO = 2;
+
+  private CodificadorMvt() {}
+
+  static byte[] codificar(List<CamadaMvt> camadas) {
+    ByteArrayOutputStream tile = new ByteArrayOutputStream();
+    for (CamadaMvt camada : camadas) {
+      if (!camada.feicoes().isEmpty()) {
+        escreverDelimitado(tile, 3, codificarCamada(camada));
+      }
+    }
+    return tile.toByteArray();
+  }
+
+  private static byte[] codificarCamada(CamadaMvt camada) {
+    Map<String, Integer> chaves = new LinkedHashMap<>();
+    Map<Object, Integer> valores = new LinkedHashMap<>();
+    ByteArrayOutputStream saida = new ByteArrayOutputStream();
+
+    escreverTag(saida, 15, TIPO_VARINT);
+    escreverVarint(saida, VERSAO_MVT);
+    escreverDelimitado(saida, 1, camada.nome().getBytes(StandardCharsets.UTF_8));
+
+    for (FeicaoMvt feicao : camada.feicoes()) {
+      List<Integer> tags = new ArrayList<>();
+      feicao.propriedades().forEach((chave, valor) -> {
+        if (valor != null) {
+          tags.add(chaves.computeIfAbsent(chave, novo -> chaves.size()));
+          tags.add(valores.computeIfAbsent(valor, novo -> valores.size()));
+        }
+      });
+      escreverDelimitado(saida, 2, codificarFeicao(feicao, tags));
+    }
+
+    for (String chave : chaves.keySet()) {
+      escreverDelimitado(saida, 3, chave.getBytes(StandardCharsets.UTF_8));
+    }
+    for (Object valor : valores.keySet()) {
+      escreverDelimitado(saida, 4, codificarValor(valor));
+    }
+    escreverTag(saida, 5, TIPO_VARINT);
+    escreverVarint(saida, EXTENSAO);
+    return saida.toByteArray();
+  }
+
+  private static byte[] codificarFeicao(FeicaoMvt feicao, List<Integer> tags) {
+    ByteArrayOutputStream saida = new ByteArrayOutputStream();
+    if (feicao.id() != null) {
+      escreverTag(saida, 1, TIPO_VARINT);
+      escreverVarint(saida, feicao.id());
+    }
+    if (!tags.isEmpty()) {
+      ByteArrayOutputStream compactadas = new ByteArrayOutputStream();
+      tags.forEach(tag -> escreverVarint(compactadas, tag));
+      escreverDelimitado(saida, 2, compactadas.toByteArray());
+    }
+    escreverTag(saida, 3, TIPO_VARINT);
+    escreverVarint(saida, TIPO_PONTO);
+
+    ByteArrayOutputStream geometria = new ByteArrayOutputStream();
+    escreverVarint(geometria, (COMANDO_MOVER_PARA & 0x7) | (1 << 3));
+    escreverVarint(geometria, zigZag(feicao.x()));
+    escreverVarint(geometria, zigZag(feicao.y()));
+    escreverDelimitado(saida, 4, geometria.toByteArray());
+    return saida.toByteArray();
+  }
+
+  private static byte[] codificarValor(Object valor) {
+    ByteArrayOutputStream saida = new ByteArrayOutputStream();
+    if (valor instanceof String texto) {
+      escreverDelimitado(saida, 1, texto.getBytes(StandardCharsets.UTF_8));
+    } else if (valor instanceof Double || valor instanceof Float) {
+      escreverTag(saida, 3, TIPO_64_BITS);
+      long bits = Double.doubleToLongBits(((Number) valor).doubleValue());
+      for (int i = 0; i < 8; i++) {
+        saida.write((int) (bits >>> (8 * i)) & 0xFF);
+      }
+    } else if (valor instanceof Number numero) {
+      escreverTag(saida, 6, TIPO_VARINT);
+      escreverVarint(saida, zigZag(numero.longValue()));
+    } else if (valor instanceof Boolean booleano) {
+      escreverTag(saida, 7, TIPO_VARINT);
+      escreverVarint(saida, booleano ? 1 : 0);
+    } else {
+      throw new IllegalArgumentException("Tipo de propriedade não suportado em MVT: " + valor.getClass());
+    }
+    return saida.toByteArray();
+  }
+
+  private static void escreverDelimitado(ByteArrayOutputStream saida, int campo, byte[] conteudo) {
+    escreverTag(saida, campo, TIPO_DELIMITADO);
+    escreverVarint(saida, conteudo.length);
+    saida.writeBytes(conteudo);
+  }
+
+  private static void escreverTag(ByteArrayOutputStream saida, int campo, int tipo) {
+    escreverVarint(saida, ((long) campo << 3) | tipo);
+  }
+
+  private static void escreverVarint(ByteArrayOutputStream saida, long valor) {
+    long restante = valor;
+    while ((restante & ~0x7FL) != 0) {
+      saida.write((int) ((restante & 0x7F) | 0x80));
+      restante >>>= 7;
+    }
+    saida.write((int) restante);
+  }
+
+  private static long zigZag(long valor) {
+    return (valor << 1) ^ (valor >> 63);
+  }
+
+  record CamadaMvt(String nome, List<FeicaoMvt> feicoes) {}
+
+  record FeicaoMvt(Long id, int x, int y, Map<String, Object> propriedades) {}
+}
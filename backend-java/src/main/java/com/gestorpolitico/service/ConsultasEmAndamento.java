@@ -0,0 +1,52 @@
+package com.gestorpolitico.service;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+final class ConsultasEmAndamento<K, V> {
+  private final Map<K, CompletableFuture<V>> emAndamento = new ConcurrentHashMap<>();
+  private final LongAdder compartilhadas = new LongAdder();
+
+  V executar(K chave, Supplier<V> consulta) {
+    CompletableFuture<V> nova = new CompletableFuture<>();
+    CompletableFuture<V> existente = emAndamento.putIfAbsent(chave, nova);
+    if (existente != null) {
+      compartilhadas.increment();
+      return aguardar(existente);
+    }
+
+    try {
+      V valor = consulta.get();
+      nova.complete(valor);
+      return valor;
+    } catch (RuntimeException | Error erro) {
+      nova.completeExceptionally(erro);
+      throw erro;
+    } finally {
+      emAndamento.remove(chave, nova);
+    }
+  }
+
+  long compartilhadas() {
+    return compartilhadas.sum();
+  }
+
+  private V aguardar(CompletableFuture<V> consulta) {
+    try {
+      return consulta.join();
+    } catch (CompletionException excecao) {
+      Throwable causa = excecao.getCause();
+      if (causa instanceof RuntimeException runtimeException) {
+        throw runtimeException;
+      }
+      if (causa instanceof Error error) {
+        throw error;
+      }
+      throw excecao;
+    }
+  }
+}
@@ -0,0 +1,363 @@
+package com.gestorpolitico.service;
+
+import com.gestorpolitico.dto.FamiliaFiltroRequestDTO;
+import com.gestorpolitico.dto.ReconstrucaoContadoresResponseDTO;
+import com.gestorpolitico.entity.Bairro;
+import com.gestorpolitico.entity.ContadorCadastroDiario;
+import com.gestorpolitico.entity.ContadorFamilia;
+import com.gestorpolitico.entity.ContadorFamiliaId;
+import com.gestorpolitico.entity.Endereco;
+import com.gestorpolitico.entity.Familia;
+import com.gestorpolitico.entity.MembroFamilia;
+import com.gestorpolitico.enums.EscopoContador;
+import com.gestorpolitico.repository.ContadorCadastroDiarioRepository;
+import com.gestorpolitico.repository.ContadorFamiliaRepository;
+import com.gestorpolitico.repository.FamiliaEstatisticasRepository.EstatisticasFamilias;
+import com.gestorpolitico.repository.FamiliaFiltroSpecification;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Service
+public class ContadorFamiliaService {
+  private static final Logger LOGGER = LoggerFactory.getLogger(ContadorFamiliaService.class);
+  private static final String CHAVE_GLOBAL = "*";
+  private static final int DIAS_NOVOS_CADASTROS = 7;
+
+  private final ContadorFamiliaRepository contadorFamiliaRepository;
+  private final ContadorCadastroDiarioRepository contadorCadastroDiarioRepository;
+
+  public ContadorFamiliaService(
+    ContadorFamiliaRepository contadorFamiliaRepository,
+    ContadorCadastroDiarioRepository contadorCadastroDiarioRepository
+  ) {
+    this.contadorFamiliaRepository = contadorFamiliaRepository;
+    this.contadorCadastroDiarioRepository = contadorCadastroDiarioRepository;
+  }
+
+  @Transactional(readOnly = true)
+  public Optional<EstatisticasFamilias> buscarEstatisticas(FamiliaFiltroRequestDTO filtro) {
+    Optional<ChaveContador> chave = resolverChave(filtro);
+    if (chave.isEmpty()) {
+      return Optional.empty();
+    }
+
+    EscopoContador escopo = chave.get().escopo();
+    String valor = chave.get().chave();
+    Optional<ContadorFamilia> contador = contadorFamiliaRepository.findById(new ContadorFamiliaId(escopo, valor));
+    LocalDate inicioSemana = diaInicioNovosCadastros();
+    List<ContadorCadastroDiario> diarios = contadorCadastroDiarioRepository
+      .findByIdEscopoAndIdChaveAndIdDiaGreaterThanEqual(escopo, valor, inicioSemana);
+
+    return Optional.of(
+      new EstatisticasFamilias(
+        contador.map(ContadorFamilia::getResponsaveis).orElse(0L),
+        diarios.stream().mapToLong(ContadorCadastroDiario::getFamilias).sum(),
+        contador.map(ContadorFamilia::getMembros).orElse(0L),
+        diarios.stream().mapToLong(ContadorCadastroDiario::getMembros).sum()
+      )
+    );
+  }
+
+  public static OffsetDateTime inicioNovosCadastros() {
+    return diaInicioNovosCadastros().atStartOfDay(ZoneId.systemDefault()).toOffsetDateTime();
+  }
+
+  private static LocalDate diaInicioNovosCadastros() {
+    return LocalDate.now(ZoneId.systemDefault()).minusDays(DIAS_NOVOS_CADASTROS - 1L);
+  }
+
+  public PegadaFamilia capturar(Familia familia) {
+    Endereco endereco = familia.getEnderecoDetalhado();
+    Long cidadeId = endereco != null && endereco.getCidade() != null ? endereco.getCidade().getId() : null;
+    Bairro bairro = endereco != null ? endereco.getBairro() : null;
+
+    Map<LocalDate, Long> membrosPorDia = new HashMap<>();
+    boolean possuiResponsavel = false;
+    for (MembroFamilia membro : familia.getMembros()) {
+      possuiResponsavel |= Boolean.TRUE.equals(membro.getResponsavelPrincipal());
+      LocalDate dia = paraDia(membro.getCriadoEm());
+      if (dia != null) {
+        membrosPorDia.merge(dia, 1L, Long::sum);
+      }
+    }
+
+    return new PegadaFamilia(
+      cidadeId,
+      bairro != null ? bairro.getId() : null,
+      bairro != null ? bairro.getRegiao() : null,
+      paraDia(familia.getCriadoEm()),
+      familia.getMembros().size(),
+      possuiResponsavel,
+      membrosPorDia
+    );
+  }
+
+  @Transactional
+  public void registrarInclusao(PegadaFamilia pegada) {
+    Alteracoes alteracoes = new Alteracoes();
+    alteracoes.somar(pegada, 1);
+    aplicar(alteracoes);
+  }
+
+  @Transactional
+  public void registrarInclusoes(Collection<PegadaFamilia> pegadas) {
+    if (pegadas.isEmpty()) {
+      return;
+    }
+    Alteracoes alteracoes = new Alteracoes();
+    pegadas.forEach(pegada -> alteracoes.somar(pegada, 1));
+    aplicar(alteracoes);
+  }
+
+  @Transactional
+  public void registrarAlteracao(PegadaFamilia anterior, PegadaFamilia atual) {
+    if (Objects.equals(anterior, atual)) {
+      return;
+    }
+    Alteracoes alteracoes = new Alteracoes();
+    alteracoes.somar(anterior, -1);
+    alteracoes.somar(atual, 1);
+    aplicar(alteracoes);
+  }
+
+  @Transactional
+  public void registrarMudancaRegiao(Bairro bairro, String regiaoAnterior) {
+    if (bairro.getId() == null || bairro.getCidade() == null) {
+      return;
+    }
+    Long cidadeId = bairro.getCidade().getId();
+    ChaveContador origem = chaveRegiao(cidadeId, regiaoAnterior);
+    ChaveContador destino = chaveRegiao(cidadeId, bairro.getRegiao());
+    if (Objects.equals(origem, destino)) {
+      return;
+    }
+
+    Alteracoes alteracoes = new Alteracoes();
+    alteracoes.transferir(chaveBairro(bairro.getId()), listaDe(origem), listaDe(destino));
+    aplicar(alteracoes);
+  }
+
+  @Transactional
+  public void registrarUnificacao(Bairro principal, Collection<Bairro> duplicados) {
+    Long cidadeId = principal.getCidade().getId();
+    List<ChaveContador> destinos = new ArrayList<>();
+    destinos.add(chaveBairro(principal.getId()));
+    adicionarSePresente(destinos, chaveRegiao(cidadeId, principal.getRegiao()));
+
+    Alteracoes alteracoes = new Alteracoes();
+    List<String> chavesRemovidas = new ArrayList<>();
+    for (Bairro duplicado : duplicados) {
+      ChaveContador chaveDuplicado = chaveBairro(duplicado.getId());
+      alteracoes.transferir(chaveDuplicado, listaDe(chaveRegiao(cidadeId, duplicado.getRegiao())), destinos);
+      chavesRemovidas.add(chaveDuplicado.chave());
+    }
+    aplicar(alteracoes);
+
+    contadorFamiliaRepository.removerChaves(EscopoContador.BAIRRO, chavesRemovidas);
+    contadorCadastroDiarioRepository.removerChaves(EscopoContador.BAIRRO, chavesRemovidas);
+  }
+
+  @Transactional
+  public ReconstrucaoContadoresResponseDTO reconstruir() {
+    long inicio = System.currentTimeMillis();
+    Map<ContadorFamiliaId, List<Long>> anteriores = contadorFamiliaRepository
+      .findAll()
+      .stream()
+      .collect(Collectors.toMap(ContadorFamilia::getId, this::valores));
+
+    contadorFamiliaRepository.reconstruirContadores(ZoneId.systemDefault());
+
+    Map<ContadorFamiliaId, List<Long>> reconstruidos = contadorFamiliaRepository
+      .findAll()
+      .stream()
+      .collect(Collectors.toMap(ContadorFamilia::getId, this::valores));
+
+    long divergencias = reconstruidos
+      .entrySet()
+      .stream()
+      .filter(entry -> !entry.getValue().equals(anteriores.get(entry.getKey())))
+      .count();
+    divergencias += anteriores.keySet().stream().filter(id -> !reconstruidos.containsKey(id)).count();
+
+    long duracao = System.currentTimeMillis() - inicio;
+    if (divergencias > 0) {
+      LOGGER.warn("Reconstrução dos contadores corrigiu {} registros divergentes", divergencias);
+    } else {
+      LOGGER.info("Contadores de famílias reconstruídos sem divergências em {} ms", duracao);
+    }
+    return new ReconstrucaoContadoresResponseDTO(reconstruidos.size(), divergencias, duracao);
+  }
+
+  private List<Long> valores(ContadorFamilia contador) {
+    return List.of(contador.getFamilias(), contador.getMembros(), contador.getResponsaveis());
+  }
+
+  private Optional<ChaveContador> resolverChave(FamiliaFiltroRequestDTO filtro) {
+    if (!FamiliaFiltroSpecification.possuiFiltros(filtro)) {
+      return Optional.of(new ChaveContador(EscopoContador.GLOBAL, CHAVE_GLOBAL));
+    }
+    if (FamiliaFiltroSpecification.possuiFiltrosAlemDeLocalidade(filtro) || filtro.getCidadeId() == null) {
+      return Optional.empty();
+    }
+    if (filtro.getRegiao() != null && !filtro.getRegiao().isBlank()) {
+      return Optional.of(chaveRegiao(filtro.getCidadeId(), filtro.getRegiao()));
+    }
+    return Optional.of(new ChaveContador(EscopoContador.CIDADE, filtro.getCidadeId().toString()));
+  }
+
+  private void aplicar(Alteracoes alteracoes) {
+    alteracoes.totais.forEach((chave, valores) -> {
+      if (valores[0] != 0 || valores[1] != 0 || valores[2] != 0) {
+        contadorFamiliaRepository.incrementar(
+          chave.escopo().name(),
+          chave.chave(),
+          valores[0],
+          valores[1],
+          valores[2]
+        );
+      }
+    });
+    alteracoes.diarios.forEach((chave, valores) -> {
+      if (valores[0] != 0 || valores[1] != 0) {
+        contadorCadastroDiarioRepository.incrementar(
+          chave.contador().escopo().name(),
+          chave.contador().chave(),
+          chave.dia(),
+          valores[0],
+          valores[1]
+        );
+      }
+    });
+  }
+
+  private static List<ChaveContador> chaves(Long cidadeId, String regiao, Long bairroId) {
+    List<ChaveContador> chaves = new ArrayList<>();
+    chaves.add(new ChaveContador(EscopoContador.GLOBAL, CHAVE_GLOBAL));
+    if (cidadeId != null) {
+      chaves.add(new ChaveContador(EscopoContador.CIDADE, cidadeId.toString()));
+      adicionarSePresente(chaves, chaveRegiao(cidadeId, regiao));
+    }
+    if (bairroId != null) {
+      chaves.add(chaveBairro(bairroId));
+    }
+    return chaves;
+  }
+
+  private static ChaveContador chaveRegiao(Long cidadeId, String regiao) {
+    if (cidadeId == null || regiao == null || regiao.isBlank()) {
+      return null;
+    }
+    return new ChaveContador(EscopoContador.REGIAO, cidadeId + ":" + regiao.trim().toLowerCase(Locale.ROOT));
+  }
+
+  private static ChaveContador chaveBairro(Long bairroId) {
+    return new ChaveContador(EscopoContador.BAIRRO, bairroId.toString());
+  }
+
+  private static List<ChaveContador> listaDe(ChaveContador chave) {
+    List<ChaveContador> chaves = new ArrayList<>();
+    adicionarSePresente(chaves, chave);
+    return chaves;
+  }
+
+  private static void adicionarSePresente(List<ChaveContador> chaves, ChaveContador chave) {
+    if (chave != null) {
+      chaves.add(chave);
+    }
+  }
+
+  private static LocalDate paraDia(OffsetDateTime dataHora) {
+    if (dataHora == null) {
+      return null;
+    }
+    return dataHora.atZoneSameInstant(ZoneId.systemDefault()).toLocalDate();
+  }
+
+  public record PegadaFamilia(
+    Long cidadeId,
+    Long bairroId,
+    String regiao,
+    LocalDate diaCadastro,
+    long membros,
+    boolean possuiResponsavel,
+    Map<LocalDate, Long> membrosPorDia
+  ) {}
+
+  private record ChaveContador(EscopoContador escopo, String chave) {}
+
+  private record ChaveDiaria(ChaveContador contador, LocalDate dia) {}
+
+  private final class Alteracoes {
+    private final Map<ChaveContador, long[]> totais = new LinkedHashMap<>();
+    private final Map<ChaveDiaria, long[]> diarios = new LinkedHashMap<>();
+
+    void somar(PegadaFamilia pegada, int sinal) {
+      for (ChaveContador chave : chaves(pegada.cidadeId(), pegada.regiao(), pegada.bairroId())) {
+        long[] valores = totais.computeIfAbsent(chave, ignorado -> new long[3]);
+        valores[0] += sinal;
+        valores[1] += sinal * pegada.membros();
+        valores[2] += pegada.possuiResponsavel() ? sinal : 0;
+
+        if (pegada.diaCadastro() != null) {
+          diarios.computeIfAbsent(new ChaveDiaria(chave, pegada.diaCadastro()), ignorado -> new long[2])[0] += sinal;
+        }
+        pegada
+          .membrosPorDia()
+          .forEach((dia, quantidade) ->
+            diarios.computeIfAbsent(new ChaveDiaria(chave, dia), ignorado -> new long[2])[1] += sinal * quantidade
+          );
+      }
+    }
+
+    void transferir(ChaveContador base, List<ChaveContador> origens, List<ChaveContador> destinos) {
+      Optional<ContadorFamilia> contador = contadorFamiliaRepository
+        .findById(new ContadorFamiliaId(base.escopo(), base.chave()));
+      Map<LocalDate, ContadorCadastroDiario> diariosBase = contadorCadastroDiarioRepository
+        .findByIdEscopoAndIdChave(base.escopo(), base.chave())
+        .stream()
+        .collect(Collectors.toMap(diario -> diario.getId().getDia(), Function.identity()));
+
+      for (ChaveContador origem : origens) {
+        mover(origem, contador, diariosBase, -1);
+      }
+      for (ChaveContador destino : destinos) {
+        mover(destino, contador, diariosBase, 1);
+      }
+    }
+
+    private void mover(
+      ChaveContador chave,
+      Optional<ContadorFamilia> contador,
+      Map<LocalDate, ContadorCadastroDiario> diariosBase,
+      int sinal
+    ) {
+      contador.ifPresent(valor -> {
+        long[] valores = totais.computeIfAbsent(chave, ignorado -> new long[3]);
+        valores[0] += sinal * valor.getFamilias();
+        valores[1] += sinal * valor.getMembros();
+        valores[2] += sinal * valor.getResponsaveis();
+      });
+      diariosBase.forEach((dia, diario) -> {
+        long[] valores = diarios.computeIfAbsent(new ChaveDiaria(chave, dia), ignorado -> new long[2]);
+        valores[0] += sinal * diario.getFamilias();
+        valores[1] += sinal * diario.getMembros();
+      });
+    }
+  }
+}
@@ -0,0 +1,74 @@
+package com.gestorpolitico.service;
+
+final class DistanciaLevenshtein {
+  private static final double TOLERANCIA = 1e-9;
+  private static final ThreadLocal<int[][]> LINHAS = ThreadLocal.withInitial(() -> new int[2][64]);
+
+  private DistanciaLevenshtein() {}
+
+  static int calcular(String primeiro, String segundo) {
+    return calcularLimitada(primeiro, segundo, Integer.MAX_VALUE);
+  }
+
+  static int calcularLimitada(String primeiro, String segundo, int maximo) {
+    if (primeiro.equals(segundo)) {
+      return 0;
+    }
+    int tamanhoPrimeiro = primeiro.length();
+    int tamanhoSegundo = segundo.length();
+    int diferencaTamanho = Math.abs(tamanhoPrimeiro - tamanhoSegundo);
+    if (diferencaTamanho > maximo) {
+      return diferencaTamanho;
+    }
+    if (tamanhoPrimeiro == 0 || tamanhoSegundo == 0) {
+      return Math.max(tamanhoPrimeiro, tamanhoSegundo);
+    }
+
+    int limite = Math.min(maximo, Math.max(tamanhoPrimeiro, tamanhoSegundo));
+    int infinito = limite + 1;
+    int[][] linhas = obterLinhas(tamanhoSegundo + 1);
+    int[] anterior = linhas[0];
+    int[] atual = linhas[1];
+    for (int j = 0; j <= tamanhoSegundo; j++) {
+      anterior[j] = Math.min(j, infinito);
+    }
+
+    for (int i = 1; i <= tamanhoPrimeiro; i++) {
+      int inicio = Math.max(1, i - limite);
+      int fim = Math.min(tamanhoSegundo, i + limite);
+      atual[inicio - 1] = inicio == 1 ? Math.min(i, infinito) : infinito;
+      int menorDaLinha = atual[inicio - 1];
+      char caractere = primeiro.charAt(i - 1);
+      for (int j = inicio; j <= fim; j++) {
+        int custo = caractere == segundo.charAt(j - 1) ? 0 : 1;
+        int valor = Math.min(Math.min(anterior[j] + 1, atual[j - 1] + 1), anterior[j - 1] + custo);
+        atual[j] = Math.min(valor, infinito);
+        menorDaLinha = Math.min(menorDaLinha, atual[j]);
+      }
+      if (fim < tamanhoSegundo) {
+        atual[fim + 1] = infinito;
+      }
+      if (menorDaLinha > limite) {
+        return infinito;
+      }
+      int[] troca = anterior;
+      anterior = atual;
+      atual = troca;
+    }
+    return anterior[tamanhoSegundo];
+  }
+
+  static int raioBusca(int tamanhoConsulta, double similaridadeMinima) {
+    return (int) Math.floor(tamanhoConsulta * (1 - similaridadeMinima) / similaridadeMinima + TOLERANCIA);
+  }
+
+  private static int[][] obterLinhas(int tamanho) {
+    int[][] linhas = LINHAS.get();
+    if (linhas[0].length < tamanho) {
+      int novoTamanho = Math.max(tamanho, linhas[0].length * 2);
+      linhas[0] = new int[novoTamanho];
+      linhas[1] = new int[novoTamanho];
+    }
+    return linhas;
+  }
+}
@@ -0,0 +1,93 @@
+package com.gestorpolitico.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.gestorpolitico.dto.FamiliaFiltroRequestDTO;
+import com.gestorpolitico.enums.FormatoExportacao;
+import com.gestorpolitico.repository.FamiliaExportacaoRepository.LinhaExportacaoFamilia;
+import com.gestorpolitico.repository.FamiliaRepository;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.stream.Stream;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Service
+public class FamiliaExportacaoService {
+  private static final int TAMANHO_LOTE = 500;
+  private static final String CABECALHO_CSV =
+    "id,criado_em,responsavel,total_membros,rua,numero,cep,bairro,regiao,cidade,uf,latitude,longitude";
+
+  private final FamiliaRepository familiaRepository;
+  private final ObjectMapper objectMapper;
+
+  public FamiliaExportacaoService(FamiliaRepository familiaRepository, ObjectMapper objectMapper) {
+    this.familiaRepository = familiaRepository;
+    this.objectMapper = objectMapper;
+  }
+
+  @Transactional(readOnly = true)
+  public long exportar(FamiliaFiltroRequestDTO filtro, FormatoExportacao formato, OutputStream saida)
+    throws IOException {
+    Writer writer = new BufferedWriter(new OutputStreamWriter(saida, StandardCharsets.UTF_8));
+    long total = 0;
+    try (Stream<LinhaExportacaoFamilia> linhas = familiaRepository.streamExportacao(filtro, TAMANHO_LOTE)) {
+      if (formato == FormatoExportacao.CSV) {
+        writer.write(CABECALHO_CSV);
+        writer.write('\n');
+      }
+      Iterator<LinhaExportacaoFamilia> iterator = linhas.iterator();
+      while (iterator.hasNext()) {
+        LinhaExportacaoFamilia linha = iterator.next();
+        if (formato == FormatoExportacao.CSV) {
+          escreverCsv(writer, linha);
+        } else {
+          writer.write(objectMapper.writeValueAsString(linha));
+        }
+        writer.write('\n');
+        total++;
+      }
+    }
+    writer.flush();
+    return total;
+  }
+
+  private void escreverCsv(Writer writer, LinhaExportacaoFamilia linha) throws IOException {
+    Object[] valores = {
+      linha.id(),
+      linha.criadoEm(),
+      linha.responsavel(),
+      linha.totalMembros(),
+      linha.rua(),
+      linha.numero(),
+      linha.cep(),
+      linha.bairro(),
+      linha.regiao(),
+      linha.cidade(),
+      linha.uf(),
+      linha.latitude() != null ? linha.latitude().toPlainString() : null,
+      linha.longitude() != null ? linha.longitude().toPlainString() : null
+    };
+    for (int i = 0; i < valores.length; i++) {
+      if (i > 0) {
+        writer.write(',');
+      }
+      writer.write(escaparCsv(valores[i]));
+    }
+  }
+
+  private String escaparCsv(Object valor) {
+    if (valor == null) {
+      return "";
+    }
+    String texto = valor.toString();
+    if (texto.indexOf(',') < 0 && texto.indexOf('"') < 0 && texto.indexOf('\n') < 0 && texto.indexOf('\r') < 0) {
+      return texto;
+    }
+    return '"' + texto.replace("\"", "\"\"") + '"';
+  }
+}
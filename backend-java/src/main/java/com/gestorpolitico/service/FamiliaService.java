@@ -1,5 +1,6 @@
 package com.gestorpolitico.service;
 
+import com.gestorpolitico.dto.AlteracoesFamiliaDTO;
 import com.gestorpolitico.dto.EnderecoResponseDTO;
 import com.gestorpolitico.dto.FamiliaFiltroRequestDTO;
 import com.gestorpolitico.dto.FamiliaListaResponseDTO;
@@ -13,37 +14,44 @@ import com.gestorpolitico.entity.Cidade;
 import com.gestorpolitico.entity.Endereco;
 import com.gestorpolitico.entity.Familia;
 import com.gestorpolitico.entity.MembroFamilia;
+import com.gestorpolitico.entity.NomeNormalizador;
 import com.gestorpolitico.entity.Parceiro;
 import com.gestorpolitico.entity.Regiao;
+import com.gestorpolitico.enums.StatusGeocodificacao;
 import com.gestorpolitico.repository.BairroRepository;
 import com.gestorpolitico.repository.CidadeRepository;
+import com.gestorpolitico.repository.FamiliaEstatisticasRepository.EstatisticasFamilias;
+import com.gestorpolitico.repository.FamiliaPaginacaoRepository.PosicaoFamilia;
 import com.gestorpolitico.repository.FamiliaRepository;
 import com.gestorpolitico.repository.MembroFamiliaRepository;
 import com.gestorpolitico.repository.ParceiroRepository;
 import com.gestorpolitico.repository.RegiaoRepository;
 import com.gestorpolitico.service.CepService.CepResultado;
-import jakarta.persistence.criteria.Join;
-import jakarta.persistence.criteria.JoinType;
-import jakarta.persistence.criteria.Predicate;
-import java.math.BigDecimal;
-import java.text.Normalizer;
-import java.time.LocalTime;
+import com.gestorpolitico.service.ContadorFamiliaService.PegadaFamilia;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
 import java.time.OffsetDateTime;
-import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeParseException;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Base64;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
-import org.springframework.data.jpa.domain.Specification;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -56,37 +64,50 @@ public class FamiliaService {
   private final CidadeRepository cidadeRepository;
   private final BairroRepository bairroRepository;
   private final RegiaoRepository regiaoRepository;
-  private final GeocodingService geocodingService;
   private final CepService cepService;
   private final MembroFamiliaRepository membroFamiliaRepository;
   private final ParceiroRepository parceiroRepository;
+  private final ContadorFamiliaService contadorFamiliaService;
+  private final IndiceBairrosService indiceBairrosService;
+  private final ApplicationEventPublisher eventPublisher;
 
   public FamiliaService(
     FamiliaRepository familiaRepository,
     CidadeRepository cidadeRepository,
     BairroRepository bairroRepository,
     RegiaoRepository regiaoRepository,
-    GeocodingService geocodingService,
     CepService cepService,
     MembroFamiliaRepository membroFamiliaRepository,
-    ParceiroRepository parceiroRepository
+    ParceiroRepository parceiroRepository,
+    ContadorFamiliaService contadorFamiliaService,
+    IndiceBairrosService indiceBairrosService,
+    ApplicationEventPublisher eventPublisher
   ) {
     this.familiaRepository = familiaRepository;
     this.cidadeRepository = cidadeRepository;
     this.bairroRepository = bairroRepository;
     this.regiaoRepository = regiaoRepository;
-    this.geocodingService = geocodingService;
     this.cepService = cepService;
     this.membroFamiliaRepository = membroFamiliaRepository;
     this.parceiroRepository = parceiroRepository;
+    this.contadorFamiliaService = contadorFamiliaService;
+    this.indiceBairrosService = indiceBairrosService;
+    this.eventPublisher = eventPublisher;
   }
 
   @Transactional
   public FamiliaResponseDTO salvarFamilia(FamiliaRequestDTO dto) {
+    validarMembros(dto);
     DadosFamilia dados = prepararDadosFamilia(dto);
     Familia familia = new Familia();
-    aplicarDadosFamilia(familia, dados);
+    aplicarEnderecoFamilia(familia, dados);
+    sincronizarMembrosFamilia(familia, dto.getMembros(), new AlteracoesFamiliaDTO());
+    atualizarParceiroCadastro(familia, dto.getParceiroToken());
+    familia.atualizarDocumentoBusca();
     Familia salvo = familiaRepository.save(familia);
+    contadorFamiliaService.registrarInclusao(contadorFamiliaService.capturar(salvo));
+    eventPublisher.publishEvent(LocalizacaoFamiliasAlteradaEvent.deEnderecos(List.of(salvo.getEnderecoDetalhado())));
+    eventPublisher.publishEvent(new GeocodificacaoSolicitadaEvent(salvo.getEnderecoDetalhado().getId()));
     return converterFamilia(salvo);
   }
 
@@ -104,61 +125,148 @@ public class FamiliaService {
       .findById(id)
       .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Família não encontrada"));
 
-    DadosFamilia dados = prepararDadosFamilia(dto);
-    familia.getMembros().clear();
-    aplicarDadosFamilia(familia, dados);
+    validarMembros(dto);
+    PegadaFamilia anterior = contadorFamiliaService.capturar(familia);
+    Endereco enderecoAnterior = familia.getEnderecoDetalhado();
+    Bairro bairroAnterior = enderecoAnterior != null ? enderecoAnterior.getBairro() : null;
+    String regiaoAnterior = bairroAnterior != null ? bairroAnterior.getRegiao() : null;
+    AlteracoesFamiliaDTO alteracoes = new AlteracoesFamiliaDTO();
+
+    Bairro bairroAtual;
+    if (enderecoAlterado(enderecoAnterior, dto)) {
+      DadosFamilia dados = prepararDadosFamilia(dto);
+      aplicarEnderecoFamilia(familia, dados);
+      bairroAtual = dados.bairro();
+      alteracoes.setEnderecoAlterado(true);
+    } else {
+      bairroAtual = bairroAnterior;
+      if (bairroAtual != null) {
+        aplicarRegiao(dto, enderecoAnterior.getCidade(), bairroAtual);
+      }
+    }
+    alteracoes.setRegiaoAlterada(
+      bairroAtual != null && !Objects.equals(regiaoAnterior, bairroAtual.getRegiao())
+    );
+
+    sincronizarMembrosFamilia(familia, dto.getMembros(), alteracoes);
+    alteracoes.setParceiroCadastroAlterado(atualizarParceiroCadastro(familia, dto.getParceiroToken()));
+    familia.atualizarDocumentoBusca();
+
     Familia atualizado = familiaRepository.save(familia);
-    return converterFamilia(atualizado);
+    contadorFamiliaService.registrarAlteracao(anterior, contadorFamiliaService.capturar(atualizado));
+    if (alteracoes.isEnderecoAlterado()) {
+      eventPublisher.publishEvent(
+        LocalizacaoFamiliasAlteradaEvent.deEnderecos(Arrays.asList(enderecoAnterior, atualizado.getEnderecoDetalhado()))
+      );
+      eventPublisher.publishEvent(new GeocodificacaoSolicitadaEvent(atualizado.getEnderecoDetalhado().getId()));
+    } else if (alteracoes.isRegiaoAlterada()) {
+      eventPublisher.publishEvent(LocalizacaoFamiliasAlteradaEvent.deCidades(bairroAtual.getCidade().getId()));
+    }
+
+    FamiliaResponseDTO resposta = converterFamilia(atualizado);
+    resposta.setAlteracoes(alteracoes);
+    return resposta;
   }
 
   @Transactional(readOnly = true)
   public FamiliaListaResponseDTO buscarFamilias(FamiliaFiltroRequestDTO filtro, Pageable pageable) {
-    Specification<Familia> specification = criarFiltroSpecification(filtro);
-    Page<Familia> pagina = familiaRepository.findAll(specification, pageable);
+    return buscarFamilias(filtro, pageable, true);
+  }
 
-    List<FamiliaResponseDTO> familias = pagina
-      .getContent()
-      .stream()
-      .map(this::converterFamilia)
-      .collect(Collectors.toList());
+  @Transactional(readOnly = true)
+  public FamiliaListaResponseDTO buscarFamilias(
+    FamiliaFiltroRequestDTO filtro,
+    Pageable pageable,
+    boolean incluirTotais
+  ) {
+    if (!incluirTotais) {
+      List<PosicaoFamilia> posicoes = familiaRepository
+        .buscarPosicoesFatia(filtro, pageable.getOffset(), pageable.getPageSize());
+      return montarListaFamilias(posicoes, null, pageable.getPageNumber(), pageable.getPageSize(), null);
+    }
 
-    List<Familia> familiasFiltradas = familiaRepository.findAll(specification);
-    long responsaveisAtivos = familiasFiltradas
-      .stream()
-      .filter(familia ->
-        familia
-          .getMembros()
-          .stream()
-          .anyMatch(membro -> Boolean.TRUE.equals(membro.getResponsavelPrincipal()))
-      )
-      .count();
-
-    OffsetDateTime seteDiasAtras = OffsetDateTime.now().minusDays(7);
-    long novosCadastros = familiasFiltradas
-      .stream()
-      .filter(familia -> familia.getCriadoEm() != null && familia.getCriadoEm().isAfter(seteDiasAtras))
-      .count();
+    Page<PosicaoFamilia> pagina = familiaRepository.buscarPosicoes(filtro, pageable);
+    return montarListaFamilias(
+      pagina.getContent(),
+      pagina.getTotalElements(),
+      pagina.getNumber(),
+      pagina.getSize(),
+      calcularEstatisticas(filtro)
+    );
+  }
 
-    long totalPessoas = familiasFiltradas
+  @Transactional(readOnly = true)
+  public FamiliaListaResponseDTO buscarFamiliasPorCursor(
+    FamiliaFiltroRequestDTO filtro,
+    String cursor,
+    int tamanho,
+    boolean incluirTotais
+  ) {
+    CursorFamilia posicao = decodificarCursor(cursor);
+    List<PosicaoFamilia> encontradas = posicao == null
+      ? familiaRepository.buscarPosicoesAposCursor(filtro, null, null, tamanho + 1)
+      : familiaRepository.buscarPosicoesAposCursor(filtro, posicao.criadoEm(), posicao.id(), tamanho + 1);
+
+    boolean possuiMais = encontradas.size() > tamanho;
+    List<PosicaoFamilia> posicoes = possuiMais ? encontradas.subList(0, tamanho) : encontradas;
+
+    Long total = null;
+    EstatisticasFamilias estatisticas = null;
+    if (incluirTotais) {
+      total = familiaRepository.contarFamilias(filtro);
+      estatisticas = calcularEstatisticas(filtro);
+    }
+
+    FamiliaListaResponseDTO resposta = montarListaFamilias(posicoes, total, 0, tamanho, estatisticas);
+    if (possuiMais) {
+      PosicaoFamilia ultima = posicoes.get(posicoes.size() - 1);
+      resposta.setProximoCursor(codificarCursor(new CursorFamilia(ultima.criadoEm(), ultima.id())));
+    }
+    return resposta;
+  }
+
+  private List<Familia> carregarFamilias(List<PosicaoFamilia> posicoes) {
+    if (posicoes.isEmpty()) {
+      return List.of();
+    }
+
+    List<Long> ids = posicoes.stream().map(PosicaoFamilia::id).toList();
+    Map<Long, Familia> familiasPorId = familiaRepository
+      .carregarComEndereco(ids)
       .stream()
-      .mapToLong(familia -> familia.getMembros().size())
-      .sum();
+      .collect(Collectors.toMap(Familia::getId, Function.identity()));
+    familiaRepository.carregarMembros(ids);
+
+    return ids.stream().map(familiasPorId::get).filter(Objects::nonNull).toList();
+  }
+
+  private EstatisticasFamilias calcularEstatisticas(FamiliaFiltroRequestDTO filtro) {
+    return contadorFamiliaService
+      .buscarEstatisticas(filtro)
+      .orElseGet(() -> familiaRepository.calcularEstatisticas(filtro, ContadorFamiliaService.inicioNovosCadastros()));
+  }
 
-    long novasPessoasSemana = familiasFiltradas
+  private FamiliaListaResponseDTO montarListaFamilias(
+    List<PosicaoFamilia> posicoes,
+    Long total,
+    int pagina,
+    int tamanho,
+    EstatisticasFamilias estatisticas
+  ) {
+    List<FamiliaResponseDTO> convertidas = carregarFamilias(posicoes)
       .stream()
-      .flatMap(familia -> familia.getMembros().stream())
-      .filter(membro -> membro.getCriadoEm() != null && membro.getCriadoEm().isAfter(seteDiasAtras))
-      .count();
+      .map(this::converterFamilia)
+      .collect(Collectors.toList());
 
     return new FamiliaListaResponseDTO(
-      familias,
-      pagina.getTotalElements(),
-      pagina.getNumber(),
-      pagina.getSize(),
-      responsaveisAtivos,
-      novosCadastros,
-      totalPessoas,
-      novasPessoasSemana
+      convertidas,
+      total,
+      pagina,
+      tamanho,
+      estatisticas != null ? estatisticas.responsaveisAtivos() : null,
+      estatisticas != null ? estatisticas.novosCadastros() : null,
+      estatisticas != null ? estatisticas.totalPessoas() : null,
+      estatisticas != null ? estatisticas.novasPessoasSemana() : null
     );
   }
 
@@ -188,8 +296,6 @@ public class FamiliaService {
   }
 
   private DadosFamilia prepararDadosFamilia(FamiliaRequestDTO dto) {
-    validarMembros(dto);
-
     Cidade cidade = cidadeRepository
       .findById(dto.getCidadeId())
       .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Cidade não encontrada"));
@@ -207,36 +313,53 @@ public class FamiliaService {
 
     Bairro bairro = resolverBairroFamilia(dto, cidade, cepResultado);
     Endereco endereco = construirEnderecoFamilia(dto, cidade, bairro, cepResultado, cepSanitizado);
+    return new DadosFamilia(montarEnderecoResumo(dto), bairro, endereco);
+  }
 
-    List<MembroFamiliaRequestDTO> membros = new ArrayList<>(dto.getMembros());
+  private void aplicarEnderecoFamilia(Familia familia, DadosFamilia dados) {
+    familia.setEndereco(dados.enderecoResumo());
+    familia.setBairro(dados.bairro().getNome());
+    familia.setEnderecoDetalhado(dados.endereco());
+  }
 
-    boolean parceiroInformado = false;
-    Parceiro parceiroCadastro = null;
-    String parceiroToken = dto.getParceiroToken();
-    if (parceiroToken != null) {
-      parceiroInformado = true;
-      String tokenNormalizado = parceiroToken.trim();
-      if (!tokenNormalizado.isEmpty()) {
-        parceiroCadastro = parceiroRepository
-          .findByToken(tokenNormalizado)
-          .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Parceiro não encontrado."));
-      }
+  private static boolean enderecoAlterado(Endereco atual, FamiliaRequestDTO dto) {
+    if (atual == null || atual.getCidade() == null || atual.getBairro() == null) {
+      return true;
     }
+    return (
+      !Objects.equals(atual.getCidade().getId(), dto.getCidadeId()) ||
+      !Objects.equals(atual.getCep(), sanitizarCep(dto.getCep())) ||
+      !Objects.equals(textoAparado(atual.getRua()), textoAparado(dto.getRua())) ||
+      !Objects.equals(textoAparado(atual.getNumero()), textoAparado(dto.getNumero()))
+    );
+  }
 
-    return new DadosFamilia(montarEnderecoResumo(dto), bairro, endereco, membros, parceiroCadastro, parceiroInformado);
+  private static String textoAparado(String valor) {
+    return valor == null ? "" : valor.trim();
   }
 
-  private void aplicarDadosFamilia(Familia familia, DadosFamilia dados) {
-    familia.setEndereco(dados.enderecoResumo());
-    familia.setBairro(dados.bairro().getNome());
-    familia.setEnderecoDetalhado(dados.endereco());
-    sincronizarMembrosFamilia(familia, dados.membros());
-    if (dados.parceiroInformado()) {
-      familia.setParceiroCadastro(dados.parceiroCadastro());
+  private boolean atualizarParceiroCadastro(Familia familia, String parceiroToken) {
+    if (parceiroToken == null) {
+      return false;
     }
+
+    String tokenNormalizado = parceiroToken.trim();
+    Parceiro atual = familia.getParceiroCadastro();
+    if (atual == null ? tokenNormalizado.isEmpty() : tokenNormalizado.equals(atual.getToken())) {
+      return false;
+    }
+
+    Parceiro parceiroCadastro = null;
+    if (!tokenNormalizado.isEmpty()) {
+      parceiroCadastro = parceiroRepository
+        .findByToken(tokenNormalizado)
+        .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Parceiro não encontrado."));
+    }
+    familia.setParceiroCadastro(parceiroCadastro);
+    return true;
   }
 
-  private void validarMembros(FamiliaRequestDTO dto) {
+  static void validarMembros(FamiliaRequestDTO dto) {
     if (dto.getMembros() == null || dto.getMembros().isEmpty()) {
       throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Informe ao menos um membro da família.");
     }
@@ -250,62 +373,84 @@ public class FamiliaService {
     }
   }
 
-  private void sincronizarMembrosFamilia(Familia familia, List<MembroFamiliaRequestDTO> membrosDto) {
-    List<MembroFamilia> atuais = new ArrayList<>(familia.getMembros());
+  private void sincronizarMembrosFamilia(
+    Familia familia,
+    List<MembroFamiliaRequestDTO> membrosDto,
+    AlteracoesFamiliaDTO alteracoes
+  ) {
     Set<Long> idsSolicitados = new HashSet<>();
-
     for (MembroFamiliaRequestDTO membroDto : membrosDto) {
       if (membroDto.getId() != null) {
         idsSolicitados.add(membroDto.getId());
       }
     }
 
-    for (MembroFamilia atual : atuais) {
+    Map<Long, MembroFamilia> atuaisPorId = new HashMap<>();
+    List<MembroFamilia> removidos = new ArrayList<>();
+    for (MembroFamilia atual : familia.getMembros()) {
       Long id = atual.getId();
-      if (id != null && !idsSolicitados.contains(id) && atual.getParceiro() != null) {
+      if (id != null && idsSolicitados.contains(id)) {
+        atuaisPorId.put(id, atual);
+        continue;
+      }
+      if (id != null && atual.getParceiro() != null) {
         throw new ResponseStatusException(
           HttpStatus.BAD_REQUEST,
           "Não é possível remover um membro que está habilitado como parceiro."
         );
       }
+      removidos.add(atual);
     }
 
-    familia.getMembros().clear();
+    familia.getMembros().removeAll(removidos);
+    removidos.stream().map(MembroFamilia::getId).filter(Objects::nonNull).forEach(alteracoes.getMembrosRemovidos()::add);
 
     for (MembroFamiliaRequestDTO membroDto : membrosDto) {
-      MembroFamilia membro = localizarMembroExistente(familia, atuais, membroDto.getId());
+      MembroFamilia atual = membroDto.getId() != null ? atuaisPorId.get(membroDto.getId()) : null;
+      if (atual != null) {
+        if (membroAlterado(atual, membroDto)) {
+          aplicarDadosMembro(atual, membroDto);
+          alteracoes.getMembrosAtualizados().add(atual.getId());
+        }
+        continue;
+      }
+
+      MembroFamilia membro = localizarMembroExistente(familia, membroDto.getId());
       aplicarDadosMembro(membro, membroDto);
       familia.adicionarMembro(membro);
+      alteracoes.setMembrosIncluidos(alteracoes.getMembrosIncluidos() + 1);
     }
   }
 
-  private MembroFamilia localizarMembroExistente(
-    Familia familia,
-    List<MembroFamilia> atuais,
-    Long membroId
-  ) {
+  private MembroFamilia localizarMembroExistente(Familia familia, Long membroId) {
     if (membroId == null) {
       return new MembroFamilia();
     }
 
-    return atuais
-      .stream()
-      .filter(membro -> membroId.equals(membro.getId()))
-      .findFirst()
-      .orElseGet(() -> {
-        MembroFamilia recuperado = membroFamiliaRepository
-          .findById(membroId)
-          .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Membro da família não encontrado."));
-
-        if (recuperado.getFamilia() != null && !recuperado.getFamilia().getId().equals(familia.getId())) {
-          throw new ResponseStatusException(
-            HttpStatus.BAD_REQUEST,
-            "O membro informado não pertence à família selecionada."
-          );
-        }
+    MembroFamilia recuperado = membroFamiliaRepository
+      .findById(membroId)
+      .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Membro da família não encontrado."));
 
-        return recuperado;
-      });
+    if (recuperado.getFamilia() != null && !recuperado.getFamilia().getId().equals(familia.getId())) {
+      throw new ResponseStatusException(
+        HttpStatus.BAD_REQUEST,
+        "O membro informado não pertence à família selecionada."
+      );
+    }
+
+    return recuperado;
+  }
+
+  private static boolean membroAlterado(MembroFamilia membro, MembroFamiliaRequestDTO dto) {
+    return (
+      !Objects.equals(membro.getNomeCompleto(), dto.getNomeCompleto()) ||
+      !Objects.equals(membro.getDataNascimento(), dto.getDataNascimento()) ||
+      !Objects.equals(membro.getProfissao(), dto.getProfissao()) ||
+      membro.getParentesco() != dto.getParentesco() ||
+      Boolean.TRUE.equals(membro.getResponsavelPrincipal()) != Boolean.TRUE.equals(dto.getResponsavelPrincipal()) ||
+      !Objects.equals(membro.getProbabilidadeVoto(), dto.getProbabilidadeVoto()) ||
+      !Objects.equals(membro.getTelefone(), dto.getTelefone())
+    );
   }
 
   private void aplicarDadosMembro(MembroFamilia membro, MembroFamiliaRequestDTO dto) {
@@ -330,14 +475,16 @@ public class FamiliaService {
     if (similar.isPresent()) {
       Bairro bairroExistente = similar.get();
       aplicarRegiao(dto, cidade, bairroExistente);
-      return bairroRepository.save(bairroExistente);
+      return bairroExistente;
     }
 
     Bairro novoBairro = new Bairro();
     novoBairro.setCidade(cidade);
     novoBairro.setNome(formatarNomeBairro(cepResultado.bairro()));
     aplicarRegiao(dto, cidade, novoBairro);
-    return bairroRepository.save(novoBairro);
+    Bairro salvo = bairroRepository.save(novoBairro);
+    eventPublisher.publishEvent(BairrosAlteradosEvent.deBairro(salvo));
+    return salvo;
   }
 
   private void aplicarRegiao(FamiliaRequestDTO dto, Cidade cidade, Bairro bairro) {
@@ -346,8 +493,14 @@ public class FamiliaService {
     }
 
     String regiaoNome = dto.getNovaRegiao().trim();
+    if (regiaoNome.equals(bairro.getRegiao())) {
+      return;
+    }
+
     garantirRegiao(cidade, regiaoNome);
+    String regiaoAnterior = bairro.getRegiao();
     bairro.setRegiao(regiaoNome);
+    contadorFamiliaService.registrarMudancaRegiao(bairro, regiaoAnterior);
   }
 
   private void garantirRegiao(Cidade cidade, String regiaoNome) {
@@ -361,7 +514,7 @@ public class FamiliaService {
       });
   }
 
-  private Endereco construirEnderecoFamilia(
+  static Endereco construirEnderecoFamilia(
     FamiliaRequestDTO dto,
     Cidade cidade,
     Bairro bairro,
@@ -376,154 +529,15 @@ public class FamiliaService {
     endereco.setBairro(bairro);
 
     String enderecoCompleto = montarEnderecoCompleto(dto, cidade, bairro, cepResultado, cepSanitizado);
-    LOGGER.info("Preparando geocodificação do endereço da família: {}", enderecoCompleto);
-    Optional<GeocodingService.Coordenada> coordenadaOptional = geocodingService.buscarCoordenadas(enderecoCompleto);
-
-    if (coordenadaOptional.isEmpty()) {
-      LOGGER.warn("Nenhuma coordenada retornada para o endereço: {}", enderecoCompleto);
-      return endereco;
-    }
-
-    GeocodingService.Coordenada coordenada = coordenadaOptional.get();
-
-    if (coordenada.latitude() != null) {
-      endereco.setLatitude(BigDecimal.valueOf(coordenada.latitude()));
-    }
-    if (coordenada.longitude() != null) {
-      endereco.setLongitude(BigDecimal.valueOf(coordenada.longitude()));
-    }
-
-    LOGGER.info(
-      "Coordenadas definidas para o endereço da família (lat: {}, lon: {})",
-      coordenada.latitude(),
-      coordenada.longitude()
-    );
-
+    LOGGER.debug("Endereço da família enfileirado para geocodificação: {}", enderecoCompleto);
+    endereco.setEnderecoGeocodificacao(enderecoCompleto);
+    endereco.setStatusGeocodificacao(StatusGeocodificacao.PENDENTE);
+    endereco.setTentativasGeocodificacao(0);
+    endereco.setProximaGeocodificacao(OffsetDateTime.now());
     return endereco;
   }
 
-  private Specification<Familia> criarFiltroSpecification(FamiliaFiltroRequestDTO filtro) {
-    return (root, query, builder) -> {
-      query.distinct(true);
-      List<Predicate> predicates = new ArrayList<>();
-
-      var enderecoJoin = root.join("enderecoDetalhado", JoinType.LEFT);
-      var cidadeJoin = enderecoJoin.join("cidade", JoinType.LEFT);
-      Join<Familia, MembroFamilia> membrosJoin = null;
-
-      if (filtro == null) {
-        return builder.conjunction();
-      }
-
-      if (filtro.getCidadeId() != null) {
-        predicates.add(builder.equal(cidadeJoin.get("id"), filtro.getCidadeId()));
-      }
-
-      if (filtro.getRegiao() != null && !filtro.getRegiao().isBlank()) {
-        var bairroJoin = enderecoJoin.join("bairro", JoinType.LEFT);
-        predicates.add(
-          builder.equal(
-            builder.lower(bairroJoin.get("regiao")),
-            filtro.getRegiao().trim().toLowerCase(Locale.ROOT)
-          )
-        );
-      }
-
-      if (filtro.getBairro() != null && !filtro.getBairro().isBlank()) {
-        predicates.add(
-          builder.like(
-            builder.lower(root.get("bairro")),
-            "%" + filtro.getBairro().trim().toLowerCase(Locale.ROOT) + "%"
-          )
-        );
-      }
-
-      if (filtro.getRua() != null && !filtro.getRua().isBlank()) {
-        predicates.add(
-          builder.like(
-            builder.lower(enderecoJoin.get("rua")),
-            "%" + filtro.getRua().trim().toLowerCase(Locale.ROOT) + "%"
-          )
-        );
-      }
-
-      if (filtro.getNumero() != null && !filtro.getNumero().isBlank()) {
-        predicates.add(
-          builder.like(
-            builder.lower(enderecoJoin.get("numero")),
-            "%" + filtro.getNumero().trim().toLowerCase(Locale.ROOT) + "%"
-          )
-        );
-      }
-
-      if (filtro.getCep() != null && !filtro.getCep().isBlank()) {
-        String cepSanitizado = filtro.getCep().replaceAll("\\D", "");
-        if (!cepSanitizado.isBlank()) {
-          predicates.add(builder.like(enderecoJoin.get("cep"), "%" + cepSanitizado + "%"));
-        }
-      }
-
-      if (filtro.getResponsavel() != null && !filtro.getResponsavel().isBlank()) {
-        membrosJoin = root.join("membros", JoinType.LEFT);
-        predicates.add(builder.isTrue(membrosJoin.get("responsavelPrincipal")));
-        predicates.add(
-          builder.like(
-            builder.lower(membrosJoin.get("nomeCompleto")),
-            "%" + filtro.getResponsavel().trim().toLowerCase(Locale.ROOT) + "%"
-          )
-        );
-      }
-
-      if (filtro.getProbabilidadeVoto() != null && !filtro.getProbabilidadeVoto().isBlank()) {
-        if (membrosJoin == null) {
-          membrosJoin = root.join("membros", JoinType.LEFT);
-        }
-        predicates.add(
-          builder.equal(
-            builder.lower(membrosJoin.get("probabilidadeVoto")),
-            filtro.getProbabilidadeVoto().trim().toLowerCase(Locale.ROOT)
-          )
-        );
-      }
-
-      if (filtro.getDataInicio() != null) {
-        OffsetDateTime inicio = filtro
-          .getDataInicio()
-          .atStartOfDay(ZoneId.systemDefault())
-          .toOffsetDateTime();
-        predicates.add(builder.greaterThanOrEqualTo(root.get("criadoEm"), inicio));
-      }
-
-      if (filtro.getDataFim() != null) {
-        OffsetDateTime fim = filtro
-          .getDataFim()
-          .atTime(LocalTime.MAX)
-          .atZone(ZoneId.systemDefault())
-          .toOffsetDateTime();
-        predicates.add(builder.lessThanOrEqualTo(root.get("criadoEm"), fim));
-      }
-
-      if (filtro.getTermo() != null && !filtro.getTermo().isBlank()) {
-        String termoLike = "%" + filtro.getTermo().trim().toLowerCase(Locale.ROOT) + "%";
-        Predicate enderecoPredicate = builder.like(builder.lower(root.get("endereco")), termoLike);
-        Predicate bairroPredicate = builder.like(builder.lower(root.get("bairro")), termoLike);
-        Predicate cidadePredicate = builder.like(builder.lower(cidadeJoin.get("nome")), termoLike);
-        if (membrosJoin == null) {
-          membrosJoin = root.join("membros", JoinType.LEFT);
-        }
-        Predicate responsavelPredicate = builder.like(builder.lower(membrosJoin.get("nomeCompleto")), termoLike);
-        predicates.add(builder.or(enderecoPredicate, bairroPredicate, cidadePredicate, responsavelPredicate));
-      }
-
-      if (predicates.isEmpty()) {
-        return builder.conjunction();
-      }
-
-      return builder.and(predicates.toArray(new Predicate[0]));
-    };
-  }
-
-  private String montarEnderecoCompleto(
+  private static String montarEnderecoCompleto(
     FamiliaRequestDTO dto,
     Cidade cidade,
     Bairro bairro,
@@ -544,7 +558,7 @@ public class FamiliaService {
     return builder.toString();
   }
 
-  private void adicionarParte(StringBuilder builder, String valor) {
+  private static void adicionarParte(StringBuilder builder, String valor) {
     if (valor == null) {
       return;
     }
@@ -558,7 +572,7 @@ public class FamiliaService {
     builder.append(normalizado);
   }
 
-  private String obterPrimeiroValorNaoVazio(String... valores) {
+  private static String obterPrimeiroValorNaoVazio(String... valores) {
     if (valores == null) {
       return null;
     }
@@ -574,7 +588,7 @@ public class FamiliaService {
     return null;
   }
 
-  private void validarCidadeComCep(Cidade cidade, CepResultado cepResultado) {
+  static void validarCidadeComCep(Cidade cidade, CepResultado cepResultado) {
     if (cepResultado.cidade() == null || cepResultado.uf() == null) {
       throw new ResponseStatusException(
         HttpStatus.BAD_REQUEST,
@@ -582,8 +596,8 @@ public class FamiliaService {
       );
     }
 
-    String cidadeCepNormalizada = normalizarTexto(cepResultado.cidade());
-    String cidadeSelecionadaNormalizada = normalizarTexto(cidade.getNome());
+    String cidadeCepNormalizada = NomeNormalizador.normalizarComCache(cepResultado.cidade());
+    String cidadeSelecionadaNormalizada = NomeNormalizador.normalizarComCache(cidade.getNome());
     boolean mesmaCidade = cidadeSelecionadaNormalizada.equals(cidadeCepNormalizada);
     boolean mesmaUf = cidade.getUf().equalsIgnoreCase(cepResultado.uf());
 
@@ -596,68 +610,17 @@ public class FamiliaService {
   }
 
   private Optional<Bairro> encontrarBairroSimilar(Cidade cidade, String nomeBairro) {
-    String nomeNormalizado = normalizarTexto(nomeBairro);
-    List<Bairro> bairros = bairroRepository.findByCidadeIdOrderByNomeAsc(cidade.getId());
-
-    Bairro melhorCandidato = null;
-    double maiorSimilaridade = 0.0;
-
-    for (Bairro candidato : bairros) {
-      String candidatoNormalizado = candidato.getNomeNormalizado() != null
-        ? candidato.getNomeNormalizado()
-        : normalizarTexto(candidato.getNome());
-      double similaridade = calcularSimilaridade(nomeNormalizado, candidatoNormalizado);
-      if (similaridade > maiorSimilaridade) {
-        maiorSimilaridade = similaridade;
-        melhorCandidato = candidato;
-      }
-      if (similaridade == 1.0) {
-        break;
-      }
-    }
-
-    if (maiorSimilaridade >= 0.9 && melhorCandidato != null) {
-      return Optional.of(melhorCandidato);
-    }
-    return Optional.empty();
-  }
-
-  private double calcularSimilaridade(String primeiro, String segundo) {
-    if (primeiro == null || segundo == null) {
-      return 0.0;
-    }
-    if (primeiro.equals(segundo)) {
-      return 1.0;
-    }
-    int maiorTamanho = Math.max(primeiro.length(), segundo.length());
-    if (maiorTamanho == 0) {
-      return 0.0;
-    }
-    int distancia = calcularDistanciaLevenshtein(primeiro, segundo);
-    return (maiorTamanho - distancia) / (double) maiorTamanho;
-  }
-
-  private int calcularDistanciaLevenshtein(String primeiro, String segundo) {
-    int[][] matriz = new int[primeiro.length() + 1][segundo.length() + 1];
-    for (int i = 0; i <= primeiro.length(); i++) {
-      matriz[i][0] = i;
-    }
-    for (int j = 0; j <= segundo.length(); j++) {
-      matriz[0][j] = j;
-    }
-    for (int i = 1; i <= primeiro.length(); i++) {
-      for (int j = 1; j <= segundo.length(); j++) {
-        int custo = primeiro.charAt(i - 1) == segundo.charAt(j - 1) ? 0 : 1;
-        matriz[i][j] = Math.min(
-          Math.min(matriz[i - 1][j] + 1, matriz[i][j - 1] + 1),
-          matriz[i - 1][j - 1] + custo
-        );
-      }
+    String nomeNormalizado = NomeNormalizador.normalizarComCache(nomeBairro);
+    Optional<Bairro> similar = indiceBairrosService
+      .buscarSimilar(cidade.getId(), nomeNormalizado)
+      .flatMap(bairroRepository::findById);
+    if (similar.isPresent()) {
+      return similar;
     }
-    return matriz[primeiro.length()][segundo.length()];
+    return bairroRepository.findByCidadeIdAndNomeNormalizado(cidade.getId(), nomeNormalizado);
   }
 
-  private String formatarNomeBairro(String valor) {
+  static String formatarNomeBairro(String valor) {
     if (valor == null) {
       return "";
     }
@@ -669,7 +632,7 @@ public class FamiliaService {
       .collect(Collectors.joining(" "));
   }
 
-  private String sanitizarCep(String cep) {
+  static String sanitizarCep(String cep) {
     if (cep == null) {
       return "";
     }
@@ -690,7 +653,8 @@ public class FamiliaService {
       cidade.getNome(),
       cidade.getUf(),
       endereco.getLatitude() != null ? endereco.getLatitude().doubleValue() : null,
-      endereco.getLongitude() != null ? endereco.getLongitude().doubleValue() : null
+      endereco.getLongitude() != null ? endereco.getLongitude().doubleValue() : null,
+      endereco.getStatusGeocodificacao()
     );
 
     List<MembroFamiliaResponseDTO> membros = familia.getMembros().stream()
@@ -750,26 +714,33 @@ public class FamiliaService {
     return token;
   }
 
-  private String montarEnderecoResumo(FamiliaRequestDTO dto) {
+  static String montarEnderecoResumo(FamiliaRequestDTO dto) {
     return dto.getRua().trim() + ", " + dto.getNumero().trim();
   }
 
-  private String normalizarTexto(String valor) {
-    if (valor == null) {
-      return "";
+  private String codificarCursor(CursorFamilia cursor) {
+    String conteudo = cursor.criadoEm().toInstant() + "|" + cursor.id();
+    return Base64.getUrlEncoder().withoutPadding().encodeToString(conteudo.getBytes(StandardCharsets.UTF_8));
+  }
+
+  private CursorFamilia decodificarCursor(String cursor) {
+    if (cursor == null || cursor.isBlank()) {
+      return null;
+    }
+    try {
+      String conteudo = new String(Base64.getUrlDecoder().decode(cursor.trim()), StandardCharsets.UTF_8);
+      String[] partes = conteudo.split("\\|");
+      if (partes.length != 2) {
+        throw new IllegalArgumentException("Formato de cursor inesperado");
+      }
+      OffsetDateTime criadoEm = Instant.parse(partes[0]).atOffset(ZoneOffset.UTC);
+      return new CursorFamilia(criadoEm, Long.valueOf(partes[1]));
+    } catch (IllegalArgumentException | DateTimeParseException ex) {
+      throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Cursor de paginação inválido.");
     }
-    String semAcento = Normalizer
-      .normalize(valor, Normalizer.Form.NFD)
-      .replaceAll("\\p{InCombiningDiacriticalMarks}+", "");
-    return semAcento.toUpperCase(Locale.ROOT).replaceAll("\\s+", " ").trim();
   }
 
-  private record DadosFamilia(
-    String enderecoResumo,
-    Bairro bairro,
-    Endereco endereco,
-    List<MembroFamiliaRequestDTO> membros,
-    Parceiro parceiroCadastro,
-    boolean parceiroInformado
-  ) {}
+  private record CursorFamilia(OffsetDateTime criadoEm, Long id) {}
+
+  private record DadosFamilia(String enderecoResumo, Bairro bairro, Endereco endereco) {}
 }
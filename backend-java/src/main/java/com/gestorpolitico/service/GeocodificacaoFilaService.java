@@ -0,0 +1,203 @@
+package com.gestorpolitico.service;
+
+import com.gestorpolitico.dto.StatusGeocodificacaoResponseDTO;
+import com.gestorpolitico.entity.Endereco;
+import com.gestorpolitico.enums.StatusGeocodificacao;
+import com.gestorpolitico.repository.EnderecoRepository;
+import com.gestorpolitico.service.GeocodingService.Coordenada;
+import com.gestorpolitico.service.GeocodingService.FalhaGeocodificacaoException;
+import jakarta.annotation.PreDestroy;
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@Service
+public class GeocodificacaoFilaService {
+  private static final Logger LOGGER = LoggerFactory.getLogger(GeocodificacaoFilaService.class);
+  private static final int TAMANHO_LOTE = 20;
+  private static final Duration RESERVA = Duration.ofMinutes(5);
+  private static final Duration ESPERA_INICIAL = Duration.ofMinutes(1);
+  private static final Duration ESPERA_MAXIMA = Duration.ofHours(6);
+  static final int MAXIMO_TENTATIVAS = 6;
+
+  private final EnderecoRepository enderecoRepository;
+  private final GeocodingService geocodingService;
+  private final TransactionTemplate transactionTemplate;
+  private final ApplicationEventPublisher eventPublisher;
+  private final ThreadPoolExecutor executor = new ThreadPoolExecutor(
+    1,
+    1,
+    0L,
+    TimeUnit.MILLISECONDS,
+    new ArrayBlockingQueue<>(1),
+    tarefa -> {
+      Thread thread = new Thread(tarefa, "geocodificacao-fila");
+      thread.setDaemon(true);
+      return thread;
+    },
+    new ThreadPoolExecutor.DiscardPolicy()
+  );
+
+  public GeocodificacaoFilaService(
+    EnderecoRepository enderecoRepository,
+    GeocodingService geocodingService,
+    PlatformTransactionManager transactionManager,
+    ApplicationEventPublisher eventPublisher
+  ) {
+    this.enderecoRepository = enderecoRepository;
+    this.geocodingService = geocodingService;
+    this.transactionTemplate = new TransactionTemplate(transactionManager);
+    this.eventPublisher = eventPublisher;
+  }
+
+  @TransactionalEventListener(fallbackExecution = true)
+  public void aoSolicitarGeocodificacao(GeocodificacaoSolicitadaEvent evento) {
+    agendarProcessamento();
+  }
+
+  @Scheduled(
+    fixedDelayString = "${geocodificacao.fila.intervalo-ms:30000}",
+    initialDelayString = "${geocodificacao.fila.atraso-inicial-ms:15000}"
+  )
+  public void verificarPendentes() {
+    agendarProcessamento();
+  }
+
+  public StatusGeocodificacaoResponseDTO buscarStatus() {
+    Map<StatusGeocodificacao, Long> totais = new EnumMap<>(StatusGeocodificacao.class);
+    for (Object[] linha : enderecoRepository.contarPorStatusGeocodificacao()) {
+      if (linha[0] instanceof StatusGeocodificacao status) {
+        totais.put(status, ((Number) linha[1]).longValue());
+      }
+    }
+    return new StatusGeocodificacaoResponseDTO(
+      totais.getOrDefault(StatusGeocodificacao.PENDENTE, 0L),
+      totais.getOrDefault(StatusGeocodificacao.CONCLUIDO, 0L),
+      totais.getOrDefault(StatusGeocodificacao.NAO_ENCONTRADO, 0L),
+      totais.getOrDefault(StatusGeocodificacao.FALHOU, 0L)
+    );
+  }
+
+  public int processarPendentes() {
+    int processados = 0;
+    while (true) {
+      OffsetDateTime agora = OffsetDateTime.now();
+      List<Endereco> lote = transactionTemplate.execute(
+        status -> enderecoRepository.buscarPendentesGeocodificacao(agora, PageRequest.of(0, TAMANHO_LOTE))
+      );
+      if (lote == null || lote.isEmpty()) {
+        return processados;
+      }
+      for (Endereco endereco : lote) {
+        if (processar(endereco.getId(), endereco.getEnderecoGeocodificacao())) {
+          processados++;
+        }
+      }
+    }
+  }
+
+  @PreDestroy
+  public void encerrar() {
+    executor.shutdownNow();
+  }
+
+  private void agendarProcessamento() {
+    executor.execute(() -> {
+      try {
+        int processados = processarPendentes();
+        if (processados > 0) {
+          LOGGER.info("Fila de geocodificação processou {} endereço(s)", processados);
+        }
+      } catch (RuntimeException ex) {
+        LOGGER.error("Falha ao processar a fila de geocodificação", ex);
+      }
+    });
+  }
+
+  private boolean processar(Long enderecoId, String enderecoCompleto) {
+    OffsetDateTime agora = OffsetDateTime.now();
+    Integer reservados = transactionTemplate.execute(
+      status -> enderecoRepository.reservarGeocodificacao(enderecoId, agora, agora.plus(RESERVA))
+    );
+    if (reservados == null || reservados == 0) {
+      return false;
+    }
+
+    ResultadoConsulta resultado = consultar(enderecoCompleto);
+    transactionTemplate.executeWithoutResult(status -> registrarResultado(enderecoId, enderecoCompleto, resultado));
+    return true;
+  }
+
+  private ResultadoConsulta consultar(String enderecoCompleto) {
+    try {
+      return new ResultadoConsulta(geocodingService.buscarCoordenadas(enderecoCompleto).orElse(null), false);
+    } catch (FalhaGeocodificacaoException ex) {
+      return new ResultadoConsulta(null, true);
+    }
+  }
+
+  private void registrarResultado(Long enderecoId, String enderecoCompleto, ResultadoConsulta resultado) {
+    Endereco endereco = enderecoRepository.findById(enderecoId).orElse(null);
+    if (
+      endereco == null
+        || endereco.getStatusGeocodificacao() != StatusGeocodificacao.PENDENTE
+        || !Objects.equals(endereco.getEnderecoGeocodificacao(), enderecoCompleto)
+    ) {
+      LOGGER.debug("Endereço {} foi alterado durante a geocodificação; resultado descartado", enderecoId);
+      return;
+    }
+
+    int tentativas = endereco.getTentativasGeocodificacao() + 1;
+    endereco.setTentativasGeocodificacao(tentativas);
+
+    Coordenada coordenada = resultado.coordenada();
+    if (coordenada != null && coordenada.latitude() != null && coordenada.longitude() != null) {
+      endereco.setLatitude(BigDecimal.valueOf(coordenada.latitude()));
+      endereco.setLongitude(BigDecimal.valueOf(coordenada.longitude()));
+      endereco.setPrecisaoGeocodificacao(coordenada.precisao());
+      endereco.setStatusGeocodificacao(StatusGeocodificacao.CONCLUIDO);
+      endereco.setProximaGeocodificacao(null);
+      eventPublisher.publishEvent(LocalizacaoFamiliasAlteradaEvent.deEnderecos(List.of(endereco)));
+      return;
+    }
+
+    if (!resultado.falhaTemporaria()) {
+      LOGGER.warn("Nenhuma coordenada encontrada para o endereço {}: {}", enderecoId, enderecoCompleto);
+      endereco.setStatusGeocodificacao(StatusGeocodificacao.NAO_ENCONTRADO);
+      endereco.setProximaGeocodificacao(null);
+      return;
+    }
+
+    if (tentativas >= MAXIMO_TENTATIVAS) {
+      LOGGER.warn("Geocodificação do endereço {} abandonada após {} tentativas", enderecoId, tentativas);
+      endereco.setStatusGeocodificacao(StatusGeocodificacao.FALHOU);
+      endereco.setProximaGeocodificacao(null);
+      return;
+    }
+
+    endereco.setProximaGeocodificacao(OffsetDateTime.now().plus(calcularEspera(tentativas)));
+  }
+
+  static Duration calcularEspera(int tentativas) {
+    Duration espera = ESPERA_INICIAL.multipliedBy(1L << Math.min(tentativas - 1, 20));
+    return espera.compareTo(ESPERA_MAXIMA) > 0 ? ESPERA_MAXIMA : espera;
+  }
+
+  private record ResultadoConsulta(Coordenada coordenada, boolean falhaTemporaria) {}
+}
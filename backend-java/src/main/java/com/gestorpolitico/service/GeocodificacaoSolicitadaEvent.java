@@ -0,0 +1,3 @@
+package com.gestorpolitico.service;
+
+public record GeocodificacaoSolicitadaEvent(Long enderecoId) {}
@@ -2,17 +2,13 @@ package com.gestorpolitico.service;
 
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.gestorpolitico.service.NormalizadorEndereco.EnderecoNormalizado;
 import java.net.URI;
 import java.nio.charset.StandardCharsets;
-import java.text.Normalizer;
 import java.time.Duration;
 import java.time.Instant;
-import java.util.Map;
 import java.util.Optional;
-import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Supplier;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
@@ -25,64 +21,43 @@ public class GeocodingService {
   private static final Logger LOGGER = LoggerFactory.getLogger(GeocodingService.class);
   private static final String USER_AGENT = "gestor-politico/1.0 (contato@gestorpolitico.com)";
   private static final Duration NOMINATIM_RATE_LIMIT = Duration.ofSeconds(1);
-  private static final Pattern CEP_PATTERN = Pattern.compile("(?i)\\bCEP\\s*\\d{5}-?\\d{3}\\b");
-  private static final Pattern PONTUACAO_PATTERN = Pattern.compile("[,;]");
-  private static final Pattern ESPACOS_PATTERN = Pattern.compile("\\s+");
-  private static final Map<String, String> ESTADOS_SIGLAS =
-    Map.ofEntries(
-      Map.entry("AC", "Acre"),
-      Map.entry("AL", "Alagoas"),
-      Map.entry("AP", "Amapa"),
-      Map.entry("AM", "Amazonas"),
-      Map.entry("BA", "Bahia"),
-      Map.entry("CE", "Ceara"),
-      Map.entry("DF", "Distrito Federal"),
-      Map.entry("ES", "Espirito Santo"),
-      Map.entry("GO", "Goias"),
-      Map.entry("MA", "Maranhao"),
-      Map.entry("MT", "Mato Grosso"),
-      Map.entry("MS", "Mato Grosso do Sul"),
-      Map.entry("MG", "Minas Gerais"),
-      Map.entry("PA", "Para"),
-      Map.entry("PB", "Paraiba"),
-      Map.entry("PR", "Parana"),
-      Map.entry("PE", "Pernambuco"),
-      Map.entry("PI", "Piaui"),
-      Map.entry("RJ", "Rio de Janeiro"),
-      Map.entry("RN", "Rio Grande do Norte"),
-      Map.entry("RS", "Rio Grande do Sul"),
-      Map.entry("RO", "Rondonia"),
-      Map.entry("RR", "Roraima"),
-      Map.entry("SC", "Santa Catarina"),
-      Map.entry("SP", "Sao Paulo"),
-      Map.entry("SE", "Sergipe"),
-      Map.entry("TO", "Tocantins")
-    );
 
   private final WebClient webClient;
   private final String nominatimUrl;
   private final Object rateLimitLock = new Object();
   private Instant lastRequestTime = Instant.EPOCH;
-  private final Map<String, Optional<Coordenada>> coordenadasCache = new ConcurrentHashMap<>();
+  private final CacheGeocodificacaoService cacheGeocodificacaoService;
+  private final ConsultasEmAndamento<String, Optional<Coordenada>> consultasEmAndamento = new ConsultasEmAndamento<>();
 
   public GeocodingService(
     WebClient webClient,
-    @Value("${geocoding.nominatim.url:https://nominatim.openstreetmap.org/search}") String nominatimUrl
+    @Value("${geocoding.nominatim.url:https://nominatim.openstreetmap.org/search}") String nominatimUrl,
+    CacheGeocodificacaoService cacheGeocodificacaoService
   ) {
     this.webClient = webClient;
     this.nominatimUrl = nominatimUrl;
+    this.cacheGeocodificacaoService = cacheGeocodificacaoService;
   }
 
   public Optional<Coordenada> buscarCoordenadas(String enderecoCompleto) {
+    return buscarCoordenadas(enderecoCompleto, true);
+  }
+
+  public Optional<Coordenada> regeocodificar(String enderecoCompleto) {
+    return buscarCoordenadas(enderecoCompleto, false);
+  }
+
+  private Optional<Coordenada> buscarCoordenadas(String enderecoCompleto, boolean usarCache) {
     if (enderecoCompleto == null || enderecoCompleto.isBlank()) {
       LOGGER.warn("Geocodificação ignorada porque o endereço está vazio");
       return Optional.empty();
     }
-    String enderecoNormalizado = normalizarEndereco(enderecoCompleto);
-    if (!enderecoNormalizado.isBlank()) {
+    EnderecoNormalizado enderecoNormalizado = NormalizadorEndereco.normalizar(enderecoCompleto);
+    if (!enderecoNormalizado.consulta().isEmpty()) {
       Optional<Coordenada> coordenada = buscarCoordenadaComCache(
-        enderecoNormalizado,
-        () -> consultarNominatim(enderecoNormalizado)
+        enderecoNormalizado.chave(),
+        usarCache,
+        () -> consultarNominatim(enderecoNormalizado.consulta())
       );
       if (coordenada.isPresent()) {
         return coordenada;
@@ -91,12 +66,13 @@ public class GeocodingService {
 
     Optional<String> enderecoSemBairro = removerBairro(enderecoCompleto);
     if (enderecoSemBairro.isPresent()) {
-      String enderecoSemBairroNormalizado = normalizarEndereco(enderecoSemBairro.get());
-      if (!enderecoSemBairroNormalizado.isBlank()) {
-        LOGGER.info("Tentando geocodificação sem bairro: {}", enderecoSemBairroNormalizado);
+      EnderecoNormalizado enderecoSemBairroNormalizado = NormalizadorEndereco.normalizar(enderecoSemBairro.get());
+      if (!enderecoSemBairroNormalizado.consulta().isEmpty()) {
+        LOGGER.info("Tentando geocodificação sem bairro: {}", enderecoSemBairroNormalizado.consulta());
         return buscarCoordenadaComCache(
-          enderecoSemBairroNormalizado,
-          () -> consultarNominatim(enderecoSemBairroNormalizado)
+          enderecoSemBairroNormalizado.chave(),
+          usarCache,
+          () -> consultarNominatim(enderecoSemBairroNormalizado.consulta())
         );
       }
     }
@@ -104,16 +80,30 @@ public class GeocodingService {
     return Optional.empty();
   }
 
-  private Optional<Coordenada> buscarCoordenadaComCache(String chave, Supplier<Optional<Coordenada>> consulta) {
-    Optional<Coordenada> coordenadaEmCache = coordenadasCache.get(chave);
-    if (coordenadaEmCache != null) {
-      LOGGER.debug("Coordenada recuperada do cache para: {}", chave);
-      return coordenadaEmCache;
+  private Optional<Coordenada> buscarCoordenadaComCache(
+    String chave,
+    boolean usarCache,
+    Supplier<Optional<Coordenada>> consulta
+  ) {
+    if (usarCache) {
+      Optional<Coordenada> coordenadaEmCache = cacheGeocodificacaoService.buscar(chave);
+      if (coordenadaEmCache != null) {
+        LOGGER.debug("Coordenada recuperada do cache para: {}", chave);
+        return coordenadaEmCache;
+      }
     }
 
-    Optional<Coordenada> resultado = consulta.get();
-    coordenadasCache.put(chave, resultado);
-    return resultado;
+    return consultasEmAndamento.executar(chave, () -> {
+      if (usarCache) {
+        Optional<Coordenada> consultadaEnquantoAguardava = cacheGeocodificacaoService.buscar(chave);
+        if (consultadaEnquantoAguardava != null) {
+          return consultadaEnquantoAguardava;
+        }
+      }
+      Optional<Coordenada> coordenada = consulta.get();
+      cacheGeocodificacaoService.registrar(chave, coordenada);
+      return coordenada;
+    });
   }
 
   private void aplicarLimiteDeTaxa() {
@@ -177,30 +167,10 @@ public class GeocodingService {
       );
 
       return Optional.of(coordenada);
-    } catch (Exception ex) {
-      LOGGER.warn("Falha ao consultar Nominatim", ex);
-      return Optional.empty();
-    }
-  }
-
-  private String normalizarEndereco(String endereco) {
-    String enderecoSemAcento = Normalizer.normalize(endereco, Normalizer.Form.NFD).replaceAll("\\p{M}", "");
-    String enderecoSemCep = CEP_PATTERN.matcher(enderecoSemAcento).replaceAll("");
-    String enderecoExpandido = expandirSiglasEstado(enderecoSemCep);
-    String semPontuacao = PONTUACAO_PATTERN.matcher(enderecoExpandido).replaceAll(" ");
-    semPontuacao = semPontuacao.replace('-', ' ');
-    String semEspacosExtras = ESPACOS_PATTERN.matcher(semPontuacao).replaceAll(" ").trim();
-    return semEspacosExtras;
-  }
-
-  private String expandirSiglasEstado(String endereco) {
-    String resultado = endereco;
-    for (Map.Entry<String, String> entry : ESTADOS_SIGLAS.entrySet()) {
-      String regex = "(?i)\\b" + entry.getKey() + "\\b";
-      Matcher matcher = Pattern.compile(regex).matcher(resultado);
-      resultado = matcher.replaceAll(Matcher.quoteReplacement(entry.getValue()));
+    } catch (RuntimeException ex) {
+      LOGGER.warn("Falha ao consultar Nominatim: {}", ex.getMessage());
+      throw new FalhaGeocodificacaoException("Falha ao consultar Nominatim", ex);
     }
-    return resultado;
   }
 
   private Optional<String> removerBairro(String enderecoCompleto) {
@@ -261,6 +231,9 @@ public class GeocodingService {
     @JsonProperty("lon")
     private String longitude;
 
+    @JsonProperty("type")
+    private String tipo;
+
     Coordenada toCoordenada() {
       try {
         Double lat = latitude != null ? Double.valueOf(latitude) : null;
@@ -268,7 +241,7 @@ public class GeocodingService {
         if (lat == null || lon == null) {
           return null;
         }
-        return new Coordenada(lat, lon);
+        return new Coordenada(lat, lon, tipo);
       } catch (NumberFormatException ex) {
         LOGGER.warn("Coordenadas inválidas recebidas do Nominatim: {}", ex.getMessage());
         return null;
@@ -276,5 +249,15 @@ public class GeocodingService {
     }
   }
 
-  public record Coordenada(Double latitude, Double longitude) {}
+  public record Coordenada(Double latitude, Double longitude, String precisao) {
+    public Coordenada(Double latitude, Double longitude) {
+      this(latitude, longitude, null);
+    }
+  }
+
+  public static class FalhaGeocodificacaoException extends RuntimeException {
+    public FalhaGeocodificacaoException(String mensagem, Throwable causa) {
+      super(mensagem, causa);
+    }
+  }
 }
@@ -0,0 +1,253 @@
+package com.gestorpolitico.service;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.BufferedReader;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.PriorityQueue;
+import java.util.stream.Stream;
+
+public final class GeradorIndiceCep {
+  static final int ASSINATURA = 0x43455031;
+  static final int VERSAO = 1;
+  static final int TAMANHO_CABECALHO = 16;
+  static final int TAMANHO_ENTRADA = 12;
+  private static final int TAMANHO_MAXIMO_CAMPO = 0xFFFF;
+  private static final int REGISTROS_POR_PARTE = 200_000;
+
+  private GeradorIndiceCep() {}
+
+  public static void main(String[] args) throws IOException {
+    if (args.length != 2) {
+      System.err.println("Uso: GeradorIndiceCep <base-de-ceps.csv> <indice.bin>");
+      System.exit(2);
+    }
+    long inicio = System.currentTimeMillis();
+    int quantidade;
+    try (BufferedReader leitor = Files.newBufferedReader(Paths.get(args[0]), StandardCharsets.UTF_8)) {
+      quantidade = gerar(leitor, Paths.get(args[1]));
+    }
+    System.out.printf("Índice de CEPs gerado com %d CEP(s) em %d ms%n", quantidade, System.currentTimeMillis() - inicio);
+  }
+
+  static int gerar(BufferedReader origem, Path destino) throws IOException {
+    return gerar(origem, destino, REGISTROS_POR_PARTE);
+  }
+
+  static int gerar(BufferedReader origem, Path destino, int registrosPorParte) throws IOException {
+    String cabecalho = origem.readLine();
+    if (cabecalho == null) {
+      throw new IOException("Base de CEPs vazia.");
+    }
+    char separador = cabecalho.indexOf(';') >= 0 ? ';' : ',';
+
+    Path diretorio = destino.toAbsolutePath().getParent();
+    if (diretorio != null) {
+      Files.createDirectories(diretorio);
+    }
+    Path trabalho = Files.createTempDirectory(diretorio, "cep");
+    try {
+      List<Path> partes = ordenarPartes(origem, separador, registrosPorParte, trabalho);
+      return intercalar(partes, destino, trabalho);
+    } finally {
+      try (Stream<Path> arquivos = Files.list(trabalho)) {
+        for (Path arquivo : arquivos.toList()) {
+          Files.deleteIfExists(arquivo);
+        }
+      }
+      Files.deleteIfExists(trabalho);
+    }
+  }
+
+  private static List<Path> ordenarPartes(
+    BufferedReader origem,
+    char separador,
+    int registrosPorParte,
+    Path trabalho
+  ) throws IOException {
+    List<Path> partes = new ArrayList<>();
+    List<Registro> registros = new ArrayList<>();
+    String linha;
+    while ((linha = origem.readLine()) != null) {
+      List<String> campos = CamposCsv.dividir(linha, separador);
+      if (campos.size() < 6) {
+        continue;
+      }
+      int cep = IndiceCepService.converterCep(campos.get(0));
+      if (cep >= 0) {
+        registros.add(new Registro(cep, campos.subList(1, 6).toArray(String[]::new)));
+        if (registros.size() >= registrosPorParte) {
+          partes.add(gravarParte(registros, trabalho));
+          registros.clear();
+        }
+      }
+    }
+    if (!registros.isEmpty()) {
+      partes.add(gravarParte(registros, trabalho));
+    }
+    return partes;
+  }
+
+  private static Path gravarParte(List<Registro> registros, Path trabalho) throws IOException {
+    registros.sort(Comparator.comparingInt(Registro::cep));
+    Path parte = Files.createTempFile(trabalho, "parte", ".tmp");
+    try (DataOutputStream saida = abrirSaida(parte)) {
+      int anterior = -1;
+      for (Registro registro : registros) {
+        if (registro.cep() != anterior) {
+          registro.escrever(saida);
+          anterior = registro.cep();
+        }
+      }
+    }
+    return parte;
+  }
+
+  private static int intercalar(List<Path> partes, Path destino, Path trabalho) throws IOException {
+    Path arquivoEntradas = Files.createTempFile(trabalho, "entradas", ".tmp");
+    Path arquivoTextos = Files.createTempFile(trabalho, "textos", ".tmp");
+    Map<List<String>, Integer> indicesLocalidades = new HashMap<>();
+    List<Integer> offsetsLocalidades = new ArrayList<>();
+    List<DataInputStream> leitores = new ArrayList<>();
+    int quantidade = 0;
+
+    try (
+      DataOutputStream entradas = abrirSaida(arquivoEntradas);
+      DataOutputStream textos = abrirSaida(arquivoTextos)
+    ) {
+      PriorityQueue<Cabeca> fila = new PriorityQueue<>(
+        Comparator.comparingInt((Cabeca cabeca) -> cabeca.registro().cep()).thenComparingInt(Cabeca::parte)
+      );
+      for (Path parte : partes) {
+        DataInputStream leitor = new DataInputStream(new BufferedInputStream(Files.newInputStream(parte)));
+        leitores.add(leitor);
+        Registro primeiro = Registro.ler(leitor);
+        if (primeiro != null) {
+          fila.add(new Cabeca(primeiro, leitores.size() - 1));
+        }
+      }
+
+      int anterior = -1;
+      String[] textoAnterior = null;
+      int offsetTextoAnterior = 0;
+      while (!fila.isEmpty()) {
+        Cabeca cabeca = fila.poll();
+        Registro proximo = Registro.ler(leitores.get(cabeca.parte()));
+        if (proximo != null) {
+          fila.add(new Cabeca(proximo, cabeca.parte()));
+        }
+        Registro registro = cabeca.registro();
+        if (registro.cep() == anterior) {
+          continue;
+        }
+        anterior = registro.cep();
+
+        String[] campos = registro.campos();
+        List<String> localidade = List.of(campos[2], campos[3], campos[4]);
+        Integer indiceLocalidade = indicesLocalidades.get(localidade);
+        if (indiceLocalidade == null) {
+          indiceLocalidade = offsetsLocalidades.size();
+          indicesLocalidades.put(localidade, indiceLocalidade);
+          offsetsLocalidades.add(escrever(textos, campos[2], campos[3], campos[4]));
+        }
+        if (
+          textoAnterior == null || !Objects.equals(textoAnterior[0], campos[0]) || !Objects.equals(textoAnterior[1], campos[1])
+        ) {
+          textoAnterior = campos;
+          offsetTextoAnterior = escrever(textos, campos[0], campos[1]);
+        }
+        entradas.writeInt(registro.cep());
+        entradas.writeInt(offsetTextoAnterior);
+        entradas.writeInt(indiceLocalidade);
+        quantidade++;
+      }
+    } finally {
+      for (DataInputStream leitor : leitores) {
+        leitor.close();
+      }
+    }
+
+    Path temporario = Files.createTempFile(trabalho, "cep", ".tmp");
+    try (DataOutputStream saida = abrirSaida(temporario)) {
+      saida.writeInt(ASSINATURA);
+      saida.writeInt(VERSAO);
+      saida.writeInt(quantidade);
+      saida.writeInt(offsetsLocalidades.size());
+      for (int offset : offsetsLocalidades) {
+        saida.writeInt(offset);
+      }
+      copiar(arquivoEntradas, saida);
+      copiar(arquivoTextos, saida);
+    }
+    Files.move(temporario, destino, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    return quantidade;
+  }
+
+  private static DataOutputStream abrirSaida(Path arquivo) throws IOException {
+    return new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(arquivo)));
+  }
+
+  private static void copiar(Path origem, OutputStream saida) throws IOException {
+    try (InputStream entrada = Files.newInputStream(origem)) {
+      entrada.transferTo(saida);
+    }
+  }
+
+  private static int escrever(DataOutputStream saida, String... campos) throws IOException {
+    int offset = saida.size();
+    for (String campo : campos) {
+      escreverCampo(saida, campo);
+    }
+    return offset;
+  }
+
+  private static void escreverCampo(DataOutputStream saida, String campo) throws IOException {
+    byte[] bytes = campo.getBytes(StandardCharsets.UTF_8);
+    int tamanho = Math.min(bytes.length, TAMANHO_MAXIMO_CAMPO);
+    saida.writeShort(tamanho);
+    saida.write(bytes, 0, tamanho);
+  }
+
+  private record Registro(int cep, String[] campos) {
+    private void escrever(DataOutputStream saida) throws IOException {
+      saida.writeInt(cep);
+      for (String campo : campos) {
+        escreverCampo(saida, campo);
+      }
+    }
+
+    private static Registro ler(DataInputStream entrada) throws IOException {
+      int cep;
+      try {
+        cep = entrada.readInt();
+      } catch (EOFException ex) {
+        return null;
+      }
+      String[] campos = new String[5];
+      for (int i = 0; i < campos.length; i++) {
+        byte[] bytes = new byte[entrada.readUnsignedShort()];
+        entrada.readFully(bytes);
+        campos[i] = new String(bytes, StandardCharsets.UTF_8);
+      }
+      return new Registro(cep, campos);
+    }
+  }
+
+  private record Cabeca(Registro registro, int parte) {}
+}
@@ -0,0 +1,626 @@
+package com.gestorpolitico.service;
+
+import com.gestorpolitico.dto.ErroImportacaoFamiliaDTO;
+import com.gestorpolitico.dto.FamiliaRequestDTO;
+import com.gestorpolitico.dto.ImportacaoFamiliasResponseDTO;
+import com.gestorpolitico.dto.MembroFamiliaRequestDTO;
+import com.gestorpolitico.entity.Bairro;
+import com.gestorpolitico.entity.Cidade;
+import com.gestorpolitico.entity.Endereco;
+import com.gestorpolitico.entity.Familia;
+import com.gestorpolitico.entity.MembroFamilia;
+import com.gestorpolitico.entity.NomeNormalizador;
+import com.gestorpolitico.entity.SequenciasIdentificadores;
+import com.gestorpolitico.enums.Parentesco;
+import com.gestorpolitico.repository.BairroRepository;
+import com.gestorpolitico.repository.CidadeRepository;
+import com.gestorpolitico.service.CepService.CepResultado;
+import com.gestorpolitico.service.ContadorFamiliaService.PegadaFamilia;
+import com.gestorpolitico.service.LeitorPlanilha.LinhaPlanilha;
+import jakarta.annotation.PreDestroy;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import java.io.IOException;
+import java.io.InputStream;
+import java.sql.Types;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import org.hibernate.dialect.sequence.SequenceSupport;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpStatus;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.server.ResponseStatusException;
+
+@Service
+public class ImportacaoFamiliaService {
+  private static final Logger LOGGER = LoggerFactory.getLogger(ImportacaoFamiliaService.class);
+  private static final int FAMILIAS_POR_LOTE = 200;
+  private static final int LIMITE_ERROS = 500;
+  private static final LocalDate ORIGEM_DATAS_PLANILHA = LocalDate.of(1899, 12, 30);
+  private static final DateTimeFormatter FORMATO_DATA_BRASIL = DateTimeFormatter.ofPattern("dd/MM/uuuu");
+  private static final Set<String> VALORES_VERDADEIROS = Set.of("sim", "s", "true", "verdadeiro", "1", "x");
+  private static final Set<String> VALORES_FALSOS = Set.of("nao", "n", "false", "falso", "0", "");
+
+  private static final String INSERIR_ENDERECO =
+    "INSERT INTO enderecos (id, rua, numero, cep, bairro_id, cidade_id, status_geocodificacao, " +
+    "endereco_geocodificacao, tentativas_geocodificacao, proxima_geocodificacao) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+  private static final String INSERIR_FAMILIA =
+    "INSERT INTO familia (id, endereco, bairro, criado_em, endereco_id, documento_busca) VALUES (?, ?, ?, ?, ?, ?)";
+  private static final String INSERIR_MEMBRO =
+    "INSERT INTO membro_familia (id, nome_completo, data_nascimento, profissao, parentesco, responsavel_principal, " +
+    "probabilidade_voto, telefone, familia_id, criado_em) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+  private final CidadeRepository cidadeRepository;
+  private final BairroRepository bairroRepository;
+  private final CepService cepService;
+  private final ContadorFamiliaService contadorFamiliaService;
+  private final IndiceBairrosService indiceBairrosService;
+  private final ApplicationEventPublisher eventPublisher;
+  private final JdbcTemplate jdbcTemplate;
+  private final SequenceSupport sequenceSupport;
+  private final TransactionTemplate transactionTemplate;
+  private final Validator validator;
+  private final ExecutorService consultasCep;
+
+  public ImportacaoFamiliaService(
+    CidadeRepository cidadeRepository,
+    BairroRepository bairroRepository,
+    CepService cepService,
+    ContadorFamiliaService contadorFamiliaService,
+    IndiceBairrosService indiceBairrosService,
+    ApplicationEventPublisher eventPublisher,
+    JdbcTemplate jdbcTemplate,
+    EntityManagerFactory entityManagerFactory,
+    PlatformTransactionManager transactionManager,
+    Validator validator,
+    @Value("${familias.importacao.paralelismo-cep:8}") int paralelismoCep
+  ) {
+    this.cidadeRepository = cidadeRepository;
+    this.bairroRepository = bairroRepository;
+    this.cepService = cepService;
+    this.contadorFamiliaService = contadorFamiliaService;
+    this.indiceBairrosService = indiceBairrosService;
+    this.eventPublisher = eventPublisher;
+    this.jdbcTemplate = jdbcTemplate;
+    this.sequenceSupport = entityManagerFactory
+      .unwrap(SessionFactoryImplementor.class)
+      .getJdbcServices()
+      .getDialect()
+      .getSequenceSupport();
+    this.transactionTemplate = new TransactionTemplate(transactionManager);
+    this.validator = validator;
+    AtomicInteger sequencia = new AtomicInteger();
+    this.consultasCep = Executors.newFixedThreadPool(
+      Math.max(1, paralelismoCep),
+      tarefa -> {
+        Thread thread = new Thread(tarefa, "importacao-cep-" + sequencia.incrementAndGet());
+        thread.setDaemon(true);
+        return thread;
+      }
+    );
+  }
+
+  public ImportacaoFamiliasResponseDTO importar(Long cidadeId, String nomeArquivo, InputStream conteudo) {
+    long inicio = System.currentTimeMillis();
+    Cidade cidade = cidadeRepository
+      .findById(cidadeId)
+      .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Cidade não encontrada"));
+
+    Importacao importacao = new Importacao(cidade);
+    try (LeitorPlanilha leitor = LeitorPlanilha.abrir(nomeArquivo, conteudo)) {
+      LinhaPlanilha cabecalho = proximaLinhaPreenchida(leitor);
+      if (cabecalho == null) {
+        throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "A planilha enviada está vazia.");
+      }
+      importacao.colunas = mapearColunas(cabecalho);
+
+      List<FamiliaImportada> lote = new ArrayList<>(FAMILIAS_POR_LOTE);
+      FamiliaImportada atual = null;
+      LinhaPlanilha linha;
+      while ((linha = proximaLinhaPreenchida(leitor)) != null) {
+        importacao.resposta.setLinhasLidas(importacao.resposta.getLinhasLidas() + 1);
+        String chave = extrairChaveFamilia(importacao, linha);
+        if (atual == null || !atual.chave.equals(chave)) {
+          if (atual != null) {
+            lote.add(atual);
+            if (lote.size() >= FAMILIAS_POR_LOTE) {
+              processarLote(importacao, lote);
+              lote.clear();
+            }
+          }
+          atual = new FamiliaImportada(chave, linha.numero());
+          if (!importacao.chavesProcessadas.add(chave)) {
+            atual.erro = "As linhas da família devem estar agrupadas; a família já apareceu antes na planilha.";
+          }
+        }
+        adicionarLinha(importacao, atual, linha);
+      }
+      if (atual != null) {
+        lote.add(atual);
+      }
+      processarLote(importacao, lote);
+    } catch (IllegalArgumentException ex) {
+      throw new ResponseStatusException(HttpStatus.BAD_REQUEST, ex.getMessage());
+    } catch (IOException ex) {
+      throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Não foi possível ler a planilha: " + ex.getMessage());
+    }
+
+    ImportacaoFamiliasResponseDTO resposta = importacao.resposta;
+    resposta.getErros().sort(Comparator.comparingInt(ErroImportacaoFamiliaDTO::getLinha));
+    resposta.setCepsConsultados(importacao.ceps.size());
+    resposta.setDuracaoMs(System.currentTimeMillis() - inicio);
+    LOGGER.info(
+      "Importação de famílias para a cidade {}: {} importada(s), {} com erro, {} CEP(s) distintos em {} ms",
+      cidadeId,
+      resposta.getFamiliasImportadas(),
+      resposta.getFamiliasComErro(),
+      resposta.getCepsConsultados(),
+      resposta.getDuracaoMs()
+    );
+    return resposta;
+  }
+
+  @PreDestroy
+  public void encerrar() {
+    consultasCep.shutdownNow();
+  }
+
+  private void processarLote(Importacao importacao, List<FamiliaImportada> lote) {
+    if (lote.isEmpty()) {
+      return;
+    }
+
+    List<FamiliaImportada> validas = new ArrayList<>();
+    for (FamiliaImportada familia : lote) {
+      if (familia.erro == null) {
+        familia.erro = validar(familia.dto);
+      }
+      if (familia.erro == null) {
+        validas.add(familia);
+        importacao.ceps.computeIfAbsent(
+          familia.cep,
+          cep -> CompletableFuture.supplyAsync(() -> cepService.consultarCep(cep), consultasCep)
+        );
+      } else {
+        registrarErro(importacao, familia);
+      }
+    }
+
+    OffsetDateTime agora = OffsetDateTime.now();
+    List<FamiliaPreparada> preparadas = new ArrayList<>();
+    for (FamiliaImportada familia : validas) {
+      try {
+        preparadas.add(preparar(importacao, familia, agora));
+      } catch (ResponseStatusException ex) {
+        familia.erro = ex.getReason();
+        registrarErro(importacao, familia);
+      }
+    }
+    if (preparadas.isEmpty()) {
+      return;
+    }
+
+    List<FamiliaPreparada> gravadas = new ArrayList<>(preparadas.size());
+    try {
+      gravar(preparadas);
+      gravadas.addAll(preparadas);
+    } catch (DataAccessException ex) {
+      LOGGER.warn(
+        "Falha ao gravar lote de {} família(s) importada(s), gravando uma a uma: {}",
+        preparadas.size(),
+        ex.getMessage()
+      );
+      for (FamiliaPreparada preparada : preparadas) {
+        try {
+          gravar(List.of(preparada));
+          gravadas.add(preparada);
+        } catch (DataAccessException erroFamilia) {
+          LOGGER.warn("Falha ao gravar a família da linha {}: {}", preparada.origem().linha, erroFamilia.getMessage());
+          preparada.origem().erro = "Falha ao gravar a família no banco de dados.";
+          registrarErro(importacao, preparada.origem());
+        }
+      }
+    }
+    if (gravadas.isEmpty()) {
+      return;
+    }
+
+    importacao.resposta.setFamiliasImportadas(importacao.resposta.getFamiliasImportadas() + gravadas.size());
+    importacao.resposta.setMembrosImportados(
+      importacao.resposta.getMembrosImportados() +
+      gravadas.stream().mapToInt(gravada -> gravada.familia().getMembros().size()).sum()
+    );
+    eventPublisher.publishEvent(LocalizacaoFamiliasAlteradaEvent.deCidades(importacao.cidade.getId()));
+    eventPublisher.publishEvent(new GeocodificacaoSolicitadaEvent(gravadas.get(0).familia().getEnderecoDetalhado().getId()));
+  }
+
+  private String validar(FamiliaRequestDTO dto) {
+    Optional<String> violacao = validator
+      .validate(dto)
+      .stream()
+      .sorted(Comparator.comparing(item -> item.getPropertyPath().toString()))
+      .map(ConstraintViolation::getMessage)
+      .findFirst();
+    if (violacao.isPresent()) {
+      return violacao.get();
+    }
+    try {
+      FamiliaService.validarMembros(dto);
+    } catch (ResponseStatusException ex) {
+      return ex.getReason();
+    }
+    return FamiliaService.sanitizarCep(dto.getCep()).length() == 8 ? null : "Informe um CEP válido com 8 dígitos.";
+  }
+
+  private FamiliaPreparada preparar(Importacao importacao, FamiliaImportada origem, OffsetDateTime agora) {
+    CepResultado cepResultado = aguardarCep(importacao, origem.cep)
+      .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "CEP não encontrado"));
+    FamiliaService.validarCidadeComCep(importacao.cidade, cepResultado);
+    if (cepResultado.bairro() == null || cepResultado.bairro().isBlank()) {
+      throw new ResponseStatusException(
+        HttpStatus.BAD_REQUEST,
+        "Não foi possível identificar o bairro através do CEP informado"
+      );
+    }
+
+    Bairro bairro = resolverBairro(importacao, cepResultado.bairro());
+    Endereco endereco = FamiliaService.construirEnderecoFamilia(
+      origem.dto,
+      importacao.cidade,
+      bairro,
+      cepResultado,
+      origem.cep
+    );
+
+    Familia familia = new Familia();
+    familia.setEndereco(FamiliaService.montarEnderecoResumo(origem.dto));
+    familia.setBairro(bairro.getNome());
+    familia.setCriadoEm(agora);
+    familia.setEnderecoDetalhado(endereco);
+    for (MembroFamiliaRequestDTO dto : origem.dto.getMembros()) {
+      MembroFamilia membro = new MembroFamilia();
+      membro.setNomeCompleto(dto.getNomeCompleto());
+      membro.setDataNascimento(dto.getDataNascimento());
+      membro.setProfissao(dto.getProfissao());
+      membro.setParentesco(dto.getParentesco());
+      membro.setResponsavelPrincipal(Boolean.TRUE.equals(dto.getResponsavelPrincipal()));
+      membro.setProbabilidadeVoto(dto.getProbabilidadeVoto());
+      membro.setTelefone(dto.getTelefone());
+      membro.setCriadoEm(agora);
+      familia.adicionarMembro(membro);
+    }
+    familia.atualizarDocumentoBusca();
+    return new FamiliaPreparada(origem, familia);
+  }
+
+  private Optional<CepResultado> aguardarCep(Importacao importacao, String cep) {
+    try {
+      return importacao.ceps.get(cep).join();
+    } catch (CompletionException ex) {
+      Throwable causa = ex.getCause() != null ? ex.getCause() : ex;
+      if (causa instanceof ResponseStatusException status) {
+        throw status;
+      }
+      LOGGER.warn("Falha ao consultar o CEP {} durante a importação: {}", cep, causa.getMessage());
+      throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "Não foi possível consultar o CEP informado.");
+    }
+  }
+
+  private Bairro resolverBairro(Importacao importacao, String nomeBairro) {
+    Long cidadeId = importacao.cidade.getId();
+    if (importacao.bairros == null) {
+      importacao.bairros = new HashMap<>();
+      for (Bairro bairro : bairroRepository.findByCidadeIdOrderByNomeAsc(cidadeId)) {
+        importacao.bairros.put(bairro.getNomeNormalizado(), bairro);
+        importacao.bairrosPorId.put(bairro.getId(), bairro);
+      }
+    }
+
+    String nomeNormalizado = NomeNormalizador.normalizarComCache(nomeBairro);
+    Bairro existente = importacao.bairros.get(nomeNormalizado);
+    if (existente != null) {
+      return existente;
+    }
+
+    Bairro bairro = indiceBairrosService
+      .buscarSimilar(cidadeId, nomeNormalizado)
+      .flatMap(id -> Optional.ofNullable(importacao.bairrosPorId.get(id)).or(() -> bairroRepository.findById(id)))
+      .orElseGet(() -> criarBairro(importacao.cidade, nomeBairro, nomeNormalizado));
+    importacao.bairros.put(nomeNormalizado, bairro);
+    importacao.bairrosPorId.put(bairro.getId(), bairro);
+    return bairro;
+  }
+
+  private Bairro criarBairro(Cidade cidade, String nomeBairro, String nomeNormalizado) {
+    Bairro novoBairro = new Bairro();
+    novoBairro.setCidade(cidade);
+    novoBairro.setNome(FamiliaService.formatarNomeBairro(nomeBairro));
+    try {
+      Bairro salvo = bairroRepository.saveAndFlush(novoBairro);
+      eventPublisher.publishEvent(BairrosAlteradosEvent.deBairro(salvo));
+      return salvo;
+    } catch (DataIntegrityViolationException ex) {
+      return bairroRepository
+        .findByCidadeIdAndNomeNormalizado(cidade.getId(), nomeNormalizado)
+        .orElseThrow(() -> ex);
+    }
+  }
+
+  private void gravar(List<FamiliaPreparada> preparadas) {
+    transactionTemplate.executeWithoutResult(status -> {
+      List<Familia> familias = preparadas.stream().map(FamiliaPreparada::familia).toList();
+      List<MembroFamilia> membros = familias.stream().flatMap(familia -> familia.getMembros().stream()).toList();
+      long[] enderecosIds = reservarIds(SequenciasIdentificadores.ENDERECOS, familias.size());
+      long[] familiasIds = reservarIds(SequenciasIdentificadores.FAMILIA, familias.size());
+      long[] membrosIds = reservarIds(SequenciasIdentificadores.MEMBRO_FAMILIA, membros.size());
+      for (int i = 0; i < familias.size(); i++) {
+        familias.get(i).setId(familiasIds[i]);
+        familias.get(i).getEnderecoDetalhado().setId(enderecosIds[i]);
+      }
+      for (int i = 0; i < membros.size(); i++) {
+        membros.get(i).setId(membrosIds[i]);
+      }
+
+      jdbcTemplate.batchUpdate(INSERIR_ENDERECO, familias, FAMILIAS_POR_LOTE, (ps, familia) -> {
+        Endereco endereco = familia.getEnderecoDetalhado();
+        ps.setLong(1, endereco.getId());
+        ps.setString(2, endereco.getRua());
+        ps.setString(3, endereco.getNumero());
+        ps.setString(4, endereco.getCep());
+        ps.setLong(5, endereco.getBairro().getId());
+        ps.setLong(6, endereco.getCidade().getId());
+        ps.setString(7, endereco.getStatusGeocodificacao().name());
+        ps.setString(8, endereco.getEnderecoGeocodificacao());
+        ps.setInt(9, endereco.getTentativasGeocodificacao());
+        ps.setObject(10, endereco.getProximaGeocodificacao());
+      });
+      jdbcTemplate.batchUpdate(INSERIR_FAMILIA, familias, FAMILIAS_POR_LOTE, (ps, familia) -> {
+        ps.setLong(1, familia.getId());
+        ps.setString(2, familia.getEndereco());
+        ps.setString(3, familia.getBairro());
+        ps.setObject(4, familia.getCriadoEm());
+        ps.setLong(5, familia.getEnderecoDetalhado().getId());
+        ps.setString(6, familia.getDocumentoBusca());
+      });
+      jdbcTemplate.batchUpdate(INSERIR_MEMBRO, membros, FAMILIAS_POR_LOTE, (ps, membro) -> {
+        ps.setLong(1, membro.getId());
+        ps.setString(2, membro.getNomeCompleto());
+        if (membro.getDataNascimento() != null) {
+          ps.setObject(3, membro.getDataNascimento());
+        } else {
+          ps.setNull(3, Types.DATE);
+        }
+        ps.setString(4, membro.getProfissao());
+        ps.setString(5, membro.getParentesco().name());
+        ps.setBoolean(6, Boolean.TRUE.equals(membro.getResponsavelPrincipal()));
+        ps.setString(7, membro.getProbabilidadeVoto());
+        ps.setString(8, membro.getTelefone());
+        ps.setLong(9, membro.getFamilia().getId());
+        ps.setObject(10, membro.getCriadoEm());
+      });
+
+      List<PegadaFamilia> pegadas = familias.stream().map(contadorFamiliaService::capturar).toList();
+      contadorFamiliaService.registrarInclusoes(pegadas);
+    });
+  }
+
+  private long[] reservarIds(String sequencia, int quantidade) {
+    String consulta = sequenceSupport.getSequenceNextValString(sequencia);
+    long[] ids = new long[quantidade];
+    int preenchidos = 0;
+    while (preenchidos < quantidade) {
+      long inicio = jdbcTemplate.queryForObject(consulta, Long.class);
+      for (int i = 0; i < SequenciasIdentificadores.TAMANHO_BLOCO && preenchidos < quantidade; i++) {
+        ids[preenchidos++] = inicio + i;
+      }
+    }
+    return ids;
+  }
+
+  private void adicionarLinha(Importacao importacao, FamiliaImportada familia, LinhaPlanilha linha) {
+    if (familia.erro != null) {
+      return;
+    }
+    Map<Coluna, Integer> colunas = importacao.colunas;
+    if (familia.dto == null) {
+      FamiliaRequestDTO dto = new FamiliaRequestDTO();
+      dto.setCidadeId(importacao.cidade.getId());
+      dto.setCep(normalizarCep(linha.campo(colunas.get(Coluna.CEP))));
+      dto.setRua(linha.campo(colunas.get(Coluna.RUA)));
+      dto.setNumero(linha.campo(colunas.get(Coluna.NUMERO)));
+      dto.setMembros(new ArrayList<>());
+      familia.dto = dto;
+      familia.cep = FamiliaService.sanitizarCep(dto.getCep());
+    }
+
+    try {
+      familia.dto.getMembros().add(converterMembro(colunas, linha));
+    } catch (IllegalArgumentException | DateTimeParseException ex) {
+      familia.erro = "Linha " + linha.numero() + ": " + ex.getMessage();
+    }
+  }
+
+  private static MembroFamiliaRequestDTO converterMembro(Map<Coluna, Integer> colunas, LinhaPlanilha linha) {
+    MembroFamiliaRequestDTO membro = new MembroFamiliaRequestDTO();
+    membro.setNomeCompleto(linha.campo(colunas.get(Coluna.NOME_COMPLETO)));
+    membro.setParentesco(Parentesco.fromValue(linha.campo(colunas.get(Coluna.PARENTESCO))));
+    membro.setResponsavelPrincipal(converterBooleano(linha.campo(colunas.get(Coluna.RESPONSAVEL_PRINCIPAL))));
+    membro.setProbabilidadeVoto(linha.campo(colunas.get(Coluna.PROBABILIDADE_VOTO)));
+    membro.setDataNascimento(converterData(linha.campo(colunas.getOrDefault(Coluna.DATA_NASCIMENTO, -1))));
+    membro.setProfissao(linha.campo(colunas.getOrDefault(Coluna.PROFISSAO, -1)));
+    membro.setTelefone(linha.campo(colunas.getOrDefault(Coluna.TELEFONE, -1)));
+    return membro;
+  }
+
+  private static String extrairChaveFamilia(Importacao importacao, LinhaPlanilha linha) {
+    Integer colunaFamilia = importacao.colunas.get(Coluna.FAMILIA);
+    String identificador = colunaFamilia != null ? linha.campo(colunaFamilia) : null;
+    if (identificador != null) {
+      return identificador;
+    }
+    Map<Coluna, Integer> colunas = importacao.colunas;
+    return String.join(
+      " | ",
+      FamiliaService.sanitizarCep(normalizarCep(linha.campo(colunas.get(Coluna.CEP)))),
+      NomeNormalizador.normalizarComCache(Optional.ofNullable(linha.campo(colunas.get(Coluna.RUA))).orElse("")),
+      Optional.ofNullable(linha.campo(colunas.get(Coluna.NUMERO))).orElse("")
+    );
+  }
+
+  private static Map<Coluna, Integer> mapearColunas(LinhaPlanilha cabecalho) {
+    Map<String, Coluna> porNome = new HashMap<>();
+    for (Coluna coluna : Coluna.values()) {
+      for (String nome : coluna.nomes) {
+        porNome.put(NomeNormalizador.normalizarChave(nome), coluna);
+      }
+    }
+
+    Map<Coluna, Integer> colunas = new EnumMap<>(Coluna.class);
+    for (int i = 0; i < cabecalho.campos().size(); i++) {
+      String nome = cabecalho.campo(i);
+      Coluna coluna = nome != null ? porNome.get(NomeNormalizador.normalizarChave(nome)) : null;
+      if (coluna != null) {
+        colunas.putIfAbsent(coluna, i);
+      }
+    }
+
+    String ausentes = Arrays
+      .stream(Coluna.values())
+      .filter(coluna -> coluna.obrigatoria && !colunas.containsKey(coluna))
+      .map(coluna -> coluna.nomes[0])
+      .collect(Collectors.joining(", "));
+    if (!ausentes.isEmpty()) {
+      throw new IllegalArgumentException("Colunas obrigatórias ausentes na planilha: " + ausentes + ".");
+    }
+    return colunas;
+  }
+
+  private static LinhaPlanilha proximaLinhaPreenchida(LeitorPlanilha leitor) throws IOException {
+    LinhaPlanilha linha;
+    do {
+      linha = leitor.proximaLinha();
+    } while (linha != null && linha.vazia());
+    return linha;
+  }
+
+  private static String normalizarCep(String valor) {
+    if (valor == null) {
+      return null;
+    }
+    String numerico = valor.replaceAll("\\D", "");
+    return numerico.length() == 7 ? "0" + numerico : valor;
+  }
+
+  private static Boolean converterBooleano(String valor) {
+    String chave = valor != null ? NomeNormalizador.normalizarChave(valor) : "";
+    if (VALORES_VERDADEIROS.contains(chave)) {
+      return Boolean.TRUE;
+    }
+    if (VALORES_FALSOS.contains(chave)) {
+      return Boolean.FALSE;
+    }
+    throw new IllegalArgumentException("Valor inválido para responsável principal: " + valor);
+  }
+
+  private static LocalDate converterData(String valor) {
+    if (valor == null) {
+      return null;
+    }
+    if (valor.matches("\\d{1,5}")) {
+      return ORIGEM_DATAS_PLANILHA.plusDays(Long.parseLong(valor));
+    }
+    if (valor.contains("/")) {
+      return LocalDate.parse(valor, FORMATO_DATA_BRASIL);
+    }
+    return LocalDate.parse(valor.length() > 10 ? valor.substring(0, 10) : valor);
+  }
+
+  private void registrarErro(Importacao importacao, FamiliaImportada familia) {
+    ImportacaoFamiliasResponseDTO resposta = importacao.resposta;
+    resposta.setFamiliasComErro(resposta.getFamiliasComErro() + 1);
+    if (resposta.getErros().size() >= LIMITE_ERROS) {
+      resposta.setErrosTruncados(true);
+      return;
+    }
+    resposta.getErros().add(new ErroImportacaoFamiliaDTO(familia.linha, familia.chave, familia.erro));
+  }
+
+  private enum Coluna {
+    FAMILIA(false, "familia", "id_familia", "codigo_familia"),
+    CEP(true, "cep"),
+    RUA(true, "rua", "logradouro"),
+    NUMERO(true, "numero"),
+    NOME_COMPLETO(true, "nome_completo", "nome"),
+    PARENTESCO(true, "parentesco"),
+    RESPONSAVEL_PRINCIPAL(true, "responsavel_principal", "responsavel"),
+    PROBABILIDADE_VOTO(true, "probabilidade_voto", "probabilidade"),
+    DATA_NASCIMENTO(false, "data_nascimento", "nascimento"),
+    PROFISSAO(false, "profissao"),
+    TELEFONE(false, "telefone", "celular");
+
+    private final boolean obrigatoria;
+    private final String[] nomes;
+
+    Coluna(boolean obrigatoria, String... nomes) {
+      this.obrigatoria = obrigatoria;
+      this.nomes = nomes;
+    }
+  }
+
+  private static final class Importacao {
+    private final Cidade cidade;
+    private final ImportacaoFamiliasResponseDTO resposta = new ImportacaoFamiliasResponseDTO();
+    private final Map<String, CompletableFuture<Optional<CepResultado>>> ceps = new HashMap<>();
+    private final Set<String> chavesProcessadas = new HashSet<>();
+    private Map<Coluna, Integer> colunas;
+    private final Map<Long, Bairro> bairrosPorId = new HashMap<>();
+    private Map<String, Bairro> bairros;
+
+    private Importacao(Cidade cidade) {
+      this.cidade = cidade;
+    }
+  }
+
+  private static final class FamiliaImportada {
+    private final String chave;
+    private final int linha;
+    private FamiliaRequestDTO dto;
+    private String cep;
+    private String erro;
+
+    private FamiliaImportada(String chave, int linha) {
+      this.chave = chave;
+      this.linha = linha;
+    }
+  }
+
+  private record FamiliaPreparada(FamiliaImportada origem, Familia familia) {}
+}
@@ -0,0 +1,111 @@
+package com.gestorpolitico.service;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+final class IndiceBairrosCidade {
+  private final Map<String, NoBairro> porNome = new HashMap<>();
+  private final ReadWriteLock bloqueio = new ReentrantReadWriteLock();
+  private NoBairro raiz;
+
+  void adicionar(Long bairroId, String nomeNormalizado) {
+    if (bairroId == null || nomeNormalizado == null || nomeNormalizado.isBlank()) {
+      return;
+    }
+    bloqueio.writeLock().lock();
+    try {
+      NoBairro existente = porNome.get(nomeNormalizado);
+      if (existente != null) {
+        existente.bairroId = bairroId;
+        return;
+      }
+      NoBairro novo = new NoBairro(nomeNormalizado, bairroId);
+      porNome.put(nomeNormalizado, novo);
+      if (raiz == null) {
+        raiz = novo;
+        return;
+      }
+      NoBairro atual = raiz;
+      while (true) {
+        int distancia = DistanciaLevenshtein.calcular(nomeNormalizado, atual.nome);
+        NoBairro filho = atual.filhos.get(distancia);
+        if (filho == null) {
+          atual.filhos.put(distancia, novo);
+          atual.maiorChave = Math.max(atual.maiorChave, distancia);
+          return;
+        }
+        atual = filho;
+      }
+    } finally {
+      bloqueio.writeLock().unlock();
+    }
+  }
+
+  Optional<Long> buscar(String nomeNormalizado, double similaridadeMinima) {
+    if (nomeNormalizado == null || nomeNormalizado.isBlank()) {
+      return Optional.empty();
+    }
+    bloqueio.readLock().lock();
+    try {
+      NoBairro exato = porNome.get(nomeNormalizado);
+      if (exato != null && exato.bairroId != null) {
+        return Optional.of(exato.bairroId);
+      }
+      if (raiz == null) {
+        return Optional.empty();
+      }
+
+      int raio = DistanciaLevenshtein.raioBusca(nomeNormalizado.length(), similaridadeMinima);
+      NoBairro melhor = null;
+      double maiorSimilaridade = 0.0;
+      Deque<NoBairro> pendentes = new ArrayDeque<>();
+      pendentes.push(raiz);
+      while (!pendentes.isEmpty()) {
+        NoBairro no = pendentes.pop();
+        int distancia = DistanciaLevenshtein.calcularLimitada(nomeNormalizado, no.nome, no.maiorChave + raio);
+        if (distancia <= raio && no.bairroId != null) {
+          int maiorTamanho = Math.max(nomeNormalizado.length(), no.nome.length());
+          double similaridade = (maiorTamanho - distancia) / (double) maiorTamanho;
+          if (
+            similaridade > maiorSimilaridade
+              || (similaridade == maiorSimilaridade && melhor != null && no.nome.compareTo(melhor.nome) < 0)
+          ) {
+            maiorSimilaridade = similaridade;
+            melhor = no;
+          }
+        }
+        int ultimaChave = Math.min(distancia + raio, no.maiorChave);
+        for (int chave = Math.max(0, distancia - raio); chave <= ultimaChave; chave++) {
+          NoBairro filho = no.filhos.get(chave);
+          if (filho != null) {
+            pendentes.push(filho);
+          }
+        }
+      }
+
+      if (melhor != null && maiorSimilaridade >= similaridadeMinima) {
+        return Optional.of(melhor.bairroId);
+      }
+      return Optional.empty();
+    } finally {
+      bloqueio.readLock().unlock();
+    }
+  }
+
+  private static final class NoBairro {
+    private final String nome;
+    private final Map<Integer, NoBairro> filhos = new HashMap<>();
+    private int maiorChave;
+    private volatile Long bairroId;
+
+    private NoBairro(String nome, Long bairroId) {
+      this.nome = nome;
+      this.bairroId = bairroId;
+    }
+  }
+}
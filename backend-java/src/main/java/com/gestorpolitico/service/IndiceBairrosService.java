@@ -0,0 +1,45 @@
+package com.gestorpolitico.service;
+
+import com.gestorpolitico.entity.Bairro;
+import com.gestorpolitico.entity.NomeNormalizador;
+import com.gestorpolitico.repository.BairroRepository;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import java.time.Duration;
+import java.util.Optional;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+@Service
+public class IndiceBairrosService {
+  private static final double SIMILARIDADE_MINIMA = 0.9;
+  private static final Duration VALIDADE_INDICE = Duration.ofMinutes(10);
+
+  private final BairroRepository bairroRepository;
+  private final LoadingCache<Long, IndiceBairrosCidade> indices;
+
+  public IndiceBairrosService(BairroRepository bairroRepository) {
+    this.bairroRepository = bairroRepository;
+    this.indices = Caffeine.newBuilder().expireAfterWrite(VALIDADE_INDICE).build(this::carregar);
+  }
+
+  public Optional<Long> buscarSimilar(Long cidadeId, String nomeNormalizado) {
+    return indices.get(cidadeId).buscar(nomeNormalizado, SIMILARIDADE_MINIMA);
+  }
+
+  @TransactionalEventListener(fallbackExecution = true)
+  public void aoAlterarBairros(BairrosAlteradosEvent evento) {
+    indices.invalidate(evento.cidadeId());
+  }
+
+  private IndiceBairrosCidade carregar(Long cidadeId) {
+    IndiceBairrosCidade indice = new IndiceBairrosCidade();
+    for (Bairro bairro : bairroRepository.findByCidadeIdOrderByNomeAsc(cidadeId)) {
+      String nomeNormalizado = bairro.getNomeNormalizado() != null
+        ? bairro.getNomeNormalizado()
+        : NomeNormalizador.normalizar(bairro.getNome());
+      indice.adicionar(bairro.getId(), nomeNormalizado);
+    }
+    return indice;
+  }
+}
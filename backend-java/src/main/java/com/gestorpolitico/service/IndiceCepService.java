@@ -0,0 +1,152 @@
+package com.gestorpolitico.service;
+
+import com.gestorpolitico.service.CepService.CepResultado;
+import jakarta.annotation.PostConstruct;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.Optional;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+@Service
+public class IndiceCepService {
+  private static final Logger LOGGER = LoggerFactory.getLogger(IndiceCepService.class);
+
+  private final Path arquivo;
+  private volatile Indice indice;
+
+  public IndiceCepService(@Value("${cep.indice.arquivo:}") String arquivo) {
+    this.arquivo = arquivo.isBlank() ? null : Paths.get(arquivo);
+  }
+
+  @PostConstruct
+  public void carregar() {
+    if (arquivo == null) {
+      LOGGER.info("Índice local de CEPs não configurado; consultas usarão apenas a API remota");
+      return;
+    }
+    try {
+      if (!Files.isRegularFile(arquivo)) {
+        LOGGER.warn("Índice local de CEPs {} não encontrado; consultas usarão apenas a API remota", arquivo);
+        return;
+      }
+      indice = mapear(arquivo);
+      LOGGER.info("Índice local de CEPs carregado com {} CEP(s) de {}", indice.quantidade(), arquivo);
+    } catch (IOException | IllegalStateException ex) {
+      LOGGER.warn("Falha ao carregar o índice local de CEPs {}: {}", arquivo, ex.getMessage());
+    }
+  }
+
+  public boolean disponivel() {
+    return indice != null;
+  }
+
+  public Optional<CepResultado> buscar(CharSequence cep) {
+    Indice atual = indice;
+    int chave = converterCep(cep);
+    if (atual == null || chave < 0) {
+      return Optional.empty();
+    }
+
+    ByteBuffer buffer = atual.buffer();
+    int baixo = 0;
+    int alto = atual.quantidade() - 1;
+    while (baixo <= alto) {
+      int meio = (baixo + alto) >>> 1;
+      int posicao = atual.inicioEntradas() + meio * GeradorIndiceCep.TAMANHO_ENTRADA;
+      int encontrado = buffer.getInt(posicao);
+      if (encontrado < chave) {
+        baixo = meio + 1;
+      } else if (encontrado > chave) {
+        alto = meio - 1;
+      } else {
+        return Optional.of(ler(atual, chave, posicao));
+      }
+    }
+    return Optional.empty();
+  }
+
+  static int converterCep(CharSequence cep) {
+    if (cep == null) {
+      return -1;
+    }
+    int valor = 0;
+    int digitos = 0;
+    for (int i = 0; i < cep.length(); i++) {
+      char caractere = cep.charAt(i);
+      if (caractere >= '0' && caractere <= '9') {
+        if (++digitos > 8) {
+          return -1;
+        }
+        valor = valor * 10 + (caractere - '0');
+      }
+    }
+    return digitos == 8 ? valor : -1;
+  }
+
+  private static Indice mapear(Path arquivo) throws IOException {
+    ByteBuffer buffer;
+    try (FileChannel canal = FileChannel.open(arquivo, StandardOpenOption.READ)) {
+      buffer = canal.map(FileChannel.MapMode.READ_ONLY, 0, canal.size());
+    }
+    if (buffer.capacity() < GeradorIndiceCep.TAMANHO_CABECALHO || buffer.getInt(0) != GeradorIndiceCep.ASSINATURA) {
+      throw new IllegalStateException("arquivo não é um índice de CEPs");
+    }
+    if (buffer.getInt(4) != GeradorIndiceCep.VERSAO) {
+      throw new IllegalStateException("versão de índice não suportada: " + buffer.getInt(4));
+    }
+    int quantidade = buffer.getInt(8);
+    int localidades = buffer.getInt(12);
+    int inicioEntradas = GeradorIndiceCep.TAMANHO_CABECALHO + localidades * Integer.BYTES;
+    int inicioTextos = inicioEntradas + quantidade * GeradorIndiceCep.TAMANHO_ENTRADA;
+    if (quantidade < 0 || localidades < 0 || inicioTextos > buffer.capacity()) {
+      throw new IllegalStateException("índice de CEPs truncado");
+    }
+    return new Indice(buffer, quantidade, inicioEntradas, inicioTextos);
+  }
+
+  private static CepResultado ler(Indice indice, int cep, int posicaoEntrada) {
+    ByteBuffer buffer = indice.buffer();
+    int posicaoTexto = indice.inicioTextos() + buffer.getInt(posicaoEntrada + 4);
+    int localidade = buffer.getInt(posicaoEntrada + 8);
+    int posicaoLocalidade = indice.inicioTextos() +
+      buffer.getInt(GeradorIndiceCep.TAMANHO_CABECALHO + localidade * Integer.BYTES);
+
+    String[] texto = lerCampos(buffer, posicaoTexto, 2);
+    String[] local = lerCampos(buffer, posicaoLocalidade, 3);
+    return new CepResultado(
+      String.format("%08d", cep),
+      vazioParaNulo(texto[0]),
+      vazioParaNulo(texto[1]),
+      vazioParaNulo(local[0]),
+      vazioParaNulo(local[1]),
+      vazioParaNulo(local[2])
+    );
+  }
+
+  private static String[] lerCampos(ByteBuffer buffer, int posicao, int quantidade) {
+    String[] campos = new String[quantidade];
+    for (int i = 0; i < quantidade; i++) {
+      int tamanho = Short.toUnsignedInt(buffer.getShort(posicao));
+      byte[] bytes = new byte[tamanho];
+      buffer.get(posicao + Short.BYTES, bytes);
+      campos[i] = new String(bytes, StandardCharsets.UTF_8);
+      posicao += Short.BYTES + tamanho;
+    }
+    return campos;
+  }
+
+  private static String vazioParaNulo(String valor) {
+    return valor.isEmpty() ? null : valor;
+  }
+
+  private record Indice(ByteBuffer buffer, int quantidade, int inicioEntradas, int inicioTextos) {}
+}
@@ -0,0 +1,29 @@
+package com.gestorpolitico.service;
+
+import java.util.Arrays;
+
+final class JanelaLatencia {
+  private final long[] amostras;
+  private int proxima;
+  private int quantidade;
+
+  JanelaLatencia(int capacidade) {
+    this.amostras = new long[capacidade];
+  }
+
+  synchronized void registrar(long nanos) {
+    amostras[proxima] = nanos;
+    proxima = (proxima + 1) % amostras.length;
+    quantidade = Math.min(quantidade + 1, amostras.length);
+  }
+
+  synchronized long percentil(double percentil) {
+    if (quantidade == 0) {
+      return -1L;
+    }
+    long[] ordenadas = Arrays.copyOf(amostras, quantidade);
+    Arrays.sort(ordenadas);
+    int indice = (int) Math.ceil(percentil * quantidade) - 1;
+    return ordenadas[Math.max(0, Math.min(indice, quantidade - 1))];
+  }
+}
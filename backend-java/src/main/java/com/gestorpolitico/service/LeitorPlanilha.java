@@ -0,0 +1,36 @@
+package com.gestorpolitico.service;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+import java.util.Locale;
+
+interface LeitorPlanilha extends Closeable {
+  LinhaPlanilha proximaLinha() throws IOException;
+
+  static LeitorPlanilha abrir(String nomeArquivo, InputStream entrada) throws IOException {
+    String nome = nomeArquivo != null ? nomeArquivo.toLowerCase(Locale.ROOT) : "";
+    if (nome.endsWith(".xlsx")) {
+      return new LeitorPlanilhaXlsx(entrada);
+    }
+    if (nome.endsWith(".csv") || nome.endsWith(".txt")) {
+      return new LeitorPlanilhaCsv(entrada);
+    }
+    throw new IllegalArgumentException("Formato de arquivo não suportado. Envie uma planilha .csv ou .xlsx.");
+  }
+
+  record LinhaPlanilha(int numero, List<String> campos) {
+    String campo(int indice) {
+      if (indice < 0 || indice >= campos.size()) {
+        return null;
+      }
+      String valor = campos.get(indice);
+      return valor == null || valor.isBlank() ? null : valor.trim();
+    }
+
+    boolean vazia() {
+      return campos.stream().allMatch(valor -> valor == null || valor.isBlank());
+    }
+  }
+}
@@ -0,0 +1,74 @@
+package com.gestorpolitico.service;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+
+final class LeitorPlanilhaCsv implements LeitorPlanilha {
+  private static final char BOM = '\uFEFF';
+
+  private final BufferedReader leitor;
+  private Character separador;
+  private int numeroLinha;
+
+  LeitorPlanilhaCsv(InputStream entrada) {
+    this.leitor = new BufferedReader(new InputStreamReader(entrada, StandardCharsets.UTF_8));
+  }
+
+  @Override
+  public LinhaPlanilha proximaLinha() throws IOException {
+    String linha = leitor.readLine();
+    if (linha == null) {
+      return null;
+    }
+    numeroLinha++;
+    StringBuilder registro = new StringBuilder(linha);
+    while (aspasAbertas(registro)) {
+      String continuacao = leitor.readLine();
+      if (continuacao == null) {
+        break;
+      }
+      numeroLinha++;
+      registro.append('\n').append(continuacao);
+    }
+
+    if (separador == null) {
+      if (registro.length() > 0 && registro.charAt(0) == BOM) {
+        registro.deleteCharAt(0);
+      }
+      separador = detectarSeparador(registro);
+    }
+    return new LinhaPlanilha(numeroLinha, CamposCsv.dividir(registro.toString(), separador));
+  }
+
+  @Override
+  public void close() throws IOException {
+    leitor.close();
+  }
+
+  private static char detectarSeparador(CharSequence cabecalho) {
+    int pontoEVirgula = 0;
+    int virgula = 0;
+    for (int i = 0; i < cabecalho.length(); i++) {
+      char caractere = cabecalho.charAt(i);
+      if (caractere == ';') {
+        pontoEVirgula++;
+      } else if (caractere == ',') {
+        virgula++;
+      }
+    }
+    return pontoEVirgula >= virgula ? ';' : ',';
+  }
+
+  private static boolean aspasAbertas(CharSequence registro) {
+    boolean aberta = false;
+    for (int i = 0; i < registro.length(); i++) {
+      if (registro.charAt(i) == '"') {
+        aberta = !aberta;
+      }
+    }
+    return aberta;
+  }
+}
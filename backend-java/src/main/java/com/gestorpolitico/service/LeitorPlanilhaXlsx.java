@@ -0,0 +1,224 @@
+package com.gestorpolitico.service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+
+final class LeitorPlanilhaXlsx implements LeitorPlanilha {
+  private static final String PLANILHA_PADRAO = "xl/worksheets/sheet1.xml";
+  private static final String TEXTOS_COMPARTILHADOS = "xl/sharedStrings.xml";
+  private static final XMLInputFactory FABRICA_XML = criarFabricaXml();
+
+  private final Path temporario;
+  private final ZipFile zip;
+  private final InputStream planilha;
+  private final XMLStreamReader xml;
+  private final List<String> textosCompartilhados;
+
+  LeitorPlanilhaXlsx(InputStream entrada) throws IOException {
+    this.temporario = Files.createTempFile("importacao", ".xlsx");
+    try {
+      Files.copy(entrada, temporario, StandardCopyOption.REPLACE_EXISTING);
+      this.zip = new ZipFile(temporario.toFile());
+    } catch (IOException ex) {
+      Files.deleteIfExists(temporario);
+      throw new IOException("Arquivo .xlsx inválido.", ex);
+    }
+
+    try {
+      this.textosCompartilhados = lerTextosCompartilhados(zip);
+      ZipEntry aba = localizarPlanilha(zip);
+      this.planilha = zip.getInputStream(aba);
+      this.xml = FABRICA_XML.createXMLStreamReader(planilha);
+    } catch (IOException | XMLStreamException ex) {
+      fechar();
+      throw ex instanceof IOException io ? io : new IOException("Arquivo .xlsx inválido.", ex);
+    }
+  }
+
+  @Override
+  public LinhaPlanilha proximaLinha() throws IOException {
+    try {
+      while (xml.hasNext()) {
+        if (xml.next() == XMLStreamConstants.START_ELEMENT && "row".equals(xml.getLocalName())) {
+          return lerLinha();
+        }
+      }
+      return null;
+    } catch (XMLStreamException ex) {
+      throw new IOException("Falha ao ler a planilha .xlsx.", ex);
+    }
+  }
+
+  @Override
+  public void close() throws IOException {
+    try {
+      xml.close();
+    } catch (XMLStreamException ex) {
+      throw new IOException(ex);
+    } finally {
+      fechar();
+    }
+  }
+
+  private LinhaPlanilha lerLinha() throws XMLStreamException {
+    String atributoLinha = xml.getAttributeValue(null, "r");
+    int numero = atributoLinha != null ? Integer.parseInt(atributoLinha) : xml.getLocation().getLineNumber();
+    List<String> campos = new ArrayList<>();
+
+    while (xml.hasNext()) {
+      int evento = xml.next();
+      if (evento == XMLStreamConstants.END_ELEMENT && "row".equals(xml.getLocalName())) {
+        break;
+      }
+      if (evento == XMLStreamConstants.START_ELEMENT && "c".equals(xml.getLocalName())) {
+        String referencia = xml.getAttributeValue(null, "r");
+        int coluna = referencia != null ? converterColuna(referencia) : campos.size();
+        String tipo = xml.getAttributeValue(null, "t");
+        String valor = lerCelula(tipo);
+        while (campos.size() < coluna) {
+          campos.add(null);
+        }
+        campos.add(valor);
+      }
+    }
+    return new LinhaPlanilha(numero, campos);
+  }
+
+  private String lerCelula(String tipo) throws XMLStreamException {
+    StringBuilder valor = new StringBuilder();
+    boolean possuiValor = false;
+    while (xml.hasNext()) {
+      int evento = xml.next();
+      if (evento == XMLStreamConstants.END_ELEMENT && "c".equals(xml.getLocalName())) {
+        break;
+      }
+      if (evento == XMLStreamConstants.START_ELEMENT && ("v".equals(xml.getLocalName()) || "t".equals(xml.getLocalName()))) {
+        valor.append(xml.getElementText());
+        possuiValor = true;
+      }
+    }
+    if (!possuiValor) {
+      return null;
+    }
+
+    String texto = valor.toString();
+    if ("s".equals(tipo)) {
+      int indice = Integer.parseInt(texto.trim());
+      return indice >= 0 && indice < textosCompartilhados.size() ? textosCompartilhados.get(indice) : null;
+    }
+    if ("b".equals(tipo)) {
+      return "1".equals(texto.trim()) ? "sim" : "não";
+    }
+    if (tipo == null || "n".equals(tipo)) {
+      return normalizarNumero(texto);
+    }
+    return texto;
+  }
+
+  static String normalizarNumero(String texto) {
+    try {
+      BigDecimal numero = new BigDecimal(texto.trim()).stripTrailingZeros();
+      return numero.scale() < 0 ? numero.setScale(0).toPlainString() : numero.toPlainString();
+    } catch (NumberFormatException ex) {
+      return texto;
+    }
+  }
+
+  static int converterColuna(String referencia) {
+    int coluna = 0;
+    for (int i = 0; i < referencia.length(); i++) {
+      char caractere = referencia.charAt(i);
+      if (caractere < 'A' || caractere > 'Z') {
+        break;
+      }
+      coluna = coluna * 26 + (caractere - 'A' + 1);
+    }
+    return coluna - 1;
+  }
+
+  private static ZipEntry localizarPlanilha(ZipFile zip) throws IOException {
+    ZipEntry padrao = zip.getEntry(PLANILHA_PADRAO);
+    if (padrao != null) {
+      return padrao;
+    }
+    return zip
+      .stream()
+      .filter(entrada -> entrada.getName().startsWith("xl/worksheets/") && entrada.getName().endsWith(".xml"))
+      .min(Comparator.comparing(ZipEntry::getName))
+      .orElseThrow(() -> new IOException("A planilha .xlsx não possui abas."));
+  }
+
+  private static List<String> lerTextosCompartilhados(ZipFile zip) throws IOException, XMLStreamException {
+    ZipEntry entrada = zip.getEntry(TEXTOS_COMPARTILHADOS);
+    List<String> textos = new ArrayList<>();
+    if (entrada == null) {
+      return textos;
+    }
+
+    try (InputStream conteudo = zip.getInputStream(entrada)) {
+      XMLStreamReader leitor = FABRICA_XML.createXMLStreamReader(conteudo);
+      StringBuilder atual = null;
+      while (leitor.hasNext()) {
+        int evento = leitor.next();
+        if (evento == XMLStreamConstants.START_ELEMENT) {
+          String nome = leitor.getLocalName();
+          if ("si".equals(nome)) {
+            atual = new StringBuilder();
+          } else if ("t".equals(nome) && atual != null) {
+            atual.append(leitor.getElementText());
+          } else if ("rPh".equals(nome)) {
+            pularElemento(leitor);
+          }
+        } else if (evento == XMLStreamConstants.END_ELEMENT && "si".equals(leitor.getLocalName()) && atual != null) {
+          textos.add(atual.toString());
+          atual = null;
+        }
+      }
+      leitor.close();
+    }
+    return textos;
+  }
+
+  private static void pularElemento(XMLStreamReader leitor) throws XMLStreamException {
+    int profundidade = 1;
+    while (profundidade > 0 && leitor.hasNext()) {
+      int evento = leitor.next();
+      if (evento == XMLStreamConstants.START_ELEMENT) {
+        profundidade++;
+      } else if (evento == XMLStreamConstants.END_ELEMENT) {
+        profundidade--;
+      }
+    }
+  }
+
+  private void fechar() throws IOException {
+    try {
+      if (planilha != null) {
+        planilha.close();
+      }
+      zip.close();
+    } finally {
+      Files.deleteIfExists(temporario);
+    }
+  }
+
+  private static XMLInputFactory criarFabricaXml() {
+    XMLInputFactory fabrica = XMLInputFactory.newFactory();
+    fabrica.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+    fabrica.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+    return fabrica;
+  }
+}
@@ -22,6 +22,7 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 import java.util.stream.Collectors;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.web.server.ResponseStatusException;
@@ -32,17 +33,23 @@ public class LocalidadeService {
   private final BairroRepository bairroRepository;
   private final RegiaoRepository regiaoRepository;
   private final FamiliaRepository familiaRepository;
+  private final ContadorFamiliaService contadorFamiliaService;
+  private final ApplicationEventPublisher eventPublisher;
 
   public LocalidadeService(
     CidadeRepository cidadeRepository,
     BairroRepository bairroRepository,
     RegiaoRepository regiaoRepository,
-    FamiliaRepository familiaRepository
+    FamiliaRepository familiaRepository,
+    ContadorFamiliaService contadorFamiliaService,
+    ApplicationEventPublisher eventPublisher
   ) {
     this.cidadeRepository = cidadeRepository;
     this.bairroRepository = bairroRepository;
     this.regiaoRepository = regiaoRepository;
     this.familiaRepository = familiaRepository;
+    this.contadorFamiliaService = contadorFamiliaService;
+    this.eventPublisher = eventPublisher;
   }
 
   public List<CidadeResponseDTO> listarCidades() {
@@ -144,7 +151,7 @@ public class LocalidadeService {
       if (!Objects.equals(bairro.getCidade().getId(), regiao.getCidade().getId())) {
         throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Bairro não pertence à mesma cidade da região");
       }
-      bairro.setRegiao(regiao.getNome());
+      alterarRegiao(bairro, regiao.getNome());
     }
     bairroRepository.saveAll(bairros);
   }
@@ -168,7 +175,7 @@ public class LocalidadeService {
         .findById(dto.getRegiaoId())
         .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Região não encontrada"));
       for (Bairro bairro : bairros) {
-        bairro.setRegiao(regiao.getNome());
+        alterarRegiao(bairro, regiao.getNome());
       }
     } else if (dto.getNomeRegiaoLivre() != null && !dto.getNomeRegiaoLivre().isBlank()) {
       String nomeRegiao = dto.getNomeRegiaoLivre().trim();
@@ -181,11 +188,11 @@ public class LocalidadeService {
           return regiaoRepository.save(nova);
         });
       for (Bairro bairro : bairros) {
-        bairro.setRegiao(nomeRegiao);
+        alterarRegiao(bairro, nomeRegiao);
       }
     } else {
       for (Bairro bairro : bairros) {
-        bairro.setRegiao(null);
+        alterarRegiao(bairro, null);
       }
     }
 
@@ -224,9 +231,22 @@ public class LocalidadeService {
         endereco.setBairro(principal);
       }
       familia.setBairro(principal.getNome());
+      familia.atualizarDocumentoBusca();
     }
     familiaRepository.saveAll(familias);
+    contadorFamiliaService.registrarUnificacao(principal, duplicados);
+    eventPublisher.publishEvent(
+      LocalizacaoFamiliasAlteradaEvent.deEnderecos(familias.stream().map(Familia::getEnderecoDetalhado).toList())
+    );
 
     bairroRepository.deleteAll(duplicados);
+    eventPublisher.publishEvent(BairrosAlteradosEvent.deBairro(principal));
+  }
+
+  private void alterarRegiao(Bairro bairro, String regiao) {
+    String regiaoAnterior = bairro.getRegiao();
+    bairro.setRegiao(regiao);
+    contadorFamiliaService.registrarMudancaRegiao(bairro, regiaoAnterior);
+    eventPublisher.publishEvent(LocalizacaoFamiliasAlteradaEvent.deCidades(bairro.getCidade().getId()));
   }
 }
@@ -0,0 +1,37 @@
+package com.gestorpolitico.service;
+
+import com.gestorpolitico.entity.Endereco;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+public record LocalizacaoFamiliasAlteradaEvent(Set<Long> cidadesIds, Set<Coordenada> coordenadas) {
+  public static LocalizacaoFamiliasAlteradaEvent deCidades(Long... cidadesIds) {
+    return new LocalizacaoFamiliasAlteradaEvent(
+      Stream.of(cidadesIds).filter(Objects::nonNull).collect(Collectors.toUnmodifiableSet()),
+      Set.of()
+    );
+  }
+
+  public static LocalizacaoFamiliasAlteradaEvent deEnderecos(Collection<Endereco> enderecos) {
+    Set<Long> cidadesIds = new HashSet<>();
+    Set<Coordenada> coordenadas = new HashSet<>();
+    for (Endereco endereco : enderecos) {
+      if (endereco == null) {
+        continue;
+      }
+      if (endereco.getCidade() != null && endereco.getCidade().getId() != null) {
+        cidadesIds.add(endereco.getCidade().getId());
+      }
+      if (endereco.getLatitude() != null && endereco.getLongitude() != null) {
+        coordenadas.add(new Coordenada(endereco.getLatitude().doubleValue(), endereco.getLongitude().doubleValue()));
+      }
+    }
+    return new LocalizacaoFamiliasAlteradaEvent(Set.copyOf(cidadesIds), Set.copyOf(coordenadas));
+  }
+
+  public record Coordenada(double latitude, double longitude) {}
+}
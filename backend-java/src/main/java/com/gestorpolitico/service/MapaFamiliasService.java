@@ -0,0 +1,131 @@
+package com.gestorpolitico.service;
+
+import com.gestorpolitico.dto.ClusterMapaDTO;
+import com.gestorpolitico.dto.ClustersMapaResponseDTO;
+import com.gestorpolitico.dto.FamiliaFiltroRequestDTO;
+import com.gestorpolitico.dto.PontosMapaResponseDTO;
+import com.gestorpolitico.entity.NomeNormalizador;
+import com.gestorpolitico.repository.FamiliaMapaRepository.PontoMapaFamilia;
+import com.gestorpolitico.repository.FamiliaRepository;
+import com.gestorpolitico.service.AgrupadorPontosMapa.LimitesMapa;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+@Service
+public class MapaFamiliasService {
+  private static final double PESO_PADRAO = 0.5;
+  private static final Map<String, Double> PESOS_PROBABILIDADE = Map.of("ALTA", 1.0, "MEDIA", 0.6, "BAIXA", 0.3);
+  private static final Duration VALIDADE_AGRUPADOR = Duration.ofMinutes(10);
+  private static final int TAMANHO_MAXIMO_AGRUPADORES = 100;
+
+  private final FamiliaRepository familiaRepository;
+  private final Cache<ChaveAgrupador, AgrupadorPontosMapa> agrupadores = Caffeine
+    .newBuilder()
+    .maximumSize(TAMANHO_MAXIMO_AGRUPADORES)
+    .expireAfterWrite(VALIDADE_AGRUPADOR)
+    .build();
+  private final AtomicLong geracao = new AtomicLong();
+
+  public MapaFamiliasService(FamiliaRepository familiaRepository) {
+    this.familiaRepository = familiaRepository;
+  }
+
+  @Transactional(readOnly = true)
+  public PontosMapaResponseDTO buscarPontos(FamiliaFiltroRequestDTO filtro) {
+    return buscarPontos(filtro, null, null, null, null);
+  }
+
+  @Transactional(readOnly = true)
+  public PontosMapaResponseDTO buscarPontos(
+    FamiliaFiltroRequestDTO filtro,
+    Double oeste,
+    Double sul,
+    Double leste,
+    Double norte
+  ) {
+    List<PontoMapaFamilia> pontos = oeste != null && sul != null && leste != null && norte != null
+      ? familiaRepository.buscarPontosNaArea(filtro, oeste, sul, leste, norte)
+      : familiaRepository.buscarPontosMapa(filtro);
+    int total = pontos.size();
+    long[] ids = new long[total];
+    double[] latitudes = new double[total];
+    double[] longitudes = new double[total];
+    double[] pesos = new double[total];
+    for (int i = 0; i < total; i++) {
+      PontoMapaFamilia ponto = pontos.get(i);
+      ids[i] = ponto.id();
+      latitudes[i] = ponto.latitude().doubleValue();
+      longitudes[i] = ponto.longitude().doubleValue();
+      pesos[i] = calcularPeso(ponto.probabilidadeVoto());
+    }
+    return new PontosMapaResponseDTO(ids, latitudes, longitudes, pesos);
+  }
+
+  @Transactional(readOnly = true)
+  public ClustersMapaResponseDTO buscarClusters(
+    Long cidadeId,
+    String regiao,
+    int zoom,
+    Double oeste,
+    Double sul,
+    Double leste,
+    Double norte
+  ) {
+    int zoomAjustado = Math.min(Math.max(zoom, 0), AgrupadorPontosMapa.ZOOM_MAXIMO);
+    LimitesMapa limites = oeste != null && sul != null && leste != null && norte != null
+      ? new LimitesMapa(oeste, sul, leste, norte)
+      : null;
+    List<ClusterMapaDTO> clusters = obterAgrupador(cidadeId, regiao).agrupar(zoomAjustado, limites);
+    int totalPontos = clusters.stream().mapToInt(ClusterMapaDTO::getQuantidade).sum();
+    return new ClustersMapaResponseDTO(zoomAjustado, totalPontos, clusters);
+  }
+
+  @Order(0)
+  @TransactionalEventListener(fallbackExecution = true)
+  public void aoAlterarLocalizacao(LocalizacaoFamiliasAlteradaEvent evento) {
+    geracao.incrementAndGet();
+    agrupadores
+      .asMap()
+      .keySet()
+      .removeIf(chave -> chave.cidadeId() == null || evento.cidadesIds().contains(chave.cidadeId()));
+  }
+
+  AgrupadorPontosMapa obterAgrupador(Long cidadeId, String regiao) {
+    String regiaoNormalizada = regiao == null || regiao.isBlank() ? null : NomeNormalizador.normalizar(regiao);
+    ChaveAgrupador chave = new ChaveAgrupador(cidadeId, regiaoNormalizada);
+    AgrupadorPontosMapa emCache = agrupadores.getIfPresent(chave);
+    if (emCache != null) {
+      return emCache;
+    }
+
+    long geracaoInicial = geracao.get();
+    FamiliaFiltroRequestDTO filtro = new FamiliaFiltroRequestDTO();
+    filtro.setCidadeId(cidadeId);
+    filtro.setRegiao(regiao);
+    AgrupadorPontosMapa agrupador = new AgrupadorPontosMapa(familiaRepository.buscarPontosMapa(filtro));
+    if (geracao.get() == geracaoInicial) {
+      agrupadores.put(chave, agrupador);
+      if (geracao.get() != geracaoInicial) {
+        agrupadores.asMap().remove(chave, agrupador);
+      }
+    }
+    return agrupador;
+  }
+
+  static double calcularPeso(String probabilidadeVoto) {
+    if (probabilidadeVoto == null) {
+      return PESO_PADRAO;
+    }
+    return PESOS_PROBABILIDADE.getOrDefault(NomeNormalizador.normalizarComCache(probabilidadeVoto), PESO_PADRAO);
+  }
+
+  private record ChaveAgrupador(Long cidadeId, String regiao) {}
+}
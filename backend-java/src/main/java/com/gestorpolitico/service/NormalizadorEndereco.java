@@ -0,0 +1,149 @@
+package com.gestorpolitico.service;
+
+import com.gestorpolitico.entity.NomeNormalizador;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+final class NormalizadorEndereco {
+  private static final Map<String, String> ESTADOS_POR_SIGLA =
+    Map.ofEntries(
+      Map.entry("AC", "Acre"),
+      Map.entry("AL", "Alagoas"),
+      Map.entry("AP", "Amapa"),
+      Map.entry("AM", "Amazonas"),
+      Map.entry("BA", "Bahia"),
+      Map.entry("CE", "Ceara"),
+      Map.entry("DF", "Distrito Federal"),
+      Map.entry("ES", "Espirito Santo"),
+      Map.entry("GO", "Goias"),
+      Map.entry("MA", "Maranhao"),
+      Map.entry("MT", "Mato Grosso"),
+      Map.entry("MS", "Mato Grosso do Sul"),
+      Map.entry("MG", "Minas Gerais"),
+      Map.entry("PA", "Para"),
+      Map.entry("PB", "Paraiba"),
+      Map.entry("PR", "Parana"),
+      Map.entry("PE", "Pernambuco"),
+      Map.entry("PI", "Piaui"),
+      Map.entry("RJ", "Rio de Janeiro"),
+      Map.entry("RN", "Rio Grande do Norte"),
+      Map.entry("RS", "Rio Grande do Sul"),
+      Map.entry("RO", "Rondonia"),
+      Map.entry("RR", "Roraima"),
+      Map.entry("SC", "Santa Catarina"),
+      Map.entry("SP", "Sao Paulo"),
+      Map.entry("SE", "Sergipe"),
+      Map.entry("TO", "Tocantins")
+    );
+
+  private NormalizadorEndereco() {}
+
+  static EnderecoNormalizado normalizar(String endereco) {
+    List<Token> tokens = tokenizar(NomeNormalizador.removerAcentos(endereco));
+    StringBuilder consulta = new StringBuilder(endereco.length() + 16);
+    for (int i = 0; i < tokens.size(); i++) {
+      Token token = tokens.get(i);
+      String semPontuacaoFinal = removerPontuacaoFinal(token.texto());
+
+      if ("CEP".equalsIgnoreCase(semPontuacaoFinal)) {
+        int fimCep = consumirCep(tokens, i + 1);
+        if (fimCep > i + 1) {
+          i = fimCep - 1;
+          continue;
+        }
+      }
+      if (semPontuacaoFinal.regionMatches(true, 0, "CEP", 0, 3) && ehDigitos(semPontuacaoFinal, 3, 8)) {
+        continue;
+      }
+      int fimCep = consumirCep(tokens, i);
+      if (fimCep > i) {
+        i = fimCep - 1;
+        continue;
+      }
+
+      if (consulta.length() > 0) {
+        consulta.append(' ');
+      }
+      String estado = semPontuacaoFinal.length() == 2
+        ? ESTADOS_POR_SIGLA.get(semPontuacaoFinal.toUpperCase(Locale.ROOT))
+        : null;
+      consulta.append(estado != null ? estado : token.texto());
+    }
+    String texto = consulta.toString();
+    return new EnderecoNormalizado(texto, texto.toUpperCase(Locale.ROOT));
+  }
+
+  private static List<Token> tokenizar(String endereco) {
+    List<Token> tokens = new ArrayList<>();
+    int inicio = -1;
+    for (int i = 0; i <= endereco.length(); i++) {
+      char caractere = i < endereco.length() ? endereco.charAt(i) : ' ';
+      if (!ehSeparador(caractere)) {
+        if (inicio < 0) {
+          inicio = i;
+        }
+        continue;
+      }
+      if (inicio >= 0) {
+        tokens.add(new Token(endereco.substring(inicio, i), caractere == '-'));
+        inicio = -1;
+      }
+    }
+    return tokens;
+  }
+
+  private static int consumirCep(List<Token> tokens, int indice) {
+    if (indice >= tokens.size()) {
+      return indice;
+    }
+    Token token = tokens.get(indice);
+    String texto = removerPontuacaoFinal(token.texto());
+    if (ehDigitos(texto, 0, 8)) {
+      return indice + 1;
+    }
+    if (ehDigitos(token.texto(), 0, 5) && token.seguidoDeHifen() && indice + 1 < tokens.size()) {
+      String sufixo = removerPontuacaoFinal(tokens.get(indice + 1).texto());
+      if (ehDigitos(sufixo, 0, 3)) {
+        return indice + 2;
+      }
+    }
+    return indice;
+  }
+
+  private static boolean ehDigitos(String texto, int inicio, int quantidade) {
+    if (texto.length() != inicio + quantidade) {
+      return false;
+    }
+    for (int i = inicio; i < texto.length(); i++) {
+      char caractere = texto.charAt(i);
+      if (caractere < '0' || caractere > '9') {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private static String removerPontuacaoFinal(String texto) {
+    int fim = texto.length();
+    while (fim > 0 && (texto.charAt(fim - 1) == '.' || texto.charAt(fim - 1) == ':')) {
+      fim--;
+    }
+    return fim == texto.length() ? texto : texto.substring(0, fim);
+  }
+
+  private static boolean ehSeparador(char caractere) {
+    return Character.isWhitespace(caractere)
+      || caractere == ','
+      || caractere == ';'
+      || caractere == '-'
+      || caractere == '/'
+      || caractere == '('
+      || caractere == ')';
+  }
+
+  record EnderecoNormalizado(String consulta, String chave) {}
+
+  private record Token(String texto, boolean seguidoDeHifen) {}
+}
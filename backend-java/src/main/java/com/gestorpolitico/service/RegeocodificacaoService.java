@@ -0,0 +1,320 @@
+package com.gestorpolitico.service;
+
+import com.gestorpolitico.dto.ProgressoRegeocodificacaoDTO;
+import com.gestorpolitico.entity.Endereco;
+import com.gestorpolitico.entity.ExecucaoRegeocodificacao;
+import com.gestorpolitico.enums.StatusGeocodificacao;
+import com.gestorpolitico.enums.StatusRegeocodificacao;
+import com.gestorpolitico.repository.EnderecoRepository;
+import com.gestorpolitico.repository.ExecucaoRegeocodificacaoRepository;
+import com.gestorpolitico.service.GeocodingService.Coordenada;
+import com.gestorpolitico.service.GeocodingService.FalhaGeocodificacaoException;
+import jakarta.annotation.PreDestroy;
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.server.ResponseStatusException;
+
+@Service
+public class RegeocodificacaoService {
+  private static final Logger LOGGER = LoggerFactory.getLogger(RegeocodificacaoService.class);
+  private static final int TAMANHO_LOTE = 50;
+  private static final int MAXIMO_TENTATIVAS = 3;
+  private static final Duration ESPERA_FILA_INTERATIVA = Duration.ofSeconds(5);
+  private static final Duration ESPERA_FALHA = Duration.ofMinutes(1);
+  static final Set<String> PRECISOES_BAIXAS = Set.of(
+    "administrative",
+    "country",
+    "state",
+    "region",
+    "county",
+    "municipality",
+    "city",
+    "town",
+    "village",
+    "postcode",
+    "suburb",
+    "quarter",
+    "neighbourhood"
+  );
+
+  private final EnderecoRepository enderecoRepository;
+  private final ExecucaoRegeocodificacaoRepository execucaoRepository;
+  private final GeocodingService geocodingService;
+  private final TransactionTemplate transactionTemplate;
+  private final ApplicationEventPublisher eventPublisher;
+  private final Duration intervalo;
+  private final ExecutorService executor = Executors.newSingleThreadExecutor(tarefa -> {
+    Thread thread = new Thread(tarefa, "regeocodificacao");
+    thread.setDaemon(true);
+    return thread;
+  });
+
+  public RegeocodificacaoService(
+    EnderecoRepository enderecoRepository,
+    ExecucaoRegeocodificacaoRepository execucaoRepository,
+    GeocodingService geocodingService,
+    PlatformTransactionManager transactionManager,
+    ApplicationEventPublisher eventPublisher,
+    @Value("${geocodificacao.regeocodificacao.intervalo:PT2S}") Duration intervalo
+  ) {
+    this.enderecoRepository = enderecoRepository;
+    this.execucaoRepository = execucaoRepository;
+    this.geocodingService = geocodingService;
+    this.transactionTemplate = new TransactionTemplate(transactionManager);
+    this.eventPublisher = eventPublisher;
+    this.intervalo = intervalo;
+  }
+
+  public synchronized ProgressoRegeocodificacaoDTO iniciar() {
+    if (execucaoRepository.findFirstByStatusOrderByIdDesc(StatusRegeocodificacao.EM_ANDAMENTO).isPresent()) {
+      throw new ResponseStatusException(HttpStatus.CONFLICT, "Já existe uma regeocodificação em andamento.");
+    }
+
+    OffsetDateTime agora = OffsetDateTime.now();
+    ExecucaoRegeocodificacao execucao = new ExecucaoRegeocodificacao();
+    execucao.setStatus(StatusRegeocodificacao.EM_ANDAMENTO);
+    execucao.setTotal(enderecoRepository.contarParaRegeocodificacao(0L, PRECISOES_BAIXAS));
+    execucao.setIniciadoEm(agora);
+    execucao.setAtualizadoEm(agora);
+    execucao = execucaoRepository.save(execucao);
+
+    LOGGER.info("Regeocodificação {} iniciada com {} endereço(s) candidato(s)", execucao.getId(), execucao.getTotal());
+    agendar(execucao.getId());
+    return converter(execucao);
+  }
+
+  public ProgressoRegeocodificacaoDTO buscarProgresso() {
+    return execucaoRepository
+      .findFirstByOrderByIdDesc()
+      .map(this::converter)
+      .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Nenhuma regeocodificação executada."));
+  }
+
+  public synchronized ProgressoRegeocodificacaoDTO cancelar() {
+    ExecucaoRegeocodificacao execucao = execucaoRepository
+      .findFirstByStatusOrderByIdDesc(StatusRegeocodificacao.EM_ANDAMENTO)
+      .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Nenhuma regeocodificação em andamento."));
+    execucaoRepository.finalizar(execucao.getId(), StatusRegeocodificacao.CANCELADA, OffsetDateTime.now());
+    return execucaoRepository.findById(execucao.getId()).map(this::converter).orElseThrow();
+  }
+
+  @EventListener(ApplicationReadyEvent.class)
+  public void retomar() {
+    try {
+      execucaoRepository
+        .findFirstByStatusOrderByIdDesc(StatusRegeocodificacao.EM_ANDAMENTO)
+        .ifPresent(execucao -> {
+          LOGGER.info(
+            "Retomando regeocodificação {} após o endereço {}",
+            execucao.getId(),
+            execucao.getUltimoEnderecoId()
+          );
+          agendar(execucao.getId());
+        });
+    } catch (DataAccessException ex) {
+      LOGGER.warn("Falha ao retomar a regeocodificação pendente: {}", ex.getMessage());
+    }
+  }
+
+  @PreDestroy
+  public void encerrar() {
+    executor.shutdownNow();
+  }
+
+  void executar(Long execucaoId) {
+    try {
+      processar(execucaoId);
+    } catch (InterruptedException ex) {
+      Thread.currentThread().interrupt();
+      LOGGER.info("Regeocodificação {} interrompida; será retomada do último ponto salvo", execucaoId);
+    }
+  }
+
+  private void agendar(Long execucaoId) {
+    executor.execute(() -> {
+      try {
+        executar(execucaoId);
+      } catch (RuntimeException ex) {
+        LOGGER.error("Falha na regeocodificação {}", execucaoId, ex);
+      }
+    });
+  }
+
+  private void processar(Long execucaoId) throws InterruptedException {
+    while (true) {
+      ExecucaoRegeocodificacao execucao = execucaoRepository.findById(execucaoId).orElse(null);
+      if (execucao == null || execucao.getStatus() != StatusRegeocodificacao.EM_ANDAMENTO) {
+        return;
+      }
+
+      long aposId = execucao.getUltimoEnderecoId();
+      List<Endereco> lote = transactionTemplate.execute(
+        status -> enderecoRepository.buscarParaRegeocodificacao(aposId, PRECISOES_BAIXAS, PageRequest.of(0, TAMANHO_LOTE))
+      );
+      if (lote == null || lote.isEmpty()) {
+        execucaoRepository.finalizar(execucaoId, StatusRegeocodificacao.CONCLUIDA, OffsetDateTime.now());
+        LOGGER.info("Regeocodificação {} concluída", execucaoId);
+        return;
+      }
+
+      for (Endereco endereco : lote) {
+        aguardarVez();
+        Long enderecoId = endereco.getId();
+        String enderecoCompleto = endereco.getEnderecoGeocodificacao();
+        ResultadoConsulta resultado = consultar(enderecoCompleto);
+        Boolean continuar = transactionTemplate.execute(
+          status -> registrarResultado(status, execucaoId, enderecoId, enderecoCompleto, resultado)
+        );
+        if (!Boolean.TRUE.equals(continuar)) {
+          LOGGER.info("Regeocodificação {} encerrada antes do fim", execucaoId);
+          return;
+        }
+      }
+    }
+  }
+
+  private void aguardarVez() throws InterruptedException {
+    while (enderecoRepository.contarPendentesGeocodificacao(OffsetDateTime.now()) > 0) {
+      Thread.sleep(ESPERA_FILA_INTERATIVA.toMillis());
+    }
+    Thread.sleep(intervalo.toMillis());
+  }
+
+  private ResultadoConsulta consultar(String enderecoCompleto) throws InterruptedException {
+    for (int tentativa = 1;; tentativa++) {
+      try {
+        return new ResultadoConsulta(geocodingService.regeocodificar(enderecoCompleto).orElse(null), false);
+      } catch (FalhaGeocodificacaoException ex) {
+        if (tentativa >= MAXIMO_TENTATIVAS) {
+          return new ResultadoConsulta(null, true);
+        }
+        LOGGER.warn("Provedor de geocodificação indisponível; regeocodificação aguardando: {}", ex.getMessage());
+        Thread.sleep(ESPERA_FALHA.multipliedBy(tentativa).toMillis());
+      }
+    }
+  }
+
+  private boolean registrarResultado(
+    TransactionStatus status,
+    Long execucaoId,
+    Long enderecoId,
+    String enderecoCompleto,
+    ResultadoConsulta resultado
+  ) {
+    Situacao situacao = aplicarResultado(enderecoRepository.findById(enderecoId).orElse(null), enderecoCompleto, resultado);
+    int registrados = execucaoRepository.registrarProgresso(
+      execucaoId,
+      enderecoId,
+      situacao == Situacao.ATUALIZADO ? 1 : 0,
+      situacao == Situacao.SEM_RESULTADO ? 1 : 0,
+      situacao == Situacao.FALHA ? 1 : 0,
+      OffsetDateTime.now()
+    );
+    if (registrados == 0) {
+      status.setRollbackOnly();
+      return false;
+    }
+    return true;
+  }
+
+  private Situacao aplicarResultado(Endereco endereco, String enderecoCompleto, ResultadoConsulta resultado) {
+    if (
+      endereco == null
+        || endereco.getStatusGeocodificacao() == StatusGeocodificacao.PENDENTE
+        || !Objects.equals(endereco.getEnderecoGeocodificacao(), enderecoCompleto)
+    ) {
+      return Situacao.IGNORADO;
+    }
+    if (resultado.falhaTemporaria()) {
+      return Situacao.FALHA;
+    }
+
+    boolean semCoordenadas = endereco.getLatitude() == null || endereco.getLongitude() == null;
+    Coordenada coordenada = resultado.coordenada();
+    if (coordenada == null || coordenada.latitude() == null || coordenada.longitude() == null) {
+      if (semCoordenadas) {
+        endereco.setStatusGeocodificacao(StatusGeocodificacao.NAO_ENCONTRADO);
+      }
+      return Situacao.SEM_RESULTADO;
+    }
+    if (!semCoordenadas && precisaoBaixa(coordenada.precisao())) {
+      return Situacao.SEM_RESULTADO;
+    }
+
+    LocalizacaoFamiliasAlteradaEvent anterior = LocalizacaoFamiliasAlteradaEvent.deEnderecos(List.of(endereco));
+    endereco.setLatitude(BigDecimal.valueOf(coordenada.latitude()));
+    endereco.setLongitude(BigDecimal.valueOf(coordenada.longitude()));
+    endereco.setPrecisaoGeocodificacao(coordenada.precisao());
+    endereco.setStatusGeocodificacao(StatusGeocodificacao.CONCLUIDO);
+    endereco.setProximaGeocodificacao(null);
+    LocalizacaoFamiliasAlteradaEvent atual = LocalizacaoFamiliasAlteradaEvent.deEnderecos(List.of(endereco));
+
+    Set<LocalizacaoFamiliasAlteradaEvent.Coordenada> coordenadas = new HashSet<>(anterior.coordenadas());
+    coordenadas.addAll(atual.coordenadas());
+    eventPublisher.publishEvent(new LocalizacaoFamiliasAlteradaEvent(atual.cidadesIds(), Set.copyOf(coordenadas)));
+    return Situacao.ATUALIZADO;
+  }
+
+  private ProgressoRegeocodificacaoDTO converter(ExecucaoRegeocodificacao execucao) {
+    ProgressoRegeocodificacaoDTO dto = new ProgressoRegeocodificacaoDTO();
+    dto.setId(execucao.getId());
+    dto.setStatus(execucao.getStatus());
+    dto.setTotal(execucao.getTotal());
+    dto.setProcessados(execucao.getProcessados());
+    dto.setAtualizados(execucao.getAtualizados());
+    dto.setSemResultado(execucao.getSemResultado());
+    dto.setFalhas(execucao.getFalhas());
+    dto.setIniciadoEm(execucao.getIniciadoEm());
+    dto.setAtualizadoEm(execucao.getAtualizadoEm());
+    dto.setConcluidoEm(execucao.getConcluidoEm());
+
+    long total = Math.max(execucao.getTotal(), execucao.getProcessados());
+    dto.setPercentual(total == 0 ? 100.0 : execucao.getProcessados() * 100.0 / total);
+
+    OffsetDateTime fim = execucao.getConcluidoEm() != null ? execucao.getConcluidoEm() : OffsetDateTime.now();
+    long decorridoSegundos = Math.max(1L, Duration.between(execucao.getIniciadoEm(), fim).toSeconds());
+    double itensPorSegundo = (double) execucao.getProcessados() / decorridoSegundos;
+    dto.setItensPorMinuto(itensPorSegundo * 60);
+
+    if (execucao.getStatus() == StatusRegeocodificacao.EM_ANDAMENTO && itensPorSegundo > 0) {
+      long restantes = total - execucao.getProcessados();
+      long segundosRestantes = (long) Math.ceil(restantes / itensPorSegundo);
+      dto.setSegundosRestantes(segundosRestantes);
+      dto.setPrevisaoTermino(OffsetDateTime.now().plusSeconds(segundosRestantes));
+    }
+    return dto;
+  }
+
+  private static boolean precisaoBaixa(String precisao) {
+    return precisao != null && PRECISOES_BAIXAS.contains(precisao);
+  }
+
+  private enum Situacao {
+    ATUALIZADO,
+    SEM_RESULTADO,
+    FALHA,
+    IGNORADO
+  }
+
+  private record ResultadoConsulta(Coordenada coordenada, boolean falhaTemporaria) {}
+}
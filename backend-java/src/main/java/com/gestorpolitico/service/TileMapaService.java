@@ -0,0 +1,289 @@
+package com.gestorpolitico.service;
+
+import com.gestorpolitico.dto.ClusterMapaDTO;
+import com.gestorpolitico.repository.FamiliaMapaRepository.AgregadoBairroMapa;
+import com.gestorpolitico.repository.FamiliaRepository;
+import com.gestorpolitico.service.AgrupadorPontosMapa.LimitesMapa;
+import com.gestorpolitico.service.CodificadorMvt.CamadaMvt;
+import com.gestorpolitico.service.CodificadorMvt.FeicaoMvt;
+import com.gestorpolitico.service.LocalizacaoFamiliasAlteradaEvent.Coordenada;
+import jakarta.annotation.PostConstruct;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.server.ResponseStatusException;
+
+@Service
+public class TileMapaService {
+  private static final Logger LOGGER = LoggerFactory.getLogger(TileMapaService.class);
+  static final int ZOOM_MAXIMO_TILE = 20;
+  private static final int ZOOM_MINIMO_BAIRROS = 10;
+
+  private final MapaFamiliasService mapaFamiliasService;
+  private final FamiliaRepository familiaRepository;
+  private final Path diretorio;
+  private final Duration validade;
+  private final Object bloqueioBairros = new Object();
+  private final Map<Long, List<AgregadoBairroMapa>> bairrosPorCidade = new HashMap<>();
+  private final Set<Long> cidadesDesatualizadas = ConcurrentHashMap.newKeySet();
+  private volatile long geracao;
+  private volatile List<AgregadoBairroMapa> bairros;
+
+  public TileMapaService(
+    MapaFamiliasService mapaFamiliasService,
+    FamiliaRepository familiaRepository,
+    @Value("${mapa.tiles.diretorio:${java.io.tmpdir}/gestor-politico-tiles}") String diretorio,
+    @Value("${mapa.tiles.validade:PT1H}") Duration validade
+  ) {
+    this.mapaFamiliasService = mapaFamiliasService;
+    this.familiaRepository = familiaRepository;
+    this.diretorio = Paths.get(diretorio);
+    this.validade = validade;
+  }
+
+  @PostConstruct
+  public void limparTiles() {
+    if (!Files.isDirectory(diretorio)) {
+      return;
+    }
+    try (Stream<Path> arquivos = Files.walk(diretorio)) {
+      arquivos
+        .filter(Files::isRegularFile)
+        .filter(arquivo -> arquivo.toString().endsWith(".mvt") || arquivo.toString().endsWith(".tmp"))
+        .forEach(this::removerArquivo);
+    } catch (IOException ex) {
+      LOGGER.warn("Falha ao limpar tiles em cache em {}: {}", diretorio, ex.getMessage());
+    }
+  }
+
+  @Transactional(readOnly = true)
+  public TileMapa obterTile(int z, int x, int y) {
+    long limite = 1L << Math.min(Math.max(z, 0), ZOOM_MAXIMO_TILE);
+    if (z < 0 || z > ZOOM_MAXIMO_TILE || x < 0 || y < 0 || x >= limite || y >= limite) {
+      throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Coordenadas de tile inválidas.");
+    }
+
+    atualizarBairrosDesatualizados();
+    Path arquivo = caminhoTile(z, x, y);
+    try {
+      if (Files.isRegularFile(arquivo) && !expirado(arquivo)) {
+        return new TileMapa(Files.readAllBytes(arquivo));
+      }
+    } catch (IOException ex) {
+      LOGGER.warn("Falha ao ler tile em cache {}: {}", arquivo, ex.getMessage());
+    }
+
+    long geracaoInicial = geracao;
+    byte[] conteudo = gerarTile(z, x, y);
+    if (geracao == geracaoInicial && gravarTile(arquivo, conteudo) && geracao != geracaoInicial) {
+      removerArquivo(arquivo);
+    }
+    return new TileMapa(conteudo);
+  }
+
+  @Order(1)
+  @TransactionalEventListener(fallbackExecution = true)
+  public void aoAlterarLocalizacao(LocalizacaoFamiliasAlteradaEvent evento) {
+    synchronized (bloqueioBairros) {
+      geracao++;
+      if (bairros != null) {
+        cidadesDesatualizadas.addAll(evento.cidadesIds());
+      }
+    }
+    for (Coordenada coordenada : evento.coordenadas()) {
+      removerTiles(coordenada);
+    }
+  }
+
+  byte[] gerarTile(int z, int x, int y) {
+    LimitesMapa limites = limitesTile(z, x, y);
+
+    List<FeicaoMvt> familias = new ArrayList<>();
+    for (ClusterMapaDTO cluster : mapaFamiliasService.obterAgrupador(null, null).agrupar(z, limites)) {
+      Map<String, Object> propriedades = new LinkedHashMap<>();
+      propriedades.put("quantidade", cluster.getQuantidade());
+      int[] posicao = projetarNoTile(cluster.getLatitude(), cluster.getLongitude(), z, x, y);
+      familias.add(new FeicaoMvt(cluster.getFamiliaId(), posicao[0], posicao[1], propriedades));
+    }
+
+    List<FeicaoMvt> feicoesBairros = new ArrayList<>();
+    if (z >= ZOOM_MINIMO_BAIRROS) {
+      for (AgregadoBairroMapa bairro : obterBairros()) {
+        if (!limites.contem(bairro.latitude(), bairro.longitude())) {
+          continue;
+        }
+        Map<String, Object> propriedades = new LinkedHashMap<>();
+        propriedades.put("nome", bairro.nome());
+        propriedades.put("familias", bairro.familias());
+        int[] posicao = projetarNoTile(bairro.latitude(), bairro.longitude(), z, x, y);
+        feicoesBairros.add(new FeicaoMvt(bairro.bairroId(), posicao[0], posicao[1], propriedades));
+      }
+    }
+
+    return CodificadorMvt.codificar(List.of(new CamadaMvt("familias", familias), new CamadaMvt("bairros", feicoesBairros)));
+  }
+
+  static LimitesMapa limitesTile(int z, int x, int y) {
+    double tiles = 1L << z;
+    return new LimitesMapa(
+      x / tiles * 360.0 - 180.0,
+      latitudeDaLinha(y + 1, tiles),
+      (x + 1) / tiles * 360.0 - 180.0,
+      latitudeDaLinha(y, tiles)
+    );
+  }
+
+  private static double latitudeDaLinha(int y, double tiles) {
+    return Math.toDegrees(Math.atan(Math.sinh(Math.PI * (1 - 2 * y / tiles))));
+  }
+
+  private static int[] projetarNoTile(double latitude, double longitude, int z, int x, int y) {
+    double tiles = 1L << z;
+    int px = (int) Math.round((AgrupadorPontosMapa.projetarX(longitude) * tiles - x) * CodificadorMvt.EXTENSAO);
+    int py = (int) Math.round((AgrupadorPontosMapa.projetarY(latitude) * tiles - y) * CodificadorMvt.EXTENSAO);
+    return new int[] { px, py };
+  }
+
+  private List<AgregadoBairroMapa> obterBairros() {
+    List<AgregadoBairroMapa> atuais = bairros;
+    if (atuais != null) {
+      return atuais;
+    }
+    synchronized (bloqueioBairros) {
+      if (bairros == null) {
+        substituirBairros(null, familiaRepository.buscarAgregadosBairros(null));
+      }
+      return bairros;
+    }
+  }
+
+  private void atualizarBairrosDesatualizados() {
+    if (cidadesDesatualizadas.isEmpty()) {
+      return;
+    }
+    Set<Coordenada> alterados;
+    synchronized (bloqueioBairros) {
+      Set<Long> cidades = Set.copyOf(cidadesDesatualizadas);
+      if (cidades.isEmpty()) {
+        return;
+      }
+      cidadesDesatualizadas.removeAll(cidades);
+      List<AgregadoBairroMapa> anteriores = cidades
+        .stream()
+        .flatMap(cidadeId -> bairrosPorCidade.getOrDefault(cidadeId, List.of()).stream())
+        .toList();
+      List<AgregadoBairroMapa> atuais = familiaRepository.buscarAgregadosBairros(cidades);
+      substituirBairros(cidades, atuais);
+      alterados = centroidesAlterados(anteriores, atuais);
+      if (!alterados.isEmpty()) {
+        geracao++;
+      }
+    }
+    for (Coordenada coordenada : alterados) {
+      removerTiles(coordenada);
+    }
+  }
+
+  private void substituirBairros(Set<Long> cidades, List<AgregadoBairroMapa> atuais) {
+    if (cidades == null) {
+      bairrosPorCidade.clear();
+    } else {
+      bairrosPorCidade.keySet().removeAll(cidades);
+    }
+    atuais.forEach(bairro ->
+      bairrosPorCidade.computeIfAbsent(bairro.cidadeId(), cidadeId -> new ArrayList<>()).add(bairro)
+    );
+    bairros = bairrosPorCidade.values().stream().flatMap(List::stream).toList();
+  }
+
+  private Set<Coordenada> centroidesAlterados(List<AgregadoBairroMapa> anteriores, List<AgregadoBairroMapa> atuais) {
+    Map<Long, AgregadoBairroMapa> atuaisPorId = atuais
+      .stream()
+      .collect(Collectors.toMap(AgregadoBairroMapa::bairroId, Function.identity()));
+    Set<Coordenada> alterados = new HashSet<>();
+    for (AgregadoBairroMapa anterior : anteriores) {
+      AgregadoBairroMapa atual = atuaisPorId.remove(anterior.bairroId());
+      if (!Objects.equals(anterior, atual)) {
+        alterados.add(new Coordenada(anterior.latitude(), anterior.longitude()));
+        if (atual != null) {
+          alterados.add(new Coordenada(atual.latitude(), atual.longitude()));
+        }
+      }
+    }
+    atuaisPorId.values().forEach(novo -> alterados.add(new Coordenada(novo.latitude(), novo.longitude())));
+    return alterados;
+  }
+
+  private void removerTiles(Coordenada coordenada) {
+    double x = AgrupadorPontosMapa.projetarX(coordenada.longitude());
+    double y = AgrupadorPontosMapa.projetarY(coordenada.latitude());
+    for (int z = 0; z <= ZOOM_MAXIMO_TILE; z++) {
+      long tiles = 1L << z;
+      int tileX = (int) Math.min((long) (x * tiles), tiles - 1);
+      int tileY = (int) Math.min((long) (y * tiles), tiles - 1);
+      removerArquivo(caminhoTile(z, tileX, tileY));
+    }
+  }
+
+  private boolean expirado(Path arquivo) throws IOException {
+    return Files.getLastModifiedTime(arquivo).toInstant().plus(validade).isBefore(Instant.now());
+  }
+
+  private boolean gravarTile(Path arquivo, byte[] conteudo) {
+    try {
+      Files.createDirectories(arquivo.getParent());
+      Path temporario = Files.createTempFile(arquivo.getParent(), "tile", ".tmp");
+      Files.write(temporario, conteudo);
+      Files.move(temporario, arquivo, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+      return true;
+    } catch (IOException ex) {
+      LOGGER.warn("Falha ao gravar tile em cache {}: {}", arquivo, ex.getMessage());
+      return false;
+    }
+  }
+
+  private void removerArquivo(Path arquivo) {
+    try {
+      Files.deleteIfExists(arquivo);
+    } catch (IOException ex) {
+      LOGGER.warn("Falha ao invalidar tile em cache {}: {}", arquivo, ex.getMessage());
+    }
+  }
+
+  private Path caminhoTile(int z, int x, int y) {
+    return diretorio.resolve(Integer.toString(z)).resolve(Integer.toString(x)).resolve(y + ".mvt");
+  }
+
+  public record TileMapa(byte[] conteudo) {
+    public String etag() {
+      CRC32 crc = new CRC32();
+      crc.update(conteudo);
+      return "\"" + Long.toHexString(crc.getValue()) + "-" + conteudo.length + "\"";
+    }
+  }
+}
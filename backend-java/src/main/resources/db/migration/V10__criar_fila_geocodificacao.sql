@@ -0,0 +1,29 @@
+-- Fila durável de geocodificação: o endereço é salvo pendente e um worker preenche as coordenadas após o commit
+ALTER TABLE enderecos ADD COLUMN status_geocodificacao VARCHAR(20);
+ALTER TABLE enderecos ADD COLUMN endereco_geocodificacao VARCHAR(500);
+ALTER TABLE enderecos ADD COLUMN tentativas_geocodificacao INTEGER NOT NULL DEFAULT 0;
+ALTER TABLE enderecos ADD COLUMN proxima_geocodificacao TIMESTAMP WITH TIME ZONE;
+
+UPDATE enderecos
+SET status_geocodificacao = 'CONCLUIDO'
+WHERE latitude IS NOT NULL AND longitude IS NOT NULL;
+
+UPDATE enderecos e
+SET status_geocodificacao = 'PENDENTE',
+    proxima_geocodificacao = NOW(),
+    endereco_geocodificacao = CONCAT_WS(
+      ', ',
+      NULLIF(TRIM(e.rua), ''),
+      NULLIF(TRIM(e.numero), ''),
+      (SELECT NULLIF(TRIM(b.nome), '') FROM bairros b WHERE b.id = e.bairro_id),
+      c.nome || ' - ' || c.uf,
+      'CEP ' || NULLIF(e.cep, ''),
+      'Brasil'
+    )
+FROM cidades c
+WHERE c.id = e.cidade_id
+  AND (e.latitude IS NULL OR e.longitude IS NULL);
+
+CREATE INDEX IF NOT EXISTS idx_enderecos_geocodificacao_pendente
+  ON enderecos (proxima_geocodificacao)
+  WHERE status_geocodificacao = 'PENDENTE';
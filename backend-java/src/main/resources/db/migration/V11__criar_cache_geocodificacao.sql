@@ -0,0 +1,15 @@
+-- Cache persistente de geocodificação por endereço normalizado, com validade separada para resultados positivos e negativos
+CREATE TABLE IF NOT EXISTS cache_geocodificacao (
+  chave VARCHAR(500) PRIMARY KEY,
+  latitude NUMERIC(10, 7),
+  longitude NUMERIC(10, 7),
+  provedor VARCHAR(30) NOT NULL,
+  precisao VARCHAR(40),
+  consultado_em TIMESTAMP WITH TIME ZONE NOT NULL,
+  expira_em TIMESTAMP WITH TIME ZONE NOT NULL,
+  ultimo_acesso_em TIMESTAMP WITH TIME ZONE,
+  acessos BIGINT NOT NULL DEFAULT 0
+);
+
+CREATE INDEX IF NOT EXISTS idx_cache_geocodificacao_expira_em
+  ON cache_geocodificacao (expira_em);
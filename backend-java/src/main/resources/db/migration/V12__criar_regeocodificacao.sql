@@ -0,0 +1,16 @@
+-- Precisão da geocodificação do endereço e execuções retomáveis do job de regeocodificação em lote
+ALTER TABLE enderecos ADD COLUMN precisao_geocodificacao VARCHAR(40);
+
+CREATE TABLE IF NOT EXISTS execucoes_regeocodificacao (
+  id BIGSERIAL PRIMARY KEY,
+  status VARCHAR(20) NOT NULL,
+  ultimo_endereco_id BIGINT NOT NULL DEFAULT 0,
+  total BIGINT NOT NULL DEFAULT 0,
+  processados BIGINT NOT NULL DEFAULT 0,
+  atualizados BIGINT NOT NULL DEFAULT 0,
+  sem_resultado BIGINT NOT NULL DEFAULT 0,
+  falhas BIGINT NOT NULL DEFAULT 0,
+  iniciado_em TIMESTAMP WITH TIME ZONE NOT NULL,
+  atualizado_em TIMESTAMP WITH TIME ZONE NOT NULL,
+  concluido_em TIMESTAMP WITH TIME ZONE
+);
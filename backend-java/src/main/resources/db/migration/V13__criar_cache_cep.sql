@@ -0,0 +1,15 @@
+-- Cache persistente de consultas de CEP, compartilhado entre instâncias e atualizado em segundo plano
+CREATE TABLE IF NOT EXISTS cache_cep (
+  cep VARCHAR(8) PRIMARY KEY,
+  logradouro VARCHAR(255),
+  bairro VARCHAR(255),
+  cidade VARCHAR(255),
+  uf VARCHAR(2),
+  codigo_ibge VARCHAR(10),
+  encontrado BOOLEAN NOT NULL,
+  consultado_em TIMESTAMP WITH TIME ZONE NOT NULL,
+  expira_em TIMESTAMP WITH TIME ZONE NOT NULL
+);
+
+CREATE INDEX IF NOT EXISTS idx_cache_cep_expira_em
+  ON cache_cep (expira_em);
@@ -0,0 +1,15 @@
+-- Sequências com incremento 50 para o Hibernate reservar blocos de IDs (pooled-lo) e agrupar os INSERTs em lote
+ALTER SEQUENCE bairros_id_seq INCREMENT BY 50;
+SELECT setval('bairros_id_seq', COALESCE((SELECT MAX(id) FROM bairros), 0) + 1, false);
+
+ALTER SEQUENCE enderecos_id_seq INCREMENT BY 50;
+SELECT setval('enderecos_id_seq', COALESCE((SELECT MAX(id) FROM enderecos), 0) + 1, false);
+
+ALTER SEQUENCE familia_id_seq INCREMENT BY 50;
+SELECT setval('familia_id_seq', COALESCE((SELECT MAX(id) FROM familia), 0) + 1, false);
+
+ALTER SEQUENCE membro_familia_id_seq INCREMENT BY 50;
+SELECT setval('membro_familia_id_seq', COALESCE((SELECT MAX(id) FROM membro_familia), 0) + 1, false);
+
+ALTER SEQUENCE parceiro_id_seq INCREMENT BY 50;
+SELECT setval('parceiro_id_seq', COALESCE((SELECT MAX(id) FROM parceiro), 0) + 1, false);
@@ -0,0 +1,15 @@
+-- Preenche o texto de geocodificação dos endereços legados que já tinham coordenadas, para que entrem no pré-aquecimento do cache
+UPDATE enderecos e
+SET endereco_geocodificacao = CONCAT_WS(
+      ', ',
+      NULLIF(TRIM(e.rua), ''),
+      NULLIF(TRIM(e.numero), ''),
+      (SELECT NULLIF(TRIM(b.nome), '') FROM bairros b WHERE b.id = e.bairro_id),
+      c.nome || ' - ' || c.uf,
+      'CEP ' || NULLIF(e.cep, ''),
+      'Brasil'
+    )
+FROM cidades c
+WHERE c.id = e.cidade_id
+  AND e.endereco_geocodificacao IS NULL
+  AND e.status_geocodificacao = 'CONCLUIDO';
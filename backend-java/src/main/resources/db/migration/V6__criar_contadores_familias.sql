@@ -0,0 +1,18 @@
+-- Contadores agregados de famílias mantidos incrementalmente pelas gravações
+CREATE TABLE contador_familias (
+  escopo VARCHAR(10) NOT NULL,
+  chave VARCHAR(160) NOT NULL,
+  familias BIGINT NOT NULL DEFAULT 0,
+  membros BIGINT NOT NULL DEFAULT 0,
+  responsaveis BIGINT NOT NULL DEFAULT 0,
+  PRIMARY KEY (escopo, chave)
+);
+
+CREATE TABLE contador_cadastros_diarios (
+  escopo VARCHAR(10) NOT NULL,
+  chave VARCHAR(160) NOT NULL,
+  dia DATE NOT NULL,
+  familias BIGINT NOT NULL DEFAULT 0,
+  membros BIGINT NOT NULL DEFAULT 0,
+  PRIMARY KEY (escopo, chave, dia)
+);
@@ -0,0 +1,3 @@
+-- Índice composto para a paginação por cursor (criado_em, id) da listagem de famílias
+CREATE INDEX IF NOT EXISTS idx_familia_criado_em_id
+  ON familia (criado_em DESC, id DESC);
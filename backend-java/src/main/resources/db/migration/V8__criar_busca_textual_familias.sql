@@ -0,0 +1,34 @@
+-- Busca textual sem acentos: documento de busca por família e índices trigram para os filtros com LIKE '%...%'
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+CREATE EXTENSION IF NOT EXISTS unaccent;
+
+ALTER TABLE familia ADD COLUMN documento_busca TEXT NOT NULL DEFAULT '';
+
+UPDATE familia f
+SET documento_busca = TRIM(REGEXP_REPLACE(UPPER(UNACCENT(CONCAT_WS(' ',
+  (
+    SELECT STRING_AGG(m.nome_completo, ' ' ORDER BY m.responsavel_principal DESC, m.id)
+    FROM membro_familia m
+    WHERE m.familia_id = f.id
+  ),
+  f.endereco,
+  f.bairro,
+  (
+    SELECT c.nome
+    FROM enderecos e
+    JOIN cidades c ON c.id = e.cidade_id
+    WHERE e.id = f.endereco_id
+  )
+))), '\s+', ' ', 'g'));
+
+CREATE INDEX IF NOT EXISTS idx_familia_documento_busca_trgm
+  ON familia USING GIN (documento_busca gin_trgm_ops);
+
+CREATE INDEX IF NOT EXISTS idx_familia_bairro_trgm
+  ON familia USING GIN (LOWER(bairro) gin_trgm_ops);
+
+CREATE INDEX IF NOT EXISTS idx_enderecos_rua_trgm
+  ON enderecos USING GIN (LOWER(rua) gin_trgm_ops);
+
+CREATE INDEX IF NOT EXISTS idx_membro_familia_nome_trgm
+  ON membro_familia USING GIN (LOWER(nome_completo) gin_trgm_ops);
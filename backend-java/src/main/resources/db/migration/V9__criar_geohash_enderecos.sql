@@ -0,0 +1,34 @@
+-- Geohash (12 caracteres) das coordenadas do endereço, indexado em B-tree para consultas por área do mapa via faixas de prefixo
+ALTER TABLE enderecos ADD COLUMN geohash VARCHAR(12) COLLATE "C";
+
+CREATE OR REPLACE FUNCTION codificar_geohash(latitude NUMERIC, longitude NUMERIC) RETURNS VARCHAR AS $$
+DECLARE
+  alfabeto CONSTANT TEXT := '0123456789bcdefghjkmnpqrstuvwxyz';
+  indice_longitude BIGINT := LEAST(GREATEST(FLOOR((longitude + 180) / 360 * 1073741824)::BIGINT, 0), 1073741823);
+  indice_latitude BIGINT := LEAST(GREATEST(FLOOR((latitude + 90) / 180 * 1073741824)::BIGINT, 0), 1073741823);
+  valor BIGINT := 0;
+  resultado TEXT := '';
+BEGIN
+  FOR i IN 0..59 LOOP
+    IF i % 2 = 0 THEN
+      valor := (valor << 1) | ((indice_longitude >> (29 - i / 2)) & 1);
+    ELSE
+      valor := (valor << 1) | ((indice_latitude >> (29 - i / 2)) & 1);
+    END IF;
+  END LOOP;
+  FOR i IN 1..12 LOOP
+    resultado := resultado || SUBSTR(alfabeto, ((valor >> (5 * (12 - i))) & 31)::INT + 1, 1);
+  END LOOP;
+  RETURN resultado;
+END;
+$$ LANGUAGE plpgsql IMMUTABLE;
+
+UPDATE enderecos
+SET geohash = codificar_geohash(latitude, longitude)
+WHERE latitude IS NOT NULL AND longitude IS NOT NULL;
+
+DROP FUNCTION codificar_geohash(NUMERIC, NUMERIC);
+
+CREATE INDEX IF NOT EXISTS idx_enderecos_geohash
+  ON enderecos (geohash)
+  WHERE geohash IS NOT NULL;
@@ -0,0 +1,107 @@
+package com.gestorpolitico.entity;
+
+import com.gestorpolitico.enums.Parentesco;
+import java.math.BigDecimal;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+public final class FabricaFamiliaTeste {
+  private final Endereco endereco = new Endereco();
+  private final List<MembroFamilia> membros = new ArrayList<>();
+  private String nomeBairro;
+  private OffsetDateTime criadoEm;
+  private Parceiro parceiroCadastro;
+
+  private FabricaFamiliaTeste(Cidade cidade, String rua, String numero) {
+    endereco.setCidade(cidade);
+    endereco.setRua(rua);
+    endereco.setNumero(numero);
+  }
+
+  public static Cidade cidade(String nome, String uf) {
+    Cidade cidade = new Cidade();
+    cidade.setNome(nome);
+    cidade.setUf(uf);
+    return cidade;
+  }
+
+  public static Bairro bairro(Cidade cidade, String nome, String regiao) {
+    Bairro bairro = new Bairro();
+    bairro.setCidade(cidade);
+    bairro.setNome(nome);
+    bairro.setRegiao(regiao);
+    return bairro;
+  }
+
+  public static MembroFamilia membro(String nome, boolean responsavel, String probabilidade) {
+    MembroFamilia membro = new MembroFamilia();
+    membro.setNomeCompleto(nome);
+    membro.setParentesco(responsavel ? Parentesco.RESPONSAVEL : Parentesco.OUTRO);
+    membro.setResponsavelPrincipal(responsavel);
+    membro.setProbabilidadeVoto(probabilidade);
+    return membro;
+  }
+
+  public static FabricaFamiliaTeste familia(Cidade cidade, String rua, String numero) {
+    return new FabricaFamiliaTeste(cidade, rua, numero);
+  }
+
+  public static FabricaFamiliaTeste familia(Bairro bairro, String rua, String numero) {
+    return new FabricaFamiliaTeste(bairro.getCidade(), rua, numero).bairro(bairro);
+  }
+
+  public FabricaFamiliaTeste bairro(Bairro bairro) {
+    endereco.setBairro(bairro);
+    nomeBairro = bairro.getNome();
+    return this;
+  }
+
+  public FabricaFamiliaTeste bairro(String nome) {
+    nomeBairro = nome;
+    return this;
+  }
+
+  public FabricaFamiliaTeste cep(String cep) {
+    endereco.setCep(cep);
+    return this;
+  }
+
+  public FabricaFamiliaTeste coordenadas(String latitude, String longitude) {
+    endereco.setLatitude(latitude != null ? new BigDecimal(latitude) : null);
+    endereco.setLongitude(longitude != null ? new BigDecimal(longitude) : null);
+    return this;
+  }
+
+  public FabricaFamiliaTeste criadoEm(OffsetDateTime criadoEm) {
+    this.criadoEm = criadoEm;
+    return this;
+  }
+
+  public FabricaFamiliaTeste parceiroCadastro(Parceiro parceiroCadastro) {
+    this.parceiroCadastro = parceiroCadastro;
+    return this;
+  }
+
+  public FabricaFamiliaTeste membro(MembroFamilia membro) {
+    membros.add(membro);
+    return this;
+  }
+
+  public FabricaFamiliaTeste responsavel(String nome, String probabilidade) {
+    return membro(membro(nome, true, probabilidade));
+  }
+
+  public Familia construir() {
+    Familia familia = new Familia();
+    familia.setEndereco(endereco.getRua() + ", " + endereco.getNumero());
+    familia.setBairro(nomeBairro);
+    if (criadoEm != null) {
+      familia.setCriadoEm(criadoEm);
+    }
+    familia.setEnderecoDetalhado(endereco);
+    familia.setParceiroCadastro(parceiroCadastro);
+    membros.forEach(familia::adicionarMembro);
+    return familia;
+  }
+}
@@ -0,0 +1,45 @@
+package com.gestorpolitico.entity;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.gestorpolitico.entity.Geohash.IntervaloGeohash;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class GeohashTest {
+  @Test
+  void deveCodificarCoordenadasNoAlfabetoPadrao() {
+    assertEquals("u4pruydqqvj", Geohash.codificar(57.64911, 10.40744, 11));
+    assertEquals("6utsm7vx5tqe", Geohash.codificar(-18.9186, -48.2772));
+  }
+
+  @Test
+  void deveCobrirAreaComPoucasFaixasQueContemOsPontosInternos() {
+    List<IntervaloGeohash> intervalos = Geohash.cobrir(-48.35, -18.98, -48.20, -18.85);
+
+    assertTrue(intervalos.size() <= 32);
+    for (double[] ponto : new double[][] { { -18.9186, -48.2772 }, { -18.85, -48.20 }, { -18.98, -48.35 } }) {
+      String geohash = Geohash.codificar(ponto[0], ponto[1]);
+      assertTrue(
+        intervalos.stream().anyMatch(intervalo -> contem(intervalo, geohash)),
+        () -> "Geohash fora da cobertura: " + geohash
+      );
+    }
+    assertTrue(intervalos.stream().noneMatch(intervalo -> contem(intervalo, Geohash.codificar(-19.7483, -47.9319))));
+  }
+
+  @Test
+  void deveCobrirMundoInteiroComFaixaAberta() {
+    List<IntervaloGeohash> intervalos = Geohash.cobrir(-180, -90, 180, 90);
+
+    assertEquals(1, intervalos.size());
+    assertEquals("0", intervalos.get(0).inicio());
+    assertNull(intervalos.get(0).fim());
+  }
+
+  private static boolean contem(IntervaloGeohash intervalo, String geohash) {
+    return geohash.compareTo(intervalo.inicio()) >= 0 && (intervalo.fim() == null || geohash.compareTo(intervalo.fim()) < 0);
+  }
+}
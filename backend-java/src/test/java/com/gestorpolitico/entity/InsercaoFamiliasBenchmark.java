@@ -0,0 +1,185 @@
+package com.gestorpolitico.entity;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import javax.sql.DataSource;
+import org.h2.jdbcx.JdbcDataSource;
+import org.hibernate.SessionFactory;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.cfg.Configuration;
+import org.hibernate.engine.jdbc.connections.spi.ConnectionProvider;
+import org.hibernate.stat.Statistics;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class InsercaoFamiliasBenchmark {
+  private static final int FAMILIAS = 100;
+  private static final int MEMBROS_POR_FAMILIA = 6;
+
+  @Param({ "1", "50" })
+  private int tamanhoLote;
+
+  @Param({ "0", "250" })
+  private long latenciaMicros;
+
+  private SessionFactory sessionFactory;
+  private Long bairroId;
+  private long operacoes;
+
+  @Setup(Level.Trial)
+  public void iniciar() {
+    JdbcDataSource dataSource = new JdbcDataSource();
+    dataSource.setURL("jdbc:h2:mem:insercao" + tamanhoLote + "_" + latenciaMicros + ";DB_CLOSE_DELAY=-1");
+    dataSource.setUser("sa");
+    Configuration configuracao = new Configuration();
+    configuracao
+      .getProperties()
+      .put(AvailableSettings.CONNECTION_PROVIDER, new ConexoesComLatencia(dataSource, latenciaMicros));
+    sessionFactory = configuracao
+      .addAnnotatedClass(Cidade.class)
+      .addAnnotatedClass(Bairro.class)
+      .addAnnotatedClass(Endereco.class)
+      .addAnnotatedClass(Familia.class)
+      .addAnnotatedClass(MembroFamilia.class)
+      .addAnnotatedClass(Parceiro.class)
+      .setProperty("hibernate.hbm2ddl.auto", "create-drop")
+      .setProperty("hibernate.jdbc.batch_size", String.valueOf(tamanhoLote))
+      .setProperty("hibernate.order_inserts", "true")
+      .setProperty("hibernate.id.optimizer.pooled.preferred", "pooled-lo")
+      .setProperty("hibernate.generate_statistics", "true")
+      .buildSessionFactory();
+
+    bairroId = sessionFactory.fromTransaction(sessao -> {
+      Cidade cidade = FabricaFamiliaTeste.cidade("Uberlândia", "MG");
+      sessao.persist(cidade);
+      Bairro bairro = FabricaFamiliaTeste.bairro(cidade, "Tibery", null);
+      sessao.persist(bairro);
+      return bairro.getId();
+    });
+    sessionFactory.getStatistics().clear();
+  }
+
+  @TearDown(Level.Trial)
+  public void encerrar() {
+    Statistics estatisticas = sessionFactory.getStatistics();
+    System.out.printf(
+      "%nLote %d, latência %d us: %d linhas em %d statements preparados%n",
+      tamanhoLote,
+      latenciaMicros,
+      estatisticas.getEntityInsertCount() / Math.max(1, operacoes),
+      estatisticas.getPrepareStatementCount() / Math.max(1, operacoes)
+    );
+    sessionFactory.close();
+  }
+
+  @Benchmark
+  public void salvarFamilias() {
+    operacoes++;
+    sessionFactory.inTransaction(sessao -> {
+      Bairro bairro = sessao.getReference(Bairro.class, bairroId);
+      for (int i = 0; i < FAMILIAS; i++) {
+        sessao.persist(criarFamilia(bairro, i));
+      }
+    });
+  }
+
+  private static Familia criarFamilia(Bairro bairro, int indice) {
+    FabricaFamiliaTeste familia = FabricaFamiliaTeste
+      .familia(bairro, "Rua Arpoador", String.valueOf(indice))
+      .cep("38405142");
+    for (int i = 0; i < MEMBROS_POR_FAMILIA; i++) {
+      familia.membro(FabricaFamiliaTeste.membro("Membro " + indice + "-" + i, i == 0, "ALTA"));
+    }
+    return familia.construir();
+  }
+
+  private static final class ConexoesComLatencia implements ConnectionProvider {
+    private static final Set<String> IDA_E_VOLTA = Set.of("execute", "executeQuery", "executeUpdate", "executeBatch");
+
+    private final DataSource dataSource;
+    private final long latenciaNanos;
+
+    private ConexoesComLatencia(DataSource dataSource, long latenciaMicros) {
+      this.dataSource = dataSource;
+      this.latenciaNanos = TimeUnit.MICROSECONDS.toNanos(latenciaMicros);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+      return envolver(Connection.class, dataSource.getConnection());
+    }
+
+    @Override
+    public void closeConnection(Connection conexao) throws SQLException {
+      conexao.close();
+    }
+
+    @Override
+    public boolean supportsAggressiveRelease() {
+      return false;
+    }
+
+    @Override
+    public boolean isUnwrappableAs(Class<?> tipo) {
+      return false;
+    }
+
+    @Override
+    public <T> T unwrap(Class<T> tipo) {
+      throw new UnsupportedOperationException();
+    }
+
+    private <T> T envolver(Class<T> tipo, T alvo) {
+      InvocationHandler manipulador = (proxy, metodo, argumentos) -> {
+        if (latenciaNanos > 0 && IDA_E_VOLTA.contains(metodo.getName())) {
+          LockSupport.parkNanos(latenciaNanos);
+        }
+        try {
+          Object resultado = metodo.invoke(alvo, argumentos);
+          if (resultado instanceof PreparedStatement statement) {
+            return envolver(PreparedStatement.class, statement);
+          }
+          if (resultado instanceof Statement statement) {
+            return envolver(Statement.class, statement);
+          }
+          return resultado;
+        } catch (InvocationTargetException ex) {
+          throw ex.getCause();
+        }
+      };
+      return tipo.cast(Proxy.newProxyInstance(tipo.getClassLoader(), new Class<?>[] { tipo }, manipulador));
+    }
+  }
+
+  public static void main(String[] args) throws RunnerException {
+    new Runner(new OptionsBuilder().include(InsercaoFamiliasBenchmark.class.getSimpleName()).build()).run();
+  }
+}
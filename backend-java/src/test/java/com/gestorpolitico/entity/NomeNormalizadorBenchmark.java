@@ -0,0 +1,70 @@
+package com.gestorpolitico.entity;
+
+import java.text.Normalizer;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class NomeNormalizadorBenchmark {
+  private static final String[] VALORES = {
+    "São José do Rio Preto",
+    "CONCEIÇÃO DAS ALAGOAS",
+    "Jardim Botânico",
+    "  Vila   Mariana ",
+    "SANTA MONICA",
+    "Rua Ipê Amarelo, 123 - Uberlândia - MG",
+    "Responsável pela família",
+    "ALTA"
+  };
+
+  @Benchmark
+  public void expressaoRegular(Blackhole blackhole) {
+    for (String valor : VALORES) {
+      String semAcento = Normalizer.normalize(valor, Normalizer.Form.NFD)
+        .replaceAll("\\p{InCombiningDiacriticalMarks}+", "");
+      blackhole.consume(semAcento.toUpperCase(Locale.ROOT).replaceAll("\\s+", " ").trim());
+    }
+  }
+
+  @Benchmark
+  public void tabelaLatin1(Blackhole blackhole) {
+    for (String valor : VALORES) {
+      blackhole.consume(NomeNormalizador.normalizar(valor));
+    }
+  }
+
+  @Benchmark
+  public void tabelaLatin1ComCache(Blackhole blackhole) {
+    for (String valor : VALORES) {
+      blackhole.consume(NomeNormalizador.normalizarComCache(valor));
+    }
+  }
+
+  public static void main(String[] args) throws RunnerException {
+    new Runner(
+      new OptionsBuilder()
+        .include(NomeNormalizadorBenchmark.class.getSimpleName())
+        .addProfiler(GCProfiler.class)
+        .build()
+    ).run();
+  }
+}
@@ -0,0 +1,54 @@
+package com.gestorpolitico.entity;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.text.Normalizer;
+import java.util.Locale;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+class NomeNormalizadorTest {
+  @Test
+  void deveProduzirOMesmoResultadoDaNormalizacaoPorExpressaoRegular() {
+    String[] exemplos = {
+      "  São  João\tdo Rio   Preto ",
+      "Conceição",
+      "JARDIM BOTÂNICO",
+      "Ñandú Ærø ß",
+      "São Paulo",
+      "",
+      "\n\r"
+    };
+    for (String exemplo : exemplos) {
+      assertEquals(normalizarPorRegex(exemplo), NomeNormalizador.normalizar(exemplo), exemplo);
+    }
+
+    Random aleatorio = new Random(7);
+    for (int i = 0; i < 5_000; i++) {
+      StringBuilder texto = new StringBuilder();
+      int tamanho = aleatorio.nextInt(20);
+      for (int j = 0; j < tamanho; j++) {
+        texto.append((char) (aleatorio.nextInt(10) == 0 ? ' ' : aleatorio.nextInt(0x250)));
+      }
+      String valor = texto.toString();
+      assertEquals(normalizarPorRegex(valor), NomeNormalizador.normalizar(valor), valor);
+    }
+  }
+
+  @Test
+  void deveReaproveitarTextoJaNormalizado() {
+    String normalizado = "SANTA MONICA";
+    assertSame(normalizado, NomeNormalizador.normalizar(normalizado));
+    assertEquals("Sao Jose  do Rio Preto".replace("  ", " "), NomeNormalizador.removerAcentos("São José  do Rio Preto"));
+    assertEquals("filhoa", NomeNormalizador.normalizarChave("Filho(a)"));
+    assertEquals("AVO", NomeNormalizador.normalizarComCache("avó"));
+    assertSame(NomeNormalizador.normalizarComCache("avó"), NomeNormalizador.normalizarComCache("avó"));
+  }
+
+  private static String normalizarPorRegex(String valor) {
+    String semAcento = Normalizer.normalize(valor, Normalizer.Form.NFD)
+      .replaceAll("\\p{InCombiningDiacriticalMarks}+", "");
+    return semAcento.toUpperCase(Locale.ROOT).replaceAll("\\s+", " ").trim();
+  }
+}
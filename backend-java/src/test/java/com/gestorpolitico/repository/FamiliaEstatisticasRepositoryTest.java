@@ -0,0 +1,153 @@
+package com.gestorpolitico.repository;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import com.gestorpolitico.dto.FamiliaFiltroRequestDTO;
+import com.gestorpolitico.entity.Bairro;
+import com.gestorpolitico.entity.Cidade;
+import com.gestorpolitico.entity.FabricaFamiliaTeste;
+import com.gestorpolitico.entity.Familia;
+import com.gestorpolitico.entity.MembroFamilia;
+import com.gestorpolitico.repository.FamiliaEstatisticasRepository.EstatisticasFamilias;
+import jakarta.persistence.EntityManager;
+import java.time.OffsetDateTime;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+
+@DataJpaTest(properties = { "spring.flyway.enabled=false", "spring.jpa.hibernate.ddl-auto=create-drop" })
+class FamiliaEstatisticasRepositoryTest {
+  @Autowired
+  private FamiliaRepository familiaRepository;
+
+  @Autowired
+  private EntityManager entityManager;
+
+  private Cidade saoPaulo;
+  private Cidade campinas;
+  private OffsetDateTime seteDiasAtras;
+
+  @BeforeEach
+  void prepararDados() {
+    OffsetDateTime agora = OffsetDateTime.now();
+    seteDiasAtras = agora.minusDays(7);
+
+    saoPaulo = salvarCidade("São Paulo", "SP");
+    campinas = salvarCidade("Campinas", "SP");
+    Bairro santana = salvarBairro(saoPaulo, "Santana", "Zona Norte");
+    Bairro moema = salvarBairro(saoPaulo, "Moema", "Zona Sul");
+    Bairro cambui = salvarBairro(campinas, "Cambuí", null);
+
+    salvarFamilia(santana, "Rua Voluntários da Pátria", agora.minusDays(1),
+      membro("Maria Souza", true, "ALTA", agora.minusDays(1)),
+      membro("José Souza", false, "MEDIA", agora.minusDays(30)));
+    salvarFamilia(santana, "Rua Alfredo Pujol", agora.minusDays(20),
+      membro("Ana Lima", false, "BAIXA", agora.minusDays(20)));
+    salvarFamilia(moema, "Avenida Ibirapuera", agora.minusDays(3),
+      membro("Carlos Pereira", true, "ALTA", agora.minusDays(3)),
+      membro("Clara Pereira", false, "ALTA", agora.minusDays(2)),
+      membro("Caio Pereira", false, "BAIXA", agora.minusDays(60)));
+    salvarFamilia(cambui, "Rua Coronel Quirino", agora.minusDays(90),
+      membro("Paulo Andrade", true, "MEDIA", agora.minusDays(90)));
+
+    entityManager.flush();
+    entityManager.clear();
+  }
+
+  @Test
+  void deveCalcularEstatisticasSemFiltro() {
+    verificarContraCalculoEmMemoria(null);
+    verificarContraCalculoEmMemoria(new FamiliaFiltroRequestDTO());
+  }
+
+  @Test
+  void deveCalcularEstatisticasComFiltrosDeLocalidade() {
+    FamiliaFiltroRequestDTO porCidade = new FamiliaFiltroRequestDTO();
+    porCidade.setCidadeId(saoPaulo.getId());
+    verificarContraCalculoEmMemoria(porCidade);
+
+    FamiliaFiltroRequestDTO porRegiao = new FamiliaFiltroRequestDTO();
+    porRegiao.setRegiao("zona norte");
+    verificarContraCalculoEmMemoria(porRegiao);
+
+    FamiliaFiltroRequestDTO porBairro = new FamiliaFiltroRequestDTO();
+    porBairro.setCidadeId(campinas.getId());
+    porBairro.setBairro("camb");
+    verificarContraCalculoEmMemoria(porBairro);
+  }
+
+  @Test
+  void deveCalcularEstatisticasComFiltrosDeMembros() {
+    FamiliaFiltroRequestDTO porProbabilidade = new FamiliaFiltroRequestDTO();
+    porProbabilidade.setProbabilidadeVoto("alta");
+    verificarContraCalculoEmMemoria(porProbabilidade);
+
+    FamiliaFiltroRequestDTO porResponsavel = new FamiliaFiltroRequestDTO();
+    porResponsavel.setResponsavel("pereira");
+    verificarContraCalculoEmMemoria(porResponsavel);
+
+    FamiliaFiltroRequestDTO porTermo = new FamiliaFiltroRequestDTO();
+    porTermo.setTermo("souza");
+    verificarContraCalculoEmMemoria(porTermo);
+
+    FamiliaFiltroRequestDTO semResultado = new FamiliaFiltroRequestDTO();
+    semResultado.setTermo("inexistente");
+    verificarContraCalculoEmMemoria(semResultado);
+  }
+
+  private void verificarContraCalculoEmMemoria(FamiliaFiltroRequestDTO filtro) {
+    List<Familia> familiasFiltradas = familiaRepository.findAll(FamiliaFiltroSpecification.criar(filtro));
+
+    long responsaveisAtivos = familiasFiltradas
+      .stream()
+      .filter(familia ->
+        familia.getMembros().stream().anyMatch(membro -> Boolean.TRUE.equals(membro.getResponsavelPrincipal()))
+      )
+      .count();
+    long novosCadastros = familiasFiltradas
+      .stream()
+      .filter(familia -> familia.getCriadoEm() != null && familia.getCriadoEm().isAfter(seteDiasAtras))
+      .count();
+    long totalPessoas = familiasFiltradas.stream().mapToLong(familia -> familia.getMembros().size()).sum();
+    long novasPessoasSemana = familiasFiltradas
+      .stream()
+      .flatMap(familia -> familia.getMembros().stream())
+      .filter(membro -> membro.getCriadoEm() != null && membro.getCriadoEm().isAfter(seteDiasAtras))
+      .count();
+
+    EstatisticasFamilias estatisticas = familiaRepository.calcularEstatisticas(filtro, seteDiasAtras);
+
+    assertEquals(
+      new EstatisticasFamilias(responsaveisAtivos, novosCadastros, totalPessoas, novasPessoasSemana),
+      estatisticas
+    );
+  }
+
+  private Cidade salvarCidade(String nome, String uf) {
+    Cidade cidade = FabricaFamiliaTeste.cidade(nome, uf);
+    entityManager.persist(cidade);
+    return cidade;
+  }
+
+  private Bairro salvarBairro(Cidade cidade, String nome, String regiao) {
+    Bairro bairro = FabricaFamiliaTeste.bairro(cidade, nome, regiao);
+    entityManager.persist(bairro);
+    return bairro;
+  }
+
+  private void salvarFamilia(Bairro bairro, String rua, OffsetDateTime criadoEm, MembroFamilia... membros) {
+    FabricaFamiliaTeste familia = FabricaFamiliaTeste.familia(bairro, rua, "100").cep("01001000").criadoEm(criadoEm);
+    for (MembroFamilia membro : membros) {
+      familia.membro(membro);
+    }
+    entityManager.persist(familia.construir());
+  }
+
+  private MembroFamilia membro(String nome, boolean responsavel, String probabilidade, OffsetDateTime criadoEm) {
+    MembroFamilia membro = FabricaFamiliaTeste.membro(nome, responsavel, probabilidade);
+    membro.setCriadoEm(criadoEm);
+    return membro;
+  }
+}
@@ -0,0 +1,92 @@
+package com.gestorpolitico.repository;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.gestorpolitico.entity.Bairro;
+import com.gestorpolitico.entity.Cidade;
+import com.gestorpolitico.entity.FabricaFamiliaTeste;
+import com.gestorpolitico.entity.Familia;
+import com.gestorpolitico.entity.MembroFamilia;
+import jakarta.persistence.EntityManager;
+import java.util.ArrayList;
+import java.util.List;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+
+@DataJpaTest(
+  properties = {
+    "spring.flyway.enabled=false",
+    "spring.jpa.hibernate.ddl-auto=create-drop",
+    "spring.jpa.properties.hibernate.generate_statistics=true"
+  }
+)
+class FamiliaInsercaoLoteRepositoryTest {
+  private static final int FAMILIAS = 20;
+  private static final int MEMBROS_POR_FAMILIA = 6;
+
+  @Autowired
+  private FamiliaRepository familiaRepository;
+
+  @Autowired
+  private EntityManager entityManager;
+
+  private Bairro bairro;
+  private Statistics estatisticas;
+
+  @BeforeEach
+  void prepararDados() {
+    Cidade cidade = FabricaFamiliaTeste.cidade("Uberlândia", "MG");
+    entityManager.persist(cidade);
+
+    bairro = FabricaFamiliaTeste.bairro(cidade, "Tibery", null);
+    entityManager.persist(bairro);
+    entityManager.flush();
+    entityManager.clear();
+
+    estatisticas = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+    estatisticas.clear();
+  }
+
+  @Test
+  void deveAgruparInsercoesDeFamiliasEMembrosEmLotes() {
+    List<Familia> familias = new ArrayList<>();
+    for (int i = 0; i < FAMILIAS; i++) {
+      familias.add(criarFamilia(i));
+    }
+
+    familiaRepository.saveAll(familias);
+    entityManager.flush();
+
+    long linhas = FAMILIAS * (2L + MEMBROS_POR_FAMILIA);
+    assertEquals(linhas, estatisticas.getEntityInsertCount());
+    assertTrue(
+      estatisticas.getPrepareStatementCount() <= 10,
+      "Esperado até 10 statements para " + linhas + " linhas, obtido " + estatisticas.getPrepareStatementCount()
+    );
+
+    List<Long> idsMembros = familias
+      .stream()
+      .flatMap(familia -> familia.getMembros().stream())
+      .map(MembroFamilia::getId)
+      .toList();
+    for (int i = 1; i < idsMembros.size(); i++) {
+      assertTrue(idsMembros.get(i) > idsMembros.get(i - 1));
+    }
+    assertEquals(FAMILIAS, familiaRepository.count());
+  }
+
+  private Familia criarFamilia(int indice) {
+    FabricaFamiliaTeste familia = FabricaFamiliaTeste
+      .familia(bairro, "Rua Arpoador", String.valueOf(indice))
+      .cep("38405142");
+    for (int i = 0; i < MEMBROS_POR_FAMILIA; i++) {
+      familia.membro(FabricaFamiliaTeste.membro("Membro " + indice + "-" + i, i == 0, "ALTA"));
+    }
+    return familia.construir();
+  }
+}
@@ -0,0 +1,131 @@
+package com.gestorpolitico.repository;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.gestorpolitico.dto.FamiliaFiltroRequestDTO;
+import com.gestorpolitico.entity.Cidade;
+import com.gestorpolitico.entity.FabricaFamiliaTeste;
+import com.gestorpolitico.repository.FamiliaPaginacaoRepository.PosicaoFamilia;
+import jakarta.persistence.EntityManager;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+
+@DataJpaTest(properties = { "spring.flyway.enabled=false", "spring.jpa.hibernate.ddl-auto=create-drop" })
+class FamiliaPaginacaoRepositoryTest {
+  @Autowired
+  private FamiliaRepository familiaRepository;
+
+  @Autowired
+  private EntityManager entityManager;
+
+  private Cidade cidade;
+
+  @BeforeEach
+  void prepararDados() {
+    cidade = FabricaFamiliaTeste.cidade("Uberlândia", "MG");
+    entityManager.persist(cidade);
+
+    OffsetDateTime base = OffsetDateTime.of(2024, 5, 10, 12, 0, 0, 0, ZoneOffset.UTC);
+    for (int i = 0; i < 7; i++) {
+      salvarFamilia(cidade, "Rua " + i, base.minusHours(i / 2), i % 2 == 0 ? "ALTA" : "BAIXA");
+    }
+    entityManager.flush();
+    entityManager.clear();
+  }
+
+  @Test
+  void devePercorrerTodasAsFamiliasPorCursorSemRepetirRegistros() {
+    List<Long> esperados = familiaRepository
+      .buscarPosicoesFatia(null, 0, 100)
+      .stream()
+      .map(PosicaoFamilia::id)
+      .toList();
+
+    List<Long> percorridos = new ArrayList<>();
+    PosicaoFamilia ultima = null;
+    do {
+      List<PosicaoFamilia> pagina = ultima == null
+        ? familiaRepository.buscarPosicoesAposCursor(null, null, null, 3)
+        : familiaRepository.buscarPosicoesAposCursor(null, ultima.criadoEm(), ultima.id(), 3);
+      if (pagina.isEmpty()) {
+        break;
+      }
+      pagina.forEach(posicao -> percorridos.add(posicao.id()));
+      ultima = pagina.get(pagina.size() - 1);
+    } while (true);
+
+    assertEquals(7, esperados.size());
+    assertEquals(esperados, percorridos);
+  }
+
+  @Test
+  void deveAplicarFiltrosNaPaginacaoPorCursor() {
+    FamiliaFiltroRequestDTO filtro = new FamiliaFiltroRequestDTO();
+    filtro.setProbabilidadeVoto("alta");
+
+    List<PosicaoFamilia> primeira = familiaRepository.buscarPosicoesAposCursor(filtro, null, null, 2);
+    PosicaoFamilia ultima = primeira.get(1);
+    List<PosicaoFamilia> segunda = familiaRepository
+      .buscarPosicoesAposCursor(filtro, ultima.criadoEm(), ultima.id(), 10);
+
+    assertEquals(2, primeira.size());
+    assertEquals(2, segunda.size());
+    assertEquals(4, familiaRepository.contarFamilias(filtro));
+    assertTrue(segunda.stream().allMatch(posicao -> posicao.criadoEm().compareTo(ultima.criadoEm()) <= 0));
+  }
+
+  @Test
+  void deveBuscarTermoSemAcentoOrdenandoPorRelevancia() {
+    Cidade cidade = entityManager.merge(this.cidade);
+    OffsetDateTime base = OffsetDateTime.of(2024, 6, 1, 12, 0, 0, 0, ZoneOffset.UTC);
+    salvarFamilia(cidade, "Rua das Flores", base.minusDays(2), "ALTA", "Ana Paula Conceição");
+    salvarFamilia(cidade, "Rua dos Ipês", base, "ALTA", "Mariana Costa");
+    entityManager.flush();
+    entityManager.clear();
+
+    FamiliaFiltroRequestDTO porCidade = new FamiliaFiltroRequestDTO();
+    porCidade.setTermo("uberlandia");
+    assertEquals(9, familiaRepository.contarFamilias(porCidade));
+
+    FamiliaFiltroRequestDTO porNome = new FamiliaFiltroRequestDTO();
+    porNome.setTermo("  ANA ");
+    List<String> ruas = familiaRepository
+      .buscarPosicoesFatia(porNome, 0, 10)
+      .stream()
+      .map(posicao -> familiaRepository.findById(posicao.id()).orElseThrow().getEndereco())
+      .toList();
+    assertEquals(List.of("Rua das Flores, 10", "Rua dos Ipês, 10"), ruas);
+
+    FamiliaFiltroRequestDTO porAcento = new FamiliaFiltroRequestDTO();
+    porAcento.setTermo("conceicao");
+    assertEquals(1, familiaRepository.contarFamilias(porAcento));
+  }
+
+  private void salvarFamilia(Cidade cidade, String rua, OffsetDateTime criadoEm, String probabilidade) {
+    salvarFamilia(cidade, rua, criadoEm, probabilidade, "Responsável " + rua);
+  }
+
+  private void salvarFamilia(
+    Cidade cidade,
+    String rua,
+    OffsetDateTime criadoEm,
+    String probabilidade,
+    String responsavel
+  ) {
+    entityManager.persist(
+      FabricaFamiliaTeste
+        .familia(cidade, rua, "10")
+        .bairro("Centro")
+        .criadoEm(criadoEm)
+        .responsavel(responsavel, probabilidade)
+        .construir()
+    );
+  }
+}
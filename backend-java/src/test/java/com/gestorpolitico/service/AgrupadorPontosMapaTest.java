@@ -0,0 +1,67 @@
+package com.gestorpolitico.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.gestorpolitico.dto.ClusterMapaDTO;
+import com.gestorpolitico.repository.FamiliaMapaRepository.PontoMapaFamilia;
+import com.gestorpolitico.service.AgrupadorPontosMapa.LimitesMapa;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class AgrupadorPontosMapaTest {
+  @Test
+  void deveAgruparPontosProximosEmZoomBaixoESepararEmZoomAlto() {
+    List<PontoMapaFamilia> pontos = new ArrayList<>();
+    for (int i = 0; i < 50; i++) {
+      pontos.add(ponto(i, -18.918 + i * 0.0001, -48.277 + i * 0.0001));
+    }
+    pontos.add(ponto(100, -19.748, -47.931));
+    AgrupadorPontosMapa agrupador = new AgrupadorPontosMapa(pontos);
+
+    List<ClusterMapaDTO> zoomEstado = agrupador.agrupar(6, null);
+    assertEquals(2, zoomEstado.size());
+    assertEquals(50, zoomEstado.get(0).getQuantidade());
+    assertNull(zoomEstado.get(0).getFamiliaId());
+    assertEquals(-18.918 + 49 * 0.0001 / 2, zoomEstado.get(0).getLatitude(), 1e-9);
+    assertEquals(100L, zoomEstado.get(1).getFamiliaId());
+
+    List<ClusterMapaDTO> zoomRua = agrupador.agrupar(20, null);
+    assertTrue(zoomRua.size() > 2);
+    assertEquals(51, zoomRua.stream().mapToInt(ClusterMapaDTO::getQuantidade).sum());
+  }
+
+  @Test
+  void deveLimitarClustersAoRetanguloVisivel() {
+    AgrupadorPontosMapa agrupador = new AgrupadorPontosMapa(
+      List.of(ponto(1, -18.9, -48.2), ponto(2, -19.7, -47.9), ponto(3, 10.0, 179.5), ponto(4, 10.0, -179.5))
+    );
+
+    List<ClusterMapaDTO> uberlandia = agrupador.agrupar(10, new LimitesMapa(-48.5, -19.0, -48.0, -18.5));
+    assertEquals(1, uberlandia.size());
+    assertEquals(1L, uberlandia.get(0).getFamiliaId());
+
+    List<ClusterMapaDTO> antimeridiano = agrupador.agrupar(3, new LimitesMapa(170.0, 0.0, -170.0, 20.0));
+    assertEquals(2, antimeridiano.stream().mapToInt(ClusterMapaDTO::getQuantidade).sum());
+  }
+
+  @Test
+  void deveLimitarQuantidadeDeClustersPelaResolucao() {
+    List<PontoMapaFamilia> pontos = new ArrayList<>();
+    for (int i = 0; i < 10_000; i++) {
+      pontos.add(ponto(i, -18.0 - (i % 100) * 0.01, -48.0 - (i / 100) * 0.01));
+    }
+
+    List<ClusterMapaDTO> clusters = new AgrupadorPontosMapa(pontos).agrupar(8, null);
+
+    assertTrue(clusters.size() <= 16, "clusters: " + clusters.size());
+    assertEquals(10_000, clusters.stream().mapToInt(ClusterMapaDTO::getQuantidade).sum());
+  }
+
+  private PontoMapaFamilia ponto(long id, double latitude, double longitude) {
+    return new PontoMapaFamilia(id, BigDecimal.valueOf(latitude), BigDecimal.valueOf(longitude), "ALTA");
+  }
+}
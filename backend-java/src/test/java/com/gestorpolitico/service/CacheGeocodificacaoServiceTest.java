@@ -0,0 +1,149 @@
+package com.gestorpolitico.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.gestorpolitico.dto.MetricasCacheGeocodificacaoDTO;
+import com.gestorpolitico.entity.CacheGeocodificacao;
+import com.gestorpolitico.entity.Cidade;
+import com.gestorpolitico.entity.Endereco;
+import com.gestorpolitico.enums.ProvedorGeocodificacao;
+import com.gestorpolitico.enums.StatusGeocodificacao;
+import com.gestorpolitico.repository.CacheGeocodificacaoRepository;
+import com.gestorpolitico.repository.EnderecoRepository;
+import com.gestorpolitico.service.GeocodingService.Coordenada;
+import jakarta.persistence.EntityManager;
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.Optional;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+
+@DataJpaTest(properties = { "spring.flyway.enabled=false", "spring.jpa.hibernate.ddl-auto=create-drop" })
+class CacheGeocodificacaoServiceTest {
+  private static final String ENDERECO = "Rua Arpoador, 147, Tibery, Uberlândia - MG, CEP 38405142, Brasil";
+
+  @Autowired
+  private CacheGeocodificacaoRepository cacheGeocodificacaoRepository;
+
+  @Autowired
+  private EnderecoRepository enderecoRepository;
+
+  @Autowired
+  private EntityManager entityManager;
+
+  @Test
+  void devePreAquecerCacheComCoordenadasJaGravadasNosEnderecos() {
+    Cidade cidade = new Cidade();
+    cidade.setNome("Uberlândia");
+    cidade.setUf("MG");
+    entityManager.persist(cidade);
+    entityManager.persist(endereco(cidade, ENDERECO, StatusGeocodificacao.CONCLUIDO, -18.9365314, -48.2884139));
+    entityManager.persist(endereco(cidade, "Rua Sem Coordenada, 1, Uberlândia - MG, Brasil", StatusGeocodificacao.PENDENTE, null, null));
+    entityManager.flush();
+
+    CacheGeocodificacaoService cache = criarServico();
+
+    assertEquals(1, cache.preaquecer());
+    assertEquals(0, cache.preaquecer());
+
+    String chave = NormalizadorEndereco.normalizar(ENDERECO).chave();
+    CacheGeocodificacao persistido = cacheGeocodificacaoRepository.findById(chave).orElseThrow();
+    assertEquals(ProvedorGeocodificacao.ENDERECOS, persistido.getProvedor());
+    assertEquals(Optional.of(new Coordenada(-18.9365314, -48.2884139)), criarServico().buscar(chave));
+  }
+
+  @Test
+  void deveManterResultadosEntreReiniciosERegistrarAcessos() {
+    criarServico().registrar("RUA A 1 UBERLANDIA", Optional.of(new Coordenada(-18.9, -48.2, "house")));
+    criarServico().registrar("RUA INEXISTENTE", Optional.empty());
+    entityManager.flush();
+
+    CacheGeocodificacaoService reiniciado = criarServico();
+    assertEquals(Optional.of(new Coordenada(-18.9, -48.2, "house")), reiniciado.buscar("RUA A 1 UBERLANDIA"));
+    assertEquals(Optional.empty(), reiniciado.buscar("RUA INEXISTENTE"));
+    assertNull(reiniciado.buscar("RUA DESCONHECIDA"));
+
+    entityManager.clear();
+    CacheGeocodificacao positivo = cacheGeocodificacaoRepository.findById("RUA A 1 UBERLANDIA").orElseThrow();
+    CacheGeocodificacao negativo = cacheGeocodificacaoRepository.findById("RUA INEXISTENTE").orElseThrow();
+    assertEquals(1, positivo.getAcessos());
+    assertEquals("house", positivo.getPrecisao());
+    assertTrue(positivo.getUltimoAcessoEm() != null);
+    assertTrue(negativo.getExpiraEm().isBefore(positivo.getExpiraEm()));
+  }
+
+  @Test
+  void deveIgnorarEntradasExpiradas() {
+    CacheGeocodificacao expirado = new CacheGeocodificacao();
+    expirado.setChave("RUA ANTIGA");
+    expirado.setLatitude(BigDecimal.ONE);
+    expirado.setLongitude(BigDecimal.ONE);
+    expirado.setProvedor(ProvedorGeocodificacao.NOMINATIM);
+    expirado.setConsultadoEm(OffsetDateTime.now().minusDays(200));
+    expirado.setExpiraEm(OffsetDateTime.now().minusDays(20));
+    cacheGeocodificacaoRepository.saveAndFlush(expirado);
+
+    CacheGeocodificacaoService cache = criarServico();
+    assertNull(cache.buscar("RUA ANTIGA"));
+
+    cache.removerExpirados();
+    entityManager.clear();
+    assertTrue(cacheGeocodificacaoRepository.findById("RUA ANTIGA").isEmpty());
+  }
+
+  @Test
+  void deveExpirarNegativosRapidamenteNaMemoriaEExporMetricas() {
+    CacheGeocodificacaoService cache = criarServico(Duration.ZERO);
+    cache.registrar("RUA A 1 UBERLANDIA", Optional.of(new Coordenada(-18.9, -48.2, "house")));
+    cache.registrar("RUA INEXISTENTE", Optional.empty());
+    entityManager.flush();
+
+    assertEquals(Optional.of(new Coordenada(-18.9, -48.2, "house")), cache.buscar("RUA A 1 UBERLANDIA"));
+    assertEquals(Optional.empty(), cache.buscar("RUA INEXISTENTE"));
+
+    MetricasCacheGeocodificacaoDTO metricas = cache.buscarMetricas();
+    assertEquals(1, metricas.getAcertos());
+    assertEquals(1, metricas.getFaltas());
+    assertEquals(1, metricas.getCarregamentos());
+    assertEquals(1_000_000L, metricas.getPesoMaximoBytes());
+  }
+
+  private CacheGeocodificacaoService criarServico() {
+    return criarServico(Duration.ofMinutes(5));
+  }
+
+  private CacheGeocodificacaoService criarServico(Duration validadeNegativaMemoria) {
+    return new CacheGeocodificacaoService(
+      cacheGeocodificacaoRepository,
+      enderecoRepository,
+      Duration.ofDays(180),
+      Duration.ofDays(1),
+      validadeNegativaMemoria,
+      1_000_000L
+    );
+  }
+
+  private Endereco endereco(
+    Cidade cidade,
+    String enderecoCompleto,
+    StatusGeocodificacao status,
+    Double latitude,
+    Double longitude
+  ) {
+    Endereco endereco = new Endereco();
+    endereco.setRua("Rua");
+    endereco.setNumero("1");
+    endereco.setCidade(cidade);
+    endereco.setEnderecoGeocodificacao(enderecoCompleto);
+    endereco.setStatusGeocodificacao(status);
+    if (latitude != null) {
+      endereco.setLatitude(BigDecimal.valueOf(latitude));
+      endereco.setLongitude(BigDecimal.valueOf(longitude));
+    }
+    return endereco;
+  }
+}
@@ -0,0 +1,88 @@
+package com.gestorpolitico.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.gestorpolitico.repository.CacheCepRepository;
+import com.gestorpolitico.service.CepService.CepResultado;
+import com.gestorpolitico.service.ClienteCepRemoto.FalhaConsultaCepException;
+import java.time.Duration;
+import java.util.Optional;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class CepServiceTest {
+  private final ClienteCepRemoto clienteCepRemoto = mock(ClienteCepRemoto.class);
+  private CepService cepService;
+
+  @AfterEach
+  void tearDown() {
+    cepService.encerrar();
+  }
+
+  @Test
+  void deveServirConsultasRepetidasDoCacheSemNovaRequisicao() {
+    cepService = criarServico(Duration.ofDays(7));
+    when(clienteCepRemoto.consultar("01001000")).thenReturn(Optional.of(resultado("Praça da Sé")));
+
+    Optional<CepResultado> primeira = cepService.consultarCep("01001-000");
+    Optional<CepResultado> segunda = cepService.consultarCep("01001000");
+
+    assertEquals("Praça da Sé", primeira.orElseThrow().logradouro());
+    assertEquals(primeira, segunda);
+    verify(clienteCepRemoto, times(1)).consultar("01001000");
+  }
+
+  @Test
+  void deveResponderComEntradaVencidaEAtualizarEmSegundoPlano() throws InterruptedException {
+    cepService = criarServico(Duration.ZERO);
+    when(clienteCepRemoto.consultar("01001000"))
+      .thenReturn(Optional.of(resultado("Praça da Sé")), Optional.of(resultado("Praça da Sé - lado par")));
+
+    assertEquals("Praça da Sé", cepService.consultarCep("01001000").orElseThrow().logradouro());
+    assertEquals("Praça da Sé", cepService.consultarCep("01001000").orElseThrow().logradouro());
+
+    verify(clienteCepRemoto, timeout(5_000).times(2)).consultar("01001000");
+    long limite = System.currentTimeMillis() + 5_000;
+    String logradouro = null;
+    while (System.currentTimeMillis() < limite) {
+      logradouro = cepService.consultarCep("01001000").orElseThrow().logradouro();
+      if ("Praça da Sé - lado par".equals(logradouro)) {
+        break;
+      }
+      Thread.sleep(20);
+    }
+    assertEquals("Praça da Sé - lado par", logradouro);
+  }
+
+  @Test
+  void deveConsultarNovamenteAposFalhaTemporaria() {
+    cepService = criarServico(Duration.ofDays(7));
+    when(clienteCepRemoto.consultar("01001000"))
+      .thenThrow(new FalhaConsultaCepException("indisponível", null))
+      .thenReturn(Optional.of(resultado("Praça da Sé")));
+
+    assertTrue(cepService.consultarCep("01001000").isEmpty());
+    assertTrue(cepService.consultarCep("01001000").isPresent());
+    verify(clienteCepRemoto, times(2)).consultar("01001000");
+  }
+
+  private CepService criarServico(Duration intervaloAtualizacao) {
+    CacheCepService cacheCepService = new CacheCepService(
+      mock(CacheCepRepository.class),
+      Duration.ofDays(90),
+      Duration.ofDays(1),
+      intervaloAtualizacao
+    );
+    return new CepService(clienteCepRemoto, new IndiceCepService(""), cacheCepService);
+  }
+
+  private CepResultado resultado(String logradouro) {
+    return new CepResultado("01001000", logradouro, "Sé", "São Paulo", "SP", "3550308");
+  }
+}
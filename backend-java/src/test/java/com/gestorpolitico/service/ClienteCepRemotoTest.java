@@ -0,0 +1,120 @@
+package com.gestorpolitico.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.gestorpolitico.dto.MetricasCepDTO;
+import com.gestorpolitico.dto.MetricasProvedorCepDTO;
+import com.gestorpolitico.service.CepService.CepResultado;
+import com.gestorpolitico.service.ClienteCepRemoto.FalhaConsultaCepException;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.reactive.function.client.WebClient;
+
+class ClienteCepRemotoTest {
+  private static final String CORPO_BRASIL_API =
+    "{\"cep\":\"01001000\",\"street\":\"Praça da Sé\",\"neighborhood\":\"Sé\",\"city\":\"São Paulo\",\"state\":\"SP\",\"city_ibge\":\"3550308\"}";
+  private static final String CORPO_VIA_CEP =
+    "{\"cep\":\"01001-000\",\"logradouro\":\"Praça da Sé\",\"bairro\":\"Sé\",\"localidade\":\"São Paulo\",\"uf\":\"SP\",\"ibge\":\"3550308\"}";
+
+  private MockWebServer brasilApi;
+  private MockWebServer viaCep;
+
+  @BeforeEach
+  void setUp() throws IOException {
+    brasilApi = new MockWebServer();
+    brasilApi.start();
+    viaCep = new MockWebServer();
+    viaCep.start();
+  }
+
+  @AfterEach
+  void tearDown() throws IOException {
+    brasilApi.shutdown();
+    viaCep.shutdown();
+  }
+
+  @Test
+  void deveUsarProvedorReservaQuandoPrincipalDemoraAlemDoLimiar() {
+    ClienteCepRemoto cliente = criarCliente(5);
+    brasilApi.enqueue(json(CORPO_BRASIL_API).setHeadersDelay(3, TimeUnit.SECONDS));
+    viaCep.enqueue(json(CORPO_VIA_CEP));
+
+    long inicio = System.nanoTime();
+    Optional<CepResultado> resultado = cliente.consultar("01001000");
+    long decorridoMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - inicio);
+
+    assertEquals(new CepResultado("01001000", "Praça da Sé", "Sé", "São Paulo", "SP", "3550308"), resultado.orElseThrow());
+    assertTrue(decorridoMs < 900, "a reserva deveria responder antes do tempo limite: " + decorridoMs + " ms");
+    MetricasCepDTO metricas = cliente.buscarMetricas();
+    assertEquals(1, metricas.getConsultasReserva());
+    assertEquals(1, metricas.getRespostasReserva());
+  }
+
+  @Test
+  void deveAceitarCepInexistenteDoPrincipalSemConsultarReserva() {
+    ClienteCepRemoto cliente = criarCliente(5);
+    brasilApi.enqueue(new MockResponse().setResponseCode(404));
+
+    assertEquals(Optional.empty(), cliente.consultar("99999999"));
+    assertEquals(0, viaCep.getRequestCount());
+  }
+
+  @Test
+  void deveAbrirCircuitoAposFalhasConsecutivasEIrDiretoParaReserva() {
+    ClienteCepRemoto cliente = criarCliente(2);
+    for (int i = 0; i < 2; i++) {
+      brasilApi.enqueue(new MockResponse().setResponseCode(503));
+    }
+    for (int i = 0; i < 3; i++) {
+      viaCep.enqueue(json(CORPO_VIA_CEP));
+    }
+
+    for (int i = 0; i < 3; i++) {
+      assertTrue(cliente.consultar("01001000").isPresent());
+    }
+
+    assertEquals(2, brasilApi.getRequestCount());
+    MetricasProvedorCepDTO principal = cliente.buscarMetricas().getProvedores().get(0);
+    assertEquals("ABERTO", principal.getEstadoCircuito());
+    assertEquals(2, principal.getFalhas());
+    assertEquals(1, principal.getRejeitadasPeloCircuito());
+  }
+
+  @Test
+  void deveFalharQuandoNenhumProvedorResponde() {
+    ClienteCepRemoto cliente = criarCliente(5);
+    brasilApi.enqueue(new MockResponse().setResponseCode(500));
+    viaCep.enqueue(json(CORPO_VIA_CEP).setHeadersDelay(3, TimeUnit.SECONDS));
+
+    assertThrows(FalhaConsultaCepException.class, () -> cliente.consultar("01001000"));
+    assertEquals(1, cliente.buscarMetricas().getProvedores().get(1).getTimeouts());
+  }
+
+  private ClienteCepRemoto criarCliente(int limiteFalhas) {
+    return new ClienteCepRemoto(
+      WebClient.builder().build(),
+      brasilApi.url("/api/cep/v2/").toString(),
+      viaCep.url("/ws/").toString(),
+      Duration.ofSeconds(1),
+      Duration.ofMillis(200),
+      limiteFalhas,
+      Duration.ofMinutes(1)
+    );
+  }
+
+  private MockResponse json(String corpo) {
+    return new MockResponse()
+      .setResponseCode(200)
+      .setHeader("Content-Type", "application/json; charset=utf-8")
+      .setBody(corpo);
+  }
+}
@@ -0,0 +1,94 @@
+package com.gestorpolitico.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+class ConsultasEmAndamentoTest {
+  private static final int CHAMADORES = 8;
+
+  @Test
+  void deveCompartilharUmaUnicaConsultaEntreChamadoresConcorrentes() throws Exception {
+    ConsultasEmAndamento<String, String> consultas = new ConsultasEmAndamento<>();
+    AtomicInteger execucoes = new AtomicInteger();
+    CountDownLatch liberar = new CountDownLatch(1);
+    ExecutorService executor = Executors.newFixedThreadPool(CHAMADORES);
+    try {
+      List<Future<String>> resultados = new ArrayList<>();
+      for (int i = 0; i < CHAMADORES; i++) {
+        resultados.add(executor.submit(() -> consultas.executar("38405142", () -> {
+          execucoes.incrementAndGet();
+          aguardar(liberar);
+          return "Uberlândia";
+        })));
+      }
+      while (execucoes.get() + consultas.compartilhadas() < CHAMADORES) {
+        Thread.sleep(5);
+      }
+      liberar.countDown();
+
+      for (Future<String> resultado : resultados) {
+        assertEquals("Uberlândia", resultado.get(5, TimeUnit.SECONDS));
+      }
+      assertEquals(1, execucoes.get());
+      assertEquals(CHAMADORES - 1, consultas.compartilhadas());
+
+      assertEquals("Uberlândia", consultas.executar("38405142", () -> {
+        execucoes.incrementAndGet();
+        return "Uberlândia";
+      }));
+      assertEquals(2, execucoes.get());
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  @Test
+  void devePropagarFalhaParaTodosOsChamadoresAguardando() throws Exception {
+    ConsultasEmAndamento<String, String> consultas = new ConsultasEmAndamento<>();
+    IllegalStateException falha = new IllegalStateException("indisponível");
+    CountDownLatch iniciou = new CountDownLatch(1);
+    CountDownLatch liberar = new CountDownLatch(1);
+    ExecutorService executor = Executors.newFixedThreadPool(2);
+    try {
+      Future<String> lider = executor.submit(() -> consultas.executar("01001000", () -> {
+        iniciou.countDown();
+        aguardar(liberar);
+        throw falha;
+      }));
+      aguardar(iniciou);
+      Future<String> seguidor = executor.submit(() -> consultas.executar("01001000", () -> "nunca"));
+      while (consultas.compartilhadas() == 0) {
+        Thread.sleep(5);
+      }
+      liberar.countDown();
+
+      ExecutionException erroLider = assertThrows(ExecutionException.class, () -> lider.get(5, TimeUnit.SECONDS));
+      ExecutionException erroSeguidor = assertThrows(ExecutionException.class, () -> seguidor.get(5, TimeUnit.SECONDS));
+      assertSame(falha, erroLider.getCause());
+      assertSame(falha, erroSeguidor.getCause());
+      assertEquals("nova", consultas.executar("01001000", () -> "nova"));
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  private static void aguardar(CountDownLatch latch) {
+    try {
+      latch.await(5, TimeUnit.SECONDS);
+    } catch (InterruptedException ex) {
+      Thread.currentThread().interrupt();
+    }
+  }
+}
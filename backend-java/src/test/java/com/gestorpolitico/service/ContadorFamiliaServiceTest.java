@@ -0,0 +1,145 @@
+package com.gestorpolitico.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import com.gestorpolitico.dto.FamiliaFiltroRequestDTO;
+import com.gestorpolitico.entity.Bairro;
+import com.gestorpolitico.entity.Cidade;
+import com.gestorpolitico.entity.ContadorCadastroDiario;
+import com.gestorpolitico.entity.ContadorCadastroDiarioId;
+import com.gestorpolitico.entity.ContadorFamilia;
+import com.gestorpolitico.entity.ContadorFamiliaId;
+import com.gestorpolitico.enums.EscopoContador;
+import com.gestorpolitico.repository.ContadorCadastroDiarioRepository;
+import com.gestorpolitico.repository.ContadorFamiliaRepository;
+import com.gestorpolitico.repository.FamiliaEstatisticasRepository.EstatisticasFamilias;
+import com.gestorpolitico.service.ContadorFamiliaService.PegadaFamilia;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class ContadorFamiliaServiceTest {
+  private static final LocalDate HOJE = LocalDate.of(2024, 5, 10);
+
+  @Mock
+  private ContadorFamiliaRepository contadorFamiliaRepository;
+
+  @Mock
+  private ContadorCadastroDiarioRepository contadorCadastroDiarioRepository;
+
+  @InjectMocks
+  private ContadorFamiliaService contadorFamiliaService;
+
+  @Test
+  void deveIncrementarTodosOsEscoposAoIncluirFamilia() {
+    PegadaFamilia pegada = new PegadaFamilia(1L, 7L, "Zona Norte", HOJE, 3, true, Map.of(HOJE, 3L));
+
+    contadorFamiliaService.registrarInclusao(pegada);
+
+    verify(contadorFamiliaRepository).incrementar("GLOBAL", "*", 1, 3, 1);
+    verify(contadorFamiliaRepository).incrementar("CIDADE", "1", 1, 3, 1);
+    verify(contadorFamiliaRepository).incrementar("REGIAO", "1:zona norte", 1, 3, 1);
+    verify(contadorFamiliaRepository).incrementar("BAIRRO", "7", 1, 3, 1);
+    verify(contadorCadastroDiarioRepository).incrementar("GLOBAL", "*", HOJE, 1, 3);
+    verify(contadorCadastroDiarioRepository).incrementar("BAIRRO", "7", HOJE, 1, 3);
+  }
+
+  @Test
+  void deveAtualizarApenasEscoposAfetadosAoMudarDeBairro() {
+    PegadaFamilia anterior = new PegadaFamilia(1L, 7L, "Zona Norte", HOJE, 2, true, Map.of(HOJE, 2L));
+    PegadaFamilia atual = new PegadaFamilia(1L, 8L, "Zona Norte", HOJE, 2, true, Map.of(HOJE, 2L));
+
+    contadorFamiliaService.registrarAlteracao(anterior, atual);
+
+    verify(contadorFamiliaRepository).incrementar("BAIRRO", "7", -1, -2, -1);
+    verify(contadorFamiliaRepository).incrementar("BAIRRO", "8", 1, 2, 1);
+    verify(contadorFamiliaRepository, never()).incrementar(eq("GLOBAL"), anyString(), anyLong(), anyLong(), anyLong());
+    verify(contadorFamiliaRepository, never()).incrementar(eq("REGIAO"), anyString(), anyLong(), anyLong(), anyLong());
+  }
+
+  @Test
+  void deveTransferirContadoresDoBairroAoMudarDeRegiao() {
+    Cidade cidade = new Cidade();
+    cidade.setId(1L);
+    Bairro bairro = new Bairro();
+    bairro.setId(7L);
+    bairro.setCidade(cidade);
+    bairro.setRegiao("Zona Sul");
+
+    ContadorFamilia contadorBairro = new ContadorFamilia();
+    contadorBairro.setId(new ContadorFamiliaId(EscopoContador.BAIRRO, "7"));
+    contadorBairro.setFamilias(4);
+    contadorBairro.setMembros(10);
+    contadorBairro.setResponsaveis(4);
+    when(contadorFamiliaRepository.findById(new ContadorFamiliaId(EscopoContador.BAIRRO, "7")))
+      .thenReturn(Optional.of(contadorBairro));
+
+    ContadorCadastroDiario diario = new ContadorCadastroDiario();
+    diario.setId(new ContadorCadastroDiarioId(EscopoContador.BAIRRO, "7", HOJE));
+    diario.setFamilias(1);
+    diario.setMembros(2);
+    when(contadorCadastroDiarioRepository.findByIdEscopoAndIdChave(EscopoContador.BAIRRO, "7"))
+      .thenReturn(List.of(diario));
+
+    contadorFamiliaService.registrarMudancaRegiao(bairro, "Zona Norte");
+
+    verify(contadorFamiliaRepository).incrementar("REGIAO", "1:zona norte", -4, -10, -4);
+    verify(contadorFamiliaRepository).incrementar("REGIAO", "1:zona sul", 4, 10, 4);
+    verify(contadorCadastroDiarioRepository).incrementar("REGIAO", "1:zona norte", HOJE, -1, -2);
+    verify(contadorCadastroDiarioRepository).incrementar("REGIAO", "1:zona sul", HOJE, 1, 2);
+  }
+
+  @Test
+  void deveRecorrerAConsultaQuandoFiltroNaoPossuiContador() {
+    FamiliaFiltroRequestDTO filtro = new FamiliaFiltroRequestDTO();
+    filtro.setCidadeId(1L);
+    filtro.setTermo("silva");
+
+    assertTrue(contadorFamiliaService.buscarEstatisticas(filtro).isEmpty());
+    verifyNoInteractions(contadorFamiliaRepository, contadorCadastroDiarioRepository);
+  }
+
+  @Test
+  void deveLerEstatisticasDaCidadeDosContadores() {
+    ContadorFamilia contador = new ContadorFamilia();
+    contador.setFamilias(12);
+    contador.setMembros(40);
+    contador.setResponsaveis(11);
+    when(contadorFamiliaRepository.findById(new ContadorFamiliaId(EscopoContador.CIDADE, "1")))
+      .thenReturn(Optional.of(contador));
+
+    ContadorCadastroDiario diario = new ContadorCadastroDiario();
+    diario.setFamilias(2);
+    diario.setMembros(5);
+    when(
+      contadorCadastroDiarioRepository.findByIdEscopoAndIdChaveAndIdDiaGreaterThanEqual(
+        eq(EscopoContador.CIDADE),
+        eq("1"),
+        any(LocalDate.class)
+      )
+    ).thenReturn(List.of(diario));
+
+    FamiliaFiltroRequestDTO filtro = new FamiliaFiltroRequestDTO();
+    filtro.setCidadeId(1L);
+
+    Optional<EstatisticasFamilias> estatisticas = contadorFamiliaService.buscarEstatisticas(filtro);
+
+    assertEquals(Optional.of(new EstatisticasFamilias(11, 2, 40, 5)), estatisticas);
+  }
+}
@@ -0,0 +1,108 @@
+package com.gestorpolitico.service;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DistanciaLevenshteinBenchmark {
+  private static final double SIMILARIDADE_MINIMA = 0.9;
+  private static final String[] BAIRROS = {
+    "CENTRO",
+    "SANTA MONICA",
+    "JARDIM BOTANICO",
+    "JARDIM BRASILIA",
+    "JARDIM DAS PALMEIRAS",
+    "VILA MARIANA",
+    "VILA MADALENA",
+    "CONJUNTO HABITACIONAL PRESIDENTE CASTELO BRANCO",
+    "PARQUE RESIDENCIAL DOS IPES",
+    "NOSSA SENHORA APARECIDA",
+    "SAO JORGE",
+    "SAO JOSE",
+    "TUBALINA",
+    "CIDADE JARDIM",
+    "GRANADA",
+    "LUIZOTE DE FREITAS",
+    "MORUMBI",
+    "TIBERY",
+    "BRASIL",
+    "SANTA LUZIA"
+  };
+  private static final String[] CONSULTAS = {
+    "SANTA MONIKA",
+    "JARDIM BOTANICOS",
+    "CONJ HABITACIONAL PRES CASTELO BRANCO",
+    "VILA MARIANNA",
+    "SAO JOSE",
+    "PARQUE RESIDENCIAL IPES"
+  };
+
+  private IndiceBairrosCidade indice;
+
+  @Setup
+  public void prepararIndice() {
+    indice = new IndiceBairrosCidade();
+    for (int i = 0; i < BAIRROS.length; i++) {
+      indice.adicionar((long) i, BAIRROS[i]);
+    }
+  }
+
+  @Benchmark
+  public void matrizCompleta(Blackhole blackhole) {
+    for (String consulta : CONSULTAS) {
+      for (String bairro : BAIRROS) {
+        blackhole.consume(similaridadePorMatriz(consulta, bairro));
+      }
+    }
+  }
+
+  @Benchmark
+  public void indiceBairros(Blackhole blackhole) {
+    for (String consulta : CONSULTAS) {
+      blackhole.consume(indice.buscar(consulta, SIMILARIDADE_MINIMA));
+    }
+  }
+
+  public static void main(String[] args) throws RunnerException {
+    new Runner(new OptionsBuilder().include(DistanciaLevenshteinBenchmark.class.getSimpleName()).build()).run();
+  }
+
+  private static double similaridadePorMatriz(String primeiro, String segundo) {
+    if (primeiro.equals(segundo)) {
+      return 1.0;
+    }
+    int[][] matriz = new int[primeiro.length() + 1][segundo.length() + 1];
+    for (int i = 0; i <= primeiro.length(); i++) {
+      matriz[i][0] = i;
+    }
+    for (int j = 0; j <= segundo.length(); j++) {
+      matriz[0][j] = j;
+    }
+    for (int i = 1; i <= primeiro.length(); i++) {
+      for (int j = 1; j <= segundo.length(); j++) {
+        int custo = primeiro.charAt(i - 1) == segundo.charAt(j - 1) ? 0 : 1;
+        matriz[i][j] = Math.min(Math.min(matriz[i - 1][j] + 1, matriz[i][j - 1] + 1), matriz[i - 1][j - 1] + custo);
+      }
+    }
+    int maiorTamanho = Math.max(primeiro.length(), segundo.length());
+    return (maiorTamanho - matriz[primeiro.length()][segundo.length()]) / (double) maiorTamanho;
+  }
+}
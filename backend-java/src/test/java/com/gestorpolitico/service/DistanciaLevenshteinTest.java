@@ -0,0 +1,83 @@
+package com.gestorpolitico.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+class DistanciaLevenshteinTest {
+  @Test
+  void deveCoincidirComMatrizCompletaDentroDoLimite() {
+    Random aleatorio = new Random(42);
+    for (int i = 0; i < 2_000; i++) {
+      String primeiro = gerarTexto(aleatorio);
+      String segundo = aleatorio.nextBoolean() ? gerarTexto(aleatorio) : alterar(primeiro, aleatorio);
+      int esperada = distanciaPorMatriz(primeiro, segundo);
+      int maximo = aleatorio.nextInt(6);
+
+      assertEquals(esperada, DistanciaLevenshtein.calcular(primeiro, segundo));
+      int limitada = DistanciaLevenshtein.calcularLimitada(primeiro, segundo, maximo);
+      if (esperada <= maximo) {
+        assertEquals(esperada, limitada, primeiro + " x " + segundo);
+      } else {
+        assertTrue(limitada > maximo, primeiro + " x " + segundo);
+      }
+    }
+  }
+
+  @Test
+  void deveCalcularRaioDeBuscaPelaSimilaridadeMinima() {
+    assertEquals(2, DistanciaLevenshtein.raioBusca(18, 0.9));
+    assertEquals(1, DistanciaLevenshtein.raioBusca(10, 0.9));
+    assertEquals(0, DistanciaLevenshtein.raioBusca(6, 0.9));
+  }
+
+  private static String gerarTexto(Random aleatorio) {
+    StringBuilder texto = new StringBuilder();
+    int tamanho = aleatorio.nextInt(14);
+    for (int i = 0; i < tamanho; i++) {
+      texto.append((char) ('A' + aleatorio.nextInt(4)));
+    }
+    return texto.toString();
+  }
+
+  private static String alterar(String texto, Random aleatorio) {
+    StringBuilder alterado = new StringBuilder(texto);
+    int edicoes = aleatorio.nextInt(4);
+    for (int i = 0; i < edicoes; i++) {
+      int posicao = alterado.length() == 0 ? 0 : aleatorio.nextInt(alterado.length());
+      switch (aleatorio.nextInt(3)) {
+        case 0 -> alterado.insert(posicao, 'Z');
+        case 1 -> {
+          if (alterado.length() > 0) {
+            alterado.deleteCharAt(posicao);
+          }
+        }
+        default -> {
+          if (alterado.length() > 0) {
+            alterado.setCharAt(posicao, 'Y');
+          }
+        }
+      }
+    }
+    return alterado.toString();
+  }
+
+  private static int distanciaPorMatriz(String primeiro, String segundo) {
+    int[][] matriz = new int[primeiro.length() + 1][segundo.length() + 1];
+    for (int i = 0; i <= primeiro.length(); i++) {
+      matriz[i][0] = i;
+    }
+    for (int j = 0; j <= segundo.length(); j++) {
+      matriz[0][j] = j;
+    }
+    for (int i = 1; i <= primeiro.length(); i++) {
+      for (int j = 1; j <= segundo.length(); j++) {
+        int custo = primeiro.charAt(i - 1) == segundo.charAt(j - 1) ? 0 : 1;
+        matriz[i][j] = Math.min(Math.min(matriz[i - 1][j] + 1, matriz[i][j - 1] + 1), matriz[i - 1][j - 1] + custo);
+      }
+    }
+    return matriz[primeiro.length()][segundo.length()];
+  }
+}
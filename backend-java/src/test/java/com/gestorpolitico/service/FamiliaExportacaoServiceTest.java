@@ -0,0 +1,94 @@
+package com.gestorpolitico.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.gestorpolitico.dto.FamiliaFiltroRequestDTO;
+import com.gestorpolitico.entity.Bairro;
+import com.gestorpolitico.entity.Cidade;
+import com.gestorpolitico.entity.FabricaFamiliaTeste;
+import com.gestorpolitico.enums.FormatoExportacao;
+import com.gestorpolitico.repository.FamiliaRepository;
+import jakarta.persistence.EntityManager;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.OffsetDateTime;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+
+@DataJpaTest(properties = { "spring.flyway.enabled=false", "spring.jpa.hibernate.ddl-auto=create-drop" })
+class FamiliaExportacaoServiceTest {
+  @Autowired
+  private FamiliaRepository familiaRepository;
+
+  @Autowired
+  private EntityManager entityManager;
+
+  private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+
+  private FamiliaExportacaoService familiaExportacaoService;
+
+  @BeforeEach
+  void prepararDados() {
+    familiaExportacaoService = new FamiliaExportacaoService(familiaRepository, objectMapper);
+
+    Cidade cidade = FabricaFamiliaTeste.cidade("Uberlândia", "MG");
+    entityManager.persist(cidade);
+
+    Bairro bairro = FabricaFamiliaTeste.bairro(cidade, "Centro", "Central");
+    entityManager.persist(bairro);
+
+    salvarFamilia(bairro, "Rua Goiás", "Maria \"Nina\" Souza", "ALTA");
+    salvarFamilia(bairro, "Avenida Afonso Pena, bloco B", "João Lima", "BAIXA");
+    entityManager.flush();
+    entityManager.clear();
+  }
+
+  @Test
+  void deveExportarCsvEscapandoCampos() throws Exception {
+    ByteArrayOutputStream saida = new ByteArrayOutputStream();
+
+    long total = familiaExportacaoService.exportar(null, FormatoExportacao.CSV, saida);
+
+    String[] linhas = saida.toString(StandardCharsets.UTF_8).split("\n");
+    assertEquals(2, total);
+    assertEquals(3, linhas.length);
+    assertTrue(linhas[0].startsWith("id,criado_em,responsavel,total_membros"));
+    assertTrue(linhas[1].contains(",\"Maria \"\"Nina\"\" Souza\",2,Rua Goiás,"));
+    assertTrue(linhas[1].endsWith(",Centro,Central,Uberlândia,MG,-18.9186000,-48.2772000"));
+    assertTrue(linhas[2].contains(",\"Avenida Afonso Pena, bloco B\","));
+  }
+
+  @Test
+  void deveExportarNdjsonAplicandoFiltro() throws Exception {
+    FamiliaFiltroRequestDTO filtro = new FamiliaFiltroRequestDTO();
+    filtro.setProbabilidadeVoto("baixa");
+    ByteArrayOutputStream saida = new ByteArrayOutputStream();
+
+    long total = familiaExportacaoService.exportar(filtro, FormatoExportacao.NDJSON, saida);
+
+    String[] linhas = saida.toString(StandardCharsets.UTF_8).split("\n");
+    assertEquals(1, total);
+    JsonNode linha = objectMapper.readTree(linhas[0]);
+    assertEquals("João Lima", linha.get("responsavel").asText());
+    assertEquals(2, linha.get("totalMembros").asInt());
+    assertEquals("Central", linha.get("regiao").asText());
+  }
+
+  private void salvarFamilia(Bairro bairro, String rua, String responsavel, String probabilidade) {
+    entityManager.persist(
+      FabricaFamiliaTeste
+        .familia(bairro, rua, "100")
+        .cep("38400000")
+        .coordenadas("-18.9186000", "-48.2772000")
+        .criadoEm(OffsetDateTime.now())
+        .responsavel(responsavel, probabilidade)
+        .membro(FabricaFamiliaTeste.membro("Dependente de " + responsavel, false, probabilidade))
+        .construir()
+    );
+  }
+}
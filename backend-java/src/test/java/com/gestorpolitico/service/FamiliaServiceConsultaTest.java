@@ -0,0 +1,131 @@
+package com.gestorpolitico.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+
+import com.gestorpolitico.dto.FamiliaListaResponseDTO;
+import com.gestorpolitico.dto.FamiliaResponseDTO;
+import com.gestorpolitico.dto.MembroFamiliaResponseDTO;
+import com.gestorpolitico.entity.Bairro;
+import com.gestorpolitico.entity.Cidade;
+import com.gestorpolitico.entity.FabricaFamiliaTeste;
+import com.gestorpolitico.entity.Familia;
+import com.gestorpolitico.entity.MembroFamilia;
+import com.gestorpolitico.entity.Parceiro;
+import com.gestorpolitico.enums.Parentesco;
+import jakarta.persistence.EntityManager;
+import java.time.OffsetDateTime;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+
+@DataJpaTest(
+  properties = {
+    "spring.flyway.enabled=false",
+    "spring.jpa.hibernate.ddl-auto=create-drop",
+    "spring.jpa.properties.hibernate.generate_statistics=true"
+  }
+)
+@Import({ FamiliaService.class, ContadorFamiliaService.class, IndiceBairrosService.class })
+class FamiliaServiceConsultaTest {
+  private static final Sort ORDENACAO = Sort.by(Sort.Direction.DESC, "criadoEm", "id");
+
+  @MockBean
+  private CepService cepService;
+
+  @Autowired
+  private FamiliaService familiaService;
+
+  @Autowired
+  private EntityManager entityManager;
+
+  private Statistics estatisticas;
+
+  @BeforeEach
+  void prepararDados() {
+    Cidade cidade = FabricaFamiliaTeste.cidade("São Paulo", "SP");
+    entityManager.persist(cidade);
+
+    Bairro bairro = FabricaFamiliaTeste.bairro(cidade, "Santana", "Zona Norte");
+    entityManager.persist(bairro);
+
+    OffsetDateTime base = OffsetDateTime.now();
+    Parceiro parceiroAnterior = null;
+    for (int i = 0; i < 30; i++) {
+      Familia familia = salvarFamilia(bairro, i, base.minusMinutes(i), parceiroAnterior);
+      MembroFamilia responsavel = familia.getMembros().get(0);
+      Parceiro parceiro = new Parceiro();
+      parceiro.setMembro(responsavel);
+      parceiro.setToken("token-" + i);
+      entityManager.persist(parceiro);
+      parceiroAnterior = parceiro;
+    }
+
+    entityManager.flush();
+    entityManager.clear();
+    estatisticas = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+  }
+
+  @Test
+  void deveManterQuantidadeDeConsultasConstanteIndependenteDoTamanhoDaPagina() {
+    long consultasPaginaPequena = contarConsultas(5);
+    long consultasPaginaGrande = contarConsultas(25);
+
+    assertEquals(consultasPaginaPequena, consultasPaginaGrande);
+    assertEquals(3, consultasPaginaGrande);
+  }
+
+  @Test
+  void deveConverterFamiliasCarregadasEmLote() {
+    FamiliaListaResponseDTO resposta = familiaService.buscarFamilias(null, PageRequest.of(0, 10, ORDENACAO), false);
+
+    assertEquals(10, resposta.getFamilias().size());
+    FamiliaResponseDTO primeira = resposta.getFamilias().get(0);
+    assertEquals("Rua 0, 10", primeira.getEndereco());
+    assertEquals("Santana", primeira.getEnderecoDetalhado().getBairro());
+    assertEquals("São Paulo", primeira.getEnderecoDetalhado().getCidade());
+    assertEquals(3, primeira.getMembros().size());
+    MembroFamiliaResponseDTO responsavel = primeira.getMembros().stream()
+      .filter(MembroFamiliaResponseDTO::isResponsavelPrincipal)
+      .findFirst()
+      .orElseThrow();
+    assertEquals("token-0", responsavel.getParceiroToken());
+    assertNotNull(resposta.getFamilias().get(1).getParceiroCadastro());
+    assertEquals("Responsável 0", resposta.getFamilias().get(1).getParceiroCadastro().getNome());
+  }
+
+  private long contarConsultas(int tamanho) {
+    entityManager.clear();
+    estatisticas.clear();
+    FamiliaListaResponseDTO resposta = familiaService.buscarFamilias(null, PageRequest.of(0, tamanho, ORDENACAO), false);
+    resposta.getFamilias().forEach(familia -> familia.getMembros().forEach(MembroFamiliaResponseDTO::getParceiroId));
+    assertEquals(tamanho, resposta.getFamilias().size());
+    return estatisticas.getPrepareStatementCount();
+  }
+
+  private Familia salvarFamilia(Bairro bairro, int indice, OffsetDateTime criadoEm, Parceiro parceiroCadastro) {
+    Familia familia = FabricaFamiliaTeste
+      .familia(bairro, "Rua " + indice, "10")
+      .criadoEm(criadoEm)
+      .parceiroCadastro(parceiroCadastro)
+      .responsavel("Responsável " + indice, "ALTA")
+      .membro(filho("Filho " + indice))
+      .membro(filho("Filha " + indice))
+      .construir();
+    entityManager.persist(familia);
+    return familia;
+  }
+
+  private MembroFamilia filho(String nome) {
+    MembroFamilia membro = FabricaFamiliaTeste.membro(nome, false, "ALTA");
+    membro.setParentesco(Parentesco.FILHO_A);
+    return membro;
+  }
+}
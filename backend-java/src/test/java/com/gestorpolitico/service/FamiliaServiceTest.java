@@ -1,12 +1,21 @@
 package com.gestorpolitico.service;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
+import com.gestorpolitico.dto.AlteracoesFamiliaDTO;
 import com.gestorpolitico.dto.FamiliaRequestDTO;
+import com.gestorpolitico.dto.FamiliaResponseDTO;
 import com.gestorpolitico.dto.MembroFamiliaRequestDTO;
 import com.gestorpolitico.entity.Bairro;
 import com.gestorpolitico.entity.Cidade;
@@ -14,14 +23,13 @@ import com.gestorpolitico.entity.Endereco;
 import com.gestorpolitico.entity.Familia;
 import com.gestorpolitico.entity.MembroFamilia;
 import com.gestorpolitico.enums.Parentesco;
+import com.gestorpolitico.enums.StatusGeocodificacao;
 import com.gestorpolitico.repository.BairroRepository;
 import com.gestorpolitico.repository.CidadeRepository;
 import com.gestorpolitico.repository.FamiliaRepository;
 import com.gestorpolitico.repository.RegiaoRepository;
 import com.gestorpolitico.service.CepService.CepResultado;
-import java.math.BigDecimal;
 import java.time.LocalDate;
-import java.util.Collections;
 import java.util.List;
 import java.util.Locale;
 import java.util.Optional;
@@ -33,6 +41,7 @@ import org.mockito.Captor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 @ExtendWith(MockitoExtension.class)
 class FamiliaServiceTest {
@@ -49,10 +58,16 @@ class FamiliaServiceTest {
   private RegiaoRepository regiaoRepository;
 
   @Mock
-  private GeocodingService geocodingService;
+  private CepService cepService;
 
   @Mock
-  private CepService cepService;
+  private ContadorFamiliaService contadorFamiliaService;
+
+  @Mock
+  private IndiceBairrosService indiceBairrosService;
+
+  @Mock
+  private ApplicationEventPublisher eventPublisher;
 
   @InjectMocks
   private FamiliaService familiaService;
@@ -60,13 +75,10 @@ class FamiliaServiceTest {
   @Captor
   private ArgumentCaptor<Familia> familiaCaptor;
 
-  @Captor
-  private ArgumentCaptor<String> enderecoCompletoCaptor;
-
   @BeforeEach
   void configurarMocksBasicos() {
-    when(bairroRepository.findByCidadeIdOrderByNomeAsc(1L)).thenReturn(Collections.emptyList());
-    when(bairroRepository.save(any(Bairro.class))).thenAnswer(invocation -> {
+    lenient().when(indiceBairrosService.buscarSimilar(any(Long.class), any(String.class))).thenReturn(Optional.empty());
+    lenient().when(bairroRepository.save(any(Bairro.class))).thenAnswer(invocation -> {
       Bairro bairro = invocation.getArgument(0);
       if (bairro.getNome() != null) {
         bairro.setNomeNormalizado(bairro.getNome().toLowerCase(Locale.ROOT));
@@ -86,7 +98,7 @@ class FamiliaServiceTest {
   }
 
   @Test
-  void deveConsultarNominatimEAtribuirCoordenadasAoSalvarFamilia() {
+  void deveEnfileirarGeocodificacaoAoSalvarFamiliaSemConsultarNominatim() {
     Cidade cidade = new Cidade();
     cidade.setId(1L);
     cidade.setNome("São Paulo");
@@ -103,22 +115,20 @@ class FamiliaServiceTest {
     );
     when(cepService.consultarCep("01001000")).thenReturn(Optional.of(cepResultado));
 
-    GeocodingService.Coordenada coordenada = new GeocodingService.Coordenada(1.234567, -46.876543);
-    when(geocodingService.buscarCoordenadas(any(String.class))).thenReturn(Optional.of(coordenada));
-
     FamiliaRequestDTO request = criarRequestFamilia();
 
-    familiaService.salvarFamilia(request);
-
-    verify(geocodingService).buscarCoordenadas(enderecoCompletoCaptor.capture());
-    String enderecoConsultado = enderecoCompletoCaptor.getValue();
-    assertTrue(enderecoConsultado.contains("Praça da Sé"));
-    assertTrue(enderecoConsultado.contains("01001000"));
+    FamiliaResponseDTO resposta = familiaService.salvarFamilia(request);
 
     verify(familiaRepository).save(familiaCaptor.capture());
     Endereco endereco = familiaCaptor.getValue().getEnderecoDetalhado();
-    assertEquals(BigDecimal.valueOf(1.234567), endereco.getLatitude());
-    assertEquals(BigDecimal.valueOf(-46.876543), endereco.getLongitude());
+    assertTrue(endereco.getEnderecoGeocodificacao().contains("Praça da Sé"));
+    assertTrue(endereco.getEnderecoGeocodificacao().contains("01001000"));
+    assertEquals(StatusGeocodificacao.PENDENTE, endereco.getStatusGeocodificacao());
+    assertNotNull(endereco.getProximaGeocodificacao());
+    assertNull(endereco.getLatitude());
+    assertNull(endereco.getLongitude());
+    assertEquals(StatusGeocodificacao.PENDENTE, resposta.getEnderecoDetalhado().getStatusGeocodificacao());
+    verify(eventPublisher).publishEvent(any(GeocodificacaoSolicitadaEvent.class));
   }
 
   @Test
@@ -139,9 +149,6 @@ class FamiliaServiceTest {
     );
     when(cepService.consultarCep("01001000")).thenReturn(Optional.of(cepResultado));
 
-    GeocodingService.Coordenada coordenada = new GeocodingService.Coordenada(1.234567, -46.876543);
-    when(geocodingService.buscarCoordenadas(any(String.class))).thenReturn(Optional.of(coordenada));
-
     Familia existente = new Familia();
     existente.setId(10L);
     existente.setEndereco("Rua antiga, 10");
@@ -174,6 +181,78 @@ class FamiliaServiceTest {
     assertEquals("Maria Silva", atualizado.getMembros().get(0).getNomeCompleto());
   }
 
+  @Test
+  void deveAtualizarApenasMembrosAlteradosSemConsultarCepQuandoEnderecoNaoMuda() {
+    Cidade cidade = new Cidade();
+    cidade.setId(1L);
+    cidade.setNome("São Paulo");
+    cidade.setUf("SP");
+
+    Bairro bairro = new Bairro();
+    bairro.setId(5L);
+    bairro.setNome("Sé");
+    bairro.setCidade(cidade);
+    bairro.setRegiao("Centro");
+
+    Endereco enderecoExistente = new Endereco();
+    enderecoExistente.setId(7L);
+    enderecoExistente.setRua("Praça da Sé");
+    enderecoExistente.setNumero("100");
+    enderecoExistente.setCep("01001000");
+    enderecoExistente.setCidade(cidade);
+    enderecoExistente.setBairro(bairro);
+    enderecoExistente.setStatusGeocodificacao(StatusGeocodificacao.CONCLUIDO);
+
+    Familia existente = new Familia();
+    existente.setId(10L);
+    existente.setEndereco("Praça da Sé, 100");
+    existente.setBairro("Sé");
+    existente.setEnderecoDetalhado(enderecoExistente);
+
+    FamiliaRequestDTO request = criarRequestFamilia();
+    request.setNovaRegiao("Centro");
+    MembroFamiliaRequestDTO membroDto = request.getMembros().get(0);
+    membroDto.setId(30L);
+
+    MembroFamilia responsavel = new MembroFamilia();
+    responsavel.setId(30L);
+    responsavel.setNomeCompleto(membroDto.getNomeCompleto());
+    responsavel.setDataNascimento(membroDto.getDataNascimento());
+    responsavel.setProfissao(membroDto.getProfissao());
+    responsavel.setParentesco(membroDto.getParentesco());
+    responsavel.setResponsavelPrincipal(true);
+    responsavel.setProbabilidadeVoto(membroDto.getProbabilidadeVoto());
+    responsavel.setTelefone("11888888888");
+    existente.adicionarMembro(responsavel);
+
+    MembroFamilia filho = new MembroFamilia();
+    filho.setId(31L);
+    filho.setNomeCompleto("Pedro Silva");
+    filho.setParentesco(Parentesco.FILHO);
+    filho.setResponsavelPrincipal(false);
+    existente.adicionarMembro(filho);
+
+    when(familiaRepository.findById(10L)).thenReturn(Optional.of(existente));
+
+    FamiliaResponseDTO resposta = familiaService.atualizarFamilia(10L, request);
+
+    verify(cepService, never()).consultarCep(anyString());
+    verifyNoInteractions(cidadeRepository, bairroRepository, regiaoRepository, eventPublisher);
+    assertEquals(enderecoExistente, existente.getEnderecoDetalhado());
+    assertEquals(StatusGeocodificacao.CONCLUIDO, enderecoExistente.getStatusGeocodificacao());
+    assertEquals(List.of(responsavel), existente.getMembros());
+    assertEquals("11999999999", responsavel.getTelefone());
+
+    AlteracoesFamiliaDTO alteracoes = resposta.getAlteracoes();
+    assertFalse(alteracoes.isEnderecoAlterado());
+    assertFalse(alteracoes.isRegiaoAlterada());
+    assertFalse(alteracoes.isParceiroCadastroAlterado());
+    assertEquals(0, alteracoes.getMembrosIncluidos());
+    assertEquals(List.of(30L), alteracoes.getMembrosAtualizados());
+    assertEquals(List.of(31L), alteracoes.getMembrosRemovidos());
+    assertFalse(alteracoes.isSemAlteracoes());
+  }
+
   private FamiliaRequestDTO criarRequestFamilia() {
     MembroFamiliaRequestDTO membro = new MembroFamiliaRequestDTO();
     membro.setNomeCompleto("Maria Silva");
@@ -0,0 +1,186 @@
+package com.gestorpolitico.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.gestorpolitico.entity.Cidade;
+import com.gestorpolitico.entity.Endereco;
+import com.gestorpolitico.enums.StatusGeocodificacao;
+import com.gestorpolitico.repository.EnderecoRepository;
+import com.gestorpolitico.service.GeocodingService.Coordenada;
+import com.gestorpolitico.service.GeocodingService.FalhaGeocodificacaoException;
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.PlatformTransactionManager;
+
+@ExtendWith(MockitoExtension.class)
+class GeocodificacaoFilaServiceTest {
+  private static final String ENDERECO_COMPLETO = "Praça da Sé, 100, Sé, São Paulo - SP, CEP 01001000, Brasil";
+
+  @Mock
+  private EnderecoRepository enderecoRepository;
+
+  @Mock
+  private GeocodingService geocodingService;
+
+  @Mock
+  private PlatformTransactionManager transactionManager;
+
+  @Mock
+  private ApplicationEventPublisher eventPublisher;
+
+  private GeocodificacaoFilaService geocodificacaoFilaService;
+
+  @BeforeEach
+  void configurar() {
+    geocodificacaoFilaService = new GeocodificacaoFilaService(
+      enderecoRepository,
+      geocodingService,
+      transactionManager,
+      eventPublisher
+    );
+  }
+
+  @AfterEach
+  void encerrar() {
+    geocodificacaoFilaService.encerrar();
+  }
+
+  @Test
+  void devePreencherCoordenadasEInvalidarMapaQuandoGeocodificacaoConclui() {
+    Endereco endereco = enderecoPendente(0);
+    prepararFila(endereco);
+    when(geocodingService.buscarCoordenadas(ENDERECO_COMPLETO))
+      .thenReturn(Optional.of(new Coordenada(-23.5503, -46.6342)));
+
+    assertEquals(1, geocodificacaoFilaService.processarPendentes());
+
+    assertEquals(StatusGeocodificacao.CONCLUIDO, endereco.getStatusGeocodificacao());
+    assertEquals(BigDecimal.valueOf(-23.5503), endereco.getLatitude());
+    assertEquals(BigDecimal.valueOf(-46.6342), endereco.getLongitude());
+    assertEquals(1, endereco.getTentativasGeocodificacao());
+    assertNull(endereco.getProximaGeocodificacao());
+    verify(eventPublisher).publishEvent(any(LocalizacaoFamiliasAlteradaEvent.class));
+  }
+
+  @Test
+  void deveReagendarComEsperaExponencialQuandoProvedorFalha() {
+    Endereco endereco = enderecoPendente(2);
+    prepararFila(endereco);
+    when(geocodingService.buscarCoordenadas(ENDERECO_COMPLETO))
+      .thenThrow(new FalhaGeocodificacaoException("indisponível", new RuntimeException()));
+
+    OffsetDateTime antes = OffsetDateTime.now();
+    geocodificacaoFilaService.processarPendentes();
+
+    assertEquals(StatusGeocodificacao.PENDENTE, endereco.getStatusGeocodificacao());
+    assertEquals(3, endereco.getTentativasGeocodificacao());
+    assertTrue(!endereco.getProximaGeocodificacao().isBefore(antes.plus(Duration.ofMinutes(4))));
+    assertTrue(endereco.getProximaGeocodificacao().isBefore(OffsetDateTime.now().plus(Duration.ofMinutes(5))));
+    verify(eventPublisher, never()).publishEvent(any());
+  }
+
+  @Test
+  void deveMarcarFalhaAoEsgotarTentativas() {
+    Endereco endereco = enderecoPendente(GeocodificacaoFilaService.MAXIMO_TENTATIVAS - 1);
+    prepararFila(endereco);
+    when(geocodingService.buscarCoordenadas(ENDERECO_COMPLETO))
+      .thenThrow(new FalhaGeocodificacaoException("indisponível", new RuntimeException()));
+
+    geocodificacaoFilaService.processarPendentes();
+
+    assertEquals(StatusGeocodificacao.FALHOU, endereco.getStatusGeocodificacao());
+    assertNull(endereco.getProximaGeocodificacao());
+  }
+
+  @Test
+  void deveMarcarNaoEncontradoSemRepetirQuandoProvedorNaoRetornaResultado() {
+    Endereco endereco = enderecoPendente(0);
+    prepararFila(endereco);
+    when(geocodingService.buscarCoordenadas(ENDERECO_COMPLETO)).thenReturn(Optional.empty());
+
+    geocodificacaoFilaService.processarPendentes();
+
+    assertEquals(StatusGeocodificacao.NAO_ENCONTRADO, endereco.getStatusGeocodificacao());
+    assertNull(endereco.getProximaGeocodificacao());
+  }
+
+  @Test
+  void deveIgnorarEnderecoReservadoPorOutroProcessamento() {
+    Endereco endereco = enderecoPendente(0);
+    when(enderecoRepository.buscarPendentesGeocodificacao(any(OffsetDateTime.class), any(Pageable.class)))
+      .thenReturn(List.of(endereco)).thenReturn(List.of());
+    when(enderecoRepository.reservarGeocodificacao(eq(1L), any(OffsetDateTime.class), any(OffsetDateTime.class)))
+      .thenReturn(0);
+
+    assertEquals(0, geocodificacaoFilaService.processarPendentes());
+
+    verify(geocodingService, never()).buscarCoordenadas(any());
+  }
+
+  @Test
+  void deveDescartarResultadoQuandoEnderecoMudouDuranteConsulta() {
+    Endereco endereco = enderecoPendente(0);
+    prepararFila(endereco);
+    when(geocodingService.buscarCoordenadas(ENDERECO_COMPLETO)).thenAnswer(invocation -> {
+      endereco.setEnderecoGeocodificacao("Rua Nova, 1, São Paulo - SP, Brasil");
+      return Optional.of(new Coordenada(-23.5503, -46.6342));
+    });
+
+    geocodificacaoFilaService.processarPendentes();
+
+    assertEquals(StatusGeocodificacao.PENDENTE, endereco.getStatusGeocodificacao());
+    assertNull(endereco.getLatitude());
+    assertEquals(0, endereco.getTentativasGeocodificacao());
+  }
+
+  @Test
+  void deveCalcularEsperaExponencialLimitada() {
+    assertEquals(Duration.ofMinutes(1), GeocodificacaoFilaService.calcularEspera(1));
+    assertEquals(Duration.ofMinutes(16), GeocodificacaoFilaService.calcularEspera(5));
+    assertEquals(Duration.ofHours(6), GeocodificacaoFilaService.calcularEspera(30));
+  }
+
+  private void prepararFila(Endereco endereco) {
+    when(enderecoRepository.buscarPendentesGeocodificacao(any(OffsetDateTime.class), any(Pageable.class)))
+      .thenReturn(List.of(endereco)).thenReturn(List.of());
+    when(enderecoRepository.reservarGeocodificacao(eq(endereco.getId()), any(OffsetDateTime.class), any(OffsetDateTime.class)))
+      .thenReturn(1);
+    when(enderecoRepository.findById(endereco.getId())).thenReturn(Optional.of(endereco));
+  }
+
+  private Endereco enderecoPendente(int tentativas) {
+    Cidade cidade = new Cidade();
+    cidade.setId(1L);
+    cidade.setNome("São Paulo");
+    cidade.setUf("SP");
+
+    Endereco endereco = new Endereco();
+    endereco.setId(1L);
+    endereco.setRua("Praça da Sé");
+    endereco.setNumero("100");
+    endereco.setCidade(cidade);
+    endereco.setEnderecoGeocodificacao(ENDERECO_COMPLETO);
+    endereco.setStatusGeocodificacao(StatusGeocodificacao.PENDENTE);
+    endereco.setTentativasGeocodificacao(tentativas);
+    endereco.setProximaGeocodificacao(OffsetDateTime.now());
+    return endereco;
+  }
+}
@@ -1,10 +1,21 @@
 package com.gestorpolitico.service;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
 
+import com.gestorpolitico.repository.CacheGeocodificacaoRepository;
+import com.gestorpolitico.repository.EnderecoRepository;
 import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 import okhttp3.HttpUrl;
 import okhttp3.mockwebserver.MockResponse;
 import okhttp3.mockwebserver.MockWebServer;
@@ -23,7 +34,19 @@ class GeocodingServiceTest {
     mockWebServer = new MockWebServer();
     mockWebServer.start();
     WebClient webClient = WebClient.builder().build();
-    geocodingService = new GeocodingService(webClient, mockWebServer.url("/search").toString());
+    CacheGeocodificacaoService cacheGeocodificacaoService = new CacheGeocodificacaoService(
+      mock(CacheGeocodificacaoRepository.class),
+      mock(EnderecoRepository.class),
+      Duration.ofDays(180),
+      Duration.ofDays(1),
+      Duration.ofMinutes(5),
+      1_000_000L
+    );
+    geocodingService = new GeocodingService(
+      webClient,
+      mockWebServer.url("/search").toString(),
+      cacheGeocodificacaoService
+    );
   }
 
   @AfterEach
@@ -108,4 +131,51 @@ class GeocodingServiceTest {
     assertEquals(-48.3245775, coordenada.get().longitude());
   }
 
+  @Test
+  void deveLancarFalhaSemGuardarEmCacheQuandoProvedorEstaIndisponivel() {
+    mockWebServer.enqueue(new MockResponse().setResponseCode(503));
+    mockWebServer.enqueue(
+      new MockResponse()
+        .setResponseCode(200)
+        .setHeader("Content-Type", "application/json")
+        .setBody("[{\"lat\":\"-18.9365314\",\"lon\":\"-48.2884139\"}]")
+    );
+
+    assertThrows(
+      GeocodingService.FalhaGeocodificacaoException.class,
+      () -> geocodingService.buscarCoordenadas("Rua Arpoador, 147, Uberlandia - MG, Brasil")
+    );
+    Optional<GeocodingService.Coordenada> coordenada = geocodingService.buscarCoordenadas(
+      "Rua Arpoador, 147, Uberlandia - MG, Brasil"
+    );
+
+    assertEquals(2, mockWebServer.getRequestCount());
+    assertTrue(coordenada.isPresent());
+  }
+
+  @Test
+  void deveCompartilharConsultaEntreChamadasConcorrentesParaOMesmoEndereco() throws Exception {
+    mockWebServer.enqueue(
+      new MockResponse()
+        .setResponseCode(200)
+        .setHeader("Content-Type", "application/json")
+        .setBody("[{\"lat\":\"-18.9365314\",\"lon\":\"-48.2884139\"}]")
+        .setBodyDelay(300, TimeUnit.MILLISECONDS)
+    );
+
+    ExecutorService executor = Executors.newFixedThreadPool(4);
+    try {
+      List<Future<Optional<GeocodingService.Coordenada>>> resultados = new ArrayList<>();
+      for (int i = 0; i < 4; i++) {
+        resultados.add(executor.submit(() -> geocodingService.buscarCoordenadas("Rua Arpoador, 147, Uberlandia - MG, Brasil")));
+      }
+      for (Future<Optional<GeocodingService.Coordenada>> resultado : resultados) {
+        assertEquals(-18.9365314, resultado.get(10, TimeUnit.SECONDS).orElseThrow().latitude());
+      }
+    } finally {
+      executor.shutdownNow();
+    }
+
+    assertEquals(1, mockWebServer.getRequestCount());
+  }
 }
@@ -0,0 +1,238 @@
+package com.gestorpolitico.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.gestorpolitico.dto.ErroImportacaoFamiliaDTO;
+import com.gestorpolitico.dto.ImportacaoFamiliasResponseDTO;
+import com.gestorpolitico.entity.Cidade;
+import com.gestorpolitico.entity.Familia;
+import com.gestorpolitico.entity.MembroFamilia;
+import com.gestorpolitico.enums.Parentesco;
+import com.gestorpolitico.enums.StatusGeocodificacao;
+import com.gestorpolitico.repository.CidadeRepository;
+import com.gestorpolitico.service.CepService.CepResultado;
+import jakarta.persistence.EntityManager;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpStatus;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.validation.beanvalidation.LocalValidatorFactoryBean;
+import org.springframework.web.server.ResponseStatusException;
+
+@DataJpaTest(properties = { "spring.flyway.enabled=false", "spring.jpa.hibernate.ddl-auto=create-drop" })
+@Import(
+  {
+    ImportacaoFamiliaService.class,
+    IndiceBairrosService.class,
+    LocalValidatorFactoryBean.class
+  }
+)
+class ImportacaoFamiliaServiceTest {
+  private static final CepResultado TIBERY = new CepResultado(
+    "38405142",
+    "Rua Arpoador",
+    "TIBERY",
+    "Uberlândia",
+    "MG",
+    "3170206"
+  );
+
+  @MockBean
+  private CepService cepService;
+
+  @MockBean
+  private ContadorFamiliaService contadorFamiliaService;
+
+  @Autowired
+  private ImportacaoFamiliaService importacaoFamiliaService;
+
+  @Autowired
+  private EntityManager entityManager;
+
+  @Autowired
+  private CidadeRepository cidadeRepository;
+
+  @Autowired
+  private JdbcTemplate jdbcTemplate;
+
+  private Cidade cidade;
+
+  @BeforeEach
+  void prepararCidade() {
+    cidade = new Cidade();
+    cidade.setNome("Uberlândia");
+    cidade.setUf("MG");
+    cidade = cidadeRepository.saveAndFlush(cidade);
+  }
+
+  @Test
+  void deveImportarFamiliasValidasERelatarErrosPorLinhaSemInterromperOLote() {
+    when(cepService.consultarCep(anyString())).thenReturn(Optional.empty());
+    when(cepService.consultarCep("38405142")).thenReturn(Optional.of(TIBERY));
+    String csv = String.join(
+      "\n",
+      "\uFEFFfamilia;cep;rua;numero;nome_completo;parentesco;responsavel;probabilidade_voto;data_nascimento;telefone",
+      "F1;38405-142;Rua Arpoador;10;Maria da Silva;Mãe;sim;Alta;10/05/1980;34999990000",
+      "F1;38405-142;Rua Arpoador;10;João da Silva;Filho;não;Média;;",
+      "F2;38405142;Rua Arpoador;20;Ana Souza;Tia;sim;Alta;;",
+      "F3;38405142;\"Rua Arpoador; fundos\";30;Pedro Lima;Pai;sim;Baixa;;",
+      "F4;01001000;Praça da Sé;1;Carlos Dias;Pai;sim;Alta;;",
+      "F1;38405142;Rua Arpoador;10;Outro Membro;Outro;não;Alta;;",
+      "F5;38405142;Rua Arpoador;50;Sem Responsável;Filho;não;Alta;;"
+    );
+
+    ImportacaoFamiliasResponseDTO resposta = importar("familias.csv", csv.getBytes(StandardCharsets.UTF_8));
+
+    assertEquals(7, resposta.getLinhasLidas());
+    assertEquals(2, resposta.getFamiliasImportadas());
+    assertEquals(3, resposta.getMembrosImportados());
+    assertEquals(4, resposta.getFamiliasComErro());
+    assertEquals(2, resposta.getCepsConsultados());
+    verify(cepService, times(1)).consultarCep("38405142");
+    verify(cepService, times(1)).consultarCep("01001000");
+    verify(contadorFamiliaService, times(1)).registrarInclusoes(anyCollection());
+
+    List<ErroImportacaoFamiliaDTO> erros = resposta.getErros();
+    assertEquals(List.of(4, 6, 7, 8), erros.stream().map(ErroImportacaoFamiliaDTO::getLinha).toList());
+    assertTrue(erros.get(0).getMensagem().contains("Parentesco inválido"));
+    assertEquals("CEP não encontrado", erros.get(1).getMensagem());
+    assertTrue(erros.get(2).getMensagem().contains("agrupadas"));
+    assertEquals("Defina um responsável principal para a família.", erros.get(3).getMensagem());
+
+    entityManager.clear();
+    List<Familia> familias = entityManager
+      .createQuery("select f from Familia f order by f.id", Familia.class)
+      .getResultList();
+    assertEquals(2, familias.size());
+    Familia primeira = familias.get(0);
+    assertEquals("Rua Arpoador, 10", primeira.getEndereco());
+    assertEquals("Tibery", primeira.getBairro());
+    assertEquals("38405142", primeira.getEnderecoDetalhado().getCep());
+    assertEquals(StatusGeocodificacao.PENDENTE, primeira.getEnderecoDetalhado().getStatusGeocodificacao());
+    assertTrue(primeira.getDocumentoBusca().startsWith("MARIA DA SILVA JOAO DA SILVA"));
+    MembroFamilia responsavel = primeira.getMembros().stream()
+      .filter(membro -> Boolean.TRUE.equals(membro.getResponsavelPrincipal()))
+      .findFirst()
+      .orElseThrow();
+    assertEquals(Parentesco.MAE, responsavel.getParentesco());
+    assertEquals(LocalDate.of(1980, 5, 10), responsavel.getDataNascimento());
+    assertEquals(
+      familias.get(1).getEnderecoDetalhado().getBairro().getId(),
+      primeira.getEnderecoDetalhado().getBairro().getId()
+    );
+    assertEquals(
+      1L,
+      entityManager.createQuery("select count(b) from Bairro b", Long.class).getSingleResult()
+    );
+  }
+
+  @Test
+  void deveImportarPlanilhaXlsxComCepNumericoEDataSerial() throws IOException {
+    when(cepService.consultarCep("38405142")).thenReturn(Optional.of(TIBERY));
+    String textos =
+      "<sst xmlns=\"http://schemas.openxmlformats.org/spreadsheetml/2006/main\">" +
+      "<si><t>cep</t></si><si><t>rua</t></si><si><t>numero</t></si><si><t>nome</t></si>" +
+      "<si><t>parentesco</t></si><si><t>responsavel_principal</t></si><si><t>probabilidade_voto</t></si>" +
+      "<si><t>data_nascimento</t></si><si><t>Rua Arpoador</t></si></sst>";
+    String planilha =
+      "<worksheet xmlns=\"http://schemas.openxmlformats.org/spreadsheetml/2006/main\"><sheetData>" +
+      "<row r=\"1\"><c r=\"A1\" t=\"s\"><v>0</v></c><c r=\"B1\" t=\"s\"><v>1</v></c><c r=\"C1\" t=\"s\"><v>2</v></c>" +
+      "<c r=\"D1\" t=\"s\"><v>3</v></c><c r=\"E1\" t=\"s\"><v>4</v></c><c r=\"F1\" t=\"s\"><v>5</v></c>" +
+      "<c r=\"G1\" t=\"s\"><v>6</v></c><c r=\"H1\" t=\"s\"><v>7</v></c></row>" +
+      "<row r=\"2\"><c r=\"A2\"><v>3.8405142E7</v></c><c r=\"B2\" t=\"s\"><v>8</v></c><c r=\"C2\"><v>15</v></c>" +
+      "<c r=\"D2\" t=\"inlineStr\"><is><t>Lúcia Alves</t></is></c><c r=\"E2\" t=\"inlineStr\"><is><t>CONJUGE</t></is></c>" +
+      "<c r=\"F2\" t=\"b\"><v>1</v></c><c r=\"G2\" t=\"inlineStr\"><is><t>Alta</t></is></c><c r=\"H2\"><v>32874</v></c></row>" +
+      "</sheetData></worksheet>";
+
+    ImportacaoFamiliasResponseDTO resposta = importar("familias.xlsx", criarXlsx(textos, planilha));
+
+    assertEquals(1, resposta.getFamiliasImportadas());
+    assertEquals(0, resposta.getFamiliasComErro());
+    entityManager.clear();
+    MembroFamilia membro = entityManager
+      .createQuery("select m from MembroFamilia m", MembroFamilia.class)
+      .getSingleResult();
+    assertEquals("Lúcia Alves", membro.getNomeCompleto());
+    assertEquals(Parentesco.CONJUGE, membro.getParentesco());
+    assertEquals(LocalDate.of(1990, 1, 1), membro.getDataNascimento());
+    assertEquals("Rua Arpoador, 15", membro.getFamilia().getEndereco());
+  }
+
+  @Test
+  @Transactional(propagation = Propagation.NOT_SUPPORTED)
+  void deveGravarFamiliasUmaAUmaQuandoOLoteFalhaNoBanco() {
+    when(cepService.consultarCep("38405142")).thenReturn(Optional.of(TIBERY));
+    String csv = String.join(
+      "\n",
+      "familia;cep;rua;numero;nome_completo;parentesco;responsavel;probabilidade_voto",
+      "F1;38405142;Rua Arpoador;10;Maria da Silva;Mãe;sim;Alta",
+      "F2;38405142;Rua Arpoador;20;Ana Souza;Mãe;sim;" + "A".repeat(300),
+      "F3;38405142;Rua Arpoador;30;Pedro Lima;Pai;sim;Baixa"
+    );
+
+    try {
+      ImportacaoFamiliasResponseDTO resposta = importar("familias.csv", csv.getBytes(StandardCharsets.UTF_8));
+
+      assertEquals(2, resposta.getFamiliasImportadas());
+      assertEquals(2, resposta.getMembrosImportados());
+      assertEquals(1, resposta.getFamiliasComErro());
+      assertEquals(3, resposta.getErros().get(0).getLinha());
+      assertEquals("Falha ao gravar a família no banco de dados.", resposta.getErros().get(0).getMensagem());
+      assertEquals(2L, jdbcTemplate.queryForObject("select count(*) from familia", Long.class));
+      assertEquals(2L, jdbcTemplate.queryForObject("select count(*) from enderecos", Long.class));
+    } finally {
+      for (String tabela : List.of("membro_familia", "familia", "enderecos", "bairros", "cidades")) {
+        jdbcTemplate.update("delete from " + tabela);
+      }
+    }
+  }
+
+  @Test
+  void deveRejeitarPlanilhaSemColunasObrigatorias() {
+    byte[] csv = "nome;cep\nMaria;38405142".getBytes(StandardCharsets.UTF_8);
+
+    ResponseStatusException erro = assertThrows(ResponseStatusException.class, () -> importar("familias.csv", csv));
+
+    assertEquals(HttpStatus.BAD_REQUEST, erro.getStatusCode());
+    assertTrue(erro.getReason().contains("rua, numero, parentesco"));
+  }
+
+  private ImportacaoFamiliasResponseDTO importar(String nomeArquivo, byte[] conteudo) {
+    return importacaoFamiliaService.importar(cidade.getId(), nomeArquivo, new ByteArrayInputStream(conteudo));
+  }
+
+  private static byte[] criarXlsx(String textos, String planilha) throws IOException {
+    ByteArrayOutputStream saida = new ByteArrayOutputStream();
+    try (ZipOutputStream zip = new ZipOutputStream(saida)) {
+      zip.putNextEntry(new ZipEntry("xl/sharedStrings.xml"));
+      zip.write(textos.getBytes(StandardCharsets.UTF_8));
+      zip.closeEntry();
+      zip.putNextEntry(new ZipEntry("xl/worksheets/sheet1.xml"));
+      zip.write(planilha.getBytes(StandardCharsets.UTF_8));
+      zip.closeEntry();
+    }
+    return saida.toByteArray();
+  }
+}
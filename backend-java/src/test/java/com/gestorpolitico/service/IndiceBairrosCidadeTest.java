@@ -0,0 +1,39 @@
+package com.gestorpolitico.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class IndiceBairrosCidadeTest {
+  private IndiceBairrosCidade indice;
+
+  @BeforeEach
+  void prepararIndice() {
+    indice = new IndiceBairrosCidade();
+    indice.adicionar(1L, "SANTA MONICA");
+    indice.adicionar(2L, "SANTA LUZIA");
+    indice.adicionar(3L, "JARDIM BOTANICO");
+    indice.adicionar(4L, "JARDIM BRASILIA");
+    indice.adicionar(5L, "CENTRO");
+  }
+
+  @Test
+  void deveEncontrarNomeExatoEVariacoesDentroDaSimilaridadeMinima() {
+    assertEquals(Optional.of(5L), indice.buscar("CENTRO", 0.9));
+    assertEquals(Optional.of(3L), indice.buscar("JARDIM BOTANICOS", 0.9));
+    assertEquals(Optional.of(1L), indice.buscar("SANTA MONIKA", 0.9));
+    assertTrue(indice.buscar("SANTA ROSA", 0.9).isEmpty());
+    assertTrue(indice.buscar("CENTRAL", 0.9).isEmpty());
+  }
+
+  @Test
+  void deveRefletirInclusoes() {
+    indice.adicionar(6L, "JARDIM BOTANICO");
+    indice.adicionar(7L, "JARDIM BOTANICO II");
+    assertEquals(Optional.of(6L), indice.buscar("JARDIM BOTANICO", 0.9));
+    assertEquals(Optional.of(7L), indice.buscar("JARDIM BOTANICO I", 0.9));
+  }
+}
@@ -0,0 +1,100 @@
+package com.gestorpolitico.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.gestorpolitico.service.CepService.CepResultado;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class IndiceCepServiceTest {
+  @TempDir
+  private Path diretorio;
+
+  @Test
+  void deveGerarIndiceDaBaseEResolverCepsPorBuscaBinaria() throws IOException {
+    Path fonte = diretorio.resolve("ceps.csv");
+    Files.writeString(
+      fonte,
+      String.join(
+        "\n",
+        "cep;logradouro;bairro;cidade;uf;ibge",
+        "38405142;Rua Arpoador;Tibery;Uberlândia;MG;3170206",
+        "01001000;Praça da Sé;Sé;São Paulo;SP;3550308",
+        "38400000;;;Uberlândia;MG;3170206",
+        "01310-100;\"Avenida Paulista; lado ímpar\";Bela Vista;São Paulo;SP;3550308",
+        "invalido;Rua;Bairro;Cidade;UF;1"
+      ),
+      StandardCharsets.UTF_8
+    );
+    Path arquivo = diretorio.resolve("indice/ceps.bin");
+    try (BufferedReader leitor = Files.newBufferedReader(fonte, StandardCharsets.UTF_8)) {
+      assertEquals(4, GeradorIndiceCep.gerar(leitor, arquivo));
+    }
+    IndiceCepService indice = new IndiceCepService(arquivo.toString());
+
+    indice.carregar();
+
+    assertTrue(indice.disponivel());
+    assertEquals(
+      Optional.of(new CepResultado("01001000", "Praça da Sé", "Sé", "São Paulo", "SP", "3550308")),
+      indice.buscar("01001-000")
+    );
+    assertEquals("Avenida Paulista; lado ímpar", indice.buscar("01310100").orElseThrow().logradouro());
+    assertEquals(
+      Optional.of(new CepResultado("38400000", null, null, "Uberlândia", "MG", "3170206")),
+      indice.buscar("38400000")
+    );
+    assertEquals("Tibery", indice.buscar("38405142").orElseThrow().bairro());
+    assertEquals(Optional.empty(), indice.buscar("99999999"));
+    assertEquals(Optional.empty(), indice.buscar("123"));
+  }
+
+  @Test
+  void deveIntercalarPartesOrdenadasMantendoAPrimeiraOcorrenciaDeCadaCep() throws IOException {
+    String base = String.join(
+      "\n",
+      "cep,logradouro,bairro,cidade,uf,ibge",
+      "38405142,Rua Arpoador,Tibery,Uberlândia,MG,3170206",
+      "01001000,Praça da Sé,Sé,São Paulo,SP,3550308",
+      "38400000,,,Uberlândia,MG,3170206",
+      "38405142,Rua Duplicada,Tibery,Uberlândia,MG,3170206",
+      "01310100,Avenida Paulista,Bela Vista,São Paulo,SP,3550308"
+    );
+    Path arquivo = diretorio.resolve("ceps.bin");
+
+    assertEquals(4, GeradorIndiceCep.gerar(new BufferedReader(new StringReader(base)), arquivo, 2));
+    IndiceCepService indice = new IndiceCepService(arquivo.toString());
+    indice.carregar();
+
+    assertEquals("Rua Arpoador", indice.buscar("38405-142").orElseThrow().logradouro());
+    assertEquals("Sé", indice.buscar("01001000").orElseThrow().bairro());
+    assertEquals("São Paulo", indice.buscar("01310100").orElseThrow().cidade());
+    assertEquals(Optional.empty(), indice.buscar("38400001"));
+    try (Stream<Path> arquivos = Files.list(diretorio)) {
+      assertEquals(List.of(arquivo), arquivos.toList());
+    }
+  }
+
+  @Test
+  void deveDesativarIndiceQuandoArquivoForInvalido() throws IOException {
+    Path arquivo = diretorio.resolve("ceps.bin");
+    Files.writeString(arquivo, "conteúdo qualquer", StandardCharsets.UTF_8);
+    IndiceCepService indice = new IndiceCepService(arquivo.toString());
+
+    indice.carregar();
+
+    assertFalse(indice.disponivel());
+    assertEquals(Optional.empty(), indice.buscar("01001000"));
+  }
+}
@@ -0,0 +1,119 @@
+package com.gestorpolitico.service;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import com.gestorpolitico.dto.FamiliaFiltroRequestDTO;
+import com.gestorpolitico.dto.PontosMapaResponseDTO;
+import com.gestorpolitico.entity.Bairro;
+import com.gestorpolitico.entity.Cidade;
+import com.gestorpolitico.entity.FabricaFamiliaTeste;
+import com.gestorpolitico.repository.FamiliaRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+
+@DataJpaTest(properties = { "spring.flyway.enabled=false", "spring.jpa.hibernate.ddl-auto=create-drop" })
+class MapaFamiliasServiceTest {
+  @Autowired
+  private FamiliaRepository familiaRepository;
+
+  @Autowired
+  private EntityManager entityManager;
+
+  private MapaFamiliasService mapaFamiliasService;
+  private Cidade uberlandia;
+
+  @BeforeEach
+  void prepararDados() {
+    mapaFamiliasService = new MapaFamiliasService(familiaRepository);
+
+    uberlandia = salvarCidade("Uberlândia");
+    Cidade uberaba = salvarCidade("Uberaba");
+    Bairro centro = salvarBairro(uberlandia, "Centro", "Central");
+    Bairro tibery = salvarBairro(uberlandia, "Tibery", "Leste");
+    Bairro abadia = salvarBairro(uberaba, "Abadia", null);
+
+    salvarFamilia(centro, "-18.9186000", "-48.2772000", "Alta");
+    salvarFamilia(tibery, "-18.9000000", "-48.2500000", "Média");
+    salvarFamilia(tibery, null, null, "Alta");
+    salvarFamilia(abadia, "-19.7483000", "-47.9319000", "BAIXA");
+    entityManager.flush();
+    entityManager.clear();
+  }
+
+  @Test
+  void deveRetornarSomentePontosGeorreferenciados() {
+    PontosMapaResponseDTO resposta = mapaFamiliasService.buscarPontos(null);
+
+    assertEquals(3, resposta.getTotal());
+    assertEquals(3, resposta.getIds().length);
+    assertEquals(3, resposta.getPesos().length);
+  }
+
+  @Test
+  void deveAplicarFiltrosDeCidadeERegiao() {
+    FamiliaFiltroRequestDTO filtro = new FamiliaFiltroRequestDTO();
+    filtro.setCidadeId(uberlandia.getId());
+    filtro.setRegiao("leste");
+
+    PontosMapaResponseDTO resposta = mapaFamiliasService.buscarPontos(filtro);
+
+    assertEquals(1, resposta.getTotal());
+    assertArrayEquals(new double[] { -18.9 }, resposta.getLatitudes());
+    assertArrayEquals(new double[] { -48.25 }, resposta.getLongitudes());
+    assertArrayEquals(new double[] { 0.6 }, resposta.getPesos());
+  }
+
+  @Test
+  void deveBuscarSomentePontosDentroDaArea() {
+    PontosMapaResponseDTO resposta = mapaFamiliasService.buscarPontos(null, -48.26, -18.95, -48.24, -18.89);
+
+    assertEquals(1, resposta.getTotal());
+    assertArrayEquals(new double[] { -18.9 }, resposta.getLatitudes());
+
+    PontosMapaResponseDTO uberaba = mapaFamiliasService.buscarPontos(null, -48.0, -20.0, -47.9, -19.5);
+    assertArrayEquals(new double[] { -47.9319 }, uberaba.getLongitudes());
+  }
+
+  @Test
+  void deveReutilizarAgrupadorAteAlteracaoNaCidade() {
+    assertEquals(2, mapaFamiliasService.buscarClusters(uberlandia.getId(), null, 22, null, null, null, null).getTotalPontos());
+
+    Bairro centro = entityManager
+      .createQuery("select b from Bairro b where b.nome = 'Centro'", Bairro.class)
+      .getSingleResult();
+    salvarFamilia(centro, "-18.9100000", "-48.2700000", "Baixa");
+    entityManager.flush();
+
+    assertEquals(2, mapaFamiliasService.buscarClusters(uberlandia.getId(), null, 22, null, null, null, null).getTotalPontos());
+
+    mapaFamiliasService.aoAlterarLocalizacao(LocalizacaoFamiliasAlteradaEvent.deCidades(uberlandia.getId()));
+
+    assertEquals(3, mapaFamiliasService.buscarClusters(uberlandia.getId(), null, 22, null, null, null, null).getTotalPontos());
+  }
+
+  private Cidade salvarCidade(String nome) {
+    Cidade cidade = FabricaFamiliaTeste.cidade(nome, "MG");
+    entityManager.persist(cidade);
+    return cidade;
+  }
+
+  private Bairro salvarBairro(Cidade cidade, String nome, String regiao) {
+    Bairro bairro = FabricaFamiliaTeste.bairro(cidade, nome, regiao);
+    entityManager.persist(bairro);
+    return bairro;
+  }
+
+  private void salvarFamilia(Bairro bairro, String latitude, String longitude, String probabilidade) {
+    entityManager.persist(
+      FabricaFamiliaTeste
+        .familia(bairro, "Rua Principal", "1")
+        .coordenadas(latitude, longitude)
+        .responsavel("Responsável", probabilidade)
+        .construir()
+    );
+  }
+}
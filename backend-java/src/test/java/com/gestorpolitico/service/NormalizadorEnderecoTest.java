@@ -0,0 +1,27 @@
+package com.gestorpolitico.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import com.gestorpolitico.service.NormalizadorEndereco.EnderecoNormalizado;
+import org.junit.jupiter.api.Test;
+
+class NormalizadorEnderecoTest {
+  @Test
+  void deveExpandirUfRemoverCepEPontuacaoEmUmaPassada() {
+    EnderecoNormalizado endereco = NormalizadorEndereco.normalizar(
+      "Rua Ildeu Oliveira Rezende, 82;  Luizote De Freitas, Uberlândia-mg, CEP: 38414-368, Brasil"
+    );
+
+    assertEquals("Rua Ildeu Oliveira Rezende 82 Luizote De Freitas Uberlandia Minas Gerais Brasil", endereco.consulta());
+    assertEquals("RUA ILDEU OLIVEIRA REZENDE 82 LUIZOTE DE FREITAS UBERLANDIA MINAS GERAIS BRASIL", endereco.chave());
+  }
+
+  @Test
+  void deveGerarMesmaChaveParaVariacoesDoMesmoEndereco() {
+    String chave = NormalizadorEndereco.normalizar("Av. João Naves de Ávila, 2121, Uberlândia - MG, Brasil").chave();
+
+    assertEquals(chave, NormalizadorEndereco.normalizar("AV. JOAO NAVES DE AVILA 2121 UBERLANDIA/MG BRASIL").chave());
+    assertEquals(chave, NormalizadorEndereco.normalizar("av. joão naves de ávila, 2121 - uberlândia, mg, 38408100, brasil").chave());
+    assertEquals("Rua 7 147 A Sao Paulo", NormalizadorEndereco.normalizar("Rua 7, 147-A, SP").consulta());
+  }
+}
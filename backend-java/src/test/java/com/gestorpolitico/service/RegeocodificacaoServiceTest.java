@@ -0,0 +1,202 @@
+package com.gestorpolitico.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.gestorpolitico.dto.ProgressoRegeocodificacaoDTO;
+import com.gestorpolitico.entity.Cidade;
+import com.gestorpolitico.entity.Endereco;
+import com.gestorpolitico.entity.ExecucaoRegeocodificacao;
+import com.gestorpolitico.enums.StatusGeocodificacao;
+import com.gestorpolitico.enums.StatusRegeocodificacao;
+import com.gestorpolitico.repository.EnderecoRepository;
+import com.gestorpolitico.repository.ExecucaoRegeocodificacaoRepository;
+import com.gestorpolitico.service.GeocodingService.Coordenada;
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpStatus;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+@ExtendWith(MockitoExtension.class)
+class RegeocodificacaoServiceTest {
+  private static final String ENDERECO_COMPLETO = "Rua Arpoador, 147, Tibery, Uberlândia - MG, CEP 38405142, Brasil";
+
+  @Mock
+  private EnderecoRepository enderecoRepository;
+
+  @Mock
+  private ExecucaoRegeocodificacaoRepository execucaoRepository;
+
+  @Mock
+  private GeocodingService geocodingService;
+
+  @Mock
+  private PlatformTransactionManager transactionManager;
+
+  @Mock
+  private ApplicationEventPublisher eventPublisher;
+
+  private RegeocodificacaoService regeocodificacaoService;
+
+  @BeforeEach
+  void configurar() {
+    regeocodificacaoService = new RegeocodificacaoService(
+      enderecoRepository,
+      execucaoRepository,
+      geocodingService,
+      transactionManager,
+      eventPublisher,
+      Duration.ZERO
+    );
+  }
+
+  @AfterEach
+  void encerrar() {
+    regeocodificacaoService.encerrar();
+  }
+
+  @Test
+  void deveAtualizarEnderecoImprecisoESalvarPontoDeRetomada() {
+    Endereco endereco = endereco(7L, -18.91, -48.27, "suburb");
+    prepararExecucao(execucao(0L), endereco);
+    when(geocodingService.regeocodificar(ENDERECO_COMPLETO))
+      .thenReturn(Optional.of(new Coordenada(-18.9365314, -48.2884139, "house")));
+    when(execucaoRepository.registrarProgresso(eq(1L), eq(7L), eq(1L), eq(0L), eq(0L), any(OffsetDateTime.class)))
+      .thenReturn(1);
+
+    regeocodificacaoService.executar(1L);
+
+    assertEquals(BigDecimal.valueOf(-18.9365314), endereco.getLatitude());
+    assertEquals("house", endereco.getPrecisaoGeocodificacao());
+    assertEquals(StatusGeocodificacao.CONCLUIDO, endereco.getStatusGeocodificacao());
+    verify(eventPublisher).publishEvent(any(LocalizacaoFamiliasAlteradaEvent.class));
+    verify(execucaoRepository).finalizar(eq(1L), eq(StatusRegeocodificacao.CONCLUIDA), any(OffsetDateTime.class));
+  }
+
+  @Test
+  void deveManterCoordenadaQuandoNovoResultadoContinuaImpreciso() {
+    Endereco endereco = endereco(7L, -18.91, -48.27, "suburb");
+    prepararExecucao(execucao(0L), endereco);
+    when(geocodingService.regeocodificar(ENDERECO_COMPLETO))
+      .thenReturn(Optional.of(new Coordenada(-18.92, -48.28, "city")));
+    when(execucaoRepository.registrarProgresso(eq(1L), eq(7L), eq(0L), eq(1L), eq(0L), any(OffsetDateTime.class)))
+      .thenReturn(1);
+
+    regeocodificacaoService.executar(1L);
+
+    assertEquals(BigDecimal.valueOf(-18.91), endereco.getLatitude());
+    assertEquals("suburb", endereco.getPrecisaoGeocodificacao());
+    verify(eventPublisher, never()).publishEvent(any());
+  }
+
+  @Test
+  void deveRetomarAPartirDoUltimoEnderecoSalvo() {
+    when(execucaoRepository.findById(1L)).thenReturn(Optional.of(execucao(42L)));
+    when(enderecoRepository.buscarParaRegeocodificacao(eq(42L), any(), any(Pageable.class))).thenReturn(List.of());
+
+    regeocodificacaoService.executar(1L);
+
+    verify(geocodingService, never()).regeocodificar(any());
+    verify(execucaoRepository).finalizar(eq(1L), eq(StatusRegeocodificacao.CONCLUIDA), any(OffsetDateTime.class));
+  }
+
+  @Test
+  void deveInterromperQuandoExecucaoForCancelada() {
+    Endereco endereco = endereco(7L, null, null, null);
+    when(execucaoRepository.findById(1L)).thenReturn(Optional.of(execucao(0L)));
+    when(enderecoRepository.buscarParaRegeocodificacao(anyLong(), any(), any(Pageable.class)))
+      .thenReturn(List.of(endereco));
+    when(enderecoRepository.findById(7L)).thenReturn(Optional.of(endereco));
+    when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+    when(geocodingService.regeocodificar(ENDERECO_COMPLETO)).thenReturn(Optional.empty());
+
+    regeocodificacaoService.executar(1L);
+
+    verify(execucaoRepository).registrarProgresso(eq(1L), eq(7L), eq(0L), eq(1L), eq(0L), any(OffsetDateTime.class));
+    verify(enderecoRepository).buscarParaRegeocodificacao(anyLong(), any(), any(Pageable.class));
+    verify(execucaoRepository, never()).finalizar(any(), any(), any());
+  }
+
+  @Test
+  void deveRecusarNovaExecucaoEnquantoOutraEstiverEmAndamento() {
+    when(execucaoRepository.findFirstByStatusOrderByIdDesc(StatusRegeocodificacao.EM_ANDAMENTO))
+      .thenReturn(Optional.of(execucao(0L)));
+
+    ResponseStatusException erro = assertThrows(ResponseStatusException.class, regeocodificacaoService::iniciar);
+
+    assertEquals(HttpStatus.CONFLICT, erro.getStatusCode());
+  }
+
+  @Test
+  void deveEstimarTempoRestantePelaTaxaObservada() {
+    ExecucaoRegeocodificacao execucao = execucao(500L);
+    execucao.setTotal(150);
+    execucao.setProcessados(50);
+    execucao.setIniciadoEm(OffsetDateTime.now().minusSeconds(100));
+    when(execucaoRepository.findFirstByOrderByIdDesc()).thenReturn(Optional.of(execucao));
+
+    ProgressoRegeocodificacaoDTO progresso = regeocodificacaoService.buscarProgresso();
+
+    assertEquals(100.0 / 3, progresso.getPercentual(), 0.01);
+    assertEquals(30.0, progresso.getItensPorMinuto(), 0.5);
+    assertTrue(progresso.getSegundosRestantes() >= 200 && progresso.getSegundosRestantes() <= 205);
+  }
+
+  private void prepararExecucao(ExecucaoRegeocodificacao execucao, Endereco endereco) {
+    when(execucaoRepository.findById(1L)).thenReturn(Optional.of(execucao));
+    when(enderecoRepository.buscarParaRegeocodificacao(anyLong(), any(), any(Pageable.class)))
+      .thenReturn(List.of(endereco), List.of());
+    when(enderecoRepository.findById(endereco.getId())).thenReturn(Optional.of(endereco));
+  }
+
+  private ExecucaoRegeocodificacao execucao(long ultimoEnderecoId) {
+    ExecucaoRegeocodificacao execucao = new ExecucaoRegeocodificacao();
+    execucao.setId(1L);
+    execucao.setStatus(StatusRegeocodificacao.EM_ANDAMENTO);
+    execucao.setUltimoEnderecoId(ultimoEnderecoId);
+    execucao.setIniciadoEm(OffsetDateTime.now());
+    execucao.setAtualizadoEm(OffsetDateTime.now());
+    return execucao;
+  }
+
+  private Endereco endereco(Long id, Double latitude, Double longitude, String precisao) {
+    Cidade cidade = new Cidade();
+    cidade.setId(1L);
+    cidade.setNome("Uberlândia");
+    cidade.setUf("MG");
+
+    Endereco endereco = new Endereco();
+    endereco.setId(id);
+    endereco.setRua("Rua Arpoador");
+    endereco.setNumero("147");
+    endereco.setCidade(cidade);
+    endereco.setEnderecoGeocodificacao(ENDERECO_COMPLETO);
+    endereco.setStatusGeocodificacao(latitude != null ? StatusGeocodificacao.CONCLUIDO : StatusGeocodificacao.NAO_ENCONTRADO);
+    endereco.setPrecisaoGeocodificacao(precisao);
+    if (latitude != null) {
+      endereco.setLatitude(BigDecimal.valueOf(latitude));
+      endereco.setLongitude(BigDecimal.valueOf(longitude));
+    }
+    return endereco;
+  }
+}
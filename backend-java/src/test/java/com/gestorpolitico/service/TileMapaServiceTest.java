@@ -0,0 +1,163 @@
+package com.gestorpolitico.service;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.gestorpolitico.entity.Bairro;
+import com.gestorpolitico.entity.Cidade;
+import com.gestorpolitico.entity.FabricaFamiliaTeste;
+import com.gestorpolitico.repository.FamiliaRepository;
+import com.gestorpolitico.service.LocalizacaoFamiliasAlteradaEvent.Coordenada;
+import jakarta.persistence.EntityManager;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Set;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.web.server.ResponseStatusException;
+
+@DataJpaTest(properties = { "spring.flyway.enabled=false", "spring.jpa.hibernate.ddl-auto=create-drop" })
+class TileMapaServiceTest {
+  private static final int ZOOM = 12;
+  private static final int TILE_X = 1498;
+  private static final int TILE_Y = 2267;
+
+  @Autowired
+  private FamiliaRepository familiaRepository;
+
+  @Autowired
+  private EntityManager entityManager;
+
+  @TempDir
+  Path diretorio;
+
+  private MapaFamiliasService mapaFamiliasService;
+  private TileMapaService tileMapaService;
+  private Bairro centro;
+
+  @BeforeEach
+  void prepararDados() {
+    mapaFamiliasService = new MapaFamiliasService(familiaRepository);
+    tileMapaService = new TileMapaService(mapaFamiliasService, familiaRepository, diretorio.toString(), Duration.ofHours(1));
+
+    Cidade cidade = FabricaFamiliaTeste.cidade("Uberlândia", "MG");
+    entityManager.persist(cidade);
+
+    centro = FabricaFamiliaTeste.bairro(cidade, "Centro", null);
+    entityManager.persist(centro);
+
+    salvarFamilia("-18.9186000", "-48.2772000");
+    entityManager.flush();
+  }
+
+  @Test
+  void deveGerarTileComCamadasEGravarEmDisco() {
+    byte[] tile = tileMapaService.obterTile(ZOOM, TILE_X, TILE_Y).conteudo();
+
+    String conteudo = new String(tile, StandardCharsets.ISO_8859_1);
+    assertEquals(0x1A, tile[0]);
+    assertTrue(conteudo.contains("familias"));
+    assertTrue(conteudo.contains("bairros"));
+    assertTrue(conteudo.contains("Centro"));
+    assertTrue(Files.exists(diretorio.resolve("12").resolve("1498").resolve("2267.mvt")));
+
+    byte[] vazio = tileMapaService.obterTile(ZOOM, 0, 0).conteudo();
+    assertEquals(0, vazio.length);
+  }
+
+  @Test
+  void deveInvalidarSomenteTilesDaCoordenadaAlterada() {
+    byte[] original = tileMapaService.obterTile(ZOOM, TILE_X, TILE_Y).conteudo();
+    tileMapaService.obterTile(ZOOM, 0, 0);
+
+    salvarFamilia("-18.9150000", "-48.2750000");
+    entityManager.flush();
+    assertArrayEquals(original, tileMapaService.obterTile(ZOOM, TILE_X, TILE_Y).conteudo());
+
+    LocalizacaoFamiliasAlteradaEvent evento = new LocalizacaoFamiliasAlteradaEvent(
+      Set.of(centro.getCidade().getId()),
+      Set.of(new Coordenada(-18.915, -48.275))
+    );
+    mapaFamiliasService.aoAlterarLocalizacao(evento);
+    tileMapaService.aoAlterarLocalizacao(evento);
+
+    assertFalse(Files.exists(diretorio.resolve("12").resolve("1498").resolve("2267.mvt")));
+    assertTrue(Files.exists(diretorio.resolve("12").resolve("0").resolve("0.mvt")));
+    assertNotEquals(
+      tileMapaService.obterTile(ZOOM, TILE_X, TILE_Y).etag(),
+      new TileMapaService.TileMapa(original).etag()
+    );
+  }
+
+  @Test
+  void deveRecalcularBairrosDaCidadeAlteradaSomenteNaProximaLeitura() {
+    tileMapaService.obterTile(ZOOM, TILE_X, TILE_Y);
+    tileMapaService.obterTile(ZOOM, 1500, 2265);
+    Path tileNovoBairro = diretorio.resolve("12").resolve("1500").resolve("2265.mvt");
+    assertTrue(Files.exists(tileNovoBairro));
+
+    Bairro umuarama = FabricaFamiliaTeste.bairro(centro.getCidade(), "Umuarama", null);
+    entityManager.persist(umuarama);
+    salvarFamilia(umuarama, "-18.8000000", "-48.1000000");
+    entityManager.flush();
+    tileMapaService.aoAlterarLocalizacao(LocalizacaoFamiliasAlteradaEvent.deCidades(centro.getCidade().getId()));
+    assertTrue(Files.exists(tileNovoBairro));
+
+    tileMapaService.obterTile(ZOOM, 0, 0);
+
+    assertFalse(Files.exists(tileNovoBairro));
+    String conteudo = new String(tileMapaService.obterTile(ZOOM, 1500, 2265).conteudo(), StandardCharsets.ISO_8859_1);
+    assertTrue(conteudo.contains("Umuarama"));
+  }
+
+  @Test
+  void deveDescartarTilesGravadosAntesDaInicializacaoOuExpirados() throws Exception {
+    Path tile = diretorio.resolve("12").resolve("1498").resolve("2267.mvt");
+    Files.createDirectories(tile.getParent());
+    Files.write(tile, new byte[] { 1, 2, 3 });
+    Path outroArquivo = Files.writeString(diretorio.resolve("leia-me.txt"), "mantido");
+
+    tileMapaService.limparTiles();
+
+    assertFalse(Files.exists(tile));
+    assertTrue(Files.exists(outroArquivo));
+
+    byte[] atual = tileMapaService.obterTile(ZOOM, TILE_X, TILE_Y).conteudo();
+    Files.write(tile, new byte[] { 1, 2, 3 });
+    Files.setLastModifiedTime(tile, FileTime.from(Instant.now().minus(Duration.ofHours(2))));
+
+    assertArrayEquals(atual, tileMapaService.obterTile(ZOOM, TILE_X, TILE_Y).conteudo());
+  }
+
+  @Test
+  void deveRejeitarCoordenadasForaDoIntervalo() {
+    assertThrows(ResponseStatusException.class, () -> tileMapaService.obterTile(2, 4, 0));
+    assertThrows(ResponseStatusException.class, () -> tileMapaService.obterTile(-1, 0, 0));
+    assertThrows(ResponseStatusException.class, () -> tileMapaService.obterTile(TileMapaService.ZOOM_MAXIMO_TILE + 1, 0, 0));
+  }
+
+  private void salvarFamilia(String latitude, String longitude) {
+    salvarFamilia(centro, latitude, longitude);
+  }
+
+  private void salvarFamilia(Bairro bairro, String latitude, String longitude) {
+    entityManager.persist(
+      FabricaFamiliaTeste
+        .familia(bairro, "Rua Principal", "1")
+        .coordenadas(latitude, longitude)
+        .responsavel("Responsável", "Alta")
+        .construir()
+    );
+  }
+}
@@ -32,6 +32,7 @@ export class FamiliasComponent implements OnInit, OnDestroy {
   destaques: { titulo: string; valor: string; variacao: string; descricao: string }[] = [];
   familias: FamiliaResponse[] = [];
   carregando = false;
+  exportando = false;
   erroCarregamento = '';
 
   filtroForm: FormGroup;
@@ -302,6 +303,31 @@ export class FamiliasComponent implements OnInit, OnDestroy {
     return data.toLocaleDateString();
   }
 
+  exportarFamilias(): void {
+    if (this.exportando) {
+      return;
+    }
+    this.exportando = true;
+    this.familiasService.exportarFamilias(this.montarFiltros()).pipe(takeUntil(this.destroy$)).subscribe({
+      next: arquivo => {
+        const url = URL.createObjectURL(arquivo);
+        const link = document.createElement('a');
+        link.href = url;
+        link.download = 'familias.csv';
+        link.click();
+        URL.revokeObjectURL(url);
+        this.exportando = false;
+      },
+      error: _erro => {
+        this.notificationService.showError(
+          'Erro ao exportar famílias',
+          'Não foi possível gerar o arquivo de exportação. Tente novamente.'
+        );
+        this.exportando = false;
+      }
+    });
+  }
+
   private buscarFamilias(): void {
     this.carregando = true;
     this.erroCarregamento = '';
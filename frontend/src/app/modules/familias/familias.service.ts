@@ -36,6 +36,7 @@ export interface EnderecoFamiliaResponse {
   uf: string;
   latitude: number | null;
   longitude: number | null;
+  statusGeocodificacao: 'PENDENTE' | 'CONCLUIDO' | 'NAO_ENCONTRADO' | 'FALHOU' | null;
 }
 
 export interface FamiliaMembroResponse {
@@ -86,6 +87,7 @@ export interface FamiliaListaResponse {
   total: number;
   pagina: number;
   tamanho: number;
+  proximoCursor?: string | null;
   responsaveisAtivos: number;
   novosCadastros: number;
   totalPessoas: number;
@@ -103,28 +105,40 @@ export class FamiliasService {
     pagina = 0,
     tamanho = 20
   ): Observable<FamiliaListaResponse> {
-    let params = new HttpParams()
-      .set('pagina', pagina.toString())
-      .set('tamanho', tamanho.toString());
-
-    Object.entries(filtros).forEach(([chave, valor]) => {
-      if (valor === null || valor === undefined) {
-        return;
-      }
-      const texto = typeof valor === 'string' ? valor.trim() : valor;
-      if (texto === '' || texto === null) {
-        return;
-      }
-      params = params.set(chave, String(texto));
-    });
+    const params = this.aplicarFiltros(
+      new HttpParams().set('pagina', pagina.toString()).set('tamanho', tamanho.toString()),
+      filtros
+    );
 
     return this.http.get<FamiliaListaResponse>(this.apiUrl, { params });
   }
 
+  buscarFamiliasPorCursor(
+    filtros: FamiliaFiltro = {},
+    cursor: string | null = null,
+    tamanho = 20,
+    incluirTotais = false
+  ): Observable<FamiliaListaResponse> {
+    let params = new HttpParams()
+      .set('paginacaoPorCursor', 'true')
+      .set('tamanho', tamanho.toString())
+      .set('incluirTotais', String(incluirTotais));
+    if (cursor) {
+      params = params.set('cursor', cursor);
+    }
+
+    return this.http.get<FamiliaListaResponse>(this.apiUrl, { params: this.aplicarFiltros(params, filtros) });
+  }
+
   listarTodasFamilias(filtros: FamiliaFiltro = {}): Observable<FamiliaResponse[]> {
     return this.buscarFamilias(filtros, 0, 1000).pipe(map(resposta => resposta.familias));
   }
 
+  exportarFamilias(filtros: FamiliaFiltro = {}, formato: 'csv' | 'ndjson' = 'csv'): Observable<Blob> {
+    const params = this.aplicarFiltros(new HttpParams().set('formato', formato), filtros);
+    return this.http.get(`${this.apiUrl}/exportar`, { params, responseType: 'blob' });
+  }
+
   obterFamilia(id: number): Observable<FamiliaResponse> {
     return this.http.get<FamiliaResponse>(`${this.apiUrl}/${id}`);
   }
@@ -143,4 +157,19 @@ export class FamiliasService {
       {}
     );
   }
+
+  private aplicarFiltros(params: HttpParams, filtros: FamiliaFiltro): HttpParams {
+    let resultado = params;
+    Object.entries(filtros).forEach(([chave, valor]) => {
+      if (valor === null || valor === undefined) {
+        return;
+      }
+      const texto = typeof valor === 'string' ? valor.trim() : valor;
+      if (texto === '' || texto === null) {
+        return;
+      }
+      resultado = resultado.set(chave, String(texto));
+    });
+    return resultado;
+  }
 }
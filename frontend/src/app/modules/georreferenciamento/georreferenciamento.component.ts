@@ -4,16 +4,15 @@ import * as L from 'leaflet';
 import 'leaflet.heat';
 import { Subscription } from 'rxjs';
 import { FamiliasService, FamiliaResponse, EnderecoFamiliaResponse } from '../familias/familias.service';
+import { ClusterMapa, LimitesMapa, MapaService, PontosMapaResponse } from '../shared/services/mapa.service';
 import { NotificationService } from '../shared/services/notification.service';
 interface FamiliaLocalizada {
   id: number;
-  responsavel: string;
-  enderecoCompleto: string;
   latitude: number;
   longitude: number;
   latitudeMapa: number;
   longitudeMapa: number;
-  link: string;
+  peso: number;
 }
 
 @Component({
@@ -31,6 +30,7 @@ export class GeoReferenciamentoComponent implements OnInit, AfterViewInit, OnDes
   private camadaMarcadores: L.LayerGroup | null = null;
   private camadaCalor: L.HeatLayer | null = null;
   private assinaturaFamilias: Subscription | null = null;
+  private assinaturaClusters: Subscription | null = null;
   private ajusteMapaTimeout: number | null = null;
   private readonly iconeFamilia = L.divIcon({
     html: `
@@ -48,6 +48,7 @@ export class GeoReferenciamentoComponent implements OnInit, AfterViewInit, OnDes
 
   constructor(
     private readonly familiasService: FamiliasService,
+    private readonly mapaService: MapaService,
     private readonly router: Router,
     private readonly notificationService: NotificationService
   ) {}
@@ -68,6 +69,7 @@ export class GeoReferenciamentoComponent implements OnInit, AfterViewInit, OnDes
       this.ajusteMapaTimeout = null;
     }
     this.assinaturaFamilias?.unsubscribe();
+    this.assinaturaClusters?.unsubscribe();
     this.removerCamadaCalor();
     this.removerCamadaMarcadores();
     if (this.mapa) {
@@ -84,11 +86,9 @@ export class GeoReferenciamentoComponent implements OnInit, AfterViewInit, OnDes
   private carregarFamilias(): void {
     this.carregando = true;
     this.erroCarregamento = '';
-    this.assinaturaFamilias = this.familiasService.listarTodasFamilias().subscribe({
-      next: familias => {
-        this.familiasLocalizadas = familias
-          .map(familia => this.converterFamilia(familia))
-          .filter((familia): familia is FamiliaLocalizada => familia !== null);
+    this.assinaturaFamilias = this.mapaService.buscarPontos().subscribe({
+      next: pontos => {
+        this.familiasLocalizadas = this.converterPontos(pontos);
         this.aplicarDeslocamentoMarcadores();
         this.carregando = false;
         this.atualizarMapa();
@@ -128,6 +128,12 @@ export class GeoReferenciamentoComponent implements OnInit, AfterViewInit, OnDes
     this.mapa.boxZoom.enable();
     this.mapa.keyboard.enable();
 
+    this.mapa.on('moveend', () => {
+      if (!this.exibirMapaDeCalor && this.familiasLocalizadas.length > 0) {
+        this.atualizarMarcadores();
+      }
+    });
+
     L.tileLayer('https://{s}.tile.openstreetmap.org/{z}/{x}/{y}.png', {
       maxZoom: 19,
       attribution: '&copy; <a href="https://www.openstreetmap.org/">OpenStreetMap</a> contribuidores'
@@ -178,27 +184,15 @@ export class GeoReferenciamentoComponent implements OnInit, AfterViewInit, OnDes
     }, 0);
   }
 
-  private converterFamilia(familia: FamiliaResponse): FamiliaLocalizada | null {
-    const enderecoDetalhado = familia.enderecoDetalhado;
-    if (!enderecoDetalhado) {
-      return null;
-    }
-
-    const { latitude, longitude } = enderecoDetalhado;
-    if (latitude === null || latitude === undefined || longitude === null || longitude === undefined) {
-      return null;
-    }
-
-    return {
-      id: familia.id,
-      responsavel: this.obterResponsavel(familia),
-      enderecoCompleto: this.montarEndereco(enderecoDetalhado),
-      latitude,
-      longitude,
-      latitudeMapa: latitude,
-      longitudeMapa: longitude,
-      link: this.montarLinkFamilia(familia.id)
-    };
+  private converterPontos(pontos: PontosMapaResponse): FamiliaLocalizada[] {
+    return pontos.ids.map((id, indice) => ({
+      id,
+      latitude: pontos.latitudes[indice],
+      longitude: pontos.longitudes[indice],
+      latitudeMapa: pontos.latitudes[indice],
+      longitudeMapa: pontos.longitudes[indice],
+      peso: pontos.pesos[indice]
+    }));
   }
 
   private obterResponsavel(familia: FamiliaResponse): string {
@@ -221,10 +215,10 @@ export class GeoReferenciamentoComponent implements OnInit, AfterViewInit, OnDes
     return url;
   }
 
-  private criarConteudoPopup(familia: FamiliaLocalizada): string {
-    const titulo = this.escapeHtml(`Família de ${familia.responsavel}`);
-    const endereco = this.escapeHtml(familia.enderecoCompleto);
-    const link = this.escapeHtml(familia.link);
+  private criarConteudoPopup(familia: FamiliaResponse): string {
+    const titulo = this.escapeHtml(`Família de ${this.obterResponsavel(familia)}`);
+    const endereco = this.escapeHtml(this.montarEndereco(familia.enderecoDetalhado));
+    const link = this.escapeHtml(this.montarLinkFamilia(familia.id));
     return `
       <div class="popup-conteudo">
         <strong>${titulo}</strong>
@@ -237,10 +231,36 @@ export class GeoReferenciamentoComponent implements OnInit, AfterViewInit, OnDes
     `;
   }
 
-  private criarMarcador(familia: FamiliaLocalizada): L.Marker {
-    return L.marker([familia.latitudeMapa, familia.longitudeMapa], {
+  private criarMarcador(familiaId: number, latitude: number, longitude: number): L.Marker {
+    const marcador = L.marker([latitude, longitude], {
       icon: this.iconeFamilia
-    }).bindPopup(this.criarConteudoPopup(familia));
+    }).bindPopup('<div class="popup-conteudo">Carregando família...</div>');
+
+    marcador.once('popupopen', () => {
+      this.familiasService.obterFamilia(familiaId).subscribe({
+        next: detalhes => marcador.setPopupContent(this.criarConteudoPopup(detalhes)),
+        error: _erro => marcador.setPopupContent('<div class="popup-conteudo">Não foi possível carregar a família.</div>')
+      });
+    });
+    return marcador;
+  }
+
+  private criarMarcadorCluster(cluster: ClusterMapa): L.Marker {
+    const tamanho = cluster.quantidade < 10 ? 36 : cluster.quantidade < 100 ? 44 : 52;
+    const marcador = L.marker([cluster.latitude, cluster.longitude], {
+      icon: L.divIcon({
+        html: `<div class="cluster-marker__contagem">${cluster.quantidade}</div>`,
+        className: 'cluster-marker',
+        iconSize: [tamanho, tamanho],
+        iconAnchor: [tamanho / 2, tamanho / 2]
+      })
+    });
+    marcador.on('click', () => {
+      if (this.mapa) {
+        this.mapa.setView([cluster.latitude, cluster.longitude], Math.min(this.mapa.getZoom() + 2, 19));
+      }
+    });
+    return marcador;
   }
 
   private atualizarMarcadores(): void {
@@ -252,20 +272,53 @@ export class GeoReferenciamentoComponent implements OnInit, AfterViewInit, OnDes
       this.camadaMarcadores = L.layerGroup().addTo(this.mapa);
     }
 
-    this.camadaMarcadores.clearLayers();
-
-    this.familiasLocalizadas.forEach(familia => {
-      const marcador = this.criarMarcador(familia);
-      marcador.addTo(this.camadaMarcadores as L.LayerGroup);
+    this.assinaturaClusters?.unsubscribe();
+    this.assinaturaClusters = this.mapaService.buscarClusters(this.mapa.getZoom(), this.obterLimitesVisiveis()).subscribe({
+      next: resposta => {
+        if (!this.camadaMarcadores || this.exibirMapaDeCalor) {
+          return;
+        }
+        this.camadaMarcadores.clearLayers();
+        resposta.clusters.forEach(cluster => {
+          const marcador = cluster.familiaId !== null
+            ? this.criarMarcador(cluster.familiaId, cluster.latitude, cluster.longitude)
+            : this.criarMarcadorCluster(cluster);
+          marcador.addTo(this.camadaMarcadores as L.LayerGroup);
+        });
+      },
+      error: _erro => {
+        this.notificationService.showError(
+          'Erro ao carregar o mapa',
+          'Não foi possível agrupar as famílias da área visível.'
+        );
+      }
     });
   }
 
+  private obterLimitesVisiveis(): LimitesMapa | null {
+    if (!this.mapa) {
+      return null;
+    }
+    const limites = this.mapa.getBounds();
+    if (limites.getEast() - limites.getWest() >= 360) {
+      return null;
+    }
+    const oeste = L.latLng(0, limites.getWest()).wrap().lng;
+    const leste = L.latLng(0, limites.getEast()).wrap().lng;
+    return {
+      oeste,
+      sul: Math.max(limites.getSouth(), -90),
+      leste,
+      norte: Math.min(limites.getNorth(), 90)
+    };
+  }
+
   private atualizarMapaDeCalor(): void {
     if (!this.mapa) {
       return;
     }
 
-    const pontosCalor: L.HeatLatLngTuple[] = this.familiasLocalizadas.map(familia => [familia.latitude, familia.longitude, 0.6]);
+    const pontosCalor: L.HeatLatLngTuple[] = this.familiasLocalizadas.map(familia => [familia.latitude, familia.longitude, familia.peso]);
 
     if (!this.camadaCalor) {
       this.camadaCalor = L.heatLayer(pontosCalor, {
@@ -281,6 +334,7 @@ export class GeoReferenciamentoComponent implements OnInit, AfterViewInit, OnDes
   }
 
   private removerCamadaMarcadores(): void {
+    this.assinaturaClusters?.unsubscribe();
     if (!this.camadaMarcadores) {
       return;
     }
@@ -0,0 +1,75 @@
+import { Injectable } from '@angular/core';
+import { HttpClient, HttpParams } from '@angular/common/http';
+import { Observable } from 'rxjs';
+import { buildApiUrl } from '../api-url.util';
+
+export interface FiltroMapa {
+  cidadeId?: number | null;
+  regiao?: string | null;
+}
+
+export interface PontosMapaResponse {
+  total: number;
+  ids: number[];
+  latitudes: number[];
+  longitudes: number[];
+  pesos: number[];
+}
+
+export interface LimitesMapa {
+  oeste: number;
+  sul: number;
+  leste: number;
+  norte: number;
+}
+
+export interface ClusterMapa {
+  latitude: number;
+  longitude: number;
+  quantidade: number;
+  familiaId: number | null;
+}
+
+export interface ClustersMapaResponse {
+  zoom: number;
+  totalPontos: number;
+  clusters: ClusterMapa[];
+}
+
+@Injectable({ providedIn: 'root' })
+export class MapaService {
+  constructor(private readonly http: HttpClient) {}
+
+  buscarPontos(filtro: FiltroMapa = {}): Observable<PontosMapaResponse> {
+    return this.http.get<PontosMapaResponse>(buildApiUrl('/mapa/pontos'), {
+      params: this.aplicarFiltro(new HttpParams(), filtro)
+    });
+  }
+
+  buscarClusters(
+    zoom: number,
+    limites: LimitesMapa | null,
+    filtro: FiltroMapa = {}
+  ): Observable<ClustersMapaResponse> {
+    let params = this.aplicarFiltro(new HttpParams().set('zoom', Math.round(zoom).toString()), filtro);
+    if (limites) {
+      params = params
+        .set('oeste', limites.oeste.toString())
+        .set('sul', limites.sul.toString())
+        .set('leste', limites.leste.toString())
+        .set('norte', limites.norte.toString());
+    }
+    return this.http.get<ClustersMapaResponse>(buildApiUrl('/mapa/clusters'), { params });
+  }
+
+  private aplicarFiltro(params: HttpParams, filtro: FiltroMapa): HttpParams {
+    let resultado = params;
+    if (filtro.cidadeId) {
+      resultado = resultado.set('cidadeId', filtro.cidadeId.toString());
+    }
+    if (filtro.regiao && filtro.regiao.trim()) {
+      resultado = resultado.set('regiao', filtro.regiao.trim());
+    }
+    return resultado;
+  }
+}